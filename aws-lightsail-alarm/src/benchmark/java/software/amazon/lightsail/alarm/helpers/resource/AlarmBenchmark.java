@@ -0,0 +1,67 @@
+package software.amazon.lightsail.alarm.helpers.resource;
+
+import software.amazon.awssdk.services.lightsail.model.AlarmState;
+import software.amazon.awssdk.services.lightsail.model.ComparisonOperator;
+import software.amazon.awssdk.services.lightsail.model.ContactProtocol;
+import software.amazon.awssdk.services.lightsail.model.MetricName;
+import software.amazon.awssdk.services.lightsail.model.MonitoredResourceInfo;
+import software.amazon.awssdk.services.lightsail.model.PutAlarmRequest;
+import software.amazon.awssdk.services.lightsail.model.TreatMissingData;
+
+/**
+ * Time of the comparison that lets an update skip PutAlarm when the Alarm already matches, for a matching Alarm and
+ * for one that differs in its last compared field.
+ *
+ * Run main with the number of iterations to time, e.g.
+ *
+ *   AlarmBenchmark 100000
+ */
+public class AlarmBenchmark {
+
+    public static PutAlarmRequest desiredPutAlarmRequest() {
+        return PutAlarmRequest.builder().alarmName("alarm").metricName(MetricName.CPU_UTILIZATION)
+                .monitoredResourceName("instance").comparisonOperator(ComparisonOperator.GREATER_THAN_THRESHOLD)
+                .threshold(80.0).evaluationPeriods(2).datapointsToAlarm(2)
+                .treatMissingData(TreatMissingData.MISSING).notificationEnabled(true)
+                .notificationTriggers(AlarmState.ALARM, AlarmState.OK).contactProtocols(ContactProtocol.EMAIL).build();
+    }
+
+    public static software.amazon.awssdk.services.lightsail.model.Alarm currentAlarm() {
+        return software.amazon.awssdk.services.lightsail.model.Alarm.builder().name("alarm")
+                .metricName(MetricName.CPU_UTILIZATION)
+                .monitoredResourceInfo(MonitoredResourceInfo.builder().name("instance").build())
+                .comparisonOperator(ComparisonOperator.GREATER_THAN_THRESHOLD).threshold(80.0).evaluationPeriods(2)
+                .datapointsToAlarm(2).treatMissingData(TreatMissingData.MISSING).notificationEnabled(true)
+                .notificationTriggers(AlarmState.OK, AlarmState.ALARM).contactProtocols(ContactProtocol.EMAIL)
+                .build();
+    }
+
+    public static long measure(final PutAlarmRequest request,
+                               final software.amazon.awssdk.services.lightsail.model.Alarm alarm, final int iterations) {
+        int matches = 0;
+        // Warm up before timing.
+        for (int i = 0; i < Math.min(iterations, 10_000); i++) {
+            matches += Alarm.matchesCurrentAlarm(request, alarm) ? 1 : 0;
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            matches += Alarm.matchesCurrentAlarm(request, alarm) ? 1 : 0;
+        }
+        final long nanos = (System.nanoTime() - start) / iterations;
+        // Keep the comparisons from being optimized away.
+        if (matches < 0) {
+            throw new IllegalStateException();
+        }
+        return nanos;
+    }
+
+    public static void main(final String[] args) {
+        final int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        final PutAlarmRequest request = desiredPutAlarmRequest();
+        final software.amazon.awssdk.services.lightsail.model.Alarm alarm = currentAlarm();
+        System.out.println(String.format("%-16s %14s", "alarm", "compare ns"));
+        System.out.println(String.format("%-16s %14d", "matching", measure(request, alarm, iterations)));
+        System.out.println(String.format("%-16s %14d", "contact differs",
+                measure(request, alarm.toBuilder().contactProtocols(ContactProtocol.SMS).build(), iterations)));
+    }
+}
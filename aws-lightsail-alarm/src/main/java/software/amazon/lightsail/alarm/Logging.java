@@ -0,0 +1,102 @@
+package software.amazon.lightsail.alarm;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Levels, lazy messages and sampling on top of the CloudFormation Logger. Stabilization checks log the same line on
+ * every poll, those lines are logged whenever the observed state changes and otherwise only every SAMPLE_RATE-th poll.
+ * The level is read from the LOG_LEVEL environment variable, at DEBUG every line is logged.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Logging {
+
+    public enum Level {
+        DEBUG, INFO
+    }
+
+    static final int SAMPLE_RATE = 10;
+
+    // Bound on the lines sampled for one request, the least recently polled one is dropped first.
+    static final int MAX_SAMPLED_KEYS = 100;
+
+    private static final Level LEVEL = parseLevel(System.getenv("LOG_LEVEL"));
+
+    // Sampling state of each request, keyed by its Logger and released with it.
+    private static final Map<Logger, Map<String, Sample>> SAMPLES = new WeakHashMap<>();
+
+    private static final class Sample {
+        private String lastState;
+        private int polls;
+    }
+
+    public static boolean isDebugEnabled() {
+        return LEVEL == Level.DEBUG;
+    }
+
+    /**
+     * Log the message only at DEBUG level. The message is not built otherwise.
+     *
+     * @param logger
+     * @param message
+     */
+    public static void debug(final Logger logger, final Supplier<String> message) {
+        if (isDebugEnabled()) {
+            logger.log(message.get());
+        }
+    }
+
+    /**
+     * Log a line that is repeated on every poll. The line is sampled per format and first argument, which is the
+     * resource name for the stabilization checks. It is logged when any argument differs from the last poll, and
+     * only formatted when it is logged.
+     *
+     * @param logger
+     * @param format
+     * @param args
+     */
+    public static void sampled(final Logger logger, final String format, final Object... args) {
+        final String key = args.length > 0 ? format + args[0] : format;
+        // The arguments are compared by their string form, a collection may be the same instance with new contents.
+        final String state = Arrays.deepToString(args);
+        final int poll;
+        final boolean changed;
+        synchronized (SAMPLES) {
+            final Sample sample = SAMPLES.computeIfAbsent(logger, k -> newSamples()).computeIfAbsent(key, k -> new Sample());
+            poll = ++sample.polls;
+            changed = !state.equals(sample.lastState);
+            sample.lastState = state;
+        }
+        if (isDebugEnabled() || changed || isSampled(poll)) {
+            final String message = String.format(format, args);
+            logger.log(poll > 1 ? String.format("%s (poll %d)", message, poll) : message);
+        }
+    }
+
+    static boolean isSampled(final int poll) {
+        return poll == 1 || poll % SAMPLE_RATE == 0;
+    }
+
+    static Level parseLevel(final String value) {
+        if (value != null && Level.DEBUG.name().equalsIgnoreCase(value.trim())) {
+            return Level.DEBUG;
+        }
+        return Level.INFO;
+    }
+
+    private static Map<String, Sample> newSamples() {
+        return new LinkedHashMap<String, Sample>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Sample> eldest) {
+                return size() > MAX_SAMPLED_KEYS;
+            }
+        };
+    }
+}
@@ -10,8 +10,14 @@ import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.lightsail.alarm.Logging;
 import software.amazon.lightsail.alarm.ResourceModel;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
 /**
  * Helper class to handle Alarm operations.
  */
@@ -25,8 +31,12 @@ public class Alarm implements ResourceHelper {
 
     @Override
     public AwsResponse update(AwsRequest request) {
+        AwsResponse awsResponse = null;
+        if (!isUpdateRequired((PutAlarmRequest) request)) {
+            logger.log(String.format("Update not required for Alarm: %s", resourceModel.getAlarmName()));
+            return awsResponse;
+        }
         logger.log(String.format("Updating Alarm: %s", resourceModel.getAlarmName()));
-        AwsResponse awsResponse;
         awsResponse = proxyClient.injectCredentialsAndInvokeV2(((PutAlarmRequest) request),
                 proxyClient.client()::putAlarm);
         logger.log(String.format("Successfully updated Alarm: %s", resourceModel.getAlarmName()));
@@ -71,8 +81,8 @@ public class Alarm implements ResourceHelper {
     @Override
     public boolean isStabilizedDelete() {
         final boolean stabilized = false;
-        logger.log(String.format("Checking if Alarm: %s deletion has stabilized.",
-                resourceModel.getAlarmName(), stabilized));
+        Logging.sampled(logger, "Checking if Alarm: %s deletion has stabilized.",
+                resourceModel.getAlarmName());
         try {
             this.read(GetAlarmsRequest.builder().alarmName(resourceModel.getAlarmName()).build());
         } catch (final Exception e) {
@@ -86,8 +96,8 @@ public class Alarm implements ResourceHelper {
     }
 
     public boolean isStabilizedCreate() {
-        logger.log(String.format("Checking if Alarm: %s creation has been stabilized.",
-                resourceModel.getAlarmName()));
+        Logging.sampled(logger, "Checking if Alarm: %s creation has been stabilized.",
+                resourceModel.getAlarmName());
         try {
             this.read(GetAlarmsRequest.builder().alarmName(resourceModel.getAlarmName()).build());
         } catch (final Exception e) {
@@ -106,6 +116,55 @@ public class Alarm implements ResourceHelper {
         return false;
     }
 
+    /**
+     * Checking to see if the desired alarm differs from the one currently in Lightsail.
+     *
+     * @param request
+     *
+     * @return boolean
+     */
+    public boolean isUpdateRequired(final PutAlarmRequest request) {
+        val alarms = ((GetAlarmsResponse) this.read(GetAlarmsRequest.builder()
+                .alarmName(resourceModel.getAlarmName()).build())).alarms();
+        return alarms.isEmpty() || !matchesCurrentAlarm(request, alarms.get(0));
+    }
+
+    /**
+     * Compare a PutAlarm request with an existing alarm after applying the PutAlarm defaults to the request, i.e.
+     * datapointsToAlarm defaults to evaluationPeriods, treatMissingData to missing, notifications are enabled and
+     * triggered on ALARM, and no contact protocols are set.
+     *
+     * @param request
+     * @param alarm
+     *
+     * @return true if PutAlarm would leave the alarm unchanged
+     */
+    public static boolean matchesCurrentAlarm(final PutAlarmRequest request,
+                                              final software.amazon.awssdk.services.lightsail.model.Alarm alarm) {
+        val desiredDatapointsToAlarm = request.datapointsToAlarm() == null ? request.evaluationPeriods()
+                : request.datapointsToAlarm();
+        val desiredTreatMissingData = request.treatMissingData() == null ? TreatMissingData.MISSING.toString()
+                : request.treatMissingDataAsString();
+        val desiredNotificationEnabled = request.notificationEnabled() == null || request.notificationEnabled();
+        final Set<String> desiredNotificationTriggers = request.hasNotificationTriggers()
+                ? new HashSet<>(request.notificationTriggersAsStrings()) : Collections.singleton(AlarmState.ALARM.toString());
+        final Set<String> desiredContactProtocols = request.hasContactProtocols()
+                ? new HashSet<>(request.contactProtocolsAsStrings()) : Collections.<String>emptySet();
+
+        return Objects.equals(request.metricNameAsString(), alarm.metricNameAsString())
+                && alarm.monitoredResourceInfo() != null
+                && Objects.equals(request.monitoredResourceName(), alarm.monitoredResourceInfo().name())
+                && Objects.equals(request.comparisonOperatorAsString(), alarm.comparisonOperatorAsString())
+                && request.threshold() != null && alarm.threshold() != null
+                && Double.compare(request.threshold(), alarm.threshold()) == 0
+                && Objects.equals(request.evaluationPeriods(), alarm.evaluationPeriods())
+                && Objects.equals(desiredDatapointsToAlarm, alarm.datapointsToAlarm())
+                && Objects.equals(desiredTreatMissingData, alarm.treatMissingDataAsString())
+                && Objects.equals(desiredNotificationEnabled, alarm.notificationEnabled())
+                && desiredNotificationTriggers.equals(new HashSet<>(alarm.notificationTriggersAsStrings()))
+                && desiredContactProtocols.equals(new HashSet<>(alarm.contactProtocolsAsStrings()));
+    }
+
     @Override
     public boolean isSafeExceptionCreateOrUpdate(Exception e) {
         return false;
@@ -14,6 +14,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.alarm.helpers.handler.AlarmHandler;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -86,4 +88,57 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .alarmName("alarm")
+                        .metricName("CPUUtilization")
+                        .monitoredResourceName("instance")
+                        .comparisonOperator("GreaterThanOrEqualToThreshold")
+                        .threshold(80.0)
+                        .evaluationPeriods(1)
+                        .build())
+                .build();
+    }
+
+    private static GetAlarmsResponse getAlarmsResponse(final double threshold) {
+        return GetAlarmsResponse.builder()
+                .alarms(Alarm.builder()
+                        .name("alarm")
+                        .metricName("CPUUtilization")
+                        .monitoredResourceInfo(MonitoredResourceInfo.builder().name("instance").build())
+                        .comparisonOperator("GreaterThanOrEqualToThreshold")
+                        .threshold(threshold)
+                        .evaluationPeriods(1)
+                        .datapointsToAlarm(1)
+                        .treatMissingData(TreatMissingData.MISSING)
+                        .notificationEnabled(true)
+                        .notificationTriggers(AlarmState.ALARM)
+                        .build())
+                .build();
+    }
+
+    private static NotFoundException notFound() {
+        return NotFoundException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("NotFoundException").build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getAlarms(any(GetAlarmsRequest.class)))
+                .thenThrow(notFound())
+                .thenReturn(getAlarmsResponse(80.0));
+        when(sdkClient.putAlarm(any(PutAlarmRequest.class))).thenReturn(PutAlarmResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(PutAlarmRequest.class).exactly(1);
+        calls.assertCalls(GetAlarmsRequest.class).atMost(3);
+    }
 }
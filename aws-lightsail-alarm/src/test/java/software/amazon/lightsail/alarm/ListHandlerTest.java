@@ -59,4 +59,48 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .alarmName("alarm")
+                        .metricName("CPUUtilization")
+                        .monitoredResourceName("instance")
+                        .comparisonOperator("GreaterThanOrEqualToThreshold")
+                        .threshold(80.0)
+                        .evaluationPeriods(1)
+                        .build())
+                .build();
+    }
+
+    private static GetAlarmsResponse getAlarmsResponse(final double threshold) {
+        return GetAlarmsResponse.builder()
+                .alarms(Alarm.builder()
+                        .name("alarm")
+                        .metricName("CPUUtilization")
+                        .monitoredResourceInfo(MonitoredResourceInfo.builder().name("instance").build())
+                        .comparisonOperator("GreaterThanOrEqualToThreshold")
+                        .threshold(threshold)
+                        .evaluationPeriods(1)
+                        .datapointsToAlarm(1)
+                        .treatMissingData(TreatMissingData.MISSING)
+                        .notificationEnabled(true)
+                        .notificationTriggers(AlarmState.ALARM)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getAlarms(any(GetAlarmsRequest.class))).thenReturn(getAlarmsResponse(80.0));
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(GetAlarmsRequest.class).exactly(1);
+        calls.assertTotalCalls().exactly(1);
+    }
 }
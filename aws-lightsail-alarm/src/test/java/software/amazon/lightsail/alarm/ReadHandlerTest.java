@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.alarm.helpers.resource.Alarm;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -73,4 +74,47 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .alarmName("alarm")
+                        .metricName("CPUUtilization")
+                        .monitoredResourceName("instance")
+                        .comparisonOperator("GreaterThanOrEqualToThreshold")
+                        .threshold(80.0)
+                        .evaluationPeriods(1)
+                        .build())
+                .build();
+    }
+
+    private static GetAlarmsResponse getAlarmsResponse(final double threshold) {
+        return GetAlarmsResponse.builder()
+                .alarms(software.amazon.awssdk.services.lightsail.model.Alarm.builder()
+                        .name("alarm")
+                        .metricName("CPUUtilization")
+                        .monitoredResourceInfo(MonitoredResourceInfo.builder().name("instance").build())
+                        .comparisonOperator("GreaterThanOrEqualToThreshold")
+                        .threshold(threshold)
+                        .evaluationPeriods(1)
+                        .datapointsToAlarm(1)
+                        .treatMissingData(TreatMissingData.MISSING)
+                        .notificationEnabled(true)
+                        .notificationTriggers(AlarmState.ALARM)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getAlarms(any(GetAlarmsRequest.class))).thenReturn(getAlarmsResponse(80.0));
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertTotalCalls().exactly(1);
+    }
 }
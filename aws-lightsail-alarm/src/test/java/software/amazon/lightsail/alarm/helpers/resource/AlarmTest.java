@@ -15,6 +15,7 @@ import software.amazon.lightsail.alarm.AbstractTestBase;
 import software.amazon.lightsail.alarm.ResourceModel;
 
 import java.time.Duration;
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -66,6 +67,8 @@ public class AlarmTest {
 
     @Test
     public void testUpdate() {
+        when(sdkClient.getAlarms(any(GetAlarmsRequest.class)))
+                .thenReturn(GetAlarmsResponse.builder().build());
         when(sdkClient.putAlarm(any(PutAlarmRequest.class)))
                 .thenReturn(PutAlarmResponse.builder().build());
         val result = testAlarm.update(PutAlarmRequest.builder().build());
@@ -134,4 +137,53 @@ public class AlarmTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    public void testUpdate_noUpdateRequired() {
+        when(sdkClient.getAlarms(any(GetAlarmsRequest.class)))
+                .thenReturn(GetAlarmsResponse.builder().alarms(currentAlarm()).build());
+        val result = testAlarm.update(desiredPutAlarmRequest().build());
+        verify(sdkClient, never()).putAlarm(any(PutAlarmRequest.class));
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void testUpdate_thresholdChanged() {
+        when(sdkClient.getAlarms(any(GetAlarmsRequest.class)))
+                .thenReturn(GetAlarmsResponse.builder().alarms(currentAlarm()).build());
+        when(sdkClient.putAlarm(any(PutAlarmRequest.class)))
+                .thenReturn(PutAlarmResponse.builder().build());
+        val result = testAlarm.update(desiredPutAlarmRequest().threshold(90.0).build());
+        verify(sdkClient, times(1)).putAlarm(any(PutAlarmRequest.class));
+        assertThat(result).isNotNull();
+    }
+
+    @Test
+    public void testMatchesCurrentAlarm_defaults() {
+        val request = PutAlarmRequest.builder().alarmName("alarm").metricName(MetricName.CPU_UTILIZATION)
+                .monitoredResourceName("instance").comparisonOperator(ComparisonOperator.GREATER_THAN_THRESHOLD)
+                .threshold(80.0).evaluationPeriods(2).build();
+        val alarm = currentAlarm().toBuilder().contactProtocols(Collections.emptyList()).build();
+        assertThat(Alarm.matchesCurrentAlarm(request, alarm)).isTrue();
+        assertThat(Alarm.matchesCurrentAlarm(request, alarm.toBuilder().notificationEnabled(false).build())).isFalse();
+        assertThat(Alarm.matchesCurrentAlarm(request, alarm.toBuilder().datapointsToAlarm(1).build())).isFalse();
+    }
+
+    private PutAlarmRequest.Builder desiredPutAlarmRequest() {
+        return PutAlarmRequest.builder().alarmName("alarm").metricName(MetricName.CPU_UTILIZATION)
+                .monitoredResourceName("instance").comparisonOperator(ComparisonOperator.GREATER_THAN_THRESHOLD)
+                .threshold(80.0).evaluationPeriods(2).datapointsToAlarm(2)
+                .treatMissingData(TreatMissingData.MISSING).notificationEnabled(true)
+                .notificationTriggers(AlarmState.ALARM, AlarmState.OK).contactProtocols(ContactProtocol.EMAIL);
+    }
+
+    private software.amazon.awssdk.services.lightsail.model.Alarm currentAlarm() {
+        return software.amazon.awssdk.services.lightsail.model.Alarm.builder().name("alarm")
+                .metricName(MetricName.CPU_UTILIZATION)
+                .monitoredResourceInfo(MonitoredResourceInfo.builder().name("instance").build())
+                .comparisonOperator(ComparisonOperator.GREATER_THAN_THRESHOLD).threshold(80.0).evaluationPeriods(2)
+                .datapointsToAlarm(2).treatMissingData(TreatMissingData.MISSING).notificationEnabled(true)
+                .notificationTriggers(AlarmState.OK, AlarmState.ALARM).contactProtocols(ContactProtocol.EMAIL)
+                .build();
+    }
+
 }
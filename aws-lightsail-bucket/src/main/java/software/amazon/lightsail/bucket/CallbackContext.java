@@ -4,7 +4,9 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 import software.amazon.cloudformation.proxy.delay.Constant;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @lombok.Getter
@@ -34,6 +36,13 @@ public class CallbackContext extends StdCallbackContext {
 
     private Integer postOperationWaitCount = 1;
 
+    // Ids of the operations returned by the mutating call of each step that have not succeeded yet.
+    private Map<String, List<String>> pendingOperationIds = new HashMap<>();
+
+    public List<String> getPendingOperationIds(final String key) {
+        return this.pendingOperationIds.computeIfAbsent(key, k -> new ArrayList<>());
+    }
+
     public int getWaitCount(final String key) {
         return this.waitCount.getOrDefault(key, 0);
     }
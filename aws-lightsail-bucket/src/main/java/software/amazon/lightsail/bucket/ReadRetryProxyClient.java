@@ -0,0 +1,137 @@
+package software.amazon.lightsail.bucket;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.lightsail.LightsailClient;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * ProxyClient that retries the idempotent Lightsail reads on throttling and 5xx errors, with decorrelated jitter and a
+ * retry budget per invocation. Mutating calls are never retried here, retrying them is left to CloudFormation.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class ReadRetryProxyClient implements ProxyClient<LightsailClient> {
+
+    static final int READ_RETRY_BUDGET = 5;
+    static final Duration READ_RETRY_BASE_DELAY = Duration.ofMillis(200);
+    static final Duration READ_RETRY_MAX_DELAY = Duration.ofSeconds(5);
+
+    private final ProxyClient<LightsailClient> proxyClient;
+
+    // Read retries left for this invocation.
+    private int readRetryBudget = READ_RETRY_BUDGET;
+
+    static ProxyClient<LightsailClient> of(final ProxyClient<LightsailClient> proxyClient) {
+        return new ReadRetryProxyClient(proxyClient);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+        if (!isRead(request)) {
+            return proxyClient.injectCredentialsAndInvokeV2(request, requestFunction);
+        }
+        Duration retryDelay = READ_RETRY_BASE_DELAY;
+        while (true) {
+            try {
+                return proxyClient.injectCredentialsAndInvokeV2(request, requestFunction);
+            } catch (final AwsServiceException e) {
+                if (!isTransient(e) || readRetryBudget <= 0) {
+                    throw e;
+                }
+                readRetryBudget--;
+                retryDelay = nextRetryDelay(retryDelay);
+                sleep(retryDelay);
+            }
+        }
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(final RequestT request,
+                                      final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        return proxyClient.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+    IterableT injectCredentialsAndInvokeIterableV2(final RequestT request,
+                                                   final Function<RequestT, IterableT> requestFunction) {
+        return proxyClient.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+    injectCredentialsAndInvokeV2InputStream(final RequestT request,
+                                            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        return proxyClient.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+    injectCredentialsAndInvokeV2Bytes(final RequestT request,
+                                      final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        return proxyClient.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public LightsailClient client() {
+        return proxyClient.client();
+    }
+
+    /**
+     * Decorrelated jitter, the next delay is picked between the base delay and three times the previous delay.
+     *
+     * @param previous
+     *
+     * @return Duration
+     */
+    static Duration nextRetryDelay(final Duration previous) {
+        final long base = READ_RETRY_BASE_DELAY.toMillis();
+        final long upper = Math.max(base, previous.toMillis() * 3);
+        final long delay = base + ThreadLocalRandom.current().nextLong(upper - base + 1);
+        return Duration.ofMillis(Math.min(READ_RETRY_MAX_DELAY.toMillis(), delay));
+    }
+
+    /**
+     * Throttling and server side errors are transient, anything else would fail the same way again.
+     *
+     * @param e
+     *
+     * @return boolean
+     */
+    static boolean isTransient(final AwsServiceException e) {
+        return e.isThrottlingException() || e.statusCode() >= 500;
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Lightsail read calls are the Get* and Is* calls, everything else changes a resource.
+     *
+     * @param request
+     *
+     * @return boolean
+     */
+    static boolean isRead(final AwsRequest request) {
+        final String name = request.getClass().getSimpleName();
+        return name.startsWith("Get") || name.startsWith("Is");
+    }
+}
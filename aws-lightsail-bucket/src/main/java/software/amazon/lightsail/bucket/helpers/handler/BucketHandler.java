@@ -14,6 +14,7 @@ import software.amazon.lightsail.bucket.ResourceModel;
 import software.amazon.lightsail.bucket.Translator;
 import software.amazon.lightsail.bucket.helpers.resource.Bucket;
 import software.amazon.lightsail.bucket.helpers.resource.Instance;
+import software.amazon.lightsail.bucket.helpers.resource.Operations;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -42,6 +43,11 @@ public class BucketHandler extends ResourceHandler {
         return new Instance(request.getDesiredResourceState(), logger, proxyClient, request);
     }
 
+    protected Operations getOperations(final ResourceHandlerRequest<ResourceModel> request,
+                                       final ProxyClient<LightsailClient> proxyClient, final Logger logger) {
+        return new Operations(request.getDesiredResourceState().getBucketName(), logger, proxyClient);
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> preUpdate(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
@@ -207,14 +213,17 @@ public class BucketHandler extends ResourceHandler {
     protected ProgressEvent<ResourceModel, CallbackContext> detachInstances(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         val bucket = getBucket(resourceModelRequest, proxyClient, logger);
+        val operations = getOperations(resourceModelRequest, proxyClient, logger);
         logger.log("Executing AWS-Lightsail-Bucket::Update::DetachInstances...");
         return proxy
                 .initiate("AWS-Lightsail-Bucket::Update::DetachInstances", proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToReadRequest)
-                .makeServiceCall((awsRequest, client) -> bucket.detachInstances(awsRequest))
-                .stabilize((awsRequest, awsResponse, client, model, context) -> (this.isStabilized(callbackContext, POST_CHECK_DETACH) &&
-                        bucket.isStabilizedCreate()))
+                .makeServiceCall((awsRequest, client) -> operations.track(callbackContext, POST_CHECK_DETACH,
+                        bucket.detachInstances(awsRequest)))
+                .stabilize((awsRequest, awsResponse, client, model, context) -> operations.isTracking(callbackContext, POST_CHECK_DETACH)
+                        ? operations.isStabilized(callbackContext, POST_CHECK_DETACH)
+                        : (this.isStabilized(callbackContext, POST_CHECK_DETACH) && bucket.isStabilizedCreate()))
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
                 .progress();
@@ -262,14 +271,17 @@ public class BucketHandler extends ResourceHandler {
     protected ProgressEvent<ResourceModel, CallbackContext> attachInstances(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         val bucket = getBucket(resourceModelRequest, proxyClient, logger);
+        val operations = getOperations(resourceModelRequest, proxyClient, logger);
         logger.log("Executing AWS-Lightsail-Bucket::Update::AttachInstances...");
         return proxy
                 .initiate("AWS-Lightsail-Bucket::Update::AttachInstances", proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToReadRequest)
-                .makeServiceCall((awsRequest, client) -> bucket.attachInstances(awsRequest))
-                .stabilize((awsRequest, awsResponse, client, model, context) -> (this.isStabilized(callbackContext, POST_CHECK_ATTACH) &&
-                        bucket.isStabilizedCreate()))
+                .makeServiceCall((awsRequest, client) -> operations.track(callbackContext, POST_CHECK_ATTACH,
+                        bucket.attachInstances(awsRequest)))
+                .stabilize((awsRequest, awsResponse, client, model, context) -> operations.isTracking(callbackContext, POST_CHECK_ATTACH)
+                        ? operations.isStabilized(callbackContext, POST_CHECK_ATTACH)
+                        : (this.isStabilized(callbackContext, POST_CHECK_ATTACH) && bucket.isStabilizedCreate()))
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
                 .progress();
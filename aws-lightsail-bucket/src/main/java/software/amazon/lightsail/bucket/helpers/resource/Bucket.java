@@ -10,9 +10,12 @@ import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.lightsail.bucket.Logging;
 import software.amazon.lightsail.bucket.ResourceModel;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static software.amazon.lightsail.bucket.Translator.translateFromReadResponse;
@@ -69,8 +72,16 @@ public class Bucket implements ResourceHelper {
 
         Set<String> resourcesToRemove = setDifference(currentResources, desiredResources);
         logger.log("Resources to detach: " + resourcesToRemove.toString());
+        final List<Operation> operations = new ArrayList<>();
         for (val resource: resourcesToRemove) {
-            setResourceAccess(resource, false);
+            val setResourceAccessResponse = (SetResourceAccessForBucketResponse) setResourceAccess(resource, false);
+            if (setResourceAccessResponse != null) {
+                operations.addAll(setResourceAccessResponse.operations());
+            }
+        }
+        if (!resourcesToRemove.isEmpty()) {
+            // One response carrying the operations of all the calls, so that they can be tracked together.
+            awsResponse = SetResourceAccessForBucketResponse.builder().operations(operations).build();
         }
 
         return awsResponse;
@@ -83,8 +94,16 @@ public class Bucket implements ResourceHelper {
 
         Set<String> resourcesToAdd = setDifference(desiredResources, currentResources);
         logger.log("Resources to attach: " + resourcesToAdd.toString());
+        final List<Operation> operations = new ArrayList<>();
         for (val resource: resourcesToAdd) {
-            setResourceAccess(resource, true);
+            val setResourceAccessResponse = (SetResourceAccessForBucketResponse) setResourceAccess(resource, true);
+            if (setResourceAccessResponse != null) {
+                operations.addAll(setResourceAccessResponse.operations());
+            }
+        }
+        if (!resourcesToAdd.isEmpty()) {
+            // One response carrying the operations of all the calls, so that they can be tracked together.
+            awsResponse = SetResourceAccessForBucketResponse.builder().operations(operations).build();
         }
 
         return awsResponse;
@@ -143,8 +162,8 @@ public class Bucket implements ResourceHelper {
         val awsResponse = ((GetBucketsResponse) this
                 .read(GetBucketsRequest.builder().bucketName(resourceModel.getBucketName()).build()));
         val currentState = getCurrentState(awsResponse);
-        logger.log(String.format("Checking if Bucket: %s has stabilized. Current state: %s",
-                resourceModel.getBucketName(), currentState));
+        Logging.sampled(logger, "Checking if Bucket: %s has stabilized. Current state: %s",
+                resourceModel.getBucketName(), currentState);
         return ("OK".equalsIgnoreCase(currentState));
     }
 
@@ -152,16 +171,16 @@ public class Bucket implements ResourceHelper {
         val awsResponse = ((GetBucketsResponse) this
                 .read(GetBucketsRequest.builder().bucketName(resourceModel.getBucketName()).build()));
         val currentState = getCurrentState(awsResponse);
-        logger.log(String.format("Checking if Bucket: %s has stabilized. Current state: %s",
-                resourceModel.getBucketName(), currentState));
+        Logging.sampled(logger, "Checking if Bucket: %s has stabilized. Current state: %s",
+                resourceModel.getBucketName(), currentState);
         return ("OK".equalsIgnoreCase(currentState));
     }
 
     @Override
     public boolean isStabilizedDelete() {
         final boolean stabilized = false;
-        logger.log(String.format("Checking if Bucket: %s deletion has stabilized.",
-                resourceModel.getBucketName(), stabilized));
+        Logging.sampled(logger, "Checking if Bucket: %s deletion has stabilized.",
+                resourceModel.getBucketName());
         try {
             this.read(GetBucketsRequest.builder().bucketName(resourceModel.getBucketName()).build());
         } catch (final Exception e) {
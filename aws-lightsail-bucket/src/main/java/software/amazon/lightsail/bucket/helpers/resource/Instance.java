@@ -6,10 +6,12 @@ import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.GetInstanceRequest;
-import software.amazon.awssdk.services.lightsail.model.GetInstanceResponse;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateRequest;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateResponse;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.lightsail.bucket.Logging;
 import software.amazon.lightsail.bucket.ResourceModel;
 
 /**
@@ -39,16 +41,30 @@ public class Instance implements ResourceHelper {
         return awsResponse;
     }
 
+    /**
+     * Read only the state of the Instance, stabilization does not need the rest of the Instance.
+     *
+     * @param instanceName
+     *
+     * @return GetInstanceStateResponse
+     */
+    public GetInstanceStateResponse readState(String instanceName) {
+        logger.log(String.format("Reading state of Instance: %s", instanceName));
+        return proxyClient.injectCredentialsAndInvokeV2(
+                GetInstanceStateRequest.builder().instanceName(instanceName).build(),
+                proxyClient.client()::getInstanceState);
+    }
+
     /**
      * Check if Instance has reached running state.
      *
      * @return
      */
     public boolean isStabilized(String instanceName) {
-        val awsResponse = ((GetInstanceResponse) this.read(instanceName));
+        val awsResponse = this.readState(instanceName);
         val currentState = getCurrentState(awsResponse);
-        logger.log(String.format("Checking if Instance: %s has stabilized. Current state: %s",
-                instanceName, currentState));
+        Logging.sampled(logger, "Checking if Instance: %s has stabilized. Current state: %s",
+                instanceName, currentState);
         return "running".equalsIgnoreCase(currentState);
     }
 
@@ -60,9 +76,8 @@ public class Instance implements ResourceHelper {
      *
      * @param awsResponse
      */
-    private String getCurrentState(GetInstanceResponse awsResponse) {
-        val instance = awsResponse.instance();
-        return instance.state() == null ? "Pending" : instance.state().name();
+    private String getCurrentState(GetInstanceStateResponse awsResponse) {
+        return awsResponse.state() == null ? "Pending" : awsResponse.state().name();
     }
 
     @Override
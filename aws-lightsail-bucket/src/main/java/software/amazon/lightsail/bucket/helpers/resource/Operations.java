@@ -0,0 +1,126 @@
+package software.amazon.lightsail.bucket.helpers.resource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.lightsail.LightsailClient;
+import software.amazon.awssdk.services.lightsail.model.*;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.lightsail.bucket.CallbackContext;
+import software.amazon.lightsail.bucket.Logging;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helper class to track the Lightsail operations returned by mutating calls. The operation ids are kept in the
+ * CallbackContext per step, so that stabilization polls the operations themselves instead of re-reading the resource.
+ */
+@RequiredArgsConstructor
+public class Operations {
+
+    private final String resourceName;
+    private final Logger logger;
+    private final ProxyClient<LightsailClient> proxyClient;
+
+    /**
+     * Record the operations of the response as pending for the step. The ids left from an earlier call of the step are
+     * dropped, and operations that already succeeded are not tracked.
+     *
+     * @param callbackContext
+     * @param step
+     * @param awsResponse response of a mutating call, may be null when no call was made
+     *
+     * @return the same AwsResponse
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends AwsResponse> T track(final CallbackContext callbackContext, final String step, final T awsResponse) {
+        val pendingOperationIds = callbackContext.getPendingOperationIds(step);
+        pendingOperationIds.clear();
+        if (awsResponse == null) {
+            return null;
+        }
+        val operations = awsResponse.getValueForField("operations", List.class).orElse(null);
+        if (operations != null) {
+            for (val operation : (List<Operation>) operations) {
+                if (operation.id() != null && !isDone(operation)) {
+                    pendingOperationIds.add(operation.id());
+                }
+            }
+        }
+        return awsResponse;
+    }
+
+    /**
+     * Check if there are operations of the step being tracked in the CallbackContext.
+     *
+     * @param callbackContext
+     * @param step
+     *
+     * @return boolean
+     */
+    public boolean isTracking(final CallbackContext callbackContext, final String step) {
+        return !callbackContext.getPendingOperationIds(step).isEmpty();
+    }
+
+    /**
+     * Poll the pending operations. Succeeded operations are no longer pending, a Failed operation fails the step
+     * right away.
+     *
+     * @param callbackContext
+     * @param step
+     *
+     * @return true once all the pending operations have succeeded
+     */
+    public boolean isStabilized(final CallbackContext callbackContext, final String step) {
+        val pendingOperationIds = callbackContext.getPendingOperationIds(step);
+        val operations = readOperations(pendingOperationIds);
+        for (val operationId : pendingOperationIds) {
+            val operation = operations.get(operationId);
+            if (operation != null && operation.status() == OperationStatus.FAILED) {
+                throw new CfnGeneralServiceException(String.format("Operation: %s on %s failed. %s: %s", operationId,
+                        resourceName, operation.errorCode(), operation.errorDetails()));
+            }
+        }
+        pendingOperationIds.removeIf(operationId -> operations.get(operationId) != null && isDone(operations.get(operationId)));
+        Logging.sampled(logger, "Checking if operations on %s have stabilized. Pending operations: %s",
+                resourceName, pendingOperationIds);
+        return pendingOperationIds.isEmpty();
+    }
+
+    /**
+     * Read the operations by id. A single operation is read with GetOperation, several are read in one
+     * GetOperationsForResource call and only the ones missing from it are read one by one.
+     *
+     * @param operationIds
+     *
+     * @return operations by id
+     */
+    private Map<String, Operation> readOperations(final List<String> operationIds) {
+        final Map<String, Operation> operations = new HashMap<>();
+        if (operationIds.size() > 1) {
+            val awsResponse = proxyClient.injectCredentialsAndInvokeV2(GetOperationsForResourceRequest.builder()
+                    .resourceName(resourceName).build(), proxyClient.client()::getOperationsForResource);
+            for (val operation : awsResponse.operations()) {
+                if (operationIds.contains(operation.id())) {
+                    operations.put(operation.id(), operation);
+                }
+            }
+        }
+        for (val operationId : operationIds) {
+            if (!operations.containsKey(operationId)) {
+                val awsResponse = proxyClient.injectCredentialsAndInvokeV2(GetOperationRequest.builder()
+                        .operationId(operationId).build(), proxyClient.client()::getOperation);
+                operations.put(operationId, awsResponse.operation());
+            }
+        }
+        return operations;
+    }
+
+    private static boolean isDone(final Operation operation) {
+        return operation.status() == OperationStatus.SUCCEEDED || operation.status() == OperationStatus.COMPLETED;
+    }
+}
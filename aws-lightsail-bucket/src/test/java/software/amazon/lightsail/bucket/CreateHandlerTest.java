@@ -14,11 +14,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.bucket.helpers.handler.BucketHandler;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.doReturn;
+import static software.amazon.lightsail.bucket.CallbackContext.POST_CHECK_ATTACH;
+import static software.amazon.lightsail.bucket.CallbackContext.POST_CHECK_CREATE;
+import static software.amazon.lightsail.bucket.CallbackContext.POST_CHECK_DETACH;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest extends AbstractTestBase {
@@ -86,4 +91,63 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .bucketName("bucket")
+                        .bundleId("small_1_0")
+                        .build())
+                .build();
+    }
+
+    /**
+     * The fixed waits after create, detach and attach are taken as done, so that the handlers don't sleep in the test.
+     */
+    private static CallbackContext callbackContext() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.incrementWaitCount(POST_CHECK_CREATE);
+        callbackContext.incrementWaitCount(POST_CHECK_DETACH);
+        callbackContext.incrementWaitCount(POST_CHECK_ATTACH);
+        return callbackContext;
+    }
+
+    private static GetBucketsResponse getBucketsResponse() {
+        return GetBucketsResponse.builder()
+                .buckets(Bucket.builder()
+                        .name("bucket")
+                        .bundleId("small_1_0")
+                        .state(BucketState.builder().code("OK").build())
+                        .accessRules(software.amazon.awssdk.services.lightsail.model.AccessRules.builder()
+                                .getObject("private").allowPublicOverrides(false).build())
+                        .objectVersioning("Suspended")
+                        .build())
+                .build();
+    }
+
+    private static NotFoundException notFound() {
+        return NotFoundException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("NotFoundException").build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getBuckets(any(GetBucketsRequest.class)))
+                .thenThrow(notFound())
+                .thenReturn(getBucketsResponse());
+        when(sdkClient.createBucket(any(CreateBucketRequest.class))).thenReturn(CreateBucketResponse.builder().build());
+        when(sdkClient.updateBucket(any(UpdateBucketRequest.class))).thenReturn(UpdateBucketResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler()
+                .handleRequest(proxy, request(), callbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(CreateBucketRequest.class).exactly(1);
+        calls.assertCalls(UpdateBucketRequest.class).exactly(1);
+        calls.assertCalls(UpdateBucketBundleRequest.class).never();
+        calls.assertCalls(GetBucketsRequest.class).atMost(19);
+    }
 }
@@ -4,6 +4,7 @@ import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.GetBucketsRequest;
 import software.amazon.awssdk.services.lightsail.model.GetBucketsResponse;
 import software.amazon.cloudformation.proxy.*;
+import software.amazon.cloudformation.proxy.OperationStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +12,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -59,4 +61,40 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .bucketName("bucket")
+                        .bundleId("small_1_0")
+                        .build())
+                .build();
+    }
+
+    private static GetBucketsResponse getBucketsResponse() {
+        return GetBucketsResponse.builder()
+                .buckets(Bucket.builder()
+                        .name("bucket")
+                        .bundleId("small_1_0")
+                        .state(BucketState.builder().code("OK").build())
+                        .accessRules(software.amazon.awssdk.services.lightsail.model.AccessRules.builder()
+                                .getObject("private").allowPublicOverrides(false).build())
+                        .objectVersioning("Suspended")
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getBuckets(any(GetBucketsRequest.class))).thenReturn(getBucketsResponse());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(GetBucketsRequest.class).exactly(1);
+        calls.assertTotalCalls().exactly(1);
+    }
 }
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.bucket.helpers.resource.Bucket;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -72,4 +73,39 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .bucketName("bucket")
+                        .bundleId("small_1_0")
+                        .build())
+                .build();
+    }
+
+    private static GetBucketsResponse getBucketsResponse() {
+        return GetBucketsResponse.builder()
+                .buckets(software.amazon.awssdk.services.lightsail.model.Bucket.builder()
+                        .name("bucket")
+                        .bundleId("small_1_0")
+                        .state(BucketState.builder().code("OK").build())
+                        .accessRules(software.amazon.awssdk.services.lightsail.model.AccessRules.builder()
+                                .getObject("private").allowPublicOverrides(false).build())
+                        .objectVersioning("Suspended")
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getBuckets(any(GetBucketsRequest.class))).thenReturn(getBucketsResponse());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertTotalCalls().exactly(1);
+    }
 }
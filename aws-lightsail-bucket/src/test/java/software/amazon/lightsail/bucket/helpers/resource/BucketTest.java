@@ -143,6 +143,22 @@ public class BucketTest {
         verify(sdkClient, times(2)).setResourceAccessForBucket(any(SetResourceAccessForBucketRequest.class));
     }
 
+    @Test
+    public void testAttachInstances_collectsOperations() {
+        when(sdkClient.getBuckets(any(GetBucketsRequest.class)))
+                .thenReturn(GetBucketsResponse.builder()
+                        .buckets(Arrays.asList(software.amazon.awssdk.services.lightsail.model.Bucket.builder()
+                                .objectVersioning("Enabled").build())).build());
+        when(sdkClient.setResourceAccessForBucket(any(SetResourceAccessForBucketRequest.class)))
+                .thenReturn(SetResourceAccessForBucketResponse.builder()
+                        .operations(Operation.builder().id("op1").build()).build())
+                .thenReturn(SetResourceAccessForBucketResponse.builder()
+                        .operations(Operation.builder().id("op2").build()).build());
+        val result = (SetResourceAccessForBucketResponse) testBucket.attachInstances(GetBucketsRequest.builder().build());
+        verify(sdkClient, times(2)).setResourceAccessForBucket(any(SetResourceAccessForBucketRequest.class));
+        assertThat(result.operations()).extracting(Operation::id).containsExactlyInAnyOrder("op1", "op2");
+    }
+
     @Test
     public void testDelete() {
         when(sdkClient.deleteBucket(any(DeleteBucketRequest.class)))
@@ -11,6 +11,8 @@ import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.GetInstanceRequest;
 import software.amazon.awssdk.services.lightsail.model.GetInstanceResponse;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateRequest;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateResponse;
 import software.amazon.awssdk.services.lightsail.model.InstanceState;
 import software.amazon.awssdk.services.lightsail.model.NotFoundException;
 import software.amazon.cloudformation.proxy.*;
@@ -76,14 +78,14 @@ public class InstanceTest {
                         .build();
         Instance testInstance = new Instance(model, logger, proxyClient, resourceModelRequest);
 
-        when(sdkClient.getInstance(any(GetInstanceRequest.class)))
-                .thenReturn(GetInstanceResponse.builder()
-                        .instance(software.amazon.awssdk.services.lightsail.model.Instance.builder()
-                                .state(InstanceState.builder()
-                                        .name("Running")
-                                        .build()).build()).build());
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder()
+                                .name("Running")
+                                .build()).build());
         val result = testInstance.isStabilized("resource");
-        verify(sdkClient, times(1)).getInstance(any(GetInstanceRequest.class));
+        verify(sdkClient, times(1)).getInstanceState(any(GetInstanceStateRequest.class));
+        verify(sdkClient, never()).getInstance(any(GetInstanceRequest.class));
         assertThat(result).isTrue();
     }
 
@@ -96,14 +98,14 @@ public class InstanceTest {
                         .build();
         Instance testInstance = new Instance(model, logger, proxyClient, resourceModelRequest);
 
-        when(sdkClient.getInstance(any(GetInstanceRequest.class)))
-                .thenReturn(GetInstanceResponse.builder()
-                        .instance(software.amazon.awssdk.services.lightsail.model.Instance.builder()
-                                .state(InstanceState.builder()
-                                        .name("Pending")
-                                        .build()).build()).build());
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder()
+                                .name("Pending")
+                                .build()).build());
         val result = testInstance.isStabilized("resource");
-        verify(sdkClient, times(1)).getInstance(any(GetInstanceRequest.class));
+        verify(sdkClient, times(1)).getInstanceState(any(GetInstanceStateRequest.class));
+        verify(sdkClient, never()).getInstance(any(GetInstanceRequest.class));
         assertThat(result).isFalse();
     }
 
@@ -16,8 +16,15 @@ public class CallbackContext extends StdCallbackContext {
     public static final Constant BACKOFF_DELAY = Constant.of().delay(Duration.ofSeconds(30))
             .timeout(Duration.ofMinutes(25)).build();
 
+    // Validation polls are short, the certificate details are read on a growing interval of these polls.
+    public static final Constant VALIDATION_BACKOFF_DELAY = Constant.of().delay(Duration.ofSeconds(15))
+            .timeout(Duration.ofMinutes(25)).build();
+
+    public static final int MAX_VALIDATION_READ_INTERVAL = 8;
+
     public static String PRE_CHECK_CREATE = "preCheckCreate";
     public static String POST_CHECK_CREATE = "postCheckCreate";
+    public static String VALIDATION_POLL = "validationPoll";
 
     private Integer postOperationWaitCount = 1;
 
@@ -27,6 +34,14 @@ public class CallbackContext extends StdCallbackContext {
 
     private Integer maxWaitCount = 40;
 
+    // Number of validation polls to wait for the validation records, or for the Certificate to be ISSUED when
+    // WaitForValidation is set.
+    private Integer maxValidationWaitCount = 40;
+
+    private String certificateStatus;
+
+    private String validationMessage;
+
     public int getWaitCount(final String key) {
         return this.waitCount.getOrDefault(key, 0);
     }
@@ -39,10 +54,22 @@ public class CallbackContext extends StdCallbackContext {
         int maxWait = this.maxWaitCount;
         if (key.equalsIgnoreCase(POST_CHECK_CREATE)) {
             maxWait = this.postOperationWaitCount;
+        } else if (key.equalsIgnoreCase(VALIDATION_POLL)) {
+            maxWait = this.maxValidationWaitCount;
         }
         return this.getWaitCount(key) >= maxWait;
     }
 
+    /**
+     * The certificate details are read on every poll at first, then every 2nd, 4th and finally every
+     * MAX_VALIDATION_READ_INTERVAL poll, as validation takes minutes once the DNS records are in place.
+     */
+    public boolean isValidationReadDue() {
+        final int polls = this.getWaitCount(VALIDATION_POLL);
+        final int interval = Math.min(MAX_VALIDATION_READ_INTERVAL, Integer.highestOneBit(Math.max(1, polls)));
+        return polls % interval == 0;
+    }
+
     public boolean getIsPreCheckDone(final String key) {
         return this.isPreCheckDone.getOrDefault(key, false);
     }
@@ -34,8 +34,8 @@ public class CreateHandler extends BaseHandlerStd {
         this.logger = logger;
         val certificateHandler = getCertificateHandler(proxy, request, callbackContext, proxyClient, logger);
 
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        return withValidationMessage(ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(certificateHandler::handleCreate).then(progress -> getReadHandler()
-                .handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .handleRequest(proxy, request, callbackContext, proxyClient, logger)));
     }
 }
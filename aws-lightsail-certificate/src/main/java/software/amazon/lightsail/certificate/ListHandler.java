@@ -6,8 +6,14 @@ import software.amazon.awssdk.services.lightsail.model.GetCertificatesRequest;
 import software.amazon.awssdk.services.lightsail.model.GetCertificatesResponse;
 import software.amazon.cloudformation.proxy.*;
 
+import java.util.List;
+
 public class ListHandler extends BaseHandlerStd {
 
+    // GetCertificates is not paginated. Results are paged over the sorted certificate names and the nextToken is the
+    // last certificate name of the page.
+    public static final int PAGE_SIZE = 100;
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                        final ResourceHandlerRequest<ResourceModel> request, final CallbackContext callbackContext,
@@ -18,8 +24,12 @@ public class ListHandler extends BaseHandlerStd {
         GetCertificatesResponse awsResponse = proxyClient.injectCredentialsAndInvokeV2((GetCertificatesRequest) awsRequest,
                 proxyClient.client()::getCertificates);
 
+        final List<String> certificateNames = Translator.translateToSortedCertificateNames(awsResponse, request.getNextToken());
+        final List<String> page = certificateNames.subList(0, Math.min(PAGE_SIZE, certificateNames.size()));
+        final String nextToken = certificateNames.size() > PAGE_SIZE ? page.get(page.size() - 1) : null;
+
         return ProgressEvent.<ResourceModel, CallbackContext> builder()
-                .resourceModels(Translator.translateFromListRequest(awsResponse))
+                .resourceModels(Translator.translateFromListRequest(page)).nextToken(nextToken)
                 .status(OperationStatus.SUCCESS).build();
     }
 }
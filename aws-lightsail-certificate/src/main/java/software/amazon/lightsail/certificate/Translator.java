@@ -70,21 +70,34 @@ public class Translator {
   }
 
   /**
-   * Request to list resources
+   * Request to list resources. Only the certificate names are listed, so the details are not requested.
    * @return awsRequest the aws service request to list resources within aws account
    */
   static AwsRequest translateToListRequest() {
-    return GetCertificatesRequest.builder().includeCertificateDetails(true).build();
+    return GetCertificatesRequest.builder().includeCertificateDetails(false).build();
   }
 
   /**
-   * Translates resource objects from sdk into a resource model (primary identifier only)
-   * @param awsResponse the aws service describe resource response
-   * @return list of resource models
+   * Translates the certificates from sdk into certificate names, sorted and starting after the given name.
+   * GetCertificates is not paginated, the sorted names are used to page the list results instead.
+   * @param awsResponse the aws service list resources response
+   * @param afterName the last certificate name of the previous page, null for the first page
+   * @return sorted certificate names
    */
-  static List<ResourceModel> translateFromListRequest(final AwsResponse awsResponse) {
+  static List<String> translateToSortedCertificateNames(final AwsResponse awsResponse, final String afterName) {
     val getCertificatesResponse = (GetCertificatesResponse) awsResponse;
-    return getCertificatesResponse.certificates().stream().map(Translator::translateSDKCertificateToResourceModel)
+    return getCertificatesResponse.certificates().stream().map(CertificateSummary::certificateName)
+            .filter(name -> afterName == null || name.compareTo(afterName) > 0)
+            .sorted().distinct().collect(Collectors.toList());
+  }
+
+  /**
+   * Translates certificate names into resource models (primary identifier only)
+   * @param certificateNames the certificate names
+   * @return list of resource models
+   */
+  static List<ResourceModel> translateFromListRequest(final List<String> certificateNames) {
+    return certificateNames.stream().map(name -> ResourceModel.builder().certificateName(name).build())
             .collect(Collectors.toList());
   }
 
@@ -62,9 +62,10 @@ public class CertificateHandler extends ResourceHandler {
         return proxy
                 .initiate("AWS-Lightsail-Certificate::Create", proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToCreateRequest)
+                .translateToServiceRequest(Translator::translateToCreateRequest).backoffDelay(VALIDATION_BACKOFF_DELAY)
                 .makeServiceCall((awsRequest, client) -> certificate.create(awsRequest))
-                .stabilize((awsRequest, awsResponse, client, model, context) -> certificate.isStabilizedCreate())
+                .stabilize((awsRequest, awsResponse, client, model, context) ->
+                        certificate.isStabilizedCreate(callbackContext))
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
                 .progress();
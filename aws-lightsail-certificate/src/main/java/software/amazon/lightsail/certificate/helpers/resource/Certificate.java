@@ -1,5 +1,6 @@
 package software.amazon.lightsail.certificate.helpers.resource;
 
+import com.google.common.collect.ImmutableList;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import software.amazon.awssdk.awscore.AwsRequest;
@@ -7,18 +8,30 @@ import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.*;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.lightsail.certificate.CallbackContext;
+import software.amazon.lightsail.certificate.Logging;
 import software.amazon.lightsail.certificate.ResourceModel;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static software.amazon.lightsail.certificate.CallbackContext.VALIDATION_POLL;
+
 /**
  * Helper class to handle Certificate operations.
  */
 @RequiredArgsConstructor
 public class Certificate implements ResourceHelper {
 
+    private static final List<String> FAILED_STATUSES = ImmutableList.of(CertificateStatus.FAILED.toString(),
+            CertificateStatus.VALIDATION_TIMED_OUT.toString(), CertificateStatus.REVOKED.toString());
+
     private final ResourceModel resourceModel;
     private final Logger logger;
     private final ProxyClient<LightsailClient> proxyClient;
@@ -63,7 +76,8 @@ public class Certificate implements ResourceHelper {
         val certificateName = ((GetCertificatesRequest) request).certificateName();
         logger.log(String.format("Reading Certificate: %s", certificateName));
         val response = proxyClient.injectCredentialsAndInvokeV2(GetCertificatesRequest.builder()
-                .certificateName(certificateName).build(), proxyClient.client()::getCertificates);
+                .certificateName(certificateName).includeCertificateDetails(((GetCertificatesRequest) request)
+                        .includeCertificateDetails()).build(), proxyClient.client()::getCertificates);
 
         if (response.certificates().size() > 0) {
             return response;
@@ -73,27 +87,92 @@ public class Certificate implements ResourceHelper {
                         .serviceName("Lightsail").build()).build();
     }
 
-    public boolean isStabilizedCreate() {
-        final boolean stabilized = true;
-        logger.log(String.format("Checking if Certificate: %s creation has stabilized.",
-                resourceModel.getCertificateName(), stabilized));
+    /**
+     * Creation has stabilized once the DNS records required to validate the Certificate are known, or once it is
+     * ISSUED when WaitForValidation is set. The records are logged and kept in the CallbackContext so that they can be
+     * surfaced as progress message. Waiting is bounded by maxValidationWaitCount, as validation depends on records
+     * outside the stack.
+     *
+     * @param callbackContext
+     *
+     * @return boolean
+     */
+    public boolean isStabilizedCreate(final CallbackContext callbackContext) {
+        val certificateName = resourceModel.getCertificateName();
+        Logging.sampled(logger, "Checking if Certificate: %s creation has stabilized.", certificateName);
+        callbackContext.incrementWaitCount(VALIDATION_POLL);
+        if (!callbackContext.isValidationReadDue()) {
+            logger.log(String.format("Certificate: %s is %s, skipping read.", certificateName,
+                    callbackContext.getCertificateStatus()));
+            return false;
+        }
+        final GetCertificatesResponse response;
         try {
-            this.read(GetCertificatesRequest.builder().certificateName(resourceModel.getCertificateName()).build());
+            response = (GetCertificatesResponse) this.read(GetCertificatesRequest.builder()
+                    .certificateName(certificateName).includeCertificateDetails(true).build());
         } catch (final Exception e) {
             if (!isSafeExceptionDelete(e)) {
                 throw e;
             }
             return false;
         }
-        logger.log(String.format("Certificate: %s creation has stabilized", resourceModel.getCertificateName()));
-        return stabilized;
+        val detail = response.certificates().get(0).certificateDetail();
+        val status = detail == null ? null : detail.statusAsString();
+        callbackContext.setCertificateStatus(status);
+        if (CertificateStatus.ISSUED.toString().equals(status)) {
+            logger.log(String.format("Certificate: %s creation has stabilized", certificateName));
+            return true;
+        }
+        if (FAILED_STATUSES.contains(status)) {
+            throw new CfnGeneralServiceException(String.format("Certificate: %s is %s. %s", certificateName, status,
+                    detail.requestFailureReason() == null ? "" : detail.requestFailureReason()));
+        }
+        val validationRecords = getValidationRecords(detail);
+        if (!validationRecords.isEmpty()) {
+            callbackContext.setValidationMessage(String.format("Certificate: %s is %s. Add the following DNS records to "
+                    + "validate it: %s", certificateName, status, String.join(", ", validationRecords)));
+            logger.log(callbackContext.getValidationMessage());
+        }
+        val waitForValidation = Boolean.TRUE.equals(resourceModel.getWaitForValidation());
+        if (!waitForValidation && !validationRecords.isEmpty()) {
+            logger.log(String.format("Certificate: %s creation has stabilized, status: %s", certificateName, status));
+            return true;
+        }
+        if (callbackContext.isWaitCountReached(VALIDATION_POLL)) {
+            if (waitForValidation) {
+                throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, certificateName);
+            }
+            logger.log(String.format("Certificate: %s creation has stabilized without validation records, status: %s",
+                    certificateName, status));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the DNS records required to validate the Certificate, one entry per record.
+     *
+     * @param detail
+     *
+     * @return List of records as "name type value"
+     */
+    private List<String> getValidationRecords(final software.amazon.awssdk.services.lightsail.model.Certificate detail) {
+        if (detail == null || !detail.hasDomainValidationRecords()) {
+            return ImmutableList.of();
+        }
+        return detail.domainValidationRecords().stream()
+                .map(DomainValidationRecord::resourceRecord)
+                .filter(record -> record != null && record.name() != null)
+                .map(record -> String.format("%s %s %s", record.name(), record.type(), record.value()))
+                .distinct()
+                .collect(Collectors.toList());
     }
 
     @Override
     public boolean isStabilizedDelete() {
         final boolean stabilized = false;
-        logger.log(String.format("Checking if Certificate: %s deletion has stabilized.",
-                resourceModel.getCertificateName(), stabilized));
+        Logging.sampled(logger, "Checking if Certificate: %s deletion has stabilized.",
+                resourceModel.getCertificateName());
         try {
             this.read(GetCertificatesRequest.builder().certificateName(resourceModel.getCertificateName()).build());
         } catch (final Exception e) {
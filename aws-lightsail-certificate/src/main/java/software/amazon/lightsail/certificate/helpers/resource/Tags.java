@@ -31,15 +31,16 @@ public class Tags implements ResourceHelper {
 
     /**
      * Update Tag of Certificate. Add Tags that are not there during create and remove tags that are removed in current
-     * resource model.
+     * resource model. The current Tags are read once for both.
      *
      * @param awsRequest
      *
      * @return
      */
     public AwsResponse update(AwsRequest awsRequest) {
-        removeTags();
-        return addTags();
+        val currentResourceModel = getCurrentResourceModelFromLightsail();
+        removeTags(currentResourceModel);
+        return addTags(currentResourceModel);
     }
 
     /**
@@ -81,8 +82,11 @@ public class Tags implements ResourceHelper {
     }
 
     public AwsResponse addTags() {
+        return addTags(getCurrentResourceModelFromLightsail());
+    }
+
+    private AwsResponse addTags(final ResourceModel currentResourceModel) {
         ResourceModel desiredResourceModel = resourceModelRequest.getDesiredResourceState();
-        ResourceModel currentResourceModel = getCurrentResourceModelFromLightsail();
         final Set<software.amazon.lightsail.certificate.Tag> currentTags = currentResourceModel.getTags() != null
                 ? currentResourceModel.getTags() : new HashSet<>();
         final Set<software.amazon.lightsail.certificate.Tag> desiredTags = desiredResourceModel.getTags() != null
@@ -98,8 +102,11 @@ public class Tags implements ResourceHelper {
     }
 
     public AwsResponse removeTags() {
+        return removeTags(getCurrentResourceModelFromLightsail());
+    }
+
+    private AwsResponse removeTags(final ResourceModel currentResourceModel) {
         ResourceModel desiredResourceModel = resourceModelRequest.getDesiredResourceState();
-        ResourceModel currentResourceModel = getCurrentResourceModelFromLightsail();
         final Set<software.amazon.lightsail.certificate.Tag> currentTags = currentResourceModel.getTags() != null
                 ? currentResourceModel.getTags() : new HashSet<>();
         final Set<software.amazon.lightsail.certificate.Tag> desiredTags = desiredResourceModel.getTags() != null
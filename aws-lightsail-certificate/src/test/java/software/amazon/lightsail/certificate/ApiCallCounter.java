@@ -0,0 +1,114 @@
+package software.amazon.lightsail.certificate;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.lightsail.LightsailClient;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProxyClient for the handler tests that counts the Lightsail calls per operation, so that a test can assert the
+ * API-call budget of a handler path, e.g. calls.assertCalls(GetInstanceRequest.class).atMost(2).
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ApiCallCounter implements ProxyClient<LightsailClient> {
+
+    private final ProxyClient<LightsailClient> proxyClient;
+    private final Map<Class<?>, Integer> counts = new ConcurrentHashMap<>();
+
+    public static ApiCallCounter of(final ProxyClient<LightsailClient> proxyClient) {
+        return new ApiCallCounter(proxyClient);
+    }
+
+    public int count(final Class<? extends AwsRequest> requestClass) {
+        return counts.getOrDefault(requestClass, 0);
+    }
+
+    public int total() {
+        return counts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public Budget assertCalls(final Class<? extends AwsRequest> requestClass) {
+        return new Budget(requestClass.getSimpleName().replaceFirst("Request$", ""), count(requestClass));
+    }
+
+    public Budget assertTotalCalls() {
+        return new Budget(String.format("Lightsail %s", counts.keySet()), total());
+    }
+
+    /**
+     * Fluent assertions on the number of calls of an operation.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Budget {
+        private final String operation;
+        private final int count;
+
+        public void atMost(final int budget) {
+            assertThat(count).as("%s calls", operation).isLessThanOrEqualTo(budget);
+        }
+
+        public void exactly(final int budget) {
+            assertThat(count).as("%s calls", operation).isEqualTo(budget);
+        }
+
+        public void never() {
+            exactly(0);
+        }
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+        counts.merge(request.getClass(), 1, Integer::sum);
+        return proxyClient.injectCredentialsAndInvokeV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(final RequestT request,
+                                      final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        counts.merge(request.getClass(), 1, Integer::sum);
+        return proxyClient.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+    IterableT injectCredentialsAndInvokeIterableV2(final RequestT request,
+                                                   final Function<RequestT, IterableT> requestFunction) {
+        counts.merge(request.getClass(), 1, Integer::sum);
+        return proxyClient.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+    injectCredentialsAndInvokeV2InputStream(final RequestT request,
+                                            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        counts.merge(request.getClass(), 1, Integer::sum);
+        return proxyClient.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+    injectCredentialsAndInvokeV2Bytes(final RequestT request,
+                                      final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        counts.merge(request.getClass(), 1, Integer::sum);
+        return proxyClient.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public LightsailClient client() {
+        return proxyClient.client();
+    }
+}
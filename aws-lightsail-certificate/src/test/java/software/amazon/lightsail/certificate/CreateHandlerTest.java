@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.certificate.helpers.handler.CertificateHandler;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -86,4 +87,76 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_SurfacesValidationMessage() {
+        final CreateHandler createHandler = spy(new CreateHandler());
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setValidationMessage("Certificate: certificate is PENDING_VALIDATION.");
+
+        final ResourceModel model = ResourceModel.builder().build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        doReturn(certificateHandler)
+                .when(createHandler).getCertificateHandler(any(), any(), any(), any(), any());
+        doReturn(readHandler)
+                .when(createHandler).getReadHandler();
+
+        when(certificateHandler.handleCreate(any()))
+                .thenReturn(ProgressEvent.progress(model, callbackContext));
+        when(readHandler.handleRequest(any(), any(), any(), any(), any()))
+                .thenReturn(ProgressEvent.success(model, callbackContext));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getMessage()).isEqualTo("Certificate: certificate is PENDING_VALIDATION.");
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .certificateName("certificate")
+                        .domainName("example.com")
+                        .build())
+                .build();
+    }
+
+    private static GetCertificatesResponse getCertificatesResponse() {
+        return GetCertificatesResponse.builder()
+                .certificates(CertificateSummary.builder()
+                        .certificateName("certificate")
+                        .domainName("example.com")
+                        .certificateDetail(software.amazon.awssdk.services.lightsail.model.Certificate.builder()
+                                .status(CertificateStatus.ISSUED)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    // GetCertificates returns no certificates for a name that does not exist.
+    private static GetCertificatesResponse noCertificates() {
+        return GetCertificatesResponse.builder().build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getCertificates(any(GetCertificatesRequest.class)))
+                .thenReturn(noCertificates())
+                .thenReturn(getCertificatesResponse());
+        when(sdkClient.createCertificate(any(CreateCertificateRequest.class)))
+                .thenReturn(CreateCertificateResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(CreateCertificateRequest.class).exactly(1);
+        calls.assertCalls(GetCertificatesRequest.class).atMost(3);
+    }
 }
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.certificate.helpers.handler.CertificateHandler;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -75,4 +76,48 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .certificateName("certificate")
+                        .domainName("example.com")
+                        .build())
+                .build();
+    }
+
+    private static GetCertificatesResponse getCertificatesResponse() {
+        return GetCertificatesResponse.builder()
+                .certificates(CertificateSummary.builder()
+                        .certificateName("certificate")
+                        .domainName("example.com")
+                        .certificateDetail(software.amazon.awssdk.services.lightsail.model.Certificate.builder()
+                                .status(CertificateStatus.ISSUED)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    // GetCertificates returns no certificates for a name that does not exist.
+    private static GetCertificatesResponse noCertificates() {
+        return GetCertificatesResponse.builder().build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getCertificates(any(GetCertificatesRequest.class)))
+                .thenReturn(getCertificatesResponse())
+                .thenReturn(noCertificates());
+        when(sdkClient.deleteCertificate(any(DeleteCertificateRequest.class)))
+                .thenReturn(DeleteCertificateResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new DeleteHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(DeleteCertificateRequest.class).exactly(1);
+        calls.assertCalls(GetCertificatesRequest.class).atMost(2);
+    }
 }
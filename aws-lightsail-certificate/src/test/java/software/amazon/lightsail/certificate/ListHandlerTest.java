@@ -1,9 +1,11 @@
 package software.amazon.lightsail.certificate;
 
 import software.amazon.awssdk.services.lightsail.LightsailClient;
+import software.amazon.awssdk.services.lightsail.model.CertificateSummary;
 import software.amazon.awssdk.services.lightsail.model.GetCertificatesRequest;
 import software.amazon.awssdk.services.lightsail.model.GetCertificatesResponse;
 import software.amazon.cloudformation.proxy.*;
+import software.amazon.cloudformation.proxy.OperationStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +13,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -59,4 +65,68 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_pagesSortedNamesWithoutDetails() {
+        final ListHandler handler = new ListHandler();
+
+        final List<CertificateSummary> certificates = IntStream.range(0, ListHandler.PAGE_SIZE + 1)
+                .mapToObj(i -> CertificateSummary.builder().certificateName(String.format("cert-%03d", ListHandler.PAGE_SIZE - i))
+                        .build()).collect(Collectors.toList());
+        when(sdkClient.getCertificates(any(GetCertificatesRequest.class)))
+                .thenReturn(GetCertificatesResponse.builder().certificates(certificates).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstPage = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(firstPage.getResourceModels()).hasSize(ListHandler.PAGE_SIZE);
+        assertThat(firstPage.getResourceModels().get(0))
+                .isEqualTo(ResourceModel.builder().certificateName("cert-000").build());
+        assertThat(firstPage.getNextToken()).isEqualTo(String.format("cert-%03d", ListHandler.PAGE_SIZE - 1));
+
+        final ProgressEvent<ResourceModel, CallbackContext> lastPage = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().nextToken(firstPage.getNextToken()).build(),
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(lastPage.getResourceModels())
+                .containsExactly(ResourceModel.builder().certificateName(String.format("cert-%03d", ListHandler.PAGE_SIZE)).build());
+        assertThat(lastPage.getNextToken()).isNull();
+        verify(sdkClient, times(2)).getCertificates(argThat((GetCertificatesRequest awsRequest) ->
+                Boolean.FALSE.equals(awsRequest.includeCertificateDetails())));
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .certificateName("certificate")
+                        .domainName("example.com")
+                        .build())
+                .build();
+    }
+
+    private static GetCertificatesResponse getCertificatesResponse() {
+        return GetCertificatesResponse.builder()
+                .certificates(CertificateSummary.builder()
+                        .certificateName("certificate")
+                        .domainName("example.com")
+                        .certificateDetail(software.amazon.awssdk.services.lightsail.model.Certificate.builder()
+                                .status(CertificateStatus.ISSUED)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getCertificates(any(GetCertificatesRequest.class))).thenReturn(getCertificatesResponse());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(GetCertificatesRequest.class).exactly(1);
+        calls.assertTotalCalls().exactly(1);
+    }
 }
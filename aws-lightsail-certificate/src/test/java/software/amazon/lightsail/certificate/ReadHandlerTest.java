@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.certificate.helpers.resource.Certificate;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -72,4 +73,38 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .certificateName("certificate")
+                        .domainName("example.com")
+                        .build())
+                .build();
+    }
+
+    private static GetCertificatesResponse getCertificatesResponse() {
+        return GetCertificatesResponse.builder()
+                .certificates(CertificateSummary.builder()
+                        .certificateName("certificate")
+                        .domainName("example.com")
+                        .certificateDetail(software.amazon.awssdk.services.lightsail.model.Certificate.builder()
+                                .status(CertificateStatus.ISSUED)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getCertificates(any(GetCertificatesRequest.class))).thenReturn(getCertificatesResponse());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertTotalCalls().exactly(1);
+    }
 }
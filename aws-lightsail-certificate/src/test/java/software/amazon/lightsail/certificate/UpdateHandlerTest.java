@@ -15,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.certificate.helpers.handler.CertificateHandler;
 import software.amazon.lightsail.certificate.helpers.handler.TagsHandler;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -87,4 +88,40 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .certificateName("certificate")
+                        .domainName("example.com")
+                        .build())
+                .build();
+    }
+
+    private static GetCertificatesResponse getCertificatesResponse() {
+        return GetCertificatesResponse.builder()
+                .certificates(CertificateSummary.builder()
+                        .certificateName("certificate")
+                        .domainName("example.com")
+                        .certificateDetail(software.amazon.awssdk.services.lightsail.model.Certificate.builder()
+                                .status(CertificateStatus.ISSUED)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getCertificates(any(GetCertificatesRequest.class))).thenReturn(getCertificatesResponse());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(TagResourceRequest.class).never();
+        calls.assertCalls(UntagResourceRequest.class).never();
+        calls.assertCalls(GetCertificatesRequest.class).atMost(3);
+    }
 }
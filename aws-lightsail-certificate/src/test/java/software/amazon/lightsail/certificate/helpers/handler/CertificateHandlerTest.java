@@ -162,13 +162,13 @@ public class CertificateHandlerTest {
 
         when(certificate.create(any()))
                 .thenReturn(CreateCertificateResponse.builder().build());
-        when(certificate.isStabilizedCreate())
+        when(certificate.isStabilizedCreate(any()))
                 .thenReturn(true);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = testCertificateHandler.create(ProgressEvent.progress(model, callbackContext));
 
         verify(certificate, times(1)).create(any());
-        verify(certificate, times(1)).isStabilizedCreate();
+        verify(certificate, times(1)).isStabilizedCreate(any());
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
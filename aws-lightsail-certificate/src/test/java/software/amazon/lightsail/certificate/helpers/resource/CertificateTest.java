@@ -10,14 +10,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.*;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.*;
+import software.amazon.lightsail.certificate.CallbackContext;
 import software.amazon.lightsail.certificate.AbstractTestBase;
 import software.amazon.lightsail.certificate.ResourceModel;
 
 import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.*;
+import static software.amazon.lightsail.certificate.CallbackContext.VALIDATION_POLL;
 import static software.amazon.lightsail.certificate.AbstractTestBase.MOCK_CREDENTIALS;
 
 @ExtendWith(MockitoExtension.class)
@@ -85,9 +90,11 @@ public class CertificateTest {
     @Test
     public void testIsStabilizedCreate_stabilized() {
         when(sdkClient.getCertificates(any(GetCertificatesRequest.class)))
-                .thenReturn(GetCertificatesResponse.builder().certificates(CertificateSummary.builder().build()).build());
-        val result = testCertificate.isStabilizedCreate();
-        verify(sdkClient, times(1)).getCertificates(any(GetCertificatesRequest.class));
+                .thenReturn(GetCertificatesResponse.builder().certificates(CertificateSummary.builder()
+                        .certificateDetail(software.amazon.awssdk.services.lightsail.model.Certificate.builder().status(CertificateStatus.ISSUED).build()).build()).build());
+        val result = testCertificate.isStabilizedCreate(new CallbackContext());
+        verify(sdkClient, times(1)).getCertificates(argThat((GetCertificatesRequest request) ->
+                Boolean.TRUE.equals(request.includeCertificateDetails())));
         assertThat(result).isTrue();
     }
 
@@ -98,11 +105,102 @@ public class CertificateTest {
                         .awsErrorDetails(AwsErrorDetails
                                 .builder().errorCode("NotFoundException")
                                 .build()).build());
-        val result = testCertificate.isStabilizedCreate();
+        val result = testCertificate.isStabilizedCreate(new CallbackContext());
+        verify(sdkClient, times(1)).getCertificates(any(GetCertificatesRequest.class));
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void testIsStabilizedCreate_pendingValidation() {
+        final CallbackContext callbackContext = new CallbackContext();
+        when(sdkClient.getCertificates(any(GetCertificatesRequest.class)))
+                .thenReturn(GetCertificatesResponse.builder().certificates(CertificateSummary.builder()
+                        .certificateDetail(software.amazon.awssdk.services.lightsail.model.Certificate.builder().status(CertificateStatus.PENDING_VALIDATION)
+                                .domainValidationRecords(DomainValidationRecord.builder().domainName("example.com")
+                                        .resourceRecord(ResourceRecord.builder().name("_abc.example.com.").type("CNAME")
+                                                .value("_def.acm-validations.aws.").build()).build()).build()).build()).build());
+        val result = testCertificate.isStabilizedCreate(callbackContext);
         verify(sdkClient, times(1)).getCertificates(any(GetCertificatesRequest.class));
+        assertThat(result).isTrue();
+        assertThat(callbackContext.getCertificateStatus()).isEqualTo("PENDING_VALIDATION");
+        assertThat(callbackContext.getValidationMessage()).contains("_abc.example.com. CNAME _def.acm-validations.aws.");
+    }
+
+    @Test
+    public void testIsStabilizedCreate_waitForValidation() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final ResourceModel model = ResourceModel.builder().waitForValidation(true).build();
+        testCertificate = new Certificate(model, logger, proxyClient,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build());
+        when(sdkClient.getCertificates(any(GetCertificatesRequest.class)))
+                .thenReturn(pendingValidation());
+        val result = testCertificate.isStabilizedCreate(callbackContext);
+        assertThat(result).isFalse();
+        assertThat(callbackContext.getValidationMessage()).contains("_abc.example.com. CNAME _def.acm-validations.aws.");
+    }
+
+    @Test
+    public void testIsStabilizedCreate_waitForValidationWaitCountReached() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setMaxValidationWaitCount(0);
+        final ResourceModel model = ResourceModel.builder().certificateName("certificate").waitForValidation(true).build();
+        testCertificate = new Certificate(model, logger, proxyClient,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build());
+        when(sdkClient.getCertificates(any(GetCertificatesRequest.class)))
+                .thenReturn(pendingValidation());
+        try {
+            testCertificate.isStabilizedCreate(callbackContext);
+            fail();
+        } catch (CfnNotStabilizedException e) {
+            assertThat(e.getMessage()).contains("certificate");
+        }
+    }
+
+    private static GetCertificatesResponse pendingValidation() {
+        return GetCertificatesResponse.builder().certificates(CertificateSummary.builder()
+                .certificateDetail(software.amazon.awssdk.services.lightsail.model.Certificate.builder().status(CertificateStatus.PENDING_VALIDATION)
+                        .domainValidationRecords(DomainValidationRecord.builder().domainName("example.com")
+                                .resourceRecord(ResourceRecord.builder().name("_abc.example.com.").type("CNAME")
+                                        .value("_def.acm-validations.aws.").build()).build()).build()).build()).build();
+    }
+
+    @Test
+    public void testIsStabilizedCreate_pendingValidationWaitCountReached() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setMaxValidationWaitCount(0);
+        when(sdkClient.getCertificates(any(GetCertificatesRequest.class)))
+                .thenReturn(GetCertificatesResponse.builder().certificates(CertificateSummary.builder()
+                        .certificateDetail(software.amazon.awssdk.services.lightsail.model.Certificate.builder().status(CertificateStatus.PENDING_VALIDATION).build())
+                        .build()).build());
+        val result = testCertificate.isStabilizedCreate(callbackContext);
+        assertThat(result).isTrue();
+        assertThat(callbackContext.getValidationMessage()).isNull();
+    }
+
+    @Test
+    public void testIsStabilizedCreate_skipsReadBetweenIntervals() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.incrementWaitCount(VALIDATION_POLL);
+        callbackContext.incrementWaitCount(VALIDATION_POLL);
+        val result = testCertificate.isStabilizedCreate(callbackContext);
+        verify(sdkClient, never()).getCertificates(any(GetCertificatesRequest.class));
         assertThat(result).isFalse();
     }
 
+    @Test
+    public void testIsStabilizedCreate_failed() {
+        when(sdkClient.getCertificates(any(GetCertificatesRequest.class)))
+                .thenReturn(GetCertificatesResponse.builder().certificates(CertificateSummary.builder()
+                        .certificateDetail(software.amazon.awssdk.services.lightsail.model.Certificate.builder().status(CertificateStatus.VALIDATION_TIMED_OUT).build())
+                        .build()).build());
+        try {
+            testCertificate.isStabilizedCreate(new CallbackContext());
+            fail();
+        } catch (CfnGeneralServiceException e) {
+            assertThat(e.getMessage()).contains("VALIDATION_TIMED_OUT");
+        }
+    }
+
     @Test
     public void testIsStabilizedDelete_stabilized() {
         when(sdkClient.getCertificates(any(GetCertificatesRequest.class)))
@@ -12,6 +12,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.lightsail.container.EnvironmentVariable;
 import software.amazon.lightsail.container.HealthCheckConfig;
+import software.amazon.lightsail.container.Logging;
 import software.amazon.lightsail.container.ResourceModel;
 import software.amazon.lightsail.container.Translator;
 
@@ -220,8 +221,8 @@ public class Container implements ResourceHelper {
         val awsResponse = ((GetContainerServicesResponse) this
                 .read(GetContainerServicesRequest.builder().serviceName(resourceModel.getServiceName()).build()));
         val currentState = getCurrentState(awsResponse);
-        logger.log(String.format("Checking if Container: %s has stabilized. Current state: %s",
-                resourceModel.getServiceName(), currentState));
+        Logging.sampled(logger, "Checking if Container: %s has stabilized. Current state: %s",
+                resourceModel.getServiceName(), currentState);
         return ("Running".equalsIgnoreCase(currentState) || "Ready".equalsIgnoreCase(currentState) || "Disabled".equalsIgnoreCase(currentState));
     }
 
@@ -229,16 +230,16 @@ public class Container implements ResourceHelper {
         val awsResponse = ((GetContainerServicesResponse) this
                 .read(GetContainerServicesRequest.builder().serviceName(resourceModel.getServiceName()).build()));
         val currentState = getCurrentState(awsResponse);
-        logger.log(String.format("Checking if Container: %s has stabilized. Current state: %s",
-                resourceModel.getServiceName(), currentState));
+        Logging.sampled(logger, "Checking if Container: %s has stabilized. Current state: %s",
+                resourceModel.getServiceName(), currentState);
         return ("Ready".equalsIgnoreCase(currentState));
     }
 
     @Override
     public boolean isStabilizedDelete() {
         final boolean stabilized = false;
-        logger.log(String.format("Checking if Container: %s deletion has stabilized.",
-                resourceModel.getServiceName(), stabilized));
+        Logging.sampled(logger, "Checking if Container: %s deletion has stabilized.",
+                resourceModel.getServiceName());
         try {
             this.read(GetContainerServicesRequest.builder().serviceName(resourceModel.getServiceName()).build());
         } catch (final Exception e) {
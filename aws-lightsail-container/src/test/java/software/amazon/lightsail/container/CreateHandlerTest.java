@@ -14,6 +14,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.container.helpers.handler.ContainerHandler;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.lightsail.model.ContainerService;
+import software.amazon.awssdk.services.lightsail.model.ContainerServiceState;
+import software.amazon.awssdk.services.lightsail.model.CreateContainerServiceDeploymentRequest;
+import software.amazon.awssdk.services.lightsail.model.CreateContainerServiceRequest;
+import software.amazon.awssdk.services.lightsail.model.CreateContainerServiceResponse;
+import software.amazon.awssdk.services.lightsail.model.GetContainerServicesRequest;
+import software.amazon.awssdk.services.lightsail.model.GetContainerServicesResponse;
+import software.amazon.awssdk.services.lightsail.model.NotFoundException;
+import software.amazon.awssdk.services.lightsail.model.UpdateContainerServiceRequest;
+import software.amazon.awssdk.services.lightsail.model.UpdateContainerServiceResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -86,4 +97,53 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .serviceName("container")
+                        .power("nano")
+                        .scale(1)
+                        .build())
+                .build();
+    }
+
+    private static GetContainerServicesResponse getContainerServicesResponse() {
+        return GetContainerServicesResponse.builder()
+                .containerServices(ContainerService.builder()
+                        .containerServiceName("container")
+                        .power("nano")
+                        .scale(1)
+                        .state(ContainerServiceState.READY)
+                        .build())
+                .build();
+    }
+
+    private static NotFoundException notFound() {
+        return NotFoundException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("NotFoundException").build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getContainerServices(any(GetContainerServicesRequest.class)))
+                .thenThrow(notFound())
+                .thenReturn(getContainerServicesResponse());
+        when(sdkClient.createContainerService(any(CreateContainerServiceRequest.class)))
+                .thenReturn(CreateContainerServiceResponse.builder().build());
+        when(sdkClient.updateContainerService(any(UpdateContainerServiceRequest.class)))
+                .thenReturn(UpdateContainerServiceResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(CreateContainerServiceRequest.class).exactly(1);
+        calls.assertCalls(UpdateContainerServiceRequest.class).exactly(1);
+        calls.assertCalls(CreateContainerServiceDeploymentRequest.class).never();
+        calls.assertCalls(GetContainerServicesRequest.class).atMost(9);
+    }
 }
@@ -14,6 +14,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.container.helpers.handler.ContainerHandler;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.lightsail.model.ContainerService;
+import software.amazon.awssdk.services.lightsail.model.ContainerServiceState;
+import software.amazon.awssdk.services.lightsail.model.DeleteContainerServiceRequest;
+import software.amazon.awssdk.services.lightsail.model.DeleteContainerServiceResponse;
+import software.amazon.awssdk.services.lightsail.model.GetContainerServicesRequest;
+import software.amazon.awssdk.services.lightsail.model.GetContainerServicesResponse;
+import software.amazon.awssdk.services.lightsail.model.NotFoundException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -75,4 +83,53 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .serviceName("container")
+                        .power("nano")
+                        .scale(1)
+                        .build())
+                .build();
+    }
+
+    private static GetContainerServicesResponse getContainerServicesResponse() {
+        return GetContainerServicesResponse.builder()
+                .containerServices(ContainerService.builder()
+                        .containerServiceName("container")
+                        .power("nano")
+                        .scale(1)
+                        .state(ContainerServiceState.READY)
+                        .build())
+                .build();
+    }
+
+    private static NotFoundException notFound() {
+        return NotFoundException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("NotFoundException").build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        // The fixed wait after delete is taken as done, so that the handler doesn't sleep in the test.
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setPostOperationWaitCount(0);
+        when(sdkClient.getContainerServices(any(GetContainerServicesRequest.class)))
+                .thenReturn(getContainerServicesResponse())
+                .thenReturn(getContainerServicesResponse())
+                .thenThrow(notFound());
+        when(sdkClient.deleteContainerService(any(DeleteContainerServiceRequest.class)))
+                .thenReturn(DeleteContainerServiceResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new DeleteHandler()
+                .handleRequest(proxy, request(), callbackContext, calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(DeleteContainerServiceRequest.class).exactly(1);
+        calls.assertCalls(GetContainerServicesRequest.class).atMost(3);
+    }
 }
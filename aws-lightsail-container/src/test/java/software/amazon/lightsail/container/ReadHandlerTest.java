@@ -14,6 +14,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.container.helpers.resource.Container;
+import software.amazon.awssdk.services.lightsail.model.ContainerService;
+import software.amazon.awssdk.services.lightsail.model.ContainerServiceState;
+import software.amazon.awssdk.services.lightsail.model.GetContainerServicesRequest;
+import software.amazon.awssdk.services.lightsail.model.GetContainerServicesResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -71,4 +75,39 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .serviceName("container")
+                        .power("nano")
+                        .scale(1)
+                        .build())
+                .build();
+    }
+
+    private static GetContainerServicesResponse getContainerServicesResponse() {
+        return GetContainerServicesResponse.builder()
+                .containerServices(ContainerService.builder()
+                        .containerServiceName("container")
+                        .power("nano")
+                        .scale(1)
+                        .state(ContainerServiceState.READY)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getContainerServices(any(GetContainerServicesRequest.class)))
+                .thenReturn(getContainerServicesResponse());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertTotalCalls().exactly(1);
+    }
 }
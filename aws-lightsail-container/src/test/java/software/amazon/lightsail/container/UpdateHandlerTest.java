@@ -15,6 +15,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.container.helpers.handler.ContainerHandler;
 import software.amazon.lightsail.container.helpers.handler.TagsHandler;
+import software.amazon.awssdk.services.lightsail.model.ContainerService;
+import software.amazon.awssdk.services.lightsail.model.ContainerServiceState;
+import software.amazon.awssdk.services.lightsail.model.CreateContainerServiceDeploymentRequest;
+import software.amazon.awssdk.services.lightsail.model.GetContainerServicesRequest;
+import software.amazon.awssdk.services.lightsail.model.GetContainerServicesResponse;
+import software.amazon.awssdk.services.lightsail.model.TagResourceRequest;
+import software.amazon.awssdk.services.lightsail.model.UntagResourceRequest;
+import software.amazon.awssdk.services.lightsail.model.UpdateContainerServiceRequest;
+import software.amazon.awssdk.services.lightsail.model.UpdateContainerServiceResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -96,4 +105,45 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .serviceName("container")
+                        .power("nano")
+                        .scale(1)
+                        .build())
+                .build();
+    }
+
+    private static GetContainerServicesResponse getContainerServicesResponse() {
+        return GetContainerServicesResponse.builder()
+                .containerServices(ContainerService.builder()
+                        .containerServiceName("container")
+                        .power("nano")
+                        .scale(1)
+                        .state(ContainerServiceState.READY)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getContainerServices(any(GetContainerServicesRequest.class)))
+                .thenReturn(getContainerServicesResponse());
+        when(sdkClient.updateContainerService(any(UpdateContainerServiceRequest.class)))
+                .thenReturn(UpdateContainerServiceResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(UpdateContainerServiceRequest.class).exactly(1);
+        calls.assertCalls(CreateContainerServiceDeploymentRequest.class).never();
+        calls.assertCalls(TagResourceRequest.class).never();
+        calls.assertCalls(UntagResourceRequest.class).never();
+        calls.assertCalls(GetContainerServicesRequest.class).atMost(7);
+    }
 }
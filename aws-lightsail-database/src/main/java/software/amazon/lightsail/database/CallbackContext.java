@@ -16,17 +16,35 @@ public class CallbackContext extends StdCallbackContext {
     public static final Constant BACKOFF_DELAY = Constant.of().delay(Duration.ofSeconds(30))
             .timeout(Duration.ofMinutes(25)).build();
 
+    // Stabilizations that tail the database events back off from EVENT_BASE_DELAY to EVENT_MAX_DELAY while no new
+    // event arrives.
+    public static final Duration EVENT_BASE_DELAY = Duration.ofSeconds(30);
+    public static final Duration EVENT_MAX_DELAY = Duration.ofMinutes(2);
+    public static final Duration EVENT_TIMEOUT = Duration.ofMinutes(25);
+
     public static String PRE_CHECK_CREATE = "preCheckCreate";
     public static String PRE_CHECK_UPDATE = "preCheckUpdate";
     public static String PRE_CHECK_DELETE = "preCheckDelete";
     public static String PRE_TAG_UPDATE = "preCheckUpdateTag";
     public static String POST_CHECK_UPDATE = "postCheckUpdate";
     public static String POST_CHECK_UPDATE_PARAMS = "postCheckUpdateParams";
+    public static String POST_CHECK_CREATE = "postCheckCreate";
 
     private Map<String, Boolean> isPreCheckDone = new HashMap<>();
 
     private Map<String, Integer> waitCount = new HashMap<>();
 
+    // Creation time (epoch millis) of the last database event seen, per stabilization step.
+    private Map<String, Long> eventCursor = new HashMap<>();
+
+    private String lastEventMessage;
+
+    // Number of consecutive event polls without a new event, per stabilization step.
+    private Map<String, Integer> quietEventPolls = new HashMap<>();
+
+    // Time (millis) waited between the event polls, per stabilization step.
+    private Map<String, Long> eventWaitMillis = new HashMap<>();
+
     private Integer maxWaitCount = 40;
 
     private Integer postUpdateWaitCount = 1;
@@ -47,6 +65,22 @@ public class CallbackContext extends StdCallbackContext {
         return this.getWaitCount(key) >= maxWait;
     }
 
+    public int getQuietEventPolls(final String step) {
+        return this.quietEventPolls.getOrDefault(step, 0);
+    }
+
+    public void incrementQuietEventPolls(final String step) {
+        this.quietEventPolls.put(step, getQuietEventPolls(step) + 1);
+    }
+
+    public long getEventWaitMillis(final String step) {
+        return this.eventWaitMillis.getOrDefault(step, 0L);
+    }
+
+    public void addEventWaitMillis(final String step, final long millis) {
+        this.eventWaitMillis.put(step, getEventWaitMillis(step) + millis);
+    }
+
     public boolean getIsPreCheckDone(final String key) {
         return this.isPreCheckDone.getOrDefault(key, false);
     }
@@ -0,0 +1,51 @@
+package software.amazon.lightsail.database;
+
+import lombok.RequiredArgsConstructor;
+import software.amazon.cloudformation.proxy.delay.Delay;
+
+import java.time.Duration;
+
+/**
+ * Backoff for the stabilizations that tail the database events. The delay doubles with every poll of the step that
+ * saw no new event, up to maxDelay, and drops back to baseDelay as soon as events arrive again. The stabilization sums
+ * the delays it waits in the CallbackContext, so that the timeout holds across callbacks.
+ */
+@RequiredArgsConstructor(staticName = "of")
+public final class EventTailingDelay implements Delay {
+
+    private final CallbackContext callbackContext;
+    private final String step;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Duration timeout;
+
+    public static EventTailingDelay of(final CallbackContext callbackContext, final String step) {
+        return of(callbackContext, step, CallbackContext.EVENT_BASE_DELAY, CallbackContext.EVENT_MAX_DELAY,
+                CallbackContext.EVENT_TIMEOUT);
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        if (callbackContext.getEventWaitMillis(step) > timeout.toMillis()) {
+            return Duration.ZERO;
+        }
+        return pollDelay();
+    }
+
+    /**
+     * Get the delay before the next poll of the step, from the number of polls that saw no new event.
+     *
+     * @return Duration
+     */
+    public Duration pollDelay() {
+        final int quietPolls = callbackContext.getQuietEventPolls(step);
+        Duration next = baseDelay;
+        for (int i = 1; i < quietPolls && next.compareTo(maxDelay) < 0; i++) {
+            next = next.multipliedBy(2);
+        }
+        if (next.compareTo(maxDelay) > 0) {
+            next = maxDelay;
+        }
+        return next;
+    }
+}
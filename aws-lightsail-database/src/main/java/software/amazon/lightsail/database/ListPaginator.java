@@ -0,0 +1,97 @@
+package software.amazon.lightsail.database;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Pages list results so that a single List response carries at most MAX_MODELS_PER_PAGE models. The continuation
+ * token handed back to CloudFormation holds the SDK page token together with the number of items of that page that
+ * were already returned, so a partially consumed SDK page is resumed without translating or skipping items. The
+ * Lightsail list calls take no page size, so every response still fetches and holds the whole SDK page, and a
+ * resumed page is fetched again.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class ListPaginator {
+
+    static final int MAX_MODELS_PER_PAGE = 100;
+
+    private static final String TOKEN_PREFIX = "v1:";
+    private static final String SEPARATOR = ":";
+
+    /**
+     * SDK page token of the page being consumed, null for the first page.
+     */
+    private final String pageToken;
+
+    /**
+     * Number of items of the SDK page that were already returned.
+     */
+    private final int offset;
+
+    /**
+     * Decode the nextToken of the List request. Tokens not produced by this class are SDK page tokens and are used
+     * as they are.
+     *
+     * @param nextToken nextToken of the List request
+     * @return paginator positioned at the token
+     */
+    static ListPaginator fromNextToken(final String nextToken) {
+        if (nextToken == null || nextToken.isEmpty()) {
+            return new ListPaginator(null, 0);
+        }
+        final String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(nextToken), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return new ListPaginator(nextToken, 0);
+        }
+        if (!decoded.startsWith(TOKEN_PREFIX)) {
+            return new ListPaginator(nextToken, 0);
+        }
+        final String[] parts = decoded.substring(TOKEN_PREFIX.length()).split(SEPARATOR, 2);
+        try {
+            return new ListPaginator(parts.length > 1 && !parts[1].isEmpty() ? parts[1] : null,
+                    Math.max(0, Integer.parseInt(parts[0])));
+        } catch (NumberFormatException e) {
+            return new ListPaginator(nextToken, 0);
+        }
+    }
+
+    /**
+     * Items of the SDK page that go into this response. The returned list is a view, only these items need to be
+     * translated.
+     *
+     * @param items items of the SDK page
+     * @return items to return
+     */
+    <T> List<T> page(final List<T> items) {
+        final int from = Math.min(offset, items.size());
+        return items.subList(from, Math.min(from + MAX_MODELS_PER_PAGE, items.size()));
+    }
+
+    /**
+     * Continuation token of this response.
+     *
+     * @param itemCount number of items in the SDK page
+     * @param nextPageToken SDK page token of the next page
+     * @return next token or null when the listing is complete
+     */
+    String nextToken(final int itemCount, final String nextPageToken) {
+        final int consumed = Math.min(offset, itemCount) + MAX_MODELS_PER_PAGE;
+        if (consumed < itemCount) {
+            return encode(pageToken, consumed);
+        }
+        return nextPageToken == null || nextPageToken.isEmpty() ? null : encode(nextPageToken, 0);
+    }
+
+    private static String encode(final String pageToken, final int offset) {
+        final String token = TOKEN_PREFIX + offset + SEPARATOR + (pageToken == null ? "" : pageToken);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -162,16 +162,12 @@ public class Translator {
   }
 
   /**
-   * Translates resource objects from sdk into a resource model (primary identifier only)
-   *
-   * @param awsResponse
-   *            the aws service describe resource response
-   *
+   * Translates a page of resource objects from sdk into resource models
+   * @param relationalDatabases the sdk resource objects of the page
    * @return list of resource models
    */
-  static List<ResourceModel> translateFromListRequest(final AwsResponse awsResponse) {
-    val getDatabasesResponse = (GetRelationalDatabasesResponse) awsResponse;
-    return getDatabasesResponse.relationalDatabases().stream().map(Translator::translateSDKDatabaseToResourceModel)
+  static List<ResourceModel> translateFromListRequest(final List<RelationalDatabase> relationalDatabases) {
+    return relationalDatabases.stream().map(Translator::translateSDKDatabaseToResourceModel)
             .collect(Collectors.toList());
   }
 
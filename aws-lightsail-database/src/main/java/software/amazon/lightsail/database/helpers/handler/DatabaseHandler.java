@@ -9,6 +9,7 @@ import software.amazon.awssdk.services.lightsail.model.ResourceType;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.proxy.*;
 import software.amazon.lightsail.database.CallbackContext;
+import software.amazon.lightsail.database.EventTailingDelay;
 import software.amazon.lightsail.database.ResourceModel;
 import software.amazon.lightsail.database.Translator;
 import software.amazon.lightsail.database.helpers.resource.Database;
@@ -43,7 +44,7 @@ public class DatabaseHandler extends ResourceHandler {
                 .makeServiceCall((awsRequest, client) -> database.read(awsRequest))
                 .stabilize((awsRequest, awsResponse, client, model,
                             context) -> this.isStabilized(this.callbackContext, PRE_CHECK_UPDATE)
-                        || database.isStabilizedCreate())
+                        || database.isStabilizedUpdate())
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
                 .progress();
@@ -85,15 +86,19 @@ public class DatabaseHandler extends ResourceHandler {
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         val database = getDatabase(resourceModelRequest, proxyClient, logger);
         logger.log("Executing AWS-Lightsail-Database::Create...");
-        return proxy
+        return withLatestEvent(proxy
                 .initiate("AWS-Lightsail-Database::Create", proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToCreateRequest)
-                .makeServiceCall((awsRequest, client) -> database.create(awsRequest))
-                .stabilize((awsRequest, awsResponse, client, model, context) -> database.isStabilizedCreate())
+                .makeServiceCall((awsRequest, client) -> {
+                    database.startEventTailing(callbackContext, POST_CHECK_CREATE);
+                    return database.create(awsRequest);
+                })
+                .stabilize((awsRequest, awsResponse, client, model, context) ->
+                        database.isStabilizedFromEvents(callbackContext, POST_CHECK_CREATE))
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
-                .progress();
+                .progress());
     }
 
     @Override
@@ -133,31 +138,64 @@ public class DatabaseHandler extends ResourceHandler {
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         val database = getDatabase(resourceModelRequest, proxyClient, logger);
         logger.log("Executing AWS-Lightsail-Database::Update...");
-        return proxy
+        return withLatestEvent(proxy
                 .initiate("AWS-Lightsail-Database::Update", proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToUpdateRequest).backoffDelay(BACKOFF_DELAY)
-                .makeServiceCall((awsRequest, client) -> database.update(awsRequest))
+                .translateToServiceRequest(Translator::translateToUpdateRequest)
+                .backoffDelay(EventTailingDelay.of(callbackContext, POST_CHECK_UPDATE))
+                .makeServiceCall((awsRequest, client) -> {
+                    database.startEventTailing(callbackContext, POST_CHECK_UPDATE);
+                    return database.update(awsRequest);
+                })
                 .stabilize((awsRequest, awsResponse, client, model, context) -> this.isStabilized(callbackContext, POST_CHECK_UPDATE) &&
-                        database.isStabilizedUpdate())
+                        isStabilizedFromEvents(database, POST_CHECK_UPDATE))
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
-                .progress();
+                .progress());
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> updateDatabaseParameters(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         val database = getDatabase(resourceModelRequest, proxyClient, logger);
         logger.log("Executing AWS-Lightsail-Database::UpdateParameters...");
-        return proxy
+        return withLatestEvent(proxy
                 .initiate("AWS-Lightsail-Database::UpdateParameters", proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToUpdateParametersRequest).backoffDelay(BACKOFF_DELAY)
-                .makeServiceCall((awsRequest, client) -> database.updateParameters(awsRequest))
-                .stabilize((awsRequest, awsResponse, client, model, context) -> this.isStabilized(callbackContext, POST_CHECK_UPDATE_PARAMS) &&
-                        database.isStabilizedUpdate())
+                .translateToServiceRequest(Translator::translateToUpdateParametersRequest)
+                .backoffDelay(EventTailingDelay.of(callbackContext, POST_CHECK_UPDATE_PARAMS))
+                .makeServiceCall((awsRequest, client) -> {
+                    database.startEventTailing(callbackContext, POST_CHECK_UPDATE_PARAMS);
+                    return database.updateParameters(awsRequest);
+                })
+                .stabilize((awsRequest, awsResponse, client, model, context) -> awsResponse == null ||
+                        (this.isStabilized(callbackContext, POST_CHECK_UPDATE_PARAMS)
+                        && isStabilizedFromEvents(database, POST_CHECK_UPDATE_PARAMS)))
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
-                .progress();
+                .progress());
+    }
+
+    /**
+     * Check the step against the database events and, while it has not stabilized, add the EventTailingDelay that
+     * follows to the time waited for the step.
+     */
+    private boolean isStabilizedFromEvents(final Database database, final String step) {
+        if (database.isStabilizedFromEvents(callbackContext, step)) {
+            return true;
+        }
+        callbackContext.addEventWaitMillis(step, EventTailingDelay.of(callbackContext, step).pollDelay().toMillis());
+        return false;
+    }
+
+    /**
+     * Surface the latest database event as the progress message while waiting for the next callback.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> withLatestEvent(
+            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        if (progress.isInProgress() && progress.getCallbackDelaySeconds() > 0
+                && callbackContext.getLastEventMessage() != null) {
+            progress.setMessage(callbackContext.getLastEventMessage());
+        }
+        return progress;
     }
 }
@@ -1,23 +1,46 @@
 package software.amazon.lightsail.database.helpers.resource;
 
+import com.google.common.collect.ImmutableList;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.*;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.lightsail.database.CallbackContext;
+import software.amazon.lightsail.database.Logging;
 import software.amazon.lightsail.database.ResourceModel;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * Helper class to handle Database operations.
  */
 @RequiredArgsConstructor
 public class Database implements ResourceHelper {
 
+    private static final int MAX_PARAMETERS_PER_UPDATE = 20;
+    private static final String APPLY_METHOD_IMMEDIATE = "immediate";
+    private static final String APPLY_METHOD_PENDING_REBOOT = "pending-reboot";
+    private static final int STATE_READ_INTERVAL = 3;
+    private static final int MAX_EVENT_DURATION_IN_MINUTES = 20160;
+    private static final Duration EVENT_CLOCK_SKEW = Duration.ofMinutes(1);
+    private static final String FAILURE_EVENT_CATEGORY = "failure";
+    private static final List<String> FAILED_STATES = ImmutableList.of("failed", "incompatible-parameters",
+            "incompatible-restore", "incompatible-network");
+
     private final ResourceModel resourceModel;
     private final Logger logger;
     private final ProxyClient<LightsailClient> proxyClient;
@@ -31,24 +54,92 @@ public class Database implements ResourceHelper {
             return awsResponse;
         }
         logger.log(String.format("Updating Relational Database: %s", resourceModel.getRelationalDatabaseName()));
-        awsResponse = proxyClient.injectCredentialsAndInvokeV2(((UpdateRelationalDatabaseRequest) request),
+        val updateRequest = isRotationRequested() ? (UpdateRelationalDatabaseRequest) request
+                : ((UpdateRelationalDatabaseRequest) request).toBuilder().rotateMasterUserPassword(null).build();
+        awsResponse = proxyClient.injectCredentialsAndInvokeV2(updateRequest,
                 proxyClient.client()::updateRelationalDatabase);
         logger.log(String.format("Successfully updated Relational Database: %s", resourceModel.getRelationalDatabaseName()));
         return awsResponse;
     }
 
+    /**
+     * Update only the Relational Database Parameters whose value differs from the one currently applied. Changed
+     * parameters are sent in chunks of at most MAX_PARAMETERS_PER_UPDATE. Returns null when nothing has changed so
+     * the caller can skip stabilization.
+     *
+     * @param request
+     *
+     * @return AwsResponse of the last chunk sent, or null if no update was required
+     */
     public AwsResponse updateParameters(AwsRequest request) {
         AwsResponse awsResponse = null;
         if (resourceModel.getRelationalDatabaseParameters() == null) {
             logger.log(String.format("Update parameters not required for Relational Database: %s", resourceModel.getRelationalDatabaseName()));
             return awsResponse;
         }
-        awsResponse = proxyClient.injectCredentialsAndInvokeV2(((UpdateRelationalDatabaseParametersRequest) request),
-                proxyClient.client()::updateRelationalDatabaseParameters);
+        val updateParametersRequest = (UpdateRelationalDatabaseParametersRequest) request;
+        val changedParameters = getChangedParameters(updateParametersRequest.parameters());
+        if (changedParameters.isEmpty()) {
+            logger.log(String.format("Relational Database Parameters are already up to date for: %s", resourceModel.getRelationalDatabaseName()));
+            return awsResponse;
+        }
+        for (int i = 0; i < changedParameters.size(); i += MAX_PARAMETERS_PER_UPDATE) {
+            val chunk = changedParameters.subList(i, Math.min(i + MAX_PARAMETERS_PER_UPDATE, changedParameters.size()));
+            logger.log(String.format("Updating %d Relational Database Parameters for: %s", chunk.size(), resourceModel.getRelationalDatabaseName()));
+            awsResponse = proxyClient.injectCredentialsAndInvokeV2(updateParametersRequest.toBuilder().parameters(chunk).build(),
+                    proxyClient.client()::updateRelationalDatabaseParameters);
+        }
         logger.log(String.format("Successfully updated Relational Database Parameters for: %s", resourceModel.getRelationalDatabaseName()));
         return awsResponse;
     }
 
+    /**
+     * Get the desired parameters whose value differs from the current one. Parameters without an apply method get
+     * one derived from the current apply type, and immediate parameters are ordered before pending-reboot ones.
+     *
+     * @param desiredParameters
+     *
+     * @return List of changed parameters
+     */
+    private List<RelationalDatabaseParameter> getChangedParameters(final List<RelationalDatabaseParameter> desiredParameters) {
+        val currentParameters = getCurrentParameters();
+        val changedParameters = new ArrayList<RelationalDatabaseParameter>();
+        for (val desired : desiredParameters) {
+            val current = currentParameters.get(desired.parameterName());
+            if (current != null && Objects.equals(desired.parameterValue(), current.parameterValue())) {
+                continue;
+            }
+            if (desired.applyMethod() == null && current != null && current.applyType() != null) {
+                changedParameters.add(desired.toBuilder().applyMethod("static".equalsIgnoreCase(current.applyType())
+                        ? APPLY_METHOD_PENDING_REBOOT : APPLY_METHOD_IMMEDIATE).build());
+            } else {
+                changedParameters.add(desired);
+            }
+        }
+        changedParameters.sort(Comparator.comparing(parameter -> APPLY_METHOD_PENDING_REBOOT.equalsIgnoreCase(parameter.applyMethod())));
+        return changedParameters;
+    }
+
+    /**
+     * Get all the current parameters of the Relational Database indexed by parameter name.
+     *
+     * @return Map of parameter name to parameter
+     */
+    private Map<String, RelationalDatabaseParameter> getCurrentParameters() {
+        val currentParameters = new HashMap<String, RelationalDatabaseParameter>();
+        String pageToken = null;
+        do {
+            val awsResponse = proxyClient.injectCredentialsAndInvokeV2(GetRelationalDatabaseParametersRequest.builder()
+                            .relationalDatabaseName(resourceModel.getRelationalDatabaseName()).pageToken(pageToken).build(),
+                    proxyClient.client()::getRelationalDatabaseParameters);
+            if (awsResponse.parameters() != null) {
+                awsResponse.parameters().forEach(parameter -> currentParameters.put(parameter.parameterName(), parameter));
+            }
+            pageToken = awsResponse.nextPageToken();
+        } while (pageToken != null);
+        return currentParameters;
+    }
+
     @Override
     public AwsResponse create(AwsRequest request) {
         logger.log(String.format("Creating Relational Database: %s", resourceModel.getRelationalDatabaseName()));
@@ -89,25 +180,118 @@ public class Database implements ResourceHelper {
         val awsResponse = ((GetRelationalDatabaseResponse) this
                 .read(GetRelationalDatabaseRequest.builder().relationalDatabaseName(resourceModel.getRelationalDatabaseName()).build()));
         val currentState = getCurrentState(awsResponse);
-        logger.log(String.format("Checking if Relational Database: %s has stabilized. Current state: %s",
-                resourceModel.getRelationalDatabaseName(), currentState));
+        Logging.sampled(logger, "Checking if Relational Database: %s has stabilized. Current state: %s",
+                resourceModel.getRelationalDatabaseName(), currentState);
         return ("available".equalsIgnoreCase(currentState));
     }
 
-    public boolean isStabilizedCreate() {
-        val awsResponse = ((GetRelationalDatabaseResponse) this
-                .read(GetRelationalDatabaseRequest.builder().relationalDatabaseName(resourceModel.getRelationalDatabaseName()).build()));
-        val currentState = getCurrentState(awsResponse);
-        logger.log(String.format("Checking if Relational Database: %s has stabilized. Current state: %s",
-                resourceModel.getRelationalDatabaseName(), currentState));
-        return ("available".equalsIgnoreCase(currentState));
+    /**
+     * Start tailing the events of the Relational Database for a stabilization step at the time of its operation, so
+     * that the events the operation causes before the first poll are seen. The cursor is kept once set.
+     *
+     * @param callbackContext
+     * @param step
+     */
+    public void startEventTailing(final CallbackContext callbackContext, final String step) {
+        callbackContext.getEventCursor().putIfAbsent(step, Instant.now().minus(EVENT_CLOCK_SKEW).toEpochMilli());
+    }
+
+    /**
+     * Check if the Relational Database has stabilized by tailing its events from the last seen event onwards, starting
+     * at startEventTailing. The full database is read when new events have arrived, on the first poll without new
+     * events and then every STATE_READ_INTERVAL quiet polls, while EventTailingDelay backs off. An event in the failure
+     * category fails the stabilization.
+     *
+     * @param callbackContext
+     * @param step
+     *
+     * @return boolean
+     */
+    public boolean isStabilizedFromEvents(final CallbackContext callbackContext, final String step) {
+        // Contexts of operations started before startEventTailing was called begin at the first poll.
+        startEventTailing(callbackContext, step);
+        val cursor = Instant.ofEpochMilli(callbackContext.getEventCursor().get(step));
+        val newEvents = getEventsSince(cursor, Instant.now());
+
+        if (newEvents.isEmpty()) {
+            callbackContext.incrementQuietEventPolls(step);
+            if ((callbackContext.getQuietEventPolls(step) - 1) % STATE_READ_INTERVAL != 0) {
+                logger.log(String.format("No new events for Relational Database: %s, skipping state read.",
+                        resourceModel.getRelationalDatabaseName()));
+                return false;
+            }
+            return isAvailable();
+        }
+        callbackContext.getQuietEventPolls().put(step, 0);
+        newEvents.forEach(event -> logger.log(String.format("Relational Database: %s event at %s: %s",
+                resourceModel.getRelationalDatabaseName(), event.createdAt(), event.message())));
+        val latestEvent = newEvents.get(newEvents.size() - 1);
+        callbackContext.getEventCursor().put(step, latestEvent.createdAt().toEpochMilli());
+        callbackContext.setLastEventMessage(latestEvent.message());
+        val failureEvent = newEvents.stream().filter(this::isFailureEvent).findFirst();
+        if (failureEvent.isPresent()) {
+            throw new CfnGeneralServiceException(String.format("Relational Database: %s reported a failure: %s",
+                    resourceModel.getRelationalDatabaseName(), failureEvent.get().message()));
+        }
+        return isAvailable();
+    }
+
+    private boolean isFailureEvent(final RelationalDatabaseEvent event) {
+        return event.hasEventCategories() && event.eventCategories().stream()
+                .anyMatch(FAILURE_EVENT_CATEGORY::equalsIgnoreCase);
+    }
+
+    /**
+     * Read the state of the Relational Database. A failed state ends the stabilization.
+     *
+     * @return true once the Relational Database is available
+     */
+    private boolean isAvailable() {
+        val currentState = getCurrentState((GetRelationalDatabaseResponse) this.read(GetRelationalDatabaseRequest
+                .builder().relationalDatabaseName(resourceModel.getRelationalDatabaseName()).build()));
+        Logging.sampled(logger, "Checking if Relational Database: %s has stabilized. Current state: %s",
+                resourceModel.getRelationalDatabaseName(), currentState);
+        if (FAILED_STATES.contains(currentState.toLowerCase())) {
+            throw new CfnGeneralServiceException(String.format("%s is %s", resourceModel.getRelationalDatabaseName(),
+                    currentState));
+        }
+        return "available".equalsIgnoreCase(currentState);
+    }
+
+    /**
+     * Get the events of the Relational Database created after the cursor, oldest first.
+     *
+     * @param cursor
+     * @param now
+     *
+     * @return List of RelationalDatabaseEvent
+     */
+    private List<RelationalDatabaseEvent> getEventsSince(final Instant cursor, final Instant now) {
+        val durationInMinutes = (int) Math.min(MAX_EVENT_DURATION_IN_MINUTES,
+                Math.max(1, Duration.between(cursor, now).toMinutes() + 1));
+        val events = new ArrayList<RelationalDatabaseEvent>();
+        String pageToken = null;
+        do {
+            val awsResponse = proxyClient.injectCredentialsAndInvokeV2(GetRelationalDatabaseEventsRequest.builder()
+                            .relationalDatabaseName(resourceModel.getRelationalDatabaseName())
+                            .durationInMinutes(durationInMinutes).pageToken(pageToken).build(),
+                    proxyClient.client()::getRelationalDatabaseEvents);
+            if (awsResponse.relationalDatabaseEvents() != null) {
+                awsResponse.relationalDatabaseEvents().stream()
+                        .filter(event -> event.createdAt() != null && event.createdAt().isAfter(cursor))
+                        .forEach(events::add);
+            }
+            pageToken = awsResponse.nextPageToken();
+        } while (pageToken != null);
+        events.sort(Comparator.comparing(RelationalDatabaseEvent::createdAt));
+        return events;
     }
 
     @Override
     public boolean isStabilizedDelete() {
         final boolean stabilized = false;
-        logger.log(String.format("Checking if Relational Database: %s deletion has stabilized.",
-                resourceModel.getRelationalDatabaseName(), stabilized));
+        Logging.sampled(logger, "Checking if Relational Database: %s deletion has stabilized.",
+                resourceModel.getRelationalDatabaseName());
         try {
             this.read(GetRelationalDatabaseRequest.builder().relationalDatabaseName(resourceModel.getMasterDatabaseName()).build());
         } catch (final Exception e) {
@@ -158,13 +342,28 @@ public class Database implements ResourceHelper {
                 (resourceModel.getCaCertificateIdentifier() != null && !(resourceModel.getCaCertificateIdentifier().equalsIgnoreCase(database.caCertificateIdentifier()))) ||
                 (resourceModel.getPreferredBackupWindow() != null && !(resourceModel.getPreferredBackupWindow().equalsIgnoreCase(database.preferredBackupWindow()))) ||
                 (resourceModel.getPreferredMaintenanceWindow() != null && !(resourceModel.getPreferredMaintenanceWindow().equalsIgnoreCase(database.preferredMaintenanceWindow()))) ||
-                (resourceModel.getRotateMasterUserPassword() != null && resourceModel.getRotateMasterUserPassword()) ||
-                (resourceModel.getRotateMasterUserPassword() != null)) {
+                isRotationRequested()) {
             return true;
         }
         return false;
     }
 
+    /**
+     * Checking to see if the master user password has to be rotated. The previous resource state acts as the
+     * rotation marker, so the password is rotated only when RotateMasterUserPassword is turned on and not on every
+     * update of a database which keeps declaring it.
+     *
+     * @return
+     */
+    public boolean isRotationRequested() {
+        if (resourceModel.getRotateMasterUserPassword() == null || !resourceModel.getRotateMasterUserPassword()) {
+            return false;
+        }
+        val previousModel = resourceModelRequest == null ? null : resourceModelRequest.getPreviousResourceState();
+        return previousModel == null || previousModel.getRotateMasterUserPassword() == null
+                || !previousModel.getRotateMasterUserPassword();
+    }
+
     /**
      * Get the first sorted availability zone in the current region.
      *
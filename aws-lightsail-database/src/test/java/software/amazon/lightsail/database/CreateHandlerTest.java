@@ -13,9 +13,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.lightsail.database.helpers.handler.DatabaseHandler;
 import software.amazon.lightsail.database.helpers.resource.Database;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.lightsail.model.*;
+import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
+import static software.amazon.lightsail.database.CallbackContext.POST_CHECK_UPDATE;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest extends AbstractTestBase {
@@ -158,4 +162,79 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .relationalDatabaseName("database")
+                        .relationalDatabaseBlueprintId("mysql_8_0")
+                        .relationalDatabaseBundleId("micro_2_0")
+                        .masterDatabaseName("master")
+                        .masterUsername("admin")
+                        .availabilityZone("us-east-1a")
+                        .build())
+                .region("us-east-1")
+                .build();
+    }
+
+    // The fixed wait after update is taken as done, so that the handlers don't sleep in the test.
+    private static CallbackContext callbackContext() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.incrementWaitCount(POST_CHECK_UPDATE);
+        return callbackContext;
+    }
+
+    private static GetRelationalDatabaseResponse getRelationalDatabaseResponse() {
+        return GetRelationalDatabaseResponse.builder()
+                .relationalDatabase(RelationalDatabase.builder()
+                        .name("database")
+                        .relationalDatabaseBlueprintId("mysql_8_0")
+                        .relationalDatabaseBundleId("micro_2_0")
+                        .masterDatabaseName("master")
+                        .masterUsername("admin")
+                        .state("available")
+                        .build())
+                .build();
+    }
+
+    // A new event on every poll, so that the event tailing reads the state right away.
+    private static GetRelationalDatabaseEventsResponse getRelationalDatabaseEventsResponse() {
+        return GetRelationalDatabaseEventsResponse.builder()
+                .relationalDatabaseEvents(RelationalDatabaseEvent.builder()
+                        .resource("database")
+                        .createdAt(Instant.now())
+                        .message("Database is available")
+                        .build())
+                .build();
+    }
+
+    private static NotFoundException notFound() {
+        return NotFoundException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("NotFoundException").build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getRelationalDatabase(any(GetRelationalDatabaseRequest.class)))
+                .thenThrow(notFound())
+                .thenReturn(getRelationalDatabaseResponse());
+        when(sdkClient.getRelationalDatabaseEvents(any(GetRelationalDatabaseEventsRequest.class)))
+                .thenReturn(getRelationalDatabaseEventsResponse());
+        when(sdkClient.createRelationalDatabase(any(CreateRelationalDatabaseRequest.class)))
+                .thenReturn(CreateRelationalDatabaseResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler()
+                .handleRequest(proxy, request(), callbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(CreateRelationalDatabaseRequest.class).exactly(1);
+        calls.assertCalls(UpdateRelationalDatabaseRequest.class).never();
+        calls.assertCalls(UpdateRelationalDatabaseParametersRequest.class).never();
+        calls.assertCalls(GetRegionsRequest.class).never();
+        calls.assertCalls(GetRelationalDatabaseEventsRequest.class).atMost(2);
+        calls.assertCalls(GetRelationalDatabaseRequest.class).atMost(11);
+    }
 }
@@ -14,6 +14,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.database.helpers.handler.DatabaseHandler;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -75,4 +77,56 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .relationalDatabaseName("database")
+                        .relationalDatabaseBlueprintId("mysql_8_0")
+                        .relationalDatabaseBundleId("micro_2_0")
+                        .masterDatabaseName("master")
+                        .masterUsername("admin")
+                        .availabilityZone("us-east-1a")
+                        .build())
+                .region("us-east-1")
+                .build();
+    }
+
+    private static GetRelationalDatabaseResponse getRelationalDatabaseResponse() {
+        return GetRelationalDatabaseResponse.builder()
+                .relationalDatabase(RelationalDatabase.builder()
+                        .name("database")
+                        .relationalDatabaseBlueprintId("mysql_8_0")
+                        .relationalDatabaseBundleId("micro_2_0")
+                        .masterDatabaseName("master")
+                        .masterUsername("admin")
+                        .state("available")
+                        .build())
+                .build();
+    }
+
+    private static NotFoundException notFound() {
+        return NotFoundException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("NotFoundException").build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getRelationalDatabase(any(GetRelationalDatabaseRequest.class)))
+                .thenReturn(getRelationalDatabaseResponse())
+                .thenReturn(getRelationalDatabaseResponse())
+                .thenThrow(notFound());
+        when(sdkClient.deleteRelationalDatabase(any(DeleteRelationalDatabaseRequest.class)))
+                .thenReturn(DeleteRelationalDatabaseResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new DeleteHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(DeleteRelationalDatabaseRequest.class).exactly(1);
+        calls.assertCalls(GetRelationalDatabaseRequest.class).atMost(3);
+    }
 }
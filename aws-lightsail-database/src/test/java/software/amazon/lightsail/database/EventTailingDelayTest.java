@@ -0,0 +1,43 @@
+package software.amazon.lightsail.database;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventTailingDelayTest {
+
+    private static final String STEP = "step";
+
+    @Test
+    public void testNextDelay_backsOffWhileQuiet() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final EventTailingDelay delay = EventTailingDelay.of(callbackContext, STEP);
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(30));
+        callbackContext.incrementQuietEventPolls(STEP);
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(30));
+        callbackContext.incrementQuietEventPolls(STEP);
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(60));
+        callbackContext.incrementQuietEventPolls(STEP);
+        callbackContext.incrementQuietEventPolls(STEP);
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ofMinutes(2));
+
+        // New events reset the quiet polls.
+        callbackContext.getQuietEventPolls().put(STEP, 0);
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofSeconds(30));
+        // The stabilization keeps track of the time waited, not the delay.
+        assertThat(callbackContext.getEventWaitMillis(STEP)).isEqualTo(0L);
+    }
+
+    @Test
+    public void testNextDelay_timeout() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.addEventWaitMillis(STEP, CallbackContext.EVENT_TIMEOUT.toMillis());
+        assertThat(EventTailingDelay.of(callbackContext, STEP).nextDelay(1)).isEqualTo(Duration.ofSeconds(30));
+
+        callbackContext.addEventWaitMillis(STEP, 1);
+        assertThat(EventTailingDelay.of(callbackContext, STEP).nextDelay(1)).isEqualTo(Duration.ZERO);
+    }
+}
@@ -7,13 +7,20 @@ import software.amazon.cloudformation.proxy.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest extends AbstractTestBase {
@@ -59,4 +66,124 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_pagesLargeSdkPage() {
+        final ListHandler handler = new ListHandler();
+
+        final List<software.amazon.awssdk.services.lightsail.model.RelationalDatabase> items = IntStream.range(0, 150)
+                .mapToObj(i -> software.amazon.awssdk.services.lightsail.model.RelationalDatabase.builder().name("item" + i).build())
+                .collect(Collectors.toList());
+        when(sdkClient.getRelationalDatabases(any(GetRelationalDatabasesRequest.class)))
+                .thenReturn(GetRelationalDatabasesResponse.builder().relationalDatabases(items).nextPageToken("sdkToken").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> first = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build())
+                        .build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(first.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(first.getResourceModels()).hasSize(100);
+        assertThat(first.getNextToken()).isNotNull();
+
+        final ProgressEvent<ResourceModel, CallbackContext> second = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build())
+                        .nextToken(first.getNextToken()).build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(second.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(second.getResourceModels()).hasSize(50);
+        assertThat(second.getNextToken()).isNotNull();
+
+        final ProgressEvent<ResourceModel, CallbackContext> third = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build())
+                        .nextToken(second.getNextToken()).build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(third.getResourceModels()).hasSize(100);
+
+        final ArgumentCaptor<GetRelationalDatabasesRequest> captor = ArgumentCaptor.forClass(GetRelationalDatabasesRequest.class);
+        verify(sdkClient, times(3)).getRelationalDatabases(captor.capture());
+        assertThat(captor.getAllValues().get(0).pageToken()).isNull();
+        assertThat(captor.getAllValues().get(1).pageToken()).isNull();
+        assertThat(captor.getAllValues().get(2).pageToken()).isEqualTo("sdkToken");
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .relationalDatabaseName("database")
+                        .relationalDatabaseBlueprintId("mysql_8_0")
+                        .relationalDatabaseBundleId("micro_2_0")
+                        .masterDatabaseName("master")
+                        .masterUsername("admin")
+                        .availabilityZone("us-east-1a")
+                        .build())
+                .region("us-east-1")
+                .build();
+    }
+
+    private static GetRelationalDatabaseResponse getRelationalDatabaseResponse() {
+        return GetRelationalDatabaseResponse.builder()
+                .relationalDatabase(RelationalDatabase.builder()
+                        .name("database")
+                        .relationalDatabaseBlueprintId("mysql_8_0")
+                        .relationalDatabaseBundleId("micro_2_0")
+                        .masterDatabaseName("master")
+                        .masterUsername("admin")
+                        .state("available")
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getRelationalDatabases(any(GetRelationalDatabasesRequest.class)))
+                .thenReturn(GetRelationalDatabasesResponse.builder()
+                        .relationalDatabases(getRelationalDatabaseResponse().relationalDatabase())
+                        .build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(GetRelationalDatabasesRequest.class).exactly(1);
+        calls.assertTotalCalls().exactly(1);
+    }
+
+    @Test
+    public void handleRequest_sdkPageTokenWithOffsets() {
+        final ListHandler handler = new ListHandler();
+
+        final List<RelationalDatabase> databases = IntStream.range(0, 250)
+                .mapToObj(i -> RelationalDatabase.builder().name("database" + i).build())
+                .collect(Collectors.toList());
+        when(sdkClient.getRelationalDatabases(any(GetRelationalDatabasesRequest.class)))
+                .thenReturn(GetRelationalDatabasesResponse.builder().relationalDatabases(databases).build());
+
+        // A plain SDK page token, as handed out before the tokens carried an offset, is used as it is.
+        final ProgressEvent<ResourceModel, CallbackContext> first = list(handler, "sdkPageToken");
+        assertThat(first.getResourceModels()).extracting(ResourceModel::getRelationalDatabaseName)
+                .startsWith("database0").endsWith("database99").hasSize(100);
+
+        final ProgressEvent<ResourceModel, CallbackContext> second = list(handler, first.getNextToken());
+        assertThat(second.getResourceModels()).extracting(ResourceModel::getRelationalDatabaseName)
+                .startsWith("database100").endsWith("database199").hasSize(100);
+
+        final ProgressEvent<ResourceModel, CallbackContext> third = list(handler, second.getNextToken());
+        assertThat(third.getResourceModels()).extracting(ResourceModel::getRelationalDatabaseName)
+                .startsWith("database200").endsWith("database249").hasSize(50);
+        assertThat(third.getNextToken()).isNull();
+
+        final ArgumentCaptor<GetRelationalDatabasesRequest> captor =
+                ArgumentCaptor.forClass(GetRelationalDatabasesRequest.class);
+        verify(sdkClient, times(3)).getRelationalDatabases(captor.capture());
+        assertThat(captor.getAllValues()).extracting(GetRelationalDatabasesRequest::pageToken)
+                .containsOnly("sdkPageToken");
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> list(final ListHandler handler, final String nextToken) {
+        return handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build()).nextToken(nextToken).build(),
+                new CallbackContext(), proxyClient, logger);
+    }
 }
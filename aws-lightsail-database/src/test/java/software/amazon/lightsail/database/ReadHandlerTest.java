@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.database.helpers.resource.Database;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -73,4 +74,45 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .relationalDatabaseName("database")
+                        .relationalDatabaseBlueprintId("mysql_8_0")
+                        .relationalDatabaseBundleId("micro_2_0")
+                        .masterDatabaseName("master")
+                        .masterUsername("admin")
+                        .availabilityZone("us-east-1a")
+                        .build())
+                .region("us-east-1")
+                .build();
+    }
+
+    private static GetRelationalDatabaseResponse getRelationalDatabaseResponse() {
+        return GetRelationalDatabaseResponse.builder()
+                .relationalDatabase(RelationalDatabase.builder()
+                        .name("database")
+                        .relationalDatabaseBlueprintId("mysql_8_0")
+                        .relationalDatabaseBundleId("micro_2_0")
+                        .masterDatabaseName("master")
+                        .masterUsername("admin")
+                        .state("available")
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getRelationalDatabase(any(GetRelationalDatabaseRequest.class)))
+                .thenReturn(getRelationalDatabaseResponse());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertTotalCalls().exactly(1);
+    }
 }
@@ -0,0 +1,89 @@
+package software.amazon.lightsail.database;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.lightsail.LightsailClient;
+import software.amazon.awssdk.services.lightsail.model.CreateRelationalDatabaseRequest;
+import software.amazon.awssdk.services.lightsail.model.GetRelationalDatabaseRequest;
+import software.amazon.awssdk.services.lightsail.model.GetRelationalDatabaseResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReadRetryProxyClientTest {
+
+    private ProxyClient<LightsailClient> delegate;
+    private ProxyClient<LightsailClient> proxyClient;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        delegate = mock(ProxyClient.class);
+        proxyClient = ReadRetryProxyClient.of(delegate);
+    }
+
+    private static AwsServiceException serviceException(final String errorCode, final int statusCode) {
+        return AwsServiceException.builder().statusCode(statusCode)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(errorCode).build()).build();
+    }
+
+    @Test
+    public void testRead_retriedOnThrottling() {
+        final GetRelationalDatabaseResponse response = GetRelationalDatabaseResponse.builder().build();
+        when(delegate.injectCredentialsAndInvokeV2(any(), any()))
+                .thenThrow(serviceException("ThrottlingException", 400))
+                .thenReturn(response);
+
+        final GetRelationalDatabaseResponse result = proxyClient.injectCredentialsAndInvokeV2(GetRelationalDatabaseRequest.builder().build(),
+                request -> response);
+
+        assertThat(result).isSameAs(response);
+        verify(delegate, times(2)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void testRead_notRetriedOnClientError() {
+        when(delegate.injectCredentialsAndInvokeV2(any(), any()))
+                .thenThrow(serviceException("NotFoundException", 400));
+
+        assertThrows(AwsServiceException.class, () -> proxyClient.injectCredentialsAndInvokeV2(
+                GetRelationalDatabaseRequest.builder().build(), request -> GetRelationalDatabaseResponse.builder().build()));
+        verify(delegate, times(1)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void testWrite_notRetried() {
+        when(delegate.injectCredentialsAndInvokeV2(any(), any()))
+                .thenThrow(serviceException("ServiceUnavailable", 503));
+
+        assertThrows(AwsServiceException.class, () -> proxyClient.injectCredentialsAndInvokeV2(
+                CreateRelationalDatabaseRequest.builder().build(), request -> null));
+        verify(delegate, times(1)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void testNextRetryDelay() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(ReadRetryProxyClient.nextRetryDelay(Duration.ofMillis(200)))
+                    .isBetween(Duration.ofMillis(200), Duration.ofMillis(600));
+            assertThat(ReadRetryProxyClient.nextRetryDelay(Duration.ofSeconds(4)))
+                    .isBetween(Duration.ofMillis(200), Duration.ofSeconds(5));
+        }
+    }
+
+    @Test
+    public void testIsRead() {
+        assertThat(ReadRetryProxyClient.isRead(GetRelationalDatabaseRequest.builder().build())).isTrue();
+        assertThat(ReadRetryProxyClient.isRead(CreateRelationalDatabaseRequest.builder().build())).isFalse();
+    }
+}
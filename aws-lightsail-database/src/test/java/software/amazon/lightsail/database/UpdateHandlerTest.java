@@ -15,11 +15,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.database.helpers.handler.DatabaseHandler;
 import software.amazon.lightsail.database.helpers.handler.TagsHandler;
+import software.amazon.awssdk.services.lightsail.model.*;
+import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.doReturn;
+import static software.amazon.lightsail.database.CallbackContext.POST_CHECK_UPDATE;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest extends AbstractTestBase {
@@ -96,4 +99,71 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .relationalDatabaseName("database")
+                        .relationalDatabaseBlueprintId("mysql_8_0")
+                        .relationalDatabaseBundleId("micro_2_0")
+                        .masterDatabaseName("master")
+                        .masterUsername("admin")
+                        .availabilityZone("us-east-1a")
+                        .build())
+                .region("us-east-1")
+                .build();
+    }
+
+    // The fixed wait after update is taken as done, so that the handlers don't sleep in the test.
+    private static CallbackContext callbackContext() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.incrementWaitCount(POST_CHECK_UPDATE);
+        return callbackContext;
+    }
+
+    private static GetRelationalDatabaseResponse getRelationalDatabaseResponse() {
+        return GetRelationalDatabaseResponse.builder()
+                .relationalDatabase(RelationalDatabase.builder()
+                        .name("database")
+                        .relationalDatabaseBlueprintId("mysql_8_0")
+                        .relationalDatabaseBundleId("micro_2_0")
+                        .masterDatabaseName("master")
+                        .masterUsername("admin")
+                        .state("available")
+                        .build())
+                .build();
+    }
+
+    // A new event on every poll, so that the event tailing reads the state right away.
+    private static GetRelationalDatabaseEventsResponse getRelationalDatabaseEventsResponse() {
+        return GetRelationalDatabaseEventsResponse.builder()
+                .relationalDatabaseEvents(RelationalDatabaseEvent.builder()
+                        .resource("database")
+                        .createdAt(Instant.now())
+                        .message("Database is available")
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getRelationalDatabase(any(GetRelationalDatabaseRequest.class)))
+                .thenReturn(getRelationalDatabaseResponse());
+        when(sdkClient.getRelationalDatabaseEvents(any(GetRelationalDatabaseEventsRequest.class)))
+                .thenReturn(getRelationalDatabaseEventsResponse());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler()
+                .handleRequest(proxy, request(), callbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(UpdateRelationalDatabaseRequest.class).never();
+        calls.assertCalls(UpdateRelationalDatabaseParametersRequest.class).never();
+        calls.assertCalls(GetRelationalDatabaseParametersRequest.class).never();
+        calls.assertCalls(TagResourceRequest.class).never();
+        calls.assertCalls(UntagResourceRequest.class).never();
+        calls.assertCalls(GetRelationalDatabaseEventsRequest.class).atMost(1);
+        calls.assertCalls(GetRelationalDatabaseRequest.class).atMost(9);
+    }
 }
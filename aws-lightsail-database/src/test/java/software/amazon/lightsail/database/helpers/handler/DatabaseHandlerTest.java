@@ -162,13 +162,13 @@ public class DatabaseHandlerTest {
 
         when(database.create(any()))
                 .thenReturn(CreateRelationalDatabaseResponse.builder().build());
-        when(database.isStabilizedCreate())
+        when(database.isStabilizedFromEvents(any(), any()))
                 .thenReturn(true);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = testDatabaseHandler.create(ProgressEvent.progress(model, callbackContext));
 
         verify(database, times(1)).create(any());
-        verify(database, times(1)).isStabilizedCreate();
+        verify(database, times(1)).isStabilizedFromEvents(any(), any());
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -202,7 +202,7 @@ public class DatabaseHandlerTest {
         final ProgressEvent<ResourceModel, CallbackContext> response = testDatabaseHandler.create(ProgressEvent.progress(model, callbackContext));
 
         verify(database, times(1)).create(any());
-        verify(database, never()).isStabilizedCreate();
+        verify(database, never()).isStabilizedFromEvents(any(), any());
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -233,7 +233,7 @@ public class DatabaseHandlerTest {
         final ProgressEvent<ResourceModel, CallbackContext> response = testDatabaseHandler.create(ProgressEvent.progress(model, callbackContext));
 
         verify(database, times(1)).create(any());
-        verify(database, never()).isStabilizedCreate();
+        verify(database, never()).isStabilizedFromEvents(any(), any());
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -264,7 +264,7 @@ public class DatabaseHandlerTest {
         final ProgressEvent<ResourceModel, CallbackContext> response = testDatabaseHandler.create(ProgressEvent.progress(model, callbackContext));
 
         verify(database, times(1)).create(any());
-        verify(database, never()).isStabilizedCreate();
+        verify(database, never()).isStabilizedFromEvents(any(), any());
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -293,7 +293,7 @@ public class DatabaseHandlerTest {
         final ProgressEvent<ResourceModel, CallbackContext> response = testDatabaseHandler.create(ProgressEvent.progress(model, callbackContext));
 
         verify(database, times(1)).create(any());
-        verify(database, never()).isStabilizedCreate();
+        verify(database, never()).isStabilizedFromEvents(any(), any());
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -318,13 +318,13 @@ public class DatabaseHandlerTest {
 
         when(database.read(any()))
                 .thenReturn(GetRelationalDatabaseResponse.builder().build());
-        when(database.isStabilizedCreate())
+        when(database.isStabilizedUpdate())
                 .thenReturn(true);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = testDatabaseHandler.preUpdate(ProgressEvent.progress(model, callbackContext));
 
         verify(database, times(1)).read(any());
-        verify(database, times(1)).isStabilizedCreate();
+        verify(database, times(1)).isStabilizedUpdate();
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -509,14 +509,14 @@ public class DatabaseHandlerTest {
 
         when(database.update(any()))
                 .thenReturn(UpdateRelationalDatabaseResponse.builder().build());
-        when(database.isStabilizedUpdate())
+        when(database.isStabilizedFromEvents(any(), any()))
                 .thenReturn(true);
         callbackContext.incrementWaitCount(POST_CHECK_UPDATE);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = testDatabaseHandler.updateDatabase(ProgressEvent.progress(model, callbackContext));
 
         verify(database, times(1)).update(any());
-        verify(database, times(1)).isStabilizedUpdate();
+        verify(database, times(1)).isStabilizedFromEvents(any(), any());
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -543,14 +543,14 @@ public class DatabaseHandlerTest {
 
         when(database.updateParameters(any()))
                 .thenReturn(UpdateRelationalDatabaseParametersResponse.builder().build());
-        when(database.isStabilizedUpdate())
+        when(database.isStabilizedFromEvents(any(), any()))
                 .thenReturn(true);
         callbackContext.incrementWaitCount(POST_CHECK_UPDATE_PARAMS);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = testDatabaseHandler.updateDatabaseParameters(ProgressEvent.progress(model, callbackContext));
 
         verify(database, times(1)).updateParameters(any());
-        verify(database, times(1)).isStabilizedUpdate();
+        verify(database, times(1)).isStabilizedFromEvents(any(), any());
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -560,4 +560,32 @@ public class DatabaseHandlerTest {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void testUpdateDatabaseParameters_noChange() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final ResourceModel model = ResourceModel.builder().build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        val testDatabaseHandler = spy(new DatabaseHandler(proxy, callbackContext, request.getDesiredResourceState(), logger,
+                proxyClient, request));
+
+        doReturn(database)
+                .when(testDatabaseHandler).getDatabase(any(), any(), any());
+
+        when(database.updateParameters(any()))
+                .thenReturn(null);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = testDatabaseHandler.updateDatabaseParameters(ProgressEvent.progress(model, callbackContext));
+
+        verify(database, times(1)).updateParameters(any());
+        verify(database, never()).isStabilizedFromEvents(any(), any());
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(callbackContext.getWaitCount(POST_CHECK_UPDATE_PARAMS)).isEqualTo(0);
+    }
+
 }
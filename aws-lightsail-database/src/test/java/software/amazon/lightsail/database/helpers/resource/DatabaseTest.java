@@ -1,22 +1,29 @@
 package software.amazon.lightsail.database.helpers.resource;
 
+import com.google.common.collect.ImmutableSet;
 import lombok.val;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.*;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.*;
 import software.amazon.lightsail.database.AbstractTestBase;
+import software.amazon.lightsail.database.CallbackContext;
 import software.amazon.lightsail.database.ResourceModel;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 import static software.amazon.lightsail.database.AbstractTestBase.MOCK_CREDENTIALS;
 
@@ -110,51 +117,266 @@ public class DatabaseTest {
     }
 
     @Test
-    public void testIsStabilizedCreate_stabilized() {
+    public void testUpdate_rotationAlreadyRequested() {
+        val model = ResourceModel.builder().rotateMasterUserPassword(true).build();
+        val request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model)
+                .previousResourceState(ResourceModel.builder().rotateMasterUserPassword(true).build()).build();
+        val rotationDatabase = new Database(model, logger, proxyClient, request);
+        when(sdkClient.getRelationalDatabase(any(GetRelationalDatabaseRequest.class)))
+                .thenReturn(GetRelationalDatabaseResponse.builder()
+                        .relationalDatabase(RelationalDatabase.builder().build()).build());
+        val result = rotationDatabase.update(UpdateRelationalDatabaseRequest.builder().rotateMasterUserPassword(true).build());
+        verify(sdkClient, never()).updateRelationalDatabase(any(UpdateRelationalDatabaseRequest.class));
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void testUpdate_rotationNewlyRequested() {
+        val model = ResourceModel.builder().rotateMasterUserPassword(true).build();
+        val request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model)
+                .previousResourceState(ResourceModel.builder().rotateMasterUserPassword(false).build()).build();
+        val rotationDatabase = new Database(model, logger, proxyClient, request);
+        when(sdkClient.getRelationalDatabase(any(GetRelationalDatabaseRequest.class)))
+                .thenReturn(GetRelationalDatabaseResponse.builder()
+                        .relationalDatabase(RelationalDatabase.builder().build()).build());
+        when(sdkClient.updateRelationalDatabase(any(UpdateRelationalDatabaseRequest.class)))
+                .thenReturn(UpdateRelationalDatabaseResponse.builder().build());
+        val result = rotationDatabase.update(UpdateRelationalDatabaseRequest.builder().rotateMasterUserPassword(true).build());
+        val captor = ArgumentCaptor.forClass(UpdateRelationalDatabaseRequest.class);
+        verify(sdkClient, times(1)).updateRelationalDatabase(captor.capture());
+        assertThat(captor.getValue().rotateMasterUserPassword()).isTrue();
+        assertThat(result).isNotNull();
+    }
+
+    @Test
+    public void testUpdate_rotationNotResent() {
+        val model = ResourceModel.builder().publiclyAccessible(true).rotateMasterUserPassword(true).build();
+        val request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model)
+                .previousResourceState(ResourceModel.builder().rotateMasterUserPassword(true).build()).build();
+        val rotationDatabase = new Database(model, logger, proxyClient, request);
+        when(sdkClient.getRelationalDatabase(any(GetRelationalDatabaseRequest.class)))
+                .thenReturn(GetRelationalDatabaseResponse.builder()
+                        .relationalDatabase(RelationalDatabase.builder().publiclyAccessible(false).build()).build());
+        when(sdkClient.updateRelationalDatabase(any(UpdateRelationalDatabaseRequest.class)))
+                .thenReturn(UpdateRelationalDatabaseResponse.builder().build());
+        rotationDatabase.update(UpdateRelationalDatabaseRequest.builder().publiclyAccessible(true).rotateMasterUserPassword(true).build());
+        val captor = ArgumentCaptor.forClass(UpdateRelationalDatabaseRequest.class);
+        verify(sdkClient, times(1)).updateRelationalDatabase(captor.capture());
+        assertThat(captor.getValue().rotateMasterUserPassword()).isNull();
+    }
+
+    @Test
+    public void testUpdateParameters_noChange() {
+        val model = ResourceModel.builder().relationalDatabaseName("db")
+                .relationalDatabaseParameters(ImmutableSet.of(software.amazon.lightsail.database.RelationalDatabaseParameter
+                        .builder().parameterName("max_connections").parameterValue("100").build())).build();
+        val parametersDatabase = new Database(model, logger, proxyClient, null);
+        when(sdkClient.getRelationalDatabaseParameters(any(GetRelationalDatabaseParametersRequest.class)))
+                .thenReturn(GetRelationalDatabaseParametersResponse.builder()
+                        .parameters(RelationalDatabaseParameter.builder().parameterName("max_connections")
+                                .parameterValue("100").applyType("dynamic").build()).build());
+        val result = parametersDatabase.updateParameters(UpdateRelationalDatabaseParametersRequest.builder()
+                .relationalDatabaseName("db")
+                .parameters(RelationalDatabaseParameter.builder().parameterName("max_connections").parameterValue("100").build())
+                .build());
+        verify(sdkClient, never()).updateRelationalDatabaseParameters(any(UpdateRelationalDatabaseParametersRequest.class));
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void testUpdateParameters_onlyChangedSent() {
+        val model = ResourceModel.builder().relationalDatabaseName("db")
+                .relationalDatabaseParameters(ImmutableSet.of(software.amazon.lightsail.database.RelationalDatabaseParameter
+                        .builder().parameterName("max_connections").parameterValue("200").build())).build();
+        val parametersDatabase = new Database(model, logger, proxyClient, null);
+        when(sdkClient.getRelationalDatabaseParameters(any(GetRelationalDatabaseParametersRequest.class)))
+                .thenReturn(GetRelationalDatabaseParametersResponse.builder()
+                        .parameters(RelationalDatabaseParameter.builder().parameterName("max_connections")
+                                .parameterValue("100").applyType("static").build())
+                        .nextPageToken("token").build())
+                .thenReturn(GetRelationalDatabaseParametersResponse.builder()
+                        .parameters(RelationalDatabaseParameter.builder().parameterName("wait_timeout")
+                                .parameterValue("60").applyType("dynamic").build()).build());
+        when(sdkClient.updateRelationalDatabaseParameters(any(UpdateRelationalDatabaseParametersRequest.class)))
+                .thenReturn(UpdateRelationalDatabaseParametersResponse.builder().build());
+        val result = parametersDatabase.updateParameters(UpdateRelationalDatabaseParametersRequest.builder()
+                .relationalDatabaseName("db")
+                .parameters(RelationalDatabaseParameter.builder().parameterName("max_connections").parameterValue("200").build(),
+                        RelationalDatabaseParameter.builder().parameterName("wait_timeout").parameterValue("60").build())
+                .build());
+        val captor = ArgumentCaptor.forClass(UpdateRelationalDatabaseParametersRequest.class);
+        verify(sdkClient, times(2)).getRelationalDatabaseParameters(any(GetRelationalDatabaseParametersRequest.class));
+        verify(sdkClient, times(1)).updateRelationalDatabaseParameters(captor.capture());
+        assertThat(captor.getValue().parameters()).hasSize(1);
+        assertThat(captor.getValue().parameters().get(0).parameterName()).isEqualTo("max_connections");
+        assertThat(captor.getValue().parameters().get(0).applyMethod()).isEqualTo("pending-reboot");
+        assertThat(result).isNotNull();
+    }
+
+    @Test
+    public void testUpdateParameters_chunked() {
+        val desiredParameters = new ArrayList<RelationalDatabaseParameter>();
+        for (int i = 0; i < 45; i++) {
+            desiredParameters.add(RelationalDatabaseParameter.builder().parameterName("param" + i).parameterValue("1").build());
+        }
+        val model = ResourceModel.builder().relationalDatabaseName("db")
+                .relationalDatabaseParameters(ImmutableSet.of()).build();
+        val parametersDatabase = new Database(model, logger, proxyClient, null);
+        when(sdkClient.getRelationalDatabaseParameters(any(GetRelationalDatabaseParametersRequest.class)))
+                .thenReturn(GetRelationalDatabaseParametersResponse.builder().build());
+        when(sdkClient.updateRelationalDatabaseParameters(any(UpdateRelationalDatabaseParametersRequest.class)))
+                .thenReturn(UpdateRelationalDatabaseParametersResponse.builder().build());
+        parametersDatabase.updateParameters(UpdateRelationalDatabaseParametersRequest.builder()
+                .relationalDatabaseName("db").parameters(desiredParameters).build());
+        verify(sdkClient, times(3)).updateRelationalDatabaseParameters(any(UpdateRelationalDatabaseParametersRequest.class));
+    }
+
+    @Test
+    public void testIsStabilizedUpdate_stabilized() {
         when(sdkClient.getRelationalDatabase(any(GetRelationalDatabaseRequest.class)))
                 .thenReturn(GetRelationalDatabaseResponse.builder()
                         .relationalDatabase(RelationalDatabase.builder()
                                 .state("available")
                                 .build()).build());
-        val result = testDatabase.isStabilizedCreate();
+        val result = testDatabase.isStabilizedUpdate();
         verify(sdkClient, times(1)).getRelationalDatabase(any(GetRelationalDatabaseRequest.class));
         assertThat(result).isTrue();
     }
 
     @Test
-    public void testIsStabilizedCreate_notStabilized() {
+    public void testIsStabilizedUpdate_notStabilized() {
         when(sdkClient.getRelationalDatabase(any(GetRelationalDatabaseRequest.class)))
                 .thenReturn(GetRelationalDatabaseResponse.builder()
                         .relationalDatabase(RelationalDatabase.builder()
                                 .state("modifying")
                                 .build()).build());
-        val result = testDatabase.isStabilizedCreate();
+        val result = testDatabase.isStabilizedUpdate();
         verify(sdkClient, times(1)).getRelationalDatabase(any(GetRelationalDatabaseRequest.class));
         assertThat(result).isFalse();
     }
 
     @Test
-    public void testIsStabilizedUpdate_stabilized() {
+    public void testIsStabilizedFromEvents_noNewEvents() {
+        val callbackContext = new CallbackContext();
+        when(sdkClient.getRelationalDatabaseEvents(any(GetRelationalDatabaseEventsRequest.class)))
+                .thenReturn(GetRelationalDatabaseEventsResponse.builder().build());
+        when(sdkClient.getRelationalDatabase(any(GetRelationalDatabaseRequest.class)))
+                .thenReturn(GetRelationalDatabaseResponse.builder()
+                        .relationalDatabase(RelationalDatabase.builder()
+                                .state("modifying")
+                                .build()).build());
+        // The state is read on the first quiet poll, then every third one.
+        assertThat(testDatabase.isStabilizedFromEvents(callbackContext, "step")).isFalse();
+        assertThat(testDatabase.isStabilizedFromEvents(callbackContext, "step")).isFalse();
+        assertThat(testDatabase.isStabilizedFromEvents(callbackContext, "step")).isFalse();
+        verify(sdkClient, times(1)).getRelationalDatabase(any(GetRelationalDatabaseRequest.class));
+        assertThat(testDatabase.isStabilizedFromEvents(callbackContext, "step")).isFalse();
+        verify(sdkClient, times(2)).getRelationalDatabase(any(GetRelationalDatabaseRequest.class));
+        assertThat(callbackContext.getEventCursor()).containsKey("step");
+        assertThat(callbackContext.getQuietEventPolls("step")).isEqualTo(4);
+    }
+
+    @Test
+    public void testIsStabilizedFromEvents_fromOperationStart() {
+        val callbackContext = new CallbackContext();
+        val operationStart = Instant.now().minus(Duration.ofMinutes(10));
+        callbackContext.getEventCursor().put("step", operationStart.toEpochMilli());
+        testDatabase.startEventTailing(callbackContext, "step");
+        assertThat(callbackContext.getEventCursor().get("step")).isEqualTo(operationStart.toEpochMilli());
+
+        val eventTime = operationStart.plus(Duration.ofMinutes(5));
+        when(sdkClient.getRelationalDatabaseEvents(any(GetRelationalDatabaseEventsRequest.class)))
+                .thenReturn(GetRelationalDatabaseEventsResponse.builder()
+                        .relationalDatabaseEvents(RelationalDatabaseEvent.builder().createdAt(eventTime)
+                                .message("Applying modification").build()).build());
+        when(sdkClient.getRelationalDatabase(any(GetRelationalDatabaseRequest.class)))
+                .thenReturn(GetRelationalDatabaseResponse.builder()
+                        .relationalDatabase(RelationalDatabase.builder()
+                                .state("modifying")
+                                .build()).build());
+        assertThat(testDatabase.isStabilizedFromEvents(callbackContext, "step")).isFalse();
+        verify(sdkClient).getRelationalDatabaseEvents(argThat((GetRelationalDatabaseEventsRequest request) ->
+                request.durationInMinutes() >= 10));
+        assertThat(callbackContext.getEventCursor().get("step")).isEqualTo(eventTime.toEpochMilli());
+        assertThat(callbackContext.getLastEventMessage()).isEqualTo("Applying modification");
+    }
+
+    @Test
+    public void testIsStabilizedFromEvents_noNewEventsAvailable() {
+        val callbackContext = new CallbackContext();
+        when(sdkClient.getRelationalDatabaseEvents(any(GetRelationalDatabaseEventsRequest.class)))
+                .thenReturn(GetRelationalDatabaseEventsResponse.builder().build());
         when(sdkClient.getRelationalDatabase(any(GetRelationalDatabaseRequest.class)))
                 .thenReturn(GetRelationalDatabaseResponse.builder()
                         .relationalDatabase(RelationalDatabase.builder()
                                 .state("available")
                                 .build()).build());
-        val result = testDatabase.isStabilizedUpdate();
+        assertThat(testDatabase.isStabilizedFromEvents(callbackContext, "step")).isTrue();
+    }
+
+    @Test
+    public void testIsStabilizedFromEvents_newEvent() {
+        val callbackContext = new CallbackContext();
+        val eventTime = Instant.now();
+        when(sdkClient.getRelationalDatabaseEvents(any(GetRelationalDatabaseEventsRequest.class)))
+                .thenReturn(GetRelationalDatabaseEventsResponse.builder()
+                        .relationalDatabaseEvents(RelationalDatabaseEvent.builder().createdAt(eventTime)
+                                .message("Finished applying modification").build()).build());
+        when(sdkClient.getRelationalDatabase(any(GetRelationalDatabaseRequest.class)))
+                .thenReturn(GetRelationalDatabaseResponse.builder()
+                        .relationalDatabase(RelationalDatabase.builder()
+                                .state("available")
+                                .build()).build());
+        val result = testDatabase.isStabilizedFromEvents(callbackContext, "step");
         verify(sdkClient, times(1)).getRelationalDatabase(any(GetRelationalDatabaseRequest.class));
         assertThat(result).isTrue();
+        assertThat(callbackContext.getEventCursor().get("step")).isEqualTo(eventTime.toEpochMilli());
+        assertThat(callbackContext.getLastEventMessage()).isEqualTo("Finished applying modification");
     }
 
     @Test
-    public void testIsStabilizedUpdate_notStabilized() {
+    public void testIsStabilizedFromEvents_failedEvent() {
+        val callbackContext = new CallbackContext();
+        when(sdkClient.getRelationalDatabaseEvents(any(GetRelationalDatabaseEventsRequest.class)))
+                .thenReturn(GetRelationalDatabaseEventsResponse.builder()
+                        .relationalDatabaseEvents(RelationalDatabaseEvent.builder().createdAt(Instant.now())
+                                .eventCategories("failure").message("Failed to apply modification").build()).build());
+        val exception = assertThrows(CfnGeneralServiceException.class,
+                () -> testDatabase.isStabilizedFromEvents(callbackContext, "step"));
+        assertThat(exception.getMessage()).contains("Failed to apply modification");
+        verify(sdkClient, never()).getRelationalDatabase(any(GetRelationalDatabaseRequest.class));
+    }
+
+    @Test
+    public void testIsStabilizedFromEvents_failoverEvent() {
+        val callbackContext = new CallbackContext();
+        when(sdkClient.getRelationalDatabaseEvents(any(GetRelationalDatabaseEventsRequest.class)))
+                .thenReturn(GetRelationalDatabaseEventsResponse.builder()
+                        .relationalDatabaseEvents(RelationalDatabaseEvent.builder().createdAt(Instant.now())
+                                .eventCategories("failover").message("Multi-AZ instance failover started").build())
+                        .build());
         when(sdkClient.getRelationalDatabase(any(GetRelationalDatabaseRequest.class)))
                 .thenReturn(GetRelationalDatabaseResponse.builder()
                         .relationalDatabase(RelationalDatabase.builder()
                                 .state("modifying")
                                 .build()).build());
-        val result = testDatabase.isStabilizedUpdate();
-        verify(sdkClient, times(1)).getRelationalDatabase(any(GetRelationalDatabaseRequest.class));
-        assertThat(result).isFalse();
+        assertThat(testDatabase.isStabilizedFromEvents(callbackContext, "step")).isFalse();
+    }
+
+    @Test
+    public void testIsStabilizedFromEvents_failedState() {
+        val callbackContext = new CallbackContext();
+        when(sdkClient.getRelationalDatabaseEvents(any(GetRelationalDatabaseEventsRequest.class)))
+                .thenReturn(GetRelationalDatabaseEventsResponse.builder()
+                        .relationalDatabaseEvents(RelationalDatabaseEvent.builder().createdAt(Instant.now())
+                                .message("Applying modification").build()).build());
+        when(sdkClient.getRelationalDatabase(any(GetRelationalDatabaseRequest.class)))
+                .thenReturn(GetRelationalDatabaseResponse.builder()
+                        .relationalDatabase(RelationalDatabase.builder()
+                                .state("incompatible-parameters")
+                                .build()).build());
+        assertThrows(CfnGeneralServiceException.class,
+                () -> testDatabase.isStabilizedFromEvents(callbackContext, "step"));
     }
 
     @Test
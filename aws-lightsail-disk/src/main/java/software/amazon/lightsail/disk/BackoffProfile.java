@@ -0,0 +1,44 @@
+package software.amazon.lightsail.disk;
+
+import lombok.Builder;
+import lombok.Value;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.cloudformation.proxy.delay.Delay;
+
+import java.time.Duration;
+
+/**
+ * Polling schedule of the stabilization loops of a resource type. While the inline budget lasts polls are spaced by
+ * the inline delay, as in InlinePollingDelay, after that by the delay. The fixed waits of the handlers give up after
+ * maxWaitCount polls.
+ */
+@Value
+@Builder(toBuilder = true)
+public class BackoffProfile {
+
+    static final Duration TIMEOUT = Duration.ofMinutes(15);
+
+    @Builder.Default
+    Duration inlineDelay = Duration.ZERO;
+
+    @Builder.Default
+    Duration inlineBudget = Duration.ZERO;
+
+    Duration delay;
+
+    int maxWaitCount;
+
+    public boolean isInline() {
+        return !inlineDelay.isZero() && !inlineBudget.isZero();
+    }
+
+    /**
+     * Delay to hand to the proxy for the stabilization loops.
+     *
+     * @return Delay
+     */
+    public Delay toDelay() {
+        final Constant constant = Constant.of().delay(delay).timeout(TIMEOUT).build();
+        return isInline() ? InlinePollingDelay.of(inlineDelay, inlineBudget, constant) : constant;
+    }
+}
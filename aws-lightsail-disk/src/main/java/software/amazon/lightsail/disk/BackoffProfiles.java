@@ -0,0 +1,84 @@
+package software.amazon.lightsail.disk;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Table of the BackoffProfile of each resource type, packaged as a CSV resource. The table is generated offline by
+ * simulating the stabilization loops against recorded state timelines, a resource type without a row keeps the
+ * defaults of its handlers.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BackoffProfiles {
+
+    static final String RESOURCE = "backoff-profiles.csv";
+
+    static final String HEADER = "typeName,inlineDelaySeconds,inlineBudgetSeconds,delaySeconds,maxWaitCount";
+
+    /**
+     * Load the profile of a resource type from the packaged table.
+     *
+     * @param typeName
+     * @param defaults profile used when the table or the row is missing
+     *
+     * @return BackoffProfile
+     */
+    public static BackoffProfile load(final String typeName, final BackoffProfile defaults) {
+        try (InputStream stream = BackoffProfiles.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (stream == null) {
+                return defaults;
+            }
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            return parse(reader.lines().collect(Collectors.toList())).getOrDefault(typeName, defaults);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(String.format("Can't read %s", RESOURCE), e);
+        }
+    }
+
+    static Map<String, BackoffProfile> parse(final List<String> lines) {
+        final Map<String, BackoffProfile> profiles = new LinkedHashMap<>();
+        for (final String line : lines) {
+            final String row = line.trim();
+            if (row.isEmpty() || row.startsWith("#") || row.equals(HEADER)) {
+                continue;
+            }
+            final String[] columns = row.split(",");
+            if (columns.length != 5) {
+                throw new IllegalArgumentException(String.format("Malformed row in %s: %s", RESOURCE, row));
+            }
+            try {
+                profiles.put(columns[0].trim(), BackoffProfile.builder()
+                        .inlineDelay(Duration.ofSeconds(Long.parseLong(columns[1].trim())))
+                        .inlineBudget(Duration.ofSeconds(Long.parseLong(columns[2].trim())))
+                        .delay(Duration.ofSeconds(Long.parseLong(columns[3].trim())))
+                        .maxWaitCount(Integer.parseInt(columns[4].trim()))
+                        .build());
+            } catch (final NumberFormatException e) {
+                throw new IllegalArgumentException(String.format("Malformed row in %s: %s", RESOURCE, row), e);
+            }
+        }
+        return profiles;
+    }
+
+    static List<String> format(final Map<String, BackoffProfile> profiles) {
+        final List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        profiles.forEach((typeName, profile) -> lines.add(String.format("%s,%d,%d,%d,%d", typeName,
+                profile.getInlineDelay().getSeconds(), profile.getInlineBudget().getSeconds(),
+                profile.getDelay().getSeconds(), profile.getMaxWaitCount())));
+        return lines;
+    }
+}
@@ -1,7 +1,7 @@
 package software.amazon.lightsail.disk;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.cloudformation.proxy.delay.Delay;
 
 import java.time.Duration;
 import java.util.HashMap;
@@ -13,10 +13,14 @@ import java.util.Map;
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
 
-    public static final Constant BACKOFF_DELAY = Constant.of().delay(Duration.ofSeconds(20))
-            .timeout(Duration.ofMinutes(15)).build();
+    // Polling schedule of the packaged backoff-profiles.csv table, see BackoffProfiles.
+    public static final BackoffProfile BACKOFF_PROFILE = BackoffProfiles.load(ResourceModel.TYPE_NAME,
+            BackoffProfile.builder().delay(Duration.ofSeconds(20)).maxWaitCount(25).build());
+
+    public static final Delay BACKOFF_DELAY = BACKOFF_PROFILE.toDelay();
 
     public static String PRE_CHECK_DELETE = "preCheckDelete";
+    public static String DETACH_FROM_STOPPED_INSTANCE = "detachFromStoppedInstance";
     public static String PRE_CHECK_CREATE = "preCheckCreate";
     public static String PRE_ADDONS_UPDATE = "preCheckUpdateAddOns";
     public static String PRE_TAG_UPDATE = "preCheckUpdateTag";
@@ -25,7 +29,10 @@ public class CallbackContext extends StdCallbackContext {
 
     private Map<String, Integer> waitCount = new HashMap<>();
 
-    private Integer maxWaitCount = 25;
+    private Integer maxWaitCount = BACKOFF_PROFILE.getMaxWaitCount();
+
+    // AddOn status of the last DiskStatus read by the AddOn pre check.
+    private String addOnStatus;
 
     public int getWaitCount(final String key) {
         return this.waitCount.getOrDefault(key, 0);
@@ -0,0 +1,28 @@
+package software.amazon.lightsail.disk;
+
+import lombok.RequiredArgsConstructor;
+import software.amazon.cloudformation.proxy.delay.Delay;
+
+import java.time.Duration;
+
+/**
+ * Delay of a BackoffProfile with an inline phase: the inline delay while the inline budget lasts, then the fallback.
+ * The proxy hands every delay back to CloudFormation as a callback, so a short inline delay only pays off where the
+ * simulated timelines show the extra callbacks are cheaper than the longer wait.
+ */
+@RequiredArgsConstructor(staticName = "of")
+public final class InlinePollingDelay implements Delay {
+
+    private final Duration inlineDelay;
+    private final Duration inlineBudget;
+    private final Delay fallback;
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        final long inlineAttempts = inlineBudget.toMillis() / inlineDelay.toMillis();
+        if (attempt <= inlineAttempts) {
+            return inlineDelay;
+        }
+        return fallback.nextDelay((int) (attempt - inlineAttempts));
+    }
+}
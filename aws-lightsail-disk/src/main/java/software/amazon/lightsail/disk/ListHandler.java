@@ -2,9 +2,9 @@ package software.amazon.lightsail.disk;
 
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.services.lightsail.LightsailClient;
+import software.amazon.awssdk.services.lightsail.model.Disk;
 import software.amazon.awssdk.services.lightsail.model.GetDisksRequest;
 import software.amazon.awssdk.services.lightsail.model.GetDisksResponse;
-import software.amazon.awssdk.services.lightsail.model.GetRegionsRequest;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -12,8 +12,10 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.List;
+
 /**
- * List Handler will list all the Lightsail Disks along with the next page token.
+ * List Handler will list the Lightsail Disks a page at a time along with the next page token.
  */
 public class ListHandler extends BaseHandlerStd {
 
@@ -22,18 +24,21 @@ public class ListHandler extends BaseHandlerStd {
             final ResourceHandlerRequest<ResourceModel> request, final CallbackContext callbackContext,
             final ProxyClient<LightsailClient> proxyClient, final Logger logger) {
 
+        final ListPaginator paginator = ListPaginator.fromNextToken(request.getNextToken());
+
         // STEP 1 [construct a body of a request]
-        final AwsRequest awsRequest = Translator.translateToListRequest(request.getNextToken());
+        final AwsRequest awsRequest = Translator.translateToListRequest(paginator.getPageToken());
 
         // STEP 2 [make an api call]
         GetDisksResponse awsResponse = proxyClient.injectCredentialsAndInvokeV2((GetDisksRequest) awsRequest,
                 proxyClient.client()::getDisks);
 
-        // STEP 3 [get next page token]
-        String nextToken = awsResponse.nextPageToken();
+        // STEP 3 [translate only the items of this page and get next page token]
+        final List<Disk> page = paginator.page(awsResponse.disks());
+        final String nextToken = paginator.nextToken(awsResponse.disks().size(), awsResponse.nextPageToken());
 
         return ProgressEvent.<ResourceModel, CallbackContext> builder()
-                .resourceModels(Translator.translateFromListRequest(awsResponse)).nextToken(nextToken)
+                .resourceModels(Translator.translateFromListRequest(page)).nextToken(nextToken)
                 .status(OperationStatus.SUCCESS).build();
     }
 }
@@ -0,0 +1,86 @@
+package software.amazon.lightsail.disk;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket with an adaptive refill rate. A throttled call halves the rate and every successful call adds a small
+ * step back until the configured rate is reached again (AIMD).
+ */
+final class TokenBucket {
+
+    private static final double MIN_RATE = 0.5;
+
+    // Fraction of the configured rate given back per successful call.
+    private static final double INCREASE_FRACTION = 0.05;
+
+    private final double maxRate;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double rate;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(final double rate, final double capacity) {
+        this(rate, capacity, System::nanoTime);
+    }
+
+    TokenBucket(final double rate, final double capacity, final LongSupplier nanoClock) {
+        this.maxRate = rate;
+        this.capacity = capacity;
+        this.nanoClock = nanoClock;
+        this.rate = rate;
+        this.tokens = capacity;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * Take a token. When the bucket is empty the token is reserved ahead of the refill, so concurrent callers queue up
+     * one refill interval apart instead of all retrying at once.
+     *
+     * @return how long the caller has to wait before using the token
+     */
+    synchronized Duration reserve() {
+        refill();
+        tokens -= 1;
+        if (tokens >= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) (-tokens / rate * 1_000_000_000L));
+    }
+
+    /**
+     * Take a token, waiting for it when the bucket is empty.
+     */
+    void acquire() {
+        final Duration wait = reserve();
+        if (wait.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(wait.toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + maxRate * INCREASE_FRACTION);
+    }
+
+    synchronized void onThrottle() {
+        refill();
+        rate = Math.max(MIN_RATE, rate / 2);
+    }
+
+    synchronized double getRate() {
+        return rate;
+    }
+
+    private void refill() {
+        final long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) / 1_000_000_000.0 * rate);
+        lastRefill = now;
+    }
+}
@@ -14,7 +14,6 @@ import software.amazon.awssdk.services.lightsail.model.EnableAddOnRequest;
 import software.amazon.awssdk.services.lightsail.model.GetDiskRequest;
 import software.amazon.awssdk.services.lightsail.model.GetDiskResponse;
 import software.amazon.awssdk.services.lightsail.model.GetDisksRequest;
-import software.amazon.awssdk.services.lightsail.model.GetDisksResponse;
 import software.amazon.awssdk.services.lightsail.model.ResourceLocation;
 
 import java.util.Collection;
@@ -114,16 +113,12 @@ public class Translator {
     }
 
     /**
-     * Translates resource objects from sdk into a resource model (primary identifier only)
-     *
-     * @param awsResponse
-     *            the aws service describe resource response
-     *
+     * Translates a page of resource objects from sdk into resource models
+     * @param disks the sdk resource objects of the page
      * @return list of resource models
      */
-    static List<ResourceModel> translateFromListRequest(final AwsResponse awsResponse) {
-        val getDisksResponse = (GetDisksResponse) awsResponse;
-        return getDisksResponse.disks().stream().map(Translator::translateSDKDiskToResourceModel)
+    static List<ResourceModel> translateFromListRequest(final List<Disk> disks) {
+        return disks.stream().map(Translator::translateSDKDiskToResourceModel)
                 .collect(Collectors.toList());
     }
 
@@ -198,7 +193,7 @@ public class Translator {
                 .addOnType(AddOnType.AUTO_SNAPSHOT.toString()).build();
     }
 
-    static DetachDiskRequest translateToDetachDiskRequest(final ResourceModel resourceModel) {
+    public static DetachDiskRequest translateToDetachDiskRequest(final ResourceModel resourceModel) {
         return DetachDiskRequest.builder().diskName(resourceModel.getDiskName()).build();
     }
 
@@ -4,12 +4,14 @@ import com.google.common.collect.ImmutableList;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import software.amazon.awssdk.services.lightsail.LightsailClient;
+import software.amazon.awssdk.services.lightsail.model.GetDiskResponse;
 import software.amazon.cloudformation.proxy.*;
 import software.amazon.lightsail.disk.CallbackContext;
 import software.amazon.lightsail.disk.ResourceModel;
 import software.amazon.lightsail.disk.Translator;
 import software.amazon.lightsail.disk.helpers.resource.AddOns;
 import software.amazon.lightsail.disk.helpers.resource.Disk;
+import software.amazon.lightsail.disk.helpers.resource.DiskStatus;
 
 import static software.amazon.lightsail.disk.BaseHandlerStd.handleError;
 import static software.amazon.lightsail.disk.CallbackContext.BACKOFF_DELAY;
@@ -35,9 +37,14 @@ public class AddOnsHandler extends ResourceHandler {
                         progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToReadRequest).backoffDelay(BACKOFF_DELAY)
                 .makeServiceCall((awsRequest, client) -> disk.read(awsRequest))
-                .stabilize((awsRequest, awsResponse, client, model,
-                        context) -> this.isStabilized(this.callbackContext, PRE_ADDONS_UPDATE)
-                                || disk.isStabilizedUpdate())
+                .stabilize((awsRequest, awsResponse, client, model, context) -> {
+                    // The first poll checks the response of the read above, later ones read the Disk again.
+                    val status = callbackContext.getWaitCount(PRE_ADDONS_UPDATE) == 0
+                            ? new DiskStatus((GetDiskResponse) awsResponse) : disk.getStatus();
+                    callbackContext.setAddOnStatus(status.getAddOnStatus());
+                    return this.isStabilized(this.callbackContext, PRE_ADDONS_UPDATE)
+                            || disk.isStabilizedUpdate(status);
+                })
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
                 .progress();
@@ -52,8 +59,10 @@ public class AddOnsHandler extends ResourceHandler {
                 .initiate("AWS-Lightsail-Disk::Update::AddOn", proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToCreateRequest)
-                .makeServiceCall((awsRequest, client) -> addOn.update(awsRequest))
-                .stabilize((awsRequest, awsResponse, client, model, context) -> addOn.isStabilizedUpdate())
+                .makeServiceCall((awsRequest, client) -> addOn.isUpdateRequired(callbackContext.getAddOnStatus())
+                        ? addOn.update(awsRequest) : null)
+                .stabilize((awsRequest, awsResponse, client, model, context) -> awsResponse == null
+                        || addOn.isStabilizedUpdate())
                 .handleError((awsRequest, e, client, model, context) -> {
                     if (addOn.isSafeExceptionCreateOrUpdate(e)) {
                         return ProgressEvent.progress(progress.getResourceModel(), callbackContext);
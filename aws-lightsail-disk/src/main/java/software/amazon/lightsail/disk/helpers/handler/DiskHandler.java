@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.val;
 import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.GetDiskRequest;
+import software.amazon.awssdk.services.lightsail.model.GetDiskResponse;
 import software.amazon.awssdk.services.lightsail.model.ResourceType;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.proxy.*;
@@ -12,11 +13,13 @@ import software.amazon.lightsail.disk.CallbackContext;
 import software.amazon.lightsail.disk.ResourceModel;
 import software.amazon.lightsail.disk.Translator;
 import software.amazon.lightsail.disk.helpers.resource.Disk;
+import software.amazon.lightsail.disk.helpers.resource.DiskStatus;
 
 import static software.amazon.lightsail.disk.BaseHandlerStd.InvalidInputException;
 import static software.amazon.lightsail.disk.BaseHandlerStd.NotFoundException;
 import static software.amazon.lightsail.disk.BaseHandlerStd.handleError;
 import static software.amazon.lightsail.disk.CallbackContext.BACKOFF_DELAY;
+import static software.amazon.lightsail.disk.CallbackContext.DETACH_FROM_STOPPED_INSTANCE;
 import static software.amazon.lightsail.disk.CallbackContext.PRE_CHECK_CREATE;
 import static software.amazon.lightsail.disk.CallbackContext.PRE_CHECK_DELETE;
 
@@ -85,6 +88,33 @@ public class DiskHandler extends ResourceHandler {
                 .progress();
     }
 
+    @Override
+    public ProgressEvent<ResourceModel, CallbackContext> handleDelete(
+            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        return detachFromStoppedInstance(progress).then(this::preDelete).then(this::delete);
+    }
+
+    /**
+     * A Disk attached to a stopped Instance stays attached until the Instance is started or deleted, so it is detached
+     * before the pre deletion check waits for it to be free.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> detachFromStoppedInstance(
+            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        val disk = new Disk(resourceModel, logger, proxyClient, resourceModelRequest);
+        logger.log("Executing AWS-Lightsail-Disk::Delete::DetachFromStoppedInstance...");
+        return proxy
+                .initiate("AWS-Lightsail-Disk::Delete::DetachFromStoppedInstance", proxyClient,
+                        progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(Translator::translateToDetachDiskRequest)
+                .backoffDelay(BACKOFF_DELAY)
+                .makeServiceCall((awsRequest, client) -> disk.detachFromStoppedInstance(awsRequest, disk.getStatus()))
+                .stabilize((awsRequest, awsResponse, client, model, context) -> awsResponse == null
+                        || disk.isDiskFree(disk.getStatus()) || this.isStabilized(this.callbackContext, DETACH_FROM_STOPPED_INSTANCE))
+                .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
+                        callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
+                .progress();
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> preDelete(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
@@ -96,7 +126,10 @@ public class DiskHandler extends ResourceHandler {
                 .translateToServiceRequest(Translator::translateToReadRequest).backoffDelay(BACKOFF_DELAY)
                 .makeServiceCall((awsRequest, client) -> disk.read(awsRequest))
                 .stabilize((awsRequest, awsResponse, client, model, context) -> {
-                    if (disk.isDiskFree()) {
+                    // The first poll checks the response of the read above, later ones read the Disk again.
+                    val status = callbackContext.getWaitCount(PRE_CHECK_DELETE) == 0
+                            ? new DiskStatus((GetDiskResponse) awsResponse) : disk.getStatus();
+                    if (disk.isReadyForDelete(status)) {
                         return true;
                     }
                     return this.isStabilized(this.callbackContext, PRE_CHECK_DELETE);
@@ -1,6 +1,5 @@
 package software.amazon.lightsail.disk.helpers.resource;
 
-import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import software.amazon.awssdk.awscore.AwsRequest;
@@ -8,11 +7,10 @@ import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.AddOnType;
-import software.amazon.awssdk.services.lightsail.model.GetDiskRequest;
-import software.amazon.awssdk.services.lightsail.model.GetDiskResponse;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.lightsail.disk.Logging;
 import software.amazon.lightsail.disk.ResourceModel;
 
 import static software.amazon.lightsail.disk.Translator.translateToDisableAddOnRequest;
@@ -95,42 +93,49 @@ public class AddOns implements ResourceHelper {
      */
     @Override
     public boolean isStabilizedUpdate() {
-        val awsResponse = (GetDiskResponse) this
-                .read(GetDiskRequest.builder().diskName(resourceModel.getDiskName()).build());
-        val currentState = awsResponse.disk().addOns() == null || awsResponse.disk().addOns().size() == 0 ? "Pending"
-                : awsResponse.disk().addOns().get(0).status();
-        logger.log(String.format("Checking if AddOn has stabilized for Disk: %s. Current state %s",
-                resourceModel.getDiskName(), currentState));
-        return "enabled".equalsIgnoreCase(currentState) || "disabled".equalsIgnoreCase(currentState);
+        return isStabilizedUpdate(new Disk(resourceModel, logger, proxyClient, resourceModelRequest).getStatus());
+    }
+
+    public boolean isStabilizedUpdate(final DiskStatus status) {
+        Logging.sampled(logger, "Checking if AddOn has stabilized for Disk: %s. Current state %s",
+                resourceModel.getDiskName(), status.getAddOnStatus());
+        return status.isAddOnStable();
     }
 
     /**
-     * Check if addOn passed during create is stabilized. It has parameter of GetDiskResponse, we do this to making
-     * double call one to check Disk State and one to check AddOn State.
+     * Check if addOn passed during create is stabilized. It takes the DiskStatus snapshot that is also used to check
+     * the Disk state, so that both are checked from a single read.
      *
-     * @param awsResponse
+     * @param status
      *
      * @return
      */
-    public boolean isStabilizedCreate(final GetDiskResponse awsResponse) {
-        // now we have only one AddOn, so checking 0th index directly
-        if (resourceModel.getAddOns() != null && resourceModel.getAddOns().size() > 0
-                && resourceModel.getAddOns().get(0) != null
-                && (Strings.isNullOrEmpty(resourceModel.getAddOns().get(0).getStatus()) ||
-                "enabled".equalsIgnoreCase(resourceModel.getAddOns().get(0).getStatus()))) {
-            val currentState = awsResponse.disk().addOns() == null || awsResponse.disk().addOns().size() == 0
-                    ? "Pending" : awsResponse.disk().addOns().get(0).status();
-            logger.log(String.format("Checking if AddOn has stabilized for Disk: %s. Current state %s",
-                    resourceModel.getDiskName(), currentState));
+    public boolean isStabilizedCreate(final DiskStatus status) {
+        if (isEnableAddOnRequest()) {
+            Logging.sampled(logger, "Checking if AddOn has stabilized for Disk: %s. Current state %s",
+                    resourceModel.getDiskName(), status.getAddOnStatus());
 
             // Enabling and Disabled are the terminal state, In stabilize all we do is wait for terminal state.
-            return "enabled".equalsIgnoreCase(currentState);
+            return status.isAddOnEnabled();
         }
 
         // If there is no add-on in the request make it pass stabilize.
         return true;
     }
 
+    /**
+     * Check if the AddOn has to be enabled or disabled to reach the desired state. Enable/Disable is skipped when the
+     * AddOn is already in the desired terminal state.
+     *
+     * @param currentAddOnStatus AddOn status of the last DiskStatus, null if unknown
+     *
+     * @return boolean
+     */
+    public boolean isUpdateRequired(final String currentAddOnStatus) {
+        val desiredAddOnStatus = isEnableAddOnRequest() ? "enabled" : "disabled";
+        return !desiredAddOnStatus.equalsIgnoreCase(currentAddOnStatus);
+    }
+
     @Override
     public boolean isStabilizedDelete() {
         return false;
@@ -9,14 +9,17 @@ import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.AvailabilityZone;
 import software.amazon.awssdk.services.lightsail.model.CreateDiskRequest;
 import software.amazon.awssdk.services.lightsail.model.DeleteDiskRequest;
+import software.amazon.awssdk.services.lightsail.model.DetachDiskRequest;
 import software.amazon.awssdk.services.lightsail.model.GetDiskRequest;
 import software.amazon.awssdk.services.lightsail.model.GetDiskResponse;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateRequest;
 import software.amazon.awssdk.services.lightsail.model.GetRegionsRequest;
 import software.amazon.awssdk.services.lightsail.model.NotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.lightsail.disk.Logging;
 import software.amazon.lightsail.disk.ResourceModel;
 
 /**
@@ -70,33 +73,43 @@ public class Disk implements ResourceHelper {
                 proxyClient.client()::getDisk);
     }
 
+    /**
+     * Read the Disk and take the status snapshot that the Disk and AddOn checks of one poll share.
+     *
+     * @return DiskStatus
+     */
+    public DiskStatus getStatus() {
+        return new DiskStatus((GetDiskResponse) this.read(GetDiskRequest.builder()
+                .diskName(resourceModel.getDiskName()).build()));
+    }
+
     @Override
     public boolean isStabilizedUpdate() {
-        val awsResponse = ((GetDiskResponse) this
-                .read(GetDiskRequest.builder().diskName(resourceModel.getDiskName()).build()));
-        val addOn = new AddOns(resourceModel, logger, proxyClient, resourceModelRequest);
-        val currentState = getCurrentState(awsResponse);
-        logger.log(String.format("Checking if Disk: %s has stabilized. Current state: %s",
-                resourceModel.getDiskName(), currentState));
-        return ("available".equalsIgnoreCase(currentState) || "in-use".equalsIgnoreCase(currentState));
+        return isStabilizedUpdate(getStatus());
     }
 
+    public boolean isStabilizedUpdate(final DiskStatus status) {
+        Logging.sampled(logger, "Checking if Disk: %s has stabilized. Current state: %s",
+                resourceModel.getDiskName(), status.getState());
+        return status.isStable();
+    }
+
+    /**
+     * Check if the Disk and the AddOn passed during create are stabilized, from a single read of the Disk.
+     *
+     * @return boolean
+     */
     public boolean isStabilizedCreate() {
-        val awsResponse = ((GetDiskResponse) this
-                .read(GetDiskRequest.builder().diskName(resourceModel.getDiskName()).build()));
+        val status = getStatus();
         val addOn = new AddOns(resourceModel, logger, proxyClient, resourceModelRequest);
-        val currentState = getCurrentState(awsResponse);
-        logger.log(String.format("Checking if Disk: %s has stabilized. Current state: %s",
-                resourceModel.getDiskName(), currentState));
-        return addOn.isStabilizedCreate(awsResponse)
-                && ("available".equalsIgnoreCase(currentState) || "in-use".equalsIgnoreCase(currentState));
+        return isStabilizedUpdate(status) && addOn.isStabilizedCreate(status);
     }
 
     @Override
     public boolean isStabilizedDelete() {
         final boolean stabilized = false;
-        logger.log(String.format("Checking if Disk: %s deletion has stabilized.",
-                resourceModel.getDiskName(), stabilized));
+        Logging.sampled(logger, "Checking if Disk: %s deletion has stabilized.",
+                resourceModel.getDiskName());
         try {
             this.read(GetDiskRequest.builder().diskName(resourceModel.getDiskName()).build());
         } catch (final Exception e) {
@@ -109,18 +122,6 @@ public class Disk implements ResourceHelper {
         return stabilized;
     }
 
-    /**
-     * Get Current state of the Disk.
-     *
-     * @return
-     *
-     * @param awsResponse
-     */
-    private String getCurrentState(GetDiskResponse awsResponse) {
-        val disk = awsResponse.disk();
-        return disk.state() == null ? "Pending" : disk.state().name();
-    }
-
     @Override
     public boolean isSafeExceptionCreateOrUpdate(Exception e) {
         return false;
@@ -140,12 +141,78 @@ public class Disk implements ResourceHelper {
      * @return boolean
      */
     public boolean isDiskFree() {
-        val disk = ((GetDiskResponse) this.read(GetDiskRequest.builder().diskName(resourceModel.getDiskName()).build()))
-                .disk();
-        logger.log(String.format("Waiting for Disk: %s Ready to be ready", disk.name()));
-        return disk != null && (disk.isAttached() == null || !disk.isAttached())
-                && Strings.isNullOrEmpty(disk.attachedTo()) && "detached".equalsIgnoreCase(disk.attachmentState())
-                && !"pending".equalsIgnoreCase(disk.state() == null ? "pending" : disk.state().toString());
+        return isDiskFree(getStatus());
+    }
+
+    public boolean isDiskFree(final DiskStatus status) {
+        Logging.sampled(logger, "Waiting for Disk: %s Ready to be ready", resourceModel.getDiskName());
+        return status.isFree();
+    }
+
+    /**
+     * Check if the Disk can be deleted. Besides a free Disk, this accepts a Disk that reports detached, or one whose
+     * Instance is gone. A Disk of an Instance that is still shutting down is attached until the Instance is deleted,
+     * DeleteDisk would fail on it, so the check keeps waiting.
+     *
+     * @param status
+     *
+     * @return boolean
+     */
+    public boolean isReadyForDelete(final DiskStatus status) {
+        if (status.isFree() || (!status.isAttached() && "detached".equalsIgnoreCase(status.getAttachmentState()))) {
+            return true;
+        }
+        val attachedTo = status.getAttachedTo();
+        if (Strings.isNullOrEmpty(attachedTo)) {
+            Logging.sampled(logger, "Waiting for Disk: %s to be ready. Attachment state: %s",
+                    resourceModel.getDiskName(), status.getAttachmentState());
+            return false;
+        }
+        val instanceState = getInstanceState(attachedTo);
+        logger.log(String.format("Disk: %s is attached to Instance: %s in state: %s", resourceModel.getDiskName(),
+                attachedTo, instanceState));
+        return instanceState == null;
+    }
+
+    /**
+     * Detach the Disk if it is attached to a stopped Instance, so that the delete does not wait for the Instance to let
+     * go of it.
+     *
+     * @param request DetachDiskRequest
+     * @param status
+     *
+     * @return AwsResponse, or null if the Disk was not attached to a stopped Instance
+     */
+    public AwsResponse detachFromStoppedInstance(AwsRequest request, final DiskStatus status) {
+        val attachedTo = status.getAttachedTo();
+        if (status.isFree() || Strings.isNullOrEmpty(attachedTo)
+                || !"attached".equalsIgnoreCase(status.getAttachmentState())
+                || !"stopped".equalsIgnoreCase(getInstanceState(attachedTo))) {
+            return null;
+        }
+        logger.log(String.format("Detaching Disk: %s from stopped Instance: %s", resourceModel.getDiskName(),
+                attachedTo));
+        return proxyClient.injectCredentialsAndInvokeV2((DetachDiskRequest) request,
+                proxyClient.client()::detachDisk);
+    }
+
+    /**
+     * Get the state of an Instance.
+     *
+     * @param instanceName
+     *
+     * @return state name, or null if the Instance does not exist
+     */
+    private String getInstanceState(final String instanceName) {
+        try {
+            return proxyClient.injectCredentialsAndInvokeV2(GetInstanceStateRequest.builder().instanceName(instanceName)
+                    .build(), proxyClient.client()::getInstanceState).state().name();
+        } catch (final Exception e) {
+            if (!isSafeExceptionDelete(e)) {
+                throw e;
+            }
+            return null;
+        }
     }
 
     /**
@@ -0,0 +1,64 @@
+package software.amazon.lightsail.disk.helpers.resource;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.val;
+import software.amazon.awssdk.services.lightsail.model.GetDiskResponse;
+
+/**
+ * Snapshot of the Disk status taken from a single GetDisk call. The Disk and AddOns steps share it so that each poll
+ * reads the Disk once.
+ */
+@Getter
+@ToString
+public class DiskStatus {
+
+    private final String state;
+    private final String attachmentState;
+    private final String attachedTo;
+    private final boolean attached;
+    private final String addOnStatus;
+
+    public DiskStatus(final GetDiskResponse awsResponse) {
+        val disk = awsResponse.disk();
+        this.state = disk.stateAsString() == null ? "Pending" : disk.stateAsString();
+        this.attachmentState = disk.attachmentState();
+        this.attachedTo = disk.attachedTo();
+        this.attached = disk.isAttached() != null && disk.isAttached();
+        // now we have only one AddOn, so checking 0th index directly
+        this.addOnStatus = disk.addOns() == null || disk.addOns().size() == 0 ? "Pending" : disk.addOns().get(0).status();
+    }
+
+    /**
+     * Check if the Disk has reached a terminal state.
+     *
+     * @return boolean
+     */
+    public boolean isStable() {
+        return "available".equalsIgnoreCase(state) || "in-use".equalsIgnoreCase(state);
+    }
+
+    /**
+     * Check if the AddOn has reached a terminal state.
+     *
+     * @return boolean
+     */
+    public boolean isAddOnStable() {
+        return "enabled".equalsIgnoreCase(addOnStatus) || "disabled".equalsIgnoreCase(addOnStatus);
+    }
+
+    public boolean isAddOnEnabled() {
+        return "enabled".equalsIgnoreCase(addOnStatus);
+    }
+
+    /**
+     * Check if the Disk is not used by any Instance.
+     *
+     * @return boolean
+     */
+    public boolean isFree() {
+        return !attached && Strings.isNullOrEmpty(attachedTo) && "detached".equalsIgnoreCase(attachmentState)
+                && !"pending".equalsIgnoreCase(state);
+    }
+}
@@ -0,0 +1,51 @@
+package software.amazon.lightsail.disk;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BackoffProfilesTest {
+
+    private static final BackoffProfile DEFAULTS = BackoffProfile.builder()
+            .delay(Duration.ofSeconds(30)).maxWaitCount(40).build();
+
+    @Test
+    public void testLoad() {
+        final BackoffProfile profile = BackoffProfiles.load(ResourceModel.TYPE_NAME, DEFAULTS);
+
+        assertThat(profile.getDelay()).isEqualTo(Duration.ofSeconds(20));
+        assertThat(profile.getMaxWaitCount()).isEqualTo(25);
+        assertThat(CallbackContext.BACKOFF_DELAY.nextDelay(1)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(new CallbackContext().getMaxWaitCount()).isEqualTo(25);
+    }
+
+    @Test
+    public void testLoad_missingRow() {
+        assertThat(BackoffProfiles.load("AWS::Lightsail::Unknown", DEFAULTS)).isSameAs(DEFAULTS);
+    }
+
+    @Test
+    public void testParse() {
+        final Map<String, BackoffProfile> profiles = BackoffProfiles.parse(ImmutableList.of(
+                "# comment", BackoffProfiles.HEADER, "", "AWS::Lightsail::Disk,2,30,15,12"));
+
+        final BackoffProfile profile = profiles.get("AWS::Lightsail::Disk");
+        assertThat(profile.isInline()).isTrue();
+        assertThat(profile.toDelay().nextDelay(1)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(profile.toDelay().nextDelay(16)).isEqualTo(Duration.ofSeconds(15));
+        assertThat(BackoffProfiles.parse(BackoffProfiles.format(profiles))).isEqualTo(profiles);
+    }
+
+    @Test
+    public void testParse_malformed() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BackoffProfiles.parse(ImmutableList.of("AWS::Lightsail::Disk,2,30")));
+        assertThrows(IllegalArgumentException.class,
+                () -> BackoffProfiles.parse(ImmutableList.of("AWS::Lightsail::Disk,2,30,fast,12")));
+    }
+}
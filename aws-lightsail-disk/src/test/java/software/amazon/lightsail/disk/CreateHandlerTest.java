@@ -104,8 +104,10 @@ public class CreateHandlerTest extends AbstractTestBase {
         when(sdkClient.createDisk(any(CreateDiskRequest.class)))
                 .thenReturn(CreateDiskResponse.builder().build());
 
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
         final ProgressEvent<ResourceModel, CallbackContext> response =
-                handler.handleRequest(proxy, request1, new CallbackContext(), proxyClient, logger);
+                handler.handleRequest(proxy, request1, new CallbackContext(), calls, logger);
 
         model.setAvailabilityZone("us-west-2a");
 
@@ -122,6 +124,10 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        calls.assertCalls(CreateDiskRequest.class).exactly(1);
+        calls.assertCalls(GetRegionsRequest.class).atMost(1);
+        calls.assertCalls(GetDiskRequest.class).atMost(3);
     }
 
     @Test
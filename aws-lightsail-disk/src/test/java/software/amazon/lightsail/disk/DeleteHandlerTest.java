@@ -67,8 +67,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
                                 .state("available")
                                 .attachmentState("detached")
                                 .build())
-                        .build())
-                .thenReturn(GetDiskResponse.builder()
+                        .build(), GetDiskResponse.builder()
                         .disk(software.amazon.awssdk.services.lightsail.model.Disk.builder()
                                 .state("available")
                                 .attachmentState("detached")
@@ -84,7 +83,9 @@ public class DeleteHandlerTest extends AbstractTestBase {
         when(sdkClient.deleteDisk(any(DeleteDiskRequest.class)))
                 .thenReturn(DeleteDiskResponse.builder().build());
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), calls, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -93,6 +94,12 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        calls.assertCalls(DeleteDiskRequest.class).exactly(1);
+        // One read each for the stopped Instance detach check, the pre deletion check and the delete stabilization.
+        calls.assertCalls(GetDiskRequest.class).atMost(3);
+        calls.assertCalls(DetachDiskRequest.class).never();
+        calls.assertTotalCalls().atMost(4);
     }
 
     @Test
@@ -107,7 +114,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
 
         when(sdkClient.getDisk(any(GetDiskRequest.class)))
                 .thenReturn(GetDiskResponse.builder()
-                .disk(Disk.builder().build()).build())
+                .disk(Disk.builder().state("available").attachmentState("detached").build()).build());
+        when(sdkClient.deleteDisk(any(DeleteDiskRequest.class)))
                 .thenThrow(NotFoundException.builder()
                     .awsErrorDetails(AwsErrorDetails.builder()
                             .errorCode("NotFoundException")
@@ -0,0 +1,32 @@
+package software.amazon.lightsail.disk;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InlinePollingDelayTest {
+
+    private final InlinePollingDelay delay = InlinePollingDelay.of(Duration.ofSeconds(2), Duration.ofSeconds(10),
+            Constant.of().delay(Duration.ofSeconds(20)).timeout(Duration.ofMinutes(1)).build());
+
+    @Test
+    public void testNextDelay_inlineBudget() {
+        for (int attempt = 1; attempt <= 5; attempt++) {
+            assertThat(delay.nextDelay(attempt)).isEqualTo(Duration.ofSeconds(2));
+        }
+    }
+
+    @Test
+    public void testNextDelay_fallback() {
+        assertThat(delay.nextDelay(6)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(delay.nextDelay(7)).isEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    public void testNextDelay_fallbackTimeout() {
+        assertThat(delay.nextDelay(100)).isEqualTo(Duration.ZERO);
+    }
+}
@@ -12,14 +12,20 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.lightsail.disk.AbstractTestBase.MOCK_CREDENTIALS;
 
@@ -54,8 +60,10 @@ public class ListHandlerTest extends AbstractTestBase {
 
         when(sdkClient.getDisks(any(GetDisksRequest.class))).thenReturn(GetDisksResponse.builder().build());
 
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
         final ProgressEvent<ResourceModel, CallbackContext> response =
-                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+                handler.handleRequest(proxy, request, new CallbackContext(), calls, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -65,5 +73,88 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNotNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        calls.assertCalls(GetDisksRequest.class).exactly(1);
+        calls.assertTotalCalls().exactly(1);
+    }
+
+    @Test
+    public void handleRequest_pagesLargeSdkPage() {
+        final ListHandler handler = new ListHandler();
+
+        final List<software.amazon.awssdk.services.lightsail.model.Disk> items = IntStream.range(0, 150)
+                .mapToObj(i -> software.amazon.awssdk.services.lightsail.model.Disk.builder().name("item" + i).build())
+                .collect(Collectors.toList());
+        when(sdkClient.getDisks(any(GetDisksRequest.class)))
+                .thenReturn(GetDisksResponse.builder().disks(items).nextPageToken("sdkToken").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> first = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build())
+                        .build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(first.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(first.getResourceModels()).hasSize(100);
+        assertThat(first.getNextToken()).isNotNull();
+
+        final ProgressEvent<ResourceModel, CallbackContext> second = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build())
+                        .nextToken(first.getNextToken()).build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(second.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(second.getResourceModels()).hasSize(50);
+        assertThat(second.getNextToken()).isNotNull();
+
+        final ProgressEvent<ResourceModel, CallbackContext> third = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build())
+                        .nextToken(second.getNextToken()).build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(third.getResourceModels()).hasSize(100);
+
+        final ArgumentCaptor<GetDisksRequest> captor = ArgumentCaptor.forClass(GetDisksRequest.class);
+        verify(sdkClient, times(3)).getDisks(captor.capture());
+        assertThat(captor.getAllValues().get(0).pageToken()).isNull();
+        assertThat(captor.getAllValues().get(1).pageToken()).isNull();
+        assertThat(captor.getAllValues().get(2).pageToken()).isEqualTo("sdkToken");
+    }
+
+    @Test
+    public void handleRequest_resumesInsideSdkPageThenNextSdkPage() {
+        final ListHandler handler = new ListHandler();
+
+        final GetDisksResponse firstSdkPage = GetDisksResponse.builder().disks(disks(0, 150))
+                .nextPageToken("page2").build();
+        final GetDisksResponse secondSdkPage = GetDisksResponse.builder().disks(disks(150, 180)).build();
+        when(sdkClient.getDisks(any(GetDisksRequest.class))).thenAnswer(invocation ->
+                ((GetDisksRequest) invocation.getArgument(0)).pageToken() == null ? firstSdkPage : secondSdkPage);
+
+        final ProgressEvent<ResourceModel, CallbackContext> first = list(handler, null);
+        assertThat(first.getResourceModels()).extracting(ResourceModel::getDiskName)
+                .startsWith("disk0").endsWith("disk99").hasSize(100);
+
+        // The token resumes inside the first SDK page, at the 101st Disk.
+        final ProgressEvent<ResourceModel, CallbackContext> second = list(handler, first.getNextToken());
+        assertThat(second.getResourceModels()).extracting(ResourceModel::getDiskName)
+                .startsWith("disk100").endsWith("disk149").hasSize(50);
+
+        final ProgressEvent<ResourceModel, CallbackContext> third = list(handler, second.getNextToken());
+        assertThat(third.getResourceModels()).extracting(ResourceModel::getDiskName)
+                .startsWith("disk150").endsWith("disk179").hasSize(30);
+        assertThat(third.getNextToken()).isNull();
+
+        final ArgumentCaptor<GetDisksRequest> captor = ArgumentCaptor.forClass(GetDisksRequest.class);
+        verify(sdkClient, times(3)).getDisks(captor.capture());
+        assertThat(captor.getAllValues()).extracting(GetDisksRequest::pageToken).containsExactly(null, null, "page2");
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> list(final ListHandler handler, final String nextToken) {
+        return handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build()).nextToken(nextToken).build(),
+                new CallbackContext(), proxyClient, logger);
+    }
+
+    private static List<software.amazon.awssdk.services.lightsail.model.Disk> disks(final int from, final int to) {
+        return IntStream.range(from, to)
+                .mapToObj(i -> software.amazon.awssdk.services.lightsail.model.Disk.builder().name("disk" + i).build())
+                .collect(Collectors.toList());
     }
 }
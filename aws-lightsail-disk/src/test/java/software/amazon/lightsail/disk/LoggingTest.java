@@ -0,0 +1,97 @@
+package software.amazon.lightsail.disk;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class LoggingTest {
+
+    @Test
+    public void testSampled() {
+        final Logger logger = mock(Logger.class);
+
+        for (int poll = 0; poll < 20; poll++) {
+            Logging.sampled(logger, "Checking if Disk: %s has stabilized.", "testSampled");
+        }
+
+        verify(logger, times(1)).log("Checking if Disk: testSampled has stabilized.");
+        verify(logger, times(1)).log("Checking if Disk: testSampled has stabilized. (poll 10)");
+        verify(logger, times(1)).log("Checking if Disk: testSampled has stabilized. (poll 20)");
+        verify(logger, times(3)).log(anyString());
+    }
+
+    @Test
+    public void testSampled_perResource() {
+        final Logger logger = mock(Logger.class);
+
+        Logging.sampled(logger, "Checking if Disk: %s has stabilized.", "testSampled_perResource1");
+        Logging.sampled(logger, "Checking if Disk: %s has stabilized.", "testSampled_perResource2");
+
+        verify(logger, times(2)).log(anyString());
+    }
+
+    @Test
+    public void testSampled_stateChanges() {
+        final Logger logger = mock(Logger.class);
+
+        Logging.sampled(logger, "Checking if Disk: %s has stabilized. Current state: %s", "disk", "pending");
+        Logging.sampled(logger, "Checking if Disk: %s has stabilized. Current state: %s", "disk", "pending");
+        Logging.sampled(logger, "Checking if Disk: %s has stabilized. Current state: %s", "disk", "available");
+        Logging.sampled(logger, "Checking if Disk: %s has stabilized. Current state: %s", "disk", "pending");
+
+        verify(logger, times(1)).log("Checking if Disk: disk has stabilized. Current state: pending");
+        verify(logger, times(1)).log("Checking if Disk: disk has stabilized. Current state: available (poll 3)");
+        verify(logger, times(1)).log("Checking if Disk: disk has stabilized. Current state: pending (poll 4)");
+        verify(logger, times(3)).log(anyString());
+    }
+
+    @Test
+    public void testSampled_perRequest() {
+        final Logger logger = mock(Logger.class);
+        final Logger nextRequestLogger = mock(Logger.class);
+
+        Logging.sampled(logger, "Checking if Disk: %s has stabilized.", "disk");
+        Logging.sampled(nextRequestLogger, "Checking if Disk: %s has stabilized.", "disk");
+
+        verify(logger, times(1)).log("Checking if Disk: disk has stabilized.");
+        verify(nextRequestLogger, times(1)).log("Checking if Disk: disk has stabilized.");
+    }
+
+    @Test
+    public void testSampled_boundedPerRequest() {
+        final Logger logger = mock(Logger.class);
+
+        Logging.sampled(logger, "Checking if Disk: %s has stabilized.", "disk");
+        for (int i = 0; i < Logging.MAX_SAMPLED_KEYS; i++) {
+            Logging.sampled(logger, "Checking if Disk: %s has stabilized.", "disk" + i);
+        }
+        // The counter of the least recently polled line was dropped, the line is logged as a first poll again.
+        Logging.sampled(logger, "Checking if Disk: %s has stabilized.", "disk");
+
+        verify(logger, times(2)).log("Checking if Disk: disk has stabilized.");
+    }
+
+    @Test
+    public void testDebug_notLoggedAtInfo() {
+        final Logger logger = mock(Logger.class);
+
+        Logging.debug(logger, () -> {
+            throw new AssertionError("Message should not be built");
+        });
+
+        verify(logger, never()).log(anyString());
+    }
+
+    @Test
+    public void testParseLevel() {
+        assertThat(Logging.parseLevel("debug")).isEqualTo(Logging.Level.DEBUG);
+        assertThat(Logging.parseLevel("INFO")).isEqualTo(Logging.Level.INFO);
+        assertThat(Logging.parseLevel(null)).isEqualTo(Logging.Level.INFO);
+    }
+}
@@ -0,0 +1,109 @@
+package software.amazon.lightsail.disk;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.lightsail.LightsailClient;
+import software.amazon.awssdk.services.lightsail.model.AttachDiskRequest;
+import software.amazon.awssdk.services.lightsail.model.GetDiskRequest;
+import software.amazon.awssdk.services.lightsail.model.GetDiskResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RateLimitedProxyClientTest {
+
+    private ProxyClient<LightsailClient> delegate;
+    private ProxyClient<LightsailClient> proxyClient;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        delegate = mock(ProxyClient.class);
+        proxyClient = RateLimitedProxyClient.of(delegate, "123456789012", "us-east-1");
+    }
+
+    private static AwsServiceException serviceException(final String errorCode, final int statusCode) {
+        return AwsServiceException.builder().statusCode(statusCode)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(errorCode).build()).build();
+    }
+
+    @Test
+    public void testRead_retriedOnThrottling() {
+        final GetDiskResponse response = GetDiskResponse.builder().build();
+        when(delegate.injectCredentialsAndInvokeV2(any(), any()))
+                .thenThrow(serviceException("ThrottlingException", 400))
+                .thenReturn(response);
+
+        final GetDiskResponse result = proxyClient.injectCredentialsAndInvokeV2(GetDiskRequest.builder().build(),
+                request -> response);
+
+        assertThat(result).isSameAs(response);
+        verify(delegate, times(2)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void testRead_notRetriedOnClientError() {
+        when(delegate.injectCredentialsAndInvokeV2(any(), any()))
+                .thenThrow(serviceException("NotFoundException", 400));
+
+        assertThrows(AwsServiceException.class, () -> proxyClient.injectCredentialsAndInvokeV2(
+                GetDiskRequest.builder().build(), request -> GetDiskResponse.builder().build()));
+        verify(delegate, times(1)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void testWrite_notRetried() {
+        when(delegate.injectCredentialsAndInvokeV2(any(), any()))
+                .thenThrow(serviceException("ServiceUnavailable", 503));
+
+        assertThrows(AwsServiceException.class, () -> proxyClient.injectCredentialsAndInvokeV2(
+                AttachDiskRequest.builder().build(), request -> null));
+        verify(delegate, times(1)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void testBuckets_sharedPerAccountAndRegion() {
+        when(delegate.injectCredentialsAndInvokeV2(any(), any()))
+                .thenThrow(serviceException("ThrottlingException", 400));
+
+        // A later invocation of the same account and region keeps the rate learned from throttling.
+        assertThrows(AwsServiceException.class, () -> RateLimitedProxyClient.of(delegate, "210987654321", "eu-west-1")
+                .injectCredentialsAndInvokeV2(AttachDiskRequest.builder().build(), request -> null));
+
+        assertThat(RateLimitedProxyClient.getWriteBucket("210987654321", "eu-west-1"))
+                .isSameAs(RateLimitedProxyClient.getWriteBucket("210987654321", "eu-west-1"));
+        assertThat(RateLimitedProxyClient.getWriteBucket("210987654321", "eu-west-1").getRate())
+                .isLessThan(RateLimitedProxyClient.WRITE_RATE);
+        assertThat(RateLimitedProxyClient.getWriteBucket("210987654321", "eu-west-2").getRate())
+                .isEqualTo(RateLimitedProxyClient.WRITE_RATE);
+        assertThat(RateLimitedProxyClient.getReadBucket("210987654321", "eu-west-1").getRate())
+                .isEqualTo(RateLimitedProxyClient.READ_RATE);
+    }
+
+    @Test
+    public void testNextRetryDelay() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(RateLimitedProxyClient.nextRetryDelay(Duration.ofMillis(200)))
+                    .isBetween(Duration.ofMillis(200), Duration.ofMillis(600));
+            assertThat(RateLimitedProxyClient.nextRetryDelay(Duration.ofSeconds(4)))
+                    .isBetween(Duration.ofMillis(200), Duration.ofSeconds(5));
+        }
+    }
+
+    @Test
+    public void testIsTransient() {
+        assertThat(RateLimitedProxyClient.isTransient(serviceException("ThrottlingException", 400))).isTrue();
+        assertThat(RateLimitedProxyClient.isTransient(serviceException("ServiceUnavailable", 503))).isTrue();
+        assertThat(RateLimitedProxyClient.isTransient(serviceException("InvalidInputException", 400))).isFalse();
+    }
+}
@@ -68,7 +68,9 @@ public class ReadHandlerTest extends AbstractTestBase {
         when(sdkClient.getDisk(any(GetDiskRequest.class))).thenReturn(GetDiskResponse.builder()
                 .disk(Disk.builder().build()).build());
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), calls, logger);
 
         val desiredResponse = request.getDesiredResourceState();
         desiredResponse.setAddOns(Arrays.asList(AddOn.builder().addOnType("AutoSnapshot")
@@ -83,6 +85,9 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        calls.assertCalls(GetDiskRequest.class).exactly(1);
+        calls.assertTotalCalls().exactly(1);
     }
 
     @Test
@@ -0,0 +1,98 @@
+package software.amazon.lightsail.disk;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.services.lightsail.LightsailClient;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LightsailClient that serves a TrafficRecording. Calls are served strictly in the recorded order, a call that does
+ * not match the next recorded operation fails the test. The recorded latency is added up as simulated latency and
+ * is only slept when playLatency is set, so regression tests stay fast and deterministic.
+ */
+public class ReplayLightsailClient implements InvocationHandler {
+
+    private final List<TrafficRecording.Call> calls;
+    private final boolean playLatency;
+    private final Map<String, Long> callCounts = new LinkedHashMap<>();
+    private int position;
+    private long simulatedLatencyMillis;
+
+    private ReplayLightsailClient(final TrafficRecording recording, final boolean playLatency) {
+        this.calls = recording.getCalls();
+        this.playLatency = playLatency;
+    }
+
+    public static ReplayLightsailClient of(final TrafficRecording recording, final boolean playLatency) {
+        return new ReplayLightsailClient(recording, playLatency);
+    }
+
+    public LightsailClient client() {
+        return (LightsailClient) Proxy.newProxyInstance(LightsailClient.class.getClassLoader(),
+                new Class<?>[] { LightsailClient.class }, this);
+    }
+
+    @Override
+    public synchronized Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "serviceName":
+                return LightsailClient.SERVICE_NAME;
+            case "close":
+                return null;
+            case "toString":
+                return String.format("ReplayLightsailClient(%d/%d calls)", position, calls.size());
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            default:
+                break;
+        }
+        if (args == null || args.length != 1 || !(args[0] instanceof AwsRequest)) {
+            throw new UnsupportedOperationException(String.format("%s is not supported by the replay", method));
+        }
+        final String operation = TrafficRecording.operationName(args[0]);
+        if (position >= calls.size()) {
+            throw new IllegalStateException(String.format("Unexpected call %s, all %d recorded calls were replayed",
+                    operation, calls.size()));
+        }
+        final TrafficRecording.Call call = calls.get(position);
+        if (!call.getOperation().equals(operation)) {
+            throw new IllegalStateException(String.format("Unexpected call %s, call %d of the recording is %s",
+                    operation, position + 1, call.getOperation()));
+        }
+        position++;
+        callCounts.merge(operation, 1L, Long::sum);
+        simulatedLatencyMillis += call.getLatencyMillis();
+        if (playLatency && call.getLatencyMillis() > 0) {
+            Thread.sleep(call.getLatencyMillis());
+        }
+        if (call.getError() != null) {
+            throw call.getError();
+        }
+        return call.getResponse();
+    }
+
+    /**
+     * Number of replayed calls per operation, in the order the operations were first called.
+     *
+     * @return call counts
+     */
+    public synchronized Map<String, Long> getCallCounts() {
+        return new LinkedHashMap<>(callCounts);
+    }
+
+    public synchronized Duration getSimulatedLatency() {
+        return Duration.ofMillis(simulatedLatencyMillis);
+    }
+
+    public synchronized boolean isFullyReplayed() {
+        return position == calls.size();
+    }
+}
@@ -0,0 +1,267 @@
+package software.amazon.lightsail.disk;
+
+import lombok.Builder;
+import lombok.Value;
+import software.amazon.cloudformation.proxy.delay.Delay;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Offline simulation of the stabilization loops against recorded StateTimelines. A loop polls the resource, waits out
+ * the next delay of its BackoffProfile inline while the invocation has time left, the same way the proxy does, and
+ * otherwise hands control back to CloudFormation with a callback. Every re-invocation repeats the reads that come
+ * before the loop. The fixed waits of the handlers give up after maxWaitCount unstable polls.
+ *
+ * Run main with a timelines file, the profile table to update and the stable states of the resource type:
+ *
+ *   StabilizationSimulator timelines.jsonl backoff-profiles.csv available,in-use
+ */
+@Builder
+public class StabilizationSimulator {
+
+    public enum Outcome {
+        STABILIZED, CAPPED, TIMED_OUT
+    }
+
+    /**
+     * One stabilization loop run against one timeline.
+     */
+    @Value
+    public static class Run {
+        Outcome outcome;
+        int polls;
+        int callbacks;
+        int apiCalls;
+        // Time between the resource stabilizing and the loop noticing it, null unless STABILIZED.
+        Duration addedLatency;
+    }
+
+    /**
+     * Runs of one profile against all the timelines of a resource type.
+     */
+    @Value
+    public static class Summary {
+        String typeName;
+        BackoffProfile profile;
+        List<Run> runs;
+
+        public double getMeanCallbacks() {
+            return runs.stream().mapToInt(Run::getCallbacks).average().orElse(0);
+        }
+
+        public double getMeanApiCalls() {
+            return runs.stream().mapToInt(Run::getApiCalls).average().orElse(0);
+        }
+
+        public Duration getMeanAddedLatency() {
+            return Duration.ofMillis((long) stabilized().mapToLong(Duration::toMillis).average().orElse(0));
+        }
+
+        public Duration getP90AddedLatency() {
+            final List<Duration> latencies = stabilized().sorted().collect(Collectors.toList());
+            return latencies.isEmpty() ? Duration.ZERO
+                    : latencies.get((int) Math.ceil(latencies.size() * 0.9) - 1);
+        }
+
+        public long getCappedRuns() {
+            return runs.stream().filter(run -> run.getOutcome() == Outcome.CAPPED).count();
+        }
+
+        public int getMaxPolls() {
+            return runs.stream().filter(run -> run.getOutcome() == Outcome.STABILIZED)
+                    .mapToInt(Run::getPolls).max().orElse(0);
+        }
+
+        private Stream<Duration> stabilized() {
+            return runs.stream().filter(run -> run.getOutcome() == Outcome.STABILIZED).map(Run::getAddedLatency);
+        }
+    }
+
+    // Remaining time of an invocation when the loop starts.
+    @Builder.Default
+    private final Duration invocationBudget = Duration.ofSeconds(60);
+
+    // Reads a re-invocation makes before it gets back to the loop.
+    @Builder.Default
+    private final int readsPerCallback = 1;
+
+    // Weights of the API calls and callbacks against the added latency when picking a profile.
+    @Builder.Default
+    private final Duration apiCallCost = Duration.ofSeconds(1);
+
+    @Builder.Default
+    private final Duration callbackCost = Duration.ofSeconds(5);
+
+    // Simulated time after which a loop is given up, for timelines that never stabilize.
+    @Builder.Default
+    private final Duration timeout = Duration.ofHours(2);
+
+    // Headroom of the recommended maxWaitCount over the most polls a recorded timeline needed.
+    @Builder.Default
+    private final double waitCountHeadroom = 2.0;
+
+    private final Set<String> stableStates;
+
+    /**
+     * Simulate one stabilization loop. Time starts at the first poll, right after the mutating call.
+     *
+     * @param timeline
+     * @param profile
+     *
+     * @return Run
+     */
+    public Run simulate(final StateTimeline timeline, final BackoffProfile profile) {
+        final Duration stabilizedAfter = timeline.stabilizedAfter(stableStates);
+        final Delay delay = profile.toDelay();
+        Duration now = Duration.ZERO;
+        Duration invocationStart = Duration.ZERO;
+        int attempt = 0;
+        int polls = 0;
+        int callbacks = 0;
+        int apiCalls = 0;
+        while (true) {
+            if (polls > profile.getMaxWaitCount()) {
+                return new Run(Outcome.CAPPED, polls, callbacks, apiCalls, null);
+            }
+            apiCalls++;
+            if (stabilizedAfter != null && now.compareTo(stabilizedAfter) >= 0) {
+                return new Run(Outcome.STABILIZED, polls, callbacks, apiCalls, now.minus(stabilizedAfter));
+            }
+            polls++;
+            final Duration next = delay.nextDelay(++attempt);
+            if (next.isZero() || now.plus(next).compareTo(timeout) > 0) {
+                return new Run(Outcome.TIMED_OUT, polls, callbacks, apiCalls, null);
+            }
+            final Duration elapsed = now.minus(invocationStart);
+            final Duration localWait = next.plus(elapsed.multipliedBy(2)).plusMillis(100);
+            now = now.plus(next);
+            if (invocationBudget.minus(elapsed).compareTo(localWait) <= 0) {
+                // The proxy starts the delay over in the next invocation.
+                callbacks++;
+                invocationStart = now;
+                attempt = 0;
+                apiCalls += readsPerCallback;
+            }
+        }
+    }
+
+    /**
+     * Simulate every candidate profile against the timelines of each resource type.
+     *
+     * @param timelines
+     * @param candidates
+     *
+     * @return summaries by resource type, in candidate order
+     */
+    public Map<String, List<Summary>> compare(final List<StateTimeline> timelines,
+                                              final List<BackoffProfile> candidates) {
+        final Map<String, List<StateTimeline>> byType = timelines.stream()
+                .collect(Collectors.groupingBy(StateTimeline::getTypeName, LinkedHashMap::new, Collectors.toList()));
+        final Map<String, List<Summary>> summaries = new LinkedHashMap<>();
+        byType.forEach((typeName, typeTimelines) -> summaries.put(typeName, candidates.stream()
+                .map(profile -> new Summary(typeName, profile, typeTimelines.stream()
+                        .map(timeline -> simulate(timeline, profile))
+                        .collect(Collectors.toList())))
+                .collect(Collectors.toList())));
+        return summaries;
+    }
+
+    /**
+     * Pick the profile of each resource type. Profiles that give up on a timeline before it stabilizes are left out,
+     * the rest are scored by added latency plus the weighted API calls and callbacks. The maxWaitCount of the pick is sized on the
+     * most polls a timeline needed.
+     *
+     * @param summaries
+     *
+     * @return profile by resource type
+     */
+    public Map<String, BackoffProfile> recommend(final Map<String, List<Summary>> summaries) {
+        final Map<String, BackoffProfile> profiles = new LinkedHashMap<>();
+        summaries.forEach((typeName, typeSummaries) -> typeSummaries.stream()
+                .filter(summary -> summary.getCappedRuns() == 0)
+                .min(Comparator.comparingDouble(this::score))
+                .ifPresent(summary -> profiles.put(typeName, summary.getProfile().toBuilder()
+                        .maxWaitCount((int) Math.ceil(Math.max(1, summary.getMaxPolls()) * waitCountHeadroom))
+                        .build())));
+        return profiles;
+    }
+
+    double score(final Summary summary) {
+        return summary.getMeanAddedLatency().toMillis()
+                + summary.getMeanApiCalls() * apiCallCost.toMillis()
+                + summary.getMeanCallbacks() * callbackCost.toMillis();
+    }
+
+    /**
+     * Candidate schedules: constant delays from 5 to 60 seconds, alone and behind a 30 second inline phase.
+     *
+     * @return profiles
+     */
+    public static List<BackoffProfile> defaultCandidates() {
+        final List<BackoffProfile> candidates = new ArrayList<>();
+        for (final long inlineDelay : new long[] {0, 2, 5}) {
+            for (final long delay : new long[] {5, 10, 15, 20, 30, 45, 60}) {
+                candidates.add(BackoffProfile.builder()
+                        .inlineDelay(Duration.ofSeconds(inlineDelay))
+                        .inlineBudget(Duration.ofSeconds(inlineDelay == 0 ? 0 : 30))
+                        .delay(Duration.ofSeconds(delay))
+                        .maxWaitCount(Integer.MAX_VALUE)
+                        .build());
+            }
+        }
+        return candidates;
+    }
+
+    public static List<String> report(final Map<String, List<Summary>> summaries) {
+        final List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-36s %-16s %5s %9s %9s %12s %12s %6s", "typeName", "schedule", "runs",
+                "callbacks", "apiCalls", "addedMean", "addedP90", "capped"));
+        summaries.values().stream().flatMap(List::stream).forEach(summary -> lines.add(String.format(
+                "%-36s %-16s %5d %9.1f %9.1f %11ds %11ds %6d", summary.getTypeName(), schedule(summary.getProfile()),
+                summary.getRuns().size(), summary.getMeanCallbacks(), summary.getMeanApiCalls(),
+                summary.getMeanAddedLatency().getSeconds(), summary.getP90AddedLatency().getSeconds(),
+                summary.getCappedRuns())));
+        return lines;
+    }
+
+    private static String schedule(final BackoffProfile profile) {
+        return profile.isInline()
+                ? String.format("%ds/%ds then %ds", profile.getInlineDelay().getSeconds(),
+                        profile.getInlineBudget().getSeconds(), profile.getDelay().getSeconds())
+                : String.format("%ds", profile.getDelay().getSeconds());
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException(
+                    "Usage: StabilizationSimulator <timelines.jsonl> <backoff-profiles.csv> <stableState,...>");
+        }
+        final StabilizationSimulator simulator = StabilizationSimulator.builder()
+                .stableStates(new HashSet<>(Arrays.asList(args[2].split(","))))
+                .build();
+        final Map<String, List<Summary>> summaries = simulator.compare(StateTimeline.read(Paths.get(args[0])),
+                defaultCandidates());
+        report(summaries).forEach(System.out::println);
+
+        final Path table = Paths.get(args[1]);
+        final Map<String, BackoffProfile> profiles = Files.exists(table)
+                ? BackoffProfiles.parse(Files.readAllLines(table, StandardCharsets.UTF_8)) : new LinkedHashMap<>();
+        profiles.putAll(simulator.recommend(summaries));
+        Files.write(table, BackoffProfiles.format(profiles), StandardCharsets.UTF_8);
+    }
+}
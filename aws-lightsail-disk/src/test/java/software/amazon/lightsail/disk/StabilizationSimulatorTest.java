@@ -0,0 +1,123 @@
+package software.amazon.lightsail.disk;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StabilizationSimulatorTest {
+
+    private static final BackoffProfile CONSTANT = BackoffProfile.builder()
+            .delay(Duration.ofSeconds(20)).maxWaitCount(25).build();
+
+    private static final BackoffProfile INLINE = BackoffProfile.builder()
+            .inlineDelay(Duration.ofSeconds(2)).inlineBudget(Duration.ofSeconds(30))
+            .delay(Duration.ofSeconds(20)).maxWaitCount(25).build();
+
+    private final StabilizationSimulator simulator = StabilizationSimulator.builder()
+            .stableStates(ImmutableSet.of("available"))
+            .build();
+
+    @TempDir
+    Path tempDir;
+
+    private static StateTimeline timeline(final long stabilizedAfterSeconds) {
+        return new StateTimeline(ResourceModel.TYPE_NAME, "create", "disk", ImmutableList.of(
+                new StateTimeline.Transition(Duration.ZERO, "pending"),
+                new StateTimeline.Transition(Duration.ofSeconds(stabilizedAfterSeconds), "available")));
+    }
+
+    @Test
+    public void testSimulate() {
+        // Polls at 0s and 20s, the wait for the 40s poll goes through a callback and the 60s poll sees it stabilized.
+        final StabilizationSimulator.Run run = simulator.simulate(timeline(45), CONSTANT);
+
+        assertThat(run.getOutcome()).isEqualTo(StabilizationSimulator.Outcome.STABILIZED);
+        assertThat(run.getPolls()).isEqualTo(3);
+        assertThat(run.getCallbacks()).isEqualTo(1);
+        assertThat(run.getApiCalls()).isEqualTo(5);
+        assertThat(run.getAddedLatency()).isEqualTo(Duration.ofSeconds(15));
+    }
+
+    @Test
+    public void testSimulate_capped() {
+        final StabilizationSimulator.Run run = simulator.simulate(timeline(45), CONSTANT.toBuilder()
+                .maxWaitCount(2).build());
+
+        assertThat(run.getOutcome()).isEqualTo(StabilizationSimulator.Outcome.CAPPED);
+        assertThat(run.getPolls()).isEqualTo(3);
+        assertThat(run.getAddedLatency()).isNull();
+    }
+
+    @Test
+    public void testSimulate_neverStabilized() {
+        final StateTimeline timeline = new StateTimeline(ResourceModel.TYPE_NAME, "create", "disk",
+                ImmutableList.of(new StateTimeline.Transition(Duration.ZERO, "pending")));
+
+        final StabilizationSimulator.Run run = StabilizationSimulator.builder()
+                .stableStates(ImmutableSet.of("available"))
+                .timeout(Duration.ofMinutes(5))
+                .build()
+                .simulate(timeline, CONSTANT.toBuilder().maxWaitCount(Integer.MAX_VALUE).build());
+
+        assertThat(run.getOutcome()).isEqualTo(StabilizationSimulator.Outcome.TIMED_OUT);
+        assertThat(run.getPolls()).isEqualTo(16);
+    }
+
+    @Test
+    public void testRecommend() {
+        final Map<String, List<StabilizationSimulator.Summary>> summaries = simulator.compare(
+                ImmutableList.of(timeline(4), timeline(8)), ImmutableList.of(CONSTANT, INLINE));
+
+        final StabilizationSimulator.Summary constant = summaries.get(ResourceModel.TYPE_NAME).get(0);
+        assertThat(constant.getMeanApiCalls()).isEqualTo(2);
+        assertThat(constant.getMeanAddedLatency()).isEqualTo(Duration.ofSeconds(14));
+        final StabilizationSimulator.Summary inline = summaries.get(ResourceModel.TYPE_NAME).get(1);
+        assertThat(inline.getMeanApiCalls()).isEqualTo(4);
+        assertThat(inline.getMeanAddedLatency()).isEqualTo(Duration.ZERO);
+        assertThat(inline.getMaxPolls()).isEqualTo(4);
+
+        // Sized at twice the 4 polls of the slowest timeline.
+        assertThat(simulator.recommend(summaries))
+                .containsEntry(ResourceModel.TYPE_NAME, INLINE.toBuilder().maxWaitCount(8).build());
+        assertThat(StabilizationSimulator.report(summaries)).hasSize(3);
+    }
+
+    @Test
+    public void testMain() throws Exception {
+        final Path timelines = tempDir.resolve("timelines.jsonl");
+        Files.write(timelines, ImmutableList.of(
+                "{\"typeName\": \"AWS::Lightsail::Disk\", \"operation\": \"create\", \"resourceName\": \"disk\", "
+                        + "\"transitions\": [{\"offsetSeconds\": 0, \"state\": \"pending\"}, "
+                        + "{\"offsetSeconds\": 41.5, \"state\": \"available\"}]}"), StandardCharsets.UTF_8);
+        final Path table = tempDir.resolve("backoff-profiles.csv");
+        Files.write(table, ImmutableList.of(BackoffProfiles.HEADER, "AWS::Lightsail::Instance,0,0,20,60"),
+                StandardCharsets.UTF_8);
+
+        StabilizationSimulator.main(new String[] {timelines.toString(), table.toString(), "available,in-use"});
+
+        final Map<String, BackoffProfile> profiles = BackoffProfiles.parse(
+                Files.readAllLines(table, StandardCharsets.UTF_8));
+        assertThat(profiles).containsOnlyKeys("AWS::Lightsail::Instance", ResourceModel.TYPE_NAME);
+        assertThat(profiles.get("AWS::Lightsail::Instance").getMaxWaitCount()).isEqualTo(60);
+    }
+
+    @Test
+    public void testStateTimeline() {
+        final StateTimeline timeline = timeline(45);
+
+        assertThat(timeline.stateAt(Duration.ofSeconds(44))).isEqualTo("pending");
+        assertThat(timeline.stateAt(Duration.ofSeconds(45))).isEqualTo("available");
+        assertThat(timeline.stabilizedAfter(ImmutableSet.of("available"))).isEqualTo(Duration.ofSeconds(45));
+        assertThat(timeline.stabilizedAfter(ImmutableSet.of("in-use"))).isNull();
+    }
+}
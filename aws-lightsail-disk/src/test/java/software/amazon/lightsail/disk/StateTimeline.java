@@ -0,0 +1,103 @@
+package software.amazon.lightsail.disk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Value;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * States a resource went through after a mutating call, as extracted from call logs. Offsets are measured from the
+ * mutating call. Timelines are stored as JSON lines, one timeline per line:
+ *
+ * {"typeName": "AWS::Lightsail::Disk", "operation": "create", "resourceName": "disk",
+ *  "transitions": [{"offsetSeconds": 0, "state": "pending"}, {"offsetSeconds": 41, "state": "available"}]}
+ */
+@Value
+public class StateTimeline {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Value
+    public static class Transition {
+        Duration offset;
+        String state;
+    }
+
+    String typeName;
+    String operation;
+    String resourceName;
+    List<Transition> transitions;
+
+    public StateTimeline(final String typeName, final String operation, final String resourceName,
+                         final List<Transition> transitions) {
+        this.typeName = typeName;
+        this.operation = operation;
+        this.resourceName = resourceName;
+        final List<Transition> sorted = new ArrayList<>(transitions);
+        sorted.sort(Comparator.comparing(Transition::getOffset));
+        this.transitions = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * State of the resource at the offset, null before the first transition.
+     *
+     * @param offset
+     *
+     * @return state
+     */
+    public String stateAt(final Duration offset) {
+        String state = null;
+        for (final Transition transition : transitions) {
+            if (transition.getOffset().compareTo(offset) > 0) {
+                break;
+            }
+            state = transition.getState();
+        }
+        return state;
+    }
+
+    /**
+     * Offset of the first transition into one of the stable states.
+     *
+     * @param stableStates
+     *
+     * @return offset, null when the resource never stabilized
+     */
+    public Duration stabilizedAfter(final Set<String> stableStates) {
+        return transitions.stream()
+                .filter(transition -> stableStates.contains(transition.getState()))
+                .map(Transition::getOffset)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public static List<StateTimeline> read(final Path path) throws IOException {
+        final List<StateTimeline> timelines = new ArrayList<>();
+        for (final String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty()) {
+                timelines.add(fromJson(MAPPER.readTree(line)));
+            }
+        }
+        return timelines;
+    }
+
+    private static StateTimeline fromJson(final JsonNode node) {
+        final List<Transition> transitions = new ArrayList<>();
+        for (final JsonNode transition : node.get("transitions")) {
+            transitions.add(new Transition(Duration.ofMillis((long) (transition.get("offsetSeconds").asDouble() * 1000)),
+                    transition.get("state").asText()));
+        }
+        return new StateTimeline(node.get("typeName").asText(), node.path("operation").asText(null),
+                node.path("resourceName").asText(null), transitions);
+    }
+}
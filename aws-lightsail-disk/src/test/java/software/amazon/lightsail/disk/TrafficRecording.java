@@ -0,0 +1,267 @@
+package software.amazon.lightsail.disk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Value;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lightsail calls captured by RecordingProxyClient and served back by ReplayLightsailClient. A recording is stored as
+ * JSON lines, one call per line. Requests and responses are written through their SdkFields, so any call of the
+ * Lightsail model can be recorded without per-call code.
+ */
+public class TrafficRecording {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * A single recorded call, with either its response or the service error it failed with.
+     */
+    @Value
+    public static class Call {
+        String operation;
+        SdkPojo request;
+        SdkPojo response;
+        AwsServiceException error;
+        long latencyMillis;
+    }
+
+    private final List<Call> calls = new ArrayList<>();
+
+    public synchronized void add(final Call call) {
+        calls.add(call);
+    }
+
+    public synchronized List<Call> getCalls() {
+        return Collections.unmodifiableList(new ArrayList<>(calls));
+    }
+
+    /**
+     * Number of calls per operation, in the order the operations were first called.
+     *
+     * @return call counts
+     */
+    public Map<String, Long> getCallCounts() {
+        final Map<String, Long> callCounts = new LinkedHashMap<>();
+        for (final Call call : getCalls()) {
+            callCounts.merge(call.getOperation(), 1L, Long::sum);
+        }
+        return callCounts;
+    }
+
+    public Duration getTotalLatency() {
+        return Duration.ofMillis(getCalls().stream().mapToLong(Call::getLatencyMillis).sum());
+    }
+
+    public void write(final Path path) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        for (final Call call : getCalls()) {
+            lines.add(MAPPER.writeValueAsString(toJson(call)));
+        }
+        Files.write(path, lines, StandardCharsets.UTF_8);
+    }
+
+    public static TrafficRecording read(final Path path) throws IOException {
+        final TrafficRecording recording = new TrafficRecording();
+        for (final String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty()) {
+                recording.add(fromJson(MAPPER.readTree(line)));
+            }
+        }
+        return recording;
+    }
+
+    static String operationName(final Object request) {
+        return request.getClass().getSimpleName().replaceFirst("Request$", "");
+    }
+
+    private static ObjectNode toJson(final Call call) {
+        final ObjectNode node = MAPPER.createObjectNode();
+        node.put("operation", call.getOperation());
+        node.put("latencyMillis", call.getLatencyMillis());
+        node.put("requestType", call.getRequest().getClass().getName());
+        node.set("request", pojoToJson(call.getRequest()));
+        if (call.getError() != null) {
+            final AwsServiceException error = call.getError();
+            final ObjectNode errorNode = MAPPER.createObjectNode();
+            errorNode.put("type", error.getClass().getName());
+            errorNode.put("statusCode", error.statusCode());
+            if (error.awsErrorDetails() != null) {
+                errorNode.put("errorCode", error.awsErrorDetails().errorCode());
+                errorNode.put("errorMessage", error.awsErrorDetails().errorMessage());
+            }
+            node.set("error", errorNode);
+        } else if (call.getResponse() != null) {
+            node.put("responseType", call.getResponse().getClass().getName());
+            node.set("response", pojoToJson(call.getResponse()));
+        }
+        return node;
+    }
+
+    private static Call fromJson(final JsonNode node) {
+        final SdkPojo request = newPojo(node.get("requestType").asText(), node.get("request"));
+        final SdkPojo response = node.has("response")
+                ? newPojo(node.get("responseType").asText(), node.get("response")) : null;
+        final AwsServiceException error = node.has("error") ? newError(node.get("error")) : null;
+        return new Call(node.get("operation").asText(), request, response, error, node.get("latencyMillis").asLong());
+    }
+
+    private static AwsServiceException newError(final JsonNode node) {
+        final AwsServiceException.Builder builder = (AwsServiceException.Builder) invokeBuilder(node.get("type").asText());
+        final String errorMessage = node.hasNonNull("errorMessage") ? node.get("errorMessage").asText() : null;
+        builder.awsErrorDetails(AwsErrorDetails.builder()
+                .errorCode(node.hasNonNull("errorCode") ? node.get("errorCode").asText() : null)
+                .errorMessage(errorMessage).build());
+        builder.statusCode(node.get("statusCode").asInt());
+        builder.message(errorMessage);
+        return builder.build();
+    }
+
+    private static SdkPojo newPojo(final String type, final JsonNode node) {
+        final SdkPojo builder = (SdkPojo) invokeBuilder(type);
+        populate(builder, node);
+        return (SdkPojo) ((Buildable) builder).build();
+    }
+
+    private static Object invokeBuilder(final String type) {
+        try {
+            return Class.forName(type).getMethod("builder").invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(String.format("Can't create a builder for %s", type), e);
+        }
+    }
+
+    private static ObjectNode pojoToJson(final SdkPojo pojo) {
+        final ObjectNode node = MAPPER.createObjectNode();
+        for (final SdkField<?> field : pojo.sdkFields()) {
+            final Object value = field.getValueOrDefault(pojo);
+            if (value != null && !(value instanceof SdkAutoConstructList) && !(value instanceof SdkAutoConstructMap)) {
+                node.set(field.memberName(), valueToJson(field, value));
+            }
+        }
+        return node;
+    }
+
+    private static JsonNode valueToJson(final SdkField<?> field, final Object value) {
+        final MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            return pojoToJson((SdkPojo) value);
+        }
+        if (type == MarshallingType.LIST) {
+            final SdkField<?> memberField = field.getTrait(ListTrait.class).memberFieldInfo();
+            final ArrayNode array = MAPPER.createArrayNode();
+            for (final Object member : (List<?>) value) {
+                array.add(member == null ? null : valueToJson(memberField, member));
+            }
+            return array;
+        }
+        if (type == MarshallingType.MAP) {
+            final SdkField<?> valueField = field.getTrait(MapTrait.class).valueFieldInfo();
+            final ObjectNode map = MAPPER.createObjectNode();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.set(String.valueOf(entry.getKey()),
+                        entry.getValue() == null ? null : valueToJson(valueField, entry.getValue()));
+            }
+            return map;
+        }
+        if (type == MarshallingType.INSTANT) {
+            return MAPPER.getNodeFactory().textNode(value.toString());
+        }
+        if (type == MarshallingType.SDK_BYTES) {
+            return MAPPER.getNodeFactory().textNode(Base64.getEncoder().encodeToString(((SdkBytes) value).asByteArray()));
+        }
+        return MAPPER.valueToTree(value);
+    }
+
+    private static void populate(final SdkPojo builder, final JsonNode node) {
+        for (final SdkField<?> field : builder.sdkFields()) {
+            if (node.hasNonNull(field.memberName())) {
+                field.set(builder, valueFromJson(field, node.get(field.memberName())));
+            }
+        }
+    }
+
+    private static Object valueFromJson(final SdkField<?> field, final JsonNode node) {
+        final MarshallingType<?> type = field.marshallingType();
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        if (type == MarshallingType.SDK_POJO) {
+            final SdkPojo builder = field.constructor().get();
+            populate(builder, node);
+            return ((Buildable) builder).build();
+        }
+        if (type == MarshallingType.LIST) {
+            final SdkField<?> memberField = field.getTrait(ListTrait.class).memberFieldInfo();
+            final List<Object> list = new ArrayList<>();
+            for (final JsonNode member : node) {
+                list.add(valueFromJson(memberField, member));
+            }
+            return list;
+        }
+        if (type == MarshallingType.MAP) {
+            final SdkField<?> valueField = field.getTrait(MapTrait.class).valueFieldInfo();
+            final Map<String, Object> map = new LinkedHashMap<>();
+            final Iterator<Map.Entry<String, JsonNode>> entries = node.fields();
+            while (entries.hasNext()) {
+                final Map.Entry<String, JsonNode> entry = entries.next();
+                map.put(entry.getKey(), valueFromJson(valueField, entry.getValue()));
+            }
+            return map;
+        }
+        if (type == MarshallingType.INSTANT) {
+            return Instant.parse(node.asText());
+        }
+        if (type == MarshallingType.SDK_BYTES) {
+            return SdkBytes.fromByteArray(Base64.getDecoder().decode(node.asText()));
+        }
+        if (type == MarshallingType.INTEGER) {
+            return node.asInt();
+        }
+        if (type == MarshallingType.LONG) {
+            return node.asLong();
+        }
+        if (type == MarshallingType.SHORT) {
+            return (short) node.asInt();
+        }
+        if (type == MarshallingType.DOUBLE) {
+            return node.asDouble();
+        }
+        if (type == MarshallingType.FLOAT) {
+            return (float) node.asDouble();
+        }
+        if (type == MarshallingType.BIG_DECIMAL) {
+            return node.decimalValue();
+        }
+        if (type == MarshallingType.BOOLEAN) {
+            return node.asBoolean();
+        }
+        return node.asText();
+    }
+}
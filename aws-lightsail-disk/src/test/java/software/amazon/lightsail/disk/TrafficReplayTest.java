@@ -0,0 +1,117 @@
+package software.amazon.lightsail.disk;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.lightsail.LightsailClient;
+import software.amazon.awssdk.services.lightsail.model.*;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TrafficReplayTest extends AbstractTestBase {
+
+    private AmazonWebServicesClientProxy proxy;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> deleteRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().diskName("disk").build())
+                .build();
+    }
+
+    private TrafficRecording recordDelete() {
+        final LightsailClient sdkClient = mock(LightsailClient.class);
+        final GetDiskResponse detached = GetDiskResponse.builder()
+                .disk(software.amazon.awssdk.services.lightsail.model.Disk.builder()
+                        .name("disk")
+                        .sizeInGb(32)
+                        .state("available")
+                        .attachmentState("detached")
+                        .tags(Tag.builder().key("key").value("value").build())
+                        .build())
+                .build();
+        when(sdkClient.getDisk(any(GetDiskRequest.class)))
+                .thenReturn(detached, detached)
+                .thenThrow(NotFoundException.builder()
+                        .awsErrorDetails(AwsErrorDetails.builder()
+                                .errorCode("NotFoundException")
+                                .errorMessage("Disk not found")
+                                .build())
+                        .statusCode(400)
+                        .build());
+        when(sdkClient.deleteDisk(any(DeleteDiskRequest.class)))
+                .thenReturn(DeleteDiskResponse.builder().build());
+
+        final TrafficRecording recording = new TrafficRecording();
+        final ProgressEvent<ResourceModel, CallbackContext> response = new DeleteHandler().handleRequest(proxy,
+                deleteRequest(), new CallbackContext(),
+                new RecordingProxyClient(MOCK_PROXY(proxy, sdkClient), recording), logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        return recording;
+    }
+
+    @Test
+    public void testReplay_fromFile() throws Exception {
+        final Path path = tempDir.resolve("delete-disk.jsonl");
+        final TrafficRecording recorded = recordDelete();
+        recorded.write(path);
+
+        final TrafficRecording recording = TrafficRecording.read(path);
+        assertThat(recording.getCalls()).hasSameSizeAs(recorded.getCalls());
+        final GetDiskResponse getDiskResponse = (GetDiskResponse) recording.getCalls().get(0).getResponse();
+        assertThat(getDiskResponse.disk().sizeInGb()).isEqualTo(32);
+        assertThat(getDiskResponse.disk().tags()).containsExactly(Tag.builder().key("key").value("value").build());
+
+        final ReplayLightsailClient replay = ReplayLightsailClient.of(recording, false);
+        final ProgressEvent<ResourceModel, CallbackContext> response = new DeleteHandler().handleRequest(proxy,
+                deleteRequest(), new CallbackContext(), MOCK_PROXY(proxy, replay.client()), logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(replay.isFullyReplayed()).isTrue();
+        assertThat(replay.getCallCounts()).isEqualTo(recorded.getCallCounts());
+        assertThat(replay.getSimulatedLatency()).isEqualTo(recording.getTotalLatency());
+    }
+
+    @Test
+    public void testReplay_unexpectedCall() {
+        final ReplayLightsailClient replay = ReplayLightsailClient.of(recordDelete(), false);
+
+        assertThrows(IllegalStateException.class,
+                () -> replay.client().deleteDisk(DeleteDiskRequest.builder().diskName("disk").build()));
+    }
+
+    @Test
+    public void testReplay_recordedError() {
+        final TrafficRecording recording = recordDelete();
+        final LightsailClient client = ReplayLightsailClient.of(recording, false).client();
+
+        for (final TrafficRecording.Call call : recording.getCalls()) {
+            if ("DeleteDisk".equals(call.getOperation())) {
+                client.deleteDisk(DeleteDiskRequest.builder().build());
+            } else if (call.getError() == null) {
+                client.getDisk(GetDiskRequest.builder().build());
+            } else {
+                assertThrows(NotFoundException.class, () -> client.getDisk(GetDiskRequest.builder().build()));
+            }
+        }
+    }
+}
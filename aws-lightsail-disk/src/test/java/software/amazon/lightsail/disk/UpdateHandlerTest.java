@@ -31,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -84,11 +85,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 .build()))
                         .build()).build());
 
-        when(sdkClient.enableAddOn(any(EnableAddOnRequest.class)))
-                .thenReturn(EnableAddOnResponse.builder().build());
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
-                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+                handler.handleRequest(proxy, request, new CallbackContext(), calls, logger);
 
         val desiredResponse = request.getDesiredResourceState();
         desiredResponse.setPath("");
@@ -101,6 +101,13 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        // AddOn is already enabled.
+        verify(sdkClient, never()).enableAddOn(any(EnableAddOnRequest.class));
+
+        calls.assertCalls(GetDiskRequest.class).atMost(5);
+        calls.assertCalls(TagResourceRequest.class).never();
+        calls.assertCalls(UntagResourceRequest.class).never();
+        calls.assertTotalCalls().atMost(5);
     }
 
     @Test
@@ -129,9 +136,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 .build()))
                         .build()).build());
 
-        when(sdkClient.disableAddOn(any(DisableAddOnRequest.class)))
-                .thenReturn(DisableAddOnResponse.builder().build());
-
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -146,10 +150,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        // AddOn is already disabled.
+        verify(sdkClient, never()).disableAddOn(any(DisableAddOnRequest.class));
     }
 
     @Test
-    public void handleRequest_errorEnableAddOn() {
+    public void handleRequest_SimpleSuccess_EnableAddOn() {
         final UpdateHandler handler = new UpdateHandler();
 
         final ResourceModel model = ResourceModel.builder()
@@ -167,6 +173,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .build();
 
         when(sdkClient.getDisk(any(GetDiskRequest.class))).thenReturn(GetDiskResponse.builder()
+                .disk(Disk.builder().state(DiskState.AVAILABLE)
+                        .addOns(ImmutableList.of(software.amazon.awssdk.services.lightsail.model.AddOn.builder()
+                                .status("Disabled")
+                                .name(AddOnType.AUTO_SNAPSHOT.toString())
+                                .build()))
+                        .build()).build(), GetDiskResponse.builder()
                 .disk(Disk.builder().state(DiskState.AVAILABLE)
                         .addOns(ImmutableList.of(software.amazon.awssdk.services.lightsail.model.AddOn.builder()
                                 .status("Enabled")
@@ -174,6 +186,45 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 .build()))
                         .build()).build());
 
+        when(sdkClient.enableAddOn(any(EnableAddOnRequest.class)))
+                .thenReturn(EnableAddOnResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getErrorCode()).isNull();
+        verify(sdkClient, times(1)).enableAddOn(any(EnableAddOnRequest.class));
+    }
+
+    @Test
+    public void handleRequest_errorEnableAddOn() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .addOns(new ArrayList<>())
+                .state(DiskState.AVAILABLE.name())
+                .addOns(ImmutableList.of(AddOn.builder()
+                        .addOnType(AddOnType.AUTO_SNAPSHOT.toString())
+                        .status("Enabled")
+                        .autoSnapshotAddOnRequest(AutoSnapshotAddOn.builder().build())
+                        .build()))
+                .tags(new HashSet<>()).build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(sdkClient.getDisk(any(GetDiskRequest.class))).thenReturn(GetDiskResponse.builder()
+                .disk(Disk.builder().state(DiskState.AVAILABLE)
+                        .addOns(ImmutableList.of(software.amazon.awssdk.services.lightsail.model.AddOn.builder()
+                                .status("Disabled")
+                                .name(AddOnType.AUTO_SNAPSHOT.toString())
+                                .build()))
+                        .build()).build());
+
         doThrow(AwsServiceException
                 .builder().build())
                 .when(sdkClient).enableAddOn(any(EnableAddOnRequest.class));
@@ -216,11 +267,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 .build()))
                         .build()).build());
 
-        doThrow(InvalidInputException.builder()
-                .awsErrorDetails(AwsErrorDetails.builder().errorMessage("The addOn is already in requested state")
-                        .build())
-                .build()).when(sdkClient).disableAddOn(any(DisableAddOnRequest.class));
-
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -235,6 +281,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(sdkClient, never()).disableAddOn(any(DisableAddOnRequest.class));
     }
 
     @Test
@@ -281,11 +328,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                         .key("key4").build()))
                         .build()).build());
 
-        when(sdkClient.enableAddOn(any(EnableAddOnRequest.class)))
-                .thenReturn(EnableAddOnResponse.builder().build());
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
-                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+                handler.handleRequest(proxy, request, new CallbackContext(), calls, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -304,5 +350,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertNotNull(captor2.getValue().tagKeys());
         assertEquals(5, captor1.getValue().tags().size());
         assertEquals(3, captor2.getValue().tagKeys().size());
+
+        // A tag-only update reads the Disk once per step.
+        calls.assertCalls(GetDiskRequest.class).atMost(5);
+        calls.assertCalls(TagResourceRequest.class).exactly(1);
+        calls.assertCalls(UntagResourceRequest.class).exactly(1);
     }
 }
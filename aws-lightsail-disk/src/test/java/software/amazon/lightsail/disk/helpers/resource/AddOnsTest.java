@@ -12,7 +12,9 @@ import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.AddOnType;
 import software.amazon.awssdk.services.lightsail.model.DisableAddOnRequest;
+import software.amazon.awssdk.services.lightsail.model.Disk;
 import software.amazon.awssdk.services.lightsail.model.EnableAddOnRequest;
+import software.amazon.awssdk.services.lightsail.model.GetDiskResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.LoggerProxy;
@@ -26,6 +28,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -91,4 +94,18 @@ class AddOnsTest {
         testAddOns.update(any(AwsRequest.class));
         verify(sdkClient, times(1)).enableAddOn(any(EnableAddOnRequest.class));
     }
+
+    @Test
+    public void testIsUpdateRequired() {
+        // Desired AddOn status is Disabled.
+        assertThat(testAddOns.isUpdateRequired("Disabled")).isFalse();
+        assertThat(testAddOns.isUpdateRequired("Enabled")).isTrue();
+        assertThat(testAddOns.isUpdateRequired(null)).isTrue();
+    }
+
+    @Test
+    public void testIsStabilizedCreate_addOnNotRequested() {
+        val status = new DiskStatus(GetDiskResponse.builder().disk(Disk.builder().state("pending").build()).build());
+        assertThat(testAddOns.isStabilizedCreate(status)).isTrue();
+    }
 }
@@ -12,8 +12,13 @@ import software.amazon.awssdk.services.lightsail.model.CreateDiskRequest;
 import software.amazon.awssdk.services.lightsail.model.CreateDiskResponse;
 import software.amazon.awssdk.services.lightsail.model.DeleteDiskRequest;
 import software.amazon.awssdk.services.lightsail.model.DeleteDiskResponse;
+import software.amazon.awssdk.services.lightsail.model.DetachDiskRequest;
+import software.amazon.awssdk.services.lightsail.model.DetachDiskResponse;
 import software.amazon.awssdk.services.lightsail.model.GetDiskRequest;
 import software.amazon.awssdk.services.lightsail.model.GetDiskResponse;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateRequest;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateResponse;
+import software.amazon.awssdk.services.lightsail.model.InstanceState;
 import software.amazon.awssdk.services.lightsail.model.NotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -32,6 +37,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.lightsail.disk.AbstractTestBase.MOCK_CREDENTIALS;
 
@@ -157,4 +165,158 @@ class DiskTest {
         assertThat(result).isFalse();
     }
 
+
+    @Test
+    public void testIsStabilizedUpdateInUse() {
+        when(sdkClient.getDisk(any(GetDiskRequest.class)))
+                .thenReturn(GetDiskResponse.builder()
+                        .disk(software.amazon.awssdk.services.lightsail.model.Disk.builder()
+                                .state("in-use").build())
+                        .build());
+        assertThat(testDisk.isStabilizedUpdate()).isTrue();
+    }
+
+    @Test
+    public void testGetStatus() {
+        when(sdkClient.getDisk(any(GetDiskRequest.class)))
+                .thenReturn(GetDiskResponse.builder()
+                        .disk(software.amazon.awssdk.services.lightsail.model.Disk.builder()
+                                .state("available").isAttached(true).attachedTo("testInstance")
+                                .addOns(software.amazon.awssdk.services.lightsail.model.AddOn.builder()
+                                        .name(AddOnType.AUTO_SNAPSHOT.toString()).status("Enabling").build())
+                                .build())
+                        .build());
+        val status = testDisk.getStatus();
+        verify(sdkClient, times(1)).getDisk(any(GetDiskRequest.class));
+        assertThat(status.isStable()).isTrue();
+        assertThat(status.isFree()).isFalse();
+        assertThat(status.isAddOnStable()).isFalse();
+
+        // Every snapshot is a new read, the checks of one poll share it.
+        assertThat(testDisk.isDiskFree(status)).isFalse();
+        assertThat(testDisk.isStabilizedUpdate(status)).isTrue();
+        verify(sdkClient, times(1)).getDisk(any(GetDiskRequest.class));
+        testDisk.getStatus();
+        verify(sdkClient, times(2)).getDisk(any(GetDiskRequest.class));
+    }
+
+
+    @Test
+    public void testIsReadyForDelete_instanceGone() {
+        when(sdkClient.getDisk(any(GetDiskRequest.class)))
+                .thenReturn(GetDiskResponse.builder()
+                        .disk(software.amazon.awssdk.services.lightsail.model.Disk.builder()
+                                .state("in-use").isAttached(true).attachedTo("testInstance").attachmentState("attached")
+                                .build())
+                        .build());
+        doThrow(NotFoundException.class).when(sdkClient).getInstanceState(any(GetInstanceStateRequest.class));
+        assertThat(testDisk.isReadyForDelete(testDisk.getStatus())).isTrue();
+        verify(sdkClient, never()).detachDisk(any(DetachDiskRequest.class));
+    }
+
+    @Test
+    public void testIsReadyForDelete_instanceStopped() {
+        when(sdkClient.getDisk(any(GetDiskRequest.class)))
+                .thenReturn(GetDiskResponse.builder()
+                        .disk(software.amazon.awssdk.services.lightsail.model.Disk.builder()
+                                .state("in-use").isAttached(true).attachedTo("testInstance").attachmentState("attached")
+                                .build())
+                        .build());
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder().state(InstanceState.builder().name("stopped").build()).build());
+        assertThat(testDisk.isReadyForDelete(testDisk.getStatus())).isFalse();
+        verify(sdkClient, never()).detachDisk(any(DetachDiskRequest.class));
+    }
+
+    @Test
+    public void testIsReadyForDelete_instanceShuttingDown() {
+        when(sdkClient.getDisk(any(GetDiskRequest.class)))
+                .thenReturn(GetDiskResponse.builder()
+                        .disk(software.amazon.awssdk.services.lightsail.model.Disk.builder()
+                                .state("in-use").isAttached(true).attachedTo("testInstance").attachmentState("attached")
+                                .build())
+                        .build());
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder().state(InstanceState.builder().name("shutting-down").build()).build());
+        assertThat(testDisk.isReadyForDelete(testDisk.getStatus())).isFalse();
+    }
+
+    @Test
+    public void testIsReadyForDelete_detached() {
+        when(sdkClient.getDisk(any(GetDiskRequest.class)))
+                .thenReturn(GetDiskResponse.builder()
+                        .disk(software.amazon.awssdk.services.lightsail.model.Disk.builder()
+                                .state("in-use").isAttached(false).attachedTo("testInstance").attachmentState("detached")
+                                .build())
+                        .build());
+        assertThat(testDisk.isReadyForDelete(testDisk.getStatus())).isTrue();
+        verify(sdkClient, never()).getInstanceState(any(GetInstanceStateRequest.class));
+    }
+
+    @Test
+    public void testDetachFromStoppedInstance() {
+        when(sdkClient.getDisk(any(GetDiskRequest.class)))
+                .thenReturn(GetDiskResponse.builder()
+                        .disk(software.amazon.awssdk.services.lightsail.model.Disk.builder()
+                                .state("in-use").isAttached(true).attachedTo("testInstance").attachmentState("attached")
+                                .build())
+                        .build());
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder().state(InstanceState.builder().name("stopped").build()).build());
+        when(sdkClient.detachDisk(any(DetachDiskRequest.class))).thenReturn(DetachDiskResponse.builder().build());
+        assertThat(testDisk.detachFromStoppedInstance(DetachDiskRequest.builder().build(), testDisk.getStatus())).isNotNull();
+        verify(sdkClient, times(1)).detachDisk(any(DetachDiskRequest.class));
+    }
+
+    @Test
+    public void testDetachFromStoppedInstance_instanceRunning() {
+        when(sdkClient.getDisk(any(GetDiskRequest.class)))
+                .thenReturn(GetDiskResponse.builder()
+                        .disk(software.amazon.awssdk.services.lightsail.model.Disk.builder()
+                                .state("in-use").isAttached(true).attachedTo("testInstance").attachmentState("attached")
+                                .build())
+                        .build());
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder().state(InstanceState.builder().name("running").build()).build());
+        assertThat(testDisk.detachFromStoppedInstance(DetachDiskRequest.builder().build(), testDisk.getStatus())).isNull();
+        verify(sdkClient, never()).detachDisk(any(DetachDiskRequest.class));
+    }
+
+    @Test
+    public void testDetachFromStoppedInstance_free() {
+        when(sdkClient.getDisk(any(GetDiskRequest.class)))
+                .thenReturn(GetDiskResponse.builder()
+                        .disk(software.amazon.awssdk.services.lightsail.model.Disk.builder()
+                                .state("available").attachmentState("detached").build())
+                        .build());
+        assertThat(testDisk.detachFromStoppedInstance(DetachDiskRequest.builder().build(), testDisk.getStatus())).isNull();
+        verify(sdkClient, never()).getInstanceState(any(GetInstanceStateRequest.class));
+        verify(sdkClient, never()).detachDisk(any(DetachDiskRequest.class));
+    }
+
+    @Test
+    public void testIsReadyForDelete_instanceRunning() {
+        when(sdkClient.getDisk(any(GetDiskRequest.class)))
+                .thenReturn(GetDiskResponse.builder()
+                        .disk(software.amazon.awssdk.services.lightsail.model.Disk.builder()
+                                .state("in-use").isAttached(true).attachedTo("testInstance").attachmentState("attached")
+                                .build())
+                        .build());
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder().state(InstanceState.builder().name("running").build()).build());
+        assertThat(testDisk.isReadyForDelete(testDisk.getStatus())).isFalse();
+        verify(sdkClient, never()).detachDisk(any(DetachDiskRequest.class));
+    }
+
+    @Test
+    public void testIsReadyForDelete_free() {
+        when(sdkClient.getDisk(any(GetDiskRequest.class)))
+                .thenReturn(GetDiskResponse.builder()
+                        .disk(software.amazon.awssdk.services.lightsail.model.Disk.builder()
+                                .state("available").attachmentState("detached").build())
+                        .build());
+        assertThat(testDisk.isReadyForDelete(testDisk.getStatus())).isTrue();
+        verify(sdkClient, never()).getInstanceState(any(GetInstanceStateRequest.class));
+    }
+
 }
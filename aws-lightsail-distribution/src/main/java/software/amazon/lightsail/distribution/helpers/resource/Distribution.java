@@ -10,6 +10,7 @@ import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.lightsail.distribution.Logging;
 import software.amazon.lightsail.distribution.ResourceModel;
 
 /**
@@ -121,16 +122,16 @@ public class Distribution implements ResourceHelper {
         val awsResponse = ((GetDistributionsResponse) this
                 .read(GetDistributionsRequest.builder().distributionName(resourceModel.getDistributionName()).build()));
         val currentState = getCurrentState(awsResponse);
-        logger.log(String.format("Checking if Distribution: %s has stabilized. Current state: %s",
-                resourceModel.getDistributionName(), currentState));
+        Logging.sampled(logger, "Checking if Distribution: %s has stabilized. Current state: %s",
+                resourceModel.getDistributionName(), currentState);
         return ("Deployed".equalsIgnoreCase(currentState));
     }
 
     @Override
     public boolean isStabilizedDelete() {
         final boolean stabilized = false;
-        logger.log(String.format("Checking if Distribution: %s deletion has stabilized.",
-                resourceModel.getDistributionName(), stabilized));
+        Logging.sampled(logger, "Checking if Distribution: %s deletion has stabilized.",
+                resourceModel.getDistributionName());
         try {
             this.read(GetDistributionsRequest.builder().distributionName(resourceModel.getDistributionName()).build());
         } catch (final Exception e) {
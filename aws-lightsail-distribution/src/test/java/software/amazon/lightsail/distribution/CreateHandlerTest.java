@@ -14,6 +14,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.distribution.helpers.handler.DistributionHandler;
+import software.amazon.awssdk.services.lightsail.model.BehaviorEnum;
+import software.amazon.awssdk.services.lightsail.model.CreateDistributionRequest;
+import software.amazon.awssdk.services.lightsail.model.CreateDistributionResponse;
+import software.amazon.awssdk.services.lightsail.model.GetDistributionsRequest;
+import software.amazon.awssdk.services.lightsail.model.GetDistributionsResponse;
+import software.amazon.awssdk.services.lightsail.model.LightsailDistribution;
+import software.amazon.awssdk.services.lightsail.model.UpdateDistributionBundleRequest;
+import software.amazon.awssdk.services.lightsail.model.UpdateDistributionRequest;
+import software.amazon.awssdk.services.lightsail.model.UpdateDistributionResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -86,4 +95,48 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .distributionName("distribution")
+                        .bundleId("small_1_0")
+                        .defaultCacheBehavior(CacheBehavior.builder().behavior("cache").build())
+                        .build())
+                .build();
+    }
+
+    private static GetDistributionsResponse getDistributionsResponse() {
+        return GetDistributionsResponse.builder()
+                .distributions(LightsailDistribution.builder()
+                        .name("distribution")
+                        .bundleId("small_1_0")
+                        .status("Deployed")
+                        .defaultCacheBehavior(software.amazon.awssdk.services.lightsail.model.CacheBehavior.builder()
+                                .behavior(BehaviorEnum.CACHE).build())
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getDistributions(any(GetDistributionsRequest.class)))
+                .thenReturn(GetDistributionsResponse.builder().build())
+                .thenReturn(getDistributionsResponse());
+        when(sdkClient.createDistribution(any(CreateDistributionRequest.class)))
+                .thenReturn(CreateDistributionResponse.builder().build());
+        when(sdkClient.updateDistribution(any(UpdateDistributionRequest.class)))
+                .thenReturn(UpdateDistributionResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(CreateDistributionRequest.class).exactly(1);
+        calls.assertCalls(UpdateDistributionRequest.class).exactly(1);
+        calls.assertCalls(UpdateDistributionBundleRequest.class).never();
+        calls.assertCalls(GetDistributionsRequest.class).atMost(15);
+    }
 }
@@ -14,6 +14,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.distribution.helpers.handler.DistributionHandler;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.lightsail.model.BehaviorEnum;
+import software.amazon.awssdk.services.lightsail.model.DeleteDistributionRequest;
+import software.amazon.awssdk.services.lightsail.model.DeleteDistributionResponse;
+import software.amazon.awssdk.services.lightsail.model.GetDistributionsRequest;
+import software.amazon.awssdk.services.lightsail.model.GetDistributionsResponse;
+import software.amazon.awssdk.services.lightsail.model.LightsailDistribution;
+import software.amazon.awssdk.services.lightsail.model.NotFoundException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -75,4 +83,51 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .distributionName("distribution")
+                        .bundleId("small_1_0")
+                        .defaultCacheBehavior(CacheBehavior.builder().behavior("cache").build())
+                        .build())
+                .build();
+    }
+
+    private static GetDistributionsResponse getDistributionsResponse() {
+        return GetDistributionsResponse.builder()
+                .distributions(LightsailDistribution.builder()
+                        .name("distribution")
+                        .bundleId("small_1_0")
+                        .status("Deployed")
+                        .defaultCacheBehavior(software.amazon.awssdk.services.lightsail.model.CacheBehavior.builder()
+                                .behavior(BehaviorEnum.CACHE).build())
+                        .build())
+                .build();
+    }
+
+    private static NotFoundException notFound() {
+        return NotFoundException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("NotFoundException").build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getDistributions(any(GetDistributionsRequest.class)))
+                .thenReturn(getDistributionsResponse())
+                .thenReturn(getDistributionsResponse())
+                .thenThrow(notFound());
+        when(sdkClient.deleteDistribution(any(DeleteDistributionRequest.class)))
+                .thenReturn(DeleteDistributionResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new DeleteHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(DeleteDistributionRequest.class).exactly(1);
+        calls.assertCalls(GetDistributionsRequest.class).atMost(3);
+    }
 }
@@ -11,6 +11,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import software.amazon.awssdk.services.lightsail.model.BehaviorEnum;
+import software.amazon.awssdk.services.lightsail.model.LightsailDistribution;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -59,4 +61,40 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .distributionName("distribution")
+                        .bundleId("small_1_0")
+                        .defaultCacheBehavior(CacheBehavior.builder().behavior("cache").build())
+                        .build())
+                .build();
+    }
+
+    private static GetDistributionsResponse getDistributionsResponse() {
+        return GetDistributionsResponse.builder()
+                .distributions(LightsailDistribution.builder()
+                        .name("distribution")
+                        .bundleId("small_1_0")
+                        .status("Deployed")
+                        .defaultCacheBehavior(software.amazon.awssdk.services.lightsail.model.CacheBehavior.builder()
+                                .behavior(BehaviorEnum.CACHE).build())
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getDistributions(any(GetDistributionsRequest.class))).thenReturn(getDistributionsResponse());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(GetDistributionsRequest.class).exactly(1);
+        calls.assertTotalCalls().exactly(1);
+    }
 }
@@ -15,6 +15,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.distribution.helpers.resource.Distribution;
+import software.amazon.awssdk.services.lightsail.model.BehaviorEnum;
+import software.amazon.awssdk.services.lightsail.model.GetDistributionsRequest;
+import software.amazon.awssdk.services.lightsail.model.GetDistributionsResponse;
+import software.amazon.awssdk.services.lightsail.model.LightsailDistribution;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -72,4 +76,39 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .distributionName("distribution")
+                        .bundleId("small_1_0")
+                        .defaultCacheBehavior(CacheBehavior.builder().behavior("cache").build())
+                        .build())
+                .build();
+    }
+
+    private static GetDistributionsResponse getDistributionsResponse() {
+        return GetDistributionsResponse.builder()
+                .distributions(LightsailDistribution.builder()
+                        .name("distribution")
+                        .bundleId("small_1_0")
+                        .status("Deployed")
+                        .defaultCacheBehavior(software.amazon.awssdk.services.lightsail.model.CacheBehavior.builder()
+                                .behavior(BehaviorEnum.CACHE).build())
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getDistributions(any(GetDistributionsRequest.class))).thenReturn(getDistributionsResponse());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertTotalCalls().exactly(1);
+    }
 }
@@ -0,0 +1,123 @@
+package software.amazon.lightsail.instance;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.Value;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Size and serialization time of the CallbackContext step state, against the Step keyed maps it replaced. Contexts go
+ * through the same Serializer CloudFormation uses for every callback.
+ *
+ * Run main with the number of iterations to time, e.g.
+ *
+ *   CallbackContextBenchmark 100000
+ */
+public class CallbackContextBenchmark {
+
+    private static final Serializer SERIALIZER = new Serializer();
+
+    /**
+     * Layout of the step state before it was indexed by Step id.
+     */
+    @lombok.Getter
+    @lombok.Setter
+    @lombok.EqualsAndHashCode(callSuper = true)
+    public static class StepMapContext extends StdCallbackContext {
+        private Map<Step, Integer> waitCount = new EnumMap<>(Step.class);
+        private Set<Step> completedSteps = EnumSet.noneOf(Step.class);
+        private Map<Step, Long> stepMillis = new EnumMap<>(Step.class);
+        private Integer maxWaitCount = 60;
+    }
+
+    @Value
+    public static class Result {
+        String layout;
+        int bytes;
+        long serializeNanos;
+        long deserializeNanos;
+    }
+
+    /**
+     * Context of a long running update: every step up to the tags completed, the disk waits polled many times.
+     *
+     * @return CallbackContext
+     */
+    public static CallbackContext longUpdate() {
+        final CallbackContext callbackContext = new CallbackContext();
+        for (final Step step : Step.values()) {
+            if (step.compareTo(Step.TAG_UPDATE) > 0) {
+                break;
+            }
+            callbackContext.completeStep(step);
+            callbackContext.addStepMillis(step, 1500L * (step.ordinal() + 1));
+            for (int i = 0; i < 2 + step.ordinal() * 3; i++) {
+                callbackContext.incrementWaitCount(step);
+            }
+        }
+        return callbackContext;
+    }
+
+    public static StepMapContext toStepMaps(final CallbackContext callbackContext) {
+        final StepMapContext stepMapContext = new StepMapContext();
+        for (final Step step : Step.values()) {
+            if (callbackContext.isStepCompleted(step)) {
+                stepMapContext.getCompletedSteps().add(step);
+            }
+            if (callbackContext.getWaitCount(step) > 0) {
+                stepMapContext.getWaitCount().put(step, callbackContext.getWaitCount(step));
+            }
+            if (callbackContext.getStepMillis(step) > 0) {
+                stepMapContext.getStepMillis().put(step, callbackContext.getStepMillis(step));
+            }
+        }
+        stepMapContext.setMaxWaitCount(callbackContext.getMaxWaitCount());
+        return stepMapContext;
+    }
+
+    public static int serializedBytes(final Object callbackContext) throws IOException {
+        return SERIALIZER.serialize(callbackContext).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    public static <T> Result measure(final String layout, final T callbackContext, final TypeReference<T> type,
+                                     final int iterations) throws IOException {
+        final String json = SERIALIZER.serialize(callbackContext);
+        // Warm up before timing.
+        for (int i = 0; i < Math.min(iterations, 10_000); i++) {
+            SERIALIZER.deserialize(SERIALIZER.serialize(callbackContext), type);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            SERIALIZER.serialize(callbackContext);
+        }
+        final long serializeNanos = (System.nanoTime() - start) / iterations;
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            SERIALIZER.deserialize(json, type);
+        }
+        final long deserializeNanos = (System.nanoTime() - start) / iterations;
+        return new Result(layout, json.getBytes(StandardCharsets.UTF_8).length, serializeNanos, deserializeNanos);
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        final CallbackContext callbackContext = longUpdate();
+        final Result[] results = {
+                measure("step maps", toStepMaps(callbackContext), new TypeReference<StepMapContext>() {},
+                        iterations),
+                measure("id indexed", callbackContext, new TypeReference<CallbackContext>() {}, iterations)
+        };
+        System.out.println(String.format("%-16s %8s %14s %16s", "layout", "bytes", "serialize ns", "deserialize ns"));
+        for (final Result result : results) {
+            System.out.println(String.format("%-16s %8d %14d %16d", result.getLayout(), result.getBytes(),
+                    result.getSerializeNanos(), result.getDeserializeNanos()));
+        }
+    }
+}
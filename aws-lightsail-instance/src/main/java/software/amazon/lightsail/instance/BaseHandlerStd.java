@@ -43,7 +43,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Logger logger) {
 
         return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient), logger);
+                RateLimitedProxyClient.of(proxy.newProxy(ClientBuilder::getClient), request.getAwsAccountId(),
+                        request.getRegion()), logger);
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -72,7 +73,12 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final List<String> ignoreErrorCodes, final Logger logger, final String errorLocation) {
 
         logger.log(String.format("Error during operation: %s, Error message: %s", errorLocation, e.getMessage()));
-        logger.log(Arrays.toString(e.getStackTrace()));
+        // Expected errors are part of the normal flow, their stack traces are only logged at DEBUG.
+        if (isIgnoredError(e, ignoreErrorCodes)) {
+            Logging.debug(logger, () -> Arrays.toString(e.getStackTrace()));
+        } else {
+            logger.log(Arrays.toString(e.getStackTrace()));
+        }
 
         if (e instanceof AwsServiceException) {
             final String errorCode = ((AwsServiceException) e).awsErrorDetails().errorCode();
@@ -115,4 +121,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 HandlerErrorCode.GeneralServiceException);
     }
 
+    private static boolean isIgnoredError(final Exception e, final List<String> ignoreErrorCodes) {
+        return e instanceof AwsServiceException && ((AwsServiceException) e).awsErrorDetails() != null
+                && ignoreErrorCodes.contains(((AwsServiceException) e).awsErrorDetails().errorCode());
+    }
 }
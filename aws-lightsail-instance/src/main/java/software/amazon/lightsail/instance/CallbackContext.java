@@ -1,11 +1,10 @@
 package software.amazon.lightsail.instance;
 
-import com.google.common.collect.ImmutableMap;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 import software.amazon.cloudformation.proxy.delay.Constant;
 
 import java.time.Duration;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
 
 @lombok.Getter
@@ -17,34 +16,76 @@ public class CallbackContext extends StdCallbackContext {
     public static final Constant BACKOFF_DELAY = Constant.of().delay(Duration.ofSeconds(20))
             .timeout(Duration.ofMinutes(25)).build();
 
-    public static String PRE_CHECK_DELETE = "preCheckDelete";
-    public static String PRE_CHECK_CREATE = "preCheckCreate";
-    public static String PRE_CHECK_UPDATE_ATTACH = "preCheckUpdateAttach";
-    public static String PRE_CHECK_UPDATE_DETACH = "preCheckUpdateAttach";
-    public static String PRE_ADDONS_UPDATE = "preCheckUpdateAddOns";
-    public static String PRE_DISK_UPDATE = "preCheckUpdateDisk";
-    public static String PRE_NETWORK_UPDATE = "preCheckUpdateNetwork";
-    public static String PRE_TAG_UPDATE = "preCheckUpdateTag";
+    // Step state is indexed by Step id so the serialized context doesn't repeat step names on every callback.
+    // Completed steps are bits of a long, wait counts and handler times are arrays that grow as steps are reached.
+    private long completedSteps;
 
-    private Map<String, Boolean> isPreCheckDone = new HashMap<>();
+    private int[] stepWaitCount = new int[0];
 
-    private Map<String, Integer> waitCount = new HashMap<>();
+    // Handler time spent in each step, across invocations.
+    private long[] stepMillis = new long[0];
 
     private Integer maxWaitCount = 60;
 
-    public int getWaitCount(final String key) {
-        return this.waitCount.getOrDefault(key, 0);
+    public int getWaitCount(final Step step) {
+        return step.getId() < this.stepWaitCount.length ? this.stepWaitCount[step.getId()] : 0;
     }
 
-    public void incrementWaitCount(final String key) {
-        this.waitCount.put(key, getWaitCount(key) + 1);
+    public void incrementWaitCount(final Step step) {
+        if (step.getId() >= this.stepWaitCount.length) {
+            this.stepWaitCount = Arrays.copyOf(this.stepWaitCount, step.getId() + 1);
+        }
+        this.stepWaitCount[step.getId()]++;
     }
 
-    public boolean isWaitCountReached(final String key) {
-        return this.getWaitCount(key) > this.maxWaitCount;
+    public boolean isWaitCountReached(final Step step) {
+        return this.getWaitCount(step) > this.maxWaitCount;
     }
 
-    public boolean getIsPreCheckDone(final String key) {
-        return this.isPreCheckDone.getOrDefault(key, false);
+    public boolean isStepCompleted(final Step step) {
+        return (this.completedSteps & bit(step)) != 0;
+    }
+
+    public void completeStep(final Step step) {
+        this.completedSteps |= bit(step);
+    }
+
+    public long getStepMillis(final Step step) {
+        return step.getId() < this.stepMillis.length ? this.stepMillis[step.getId()] : 0;
+    }
+
+    public void addStepMillis(final Step step, final long millis) {
+        if (step.getId() >= this.stepMillis.length) {
+            this.stepMillis = Arrays.copyOf(this.stepMillis, step.getId() + 1);
+        }
+        this.stepMillis[step.getId()] += millis;
+    }
+
+    /**
+     * Read the wait counts of a context written with String keys, by a request in flight during the deployment.
+     *
+     * @param waitCount wait count per legacy key
+     */
+    public void setWaitCount(final Map<String, Integer> waitCount) {
+        waitCount.forEach((key, count) -> Arrays.stream(Step.fromLegacyKey(key))
+                .forEach(step -> {
+                    for (int i = getWaitCount(step); i < count; i++) {
+                        incrementWaitCount(step);
+                    }
+                }));
+    }
+
+    /**
+     * Read the pre checks done of a context written with String keys, a pre check that is done is a completed step.
+     *
+     * @param isPreCheckDone pre check done per legacy key
+     */
+    public void setIsPreCheckDone(final Map<String, Boolean> isPreCheckDone) {
+        isPreCheckDone.forEach((key, done) -> Arrays.stream(Step.fromLegacyKey(key))
+                .filter(step -> Boolean.TRUE.equals(done)).forEach(this::completeStep));
+    }
+
+    private static long bit(final Step step) {
+        return 1L << step.getId();
     }
 }
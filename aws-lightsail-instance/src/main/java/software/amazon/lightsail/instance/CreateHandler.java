@@ -9,6 +9,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.lightsail.instance.helpers.handler.InstanceHandler;
+import software.amazon.lightsail.instance.helpers.handler.StepPipeline;
 import software.amazon.lightsail.instance.helpers.resource.Instance;
 
 /**
@@ -33,7 +34,10 @@ public class CreateHandler extends BaseHandlerStd {
                 resourceModel.setAvailabilityZone(instance.getFirstAvailabilityZone());
             }
             return ProgressEvent.progress(resourceModel, progress.getCallbackContext());
-        }).then(instanceHandler::handleCreate).then(progress -> {
+        }).then(progress -> StepPipeline.of(logger)
+                .step(Step.CREATE_PRE_CHECK, instanceHandler::preCreate)
+                .step(Step.CREATE, instanceHandler::create)
+                .run(progress)).then(progress -> {
             // Always go via update handler. What ever not get done in create will be updated in update
             // Handler
             return new UpdateHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
@@ -8,6 +8,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.lightsail.instance.helpers.handler.InstanceHandler;
+import software.amazon.lightsail.instance.helpers.handler.StepPipeline;
 
 /**
  * Delete Handler will deal with deleting the Lightsail Instance created using the CloudFormation stack.
@@ -23,7 +24,10 @@ public class DeleteHandler extends BaseHandlerStd {
                 proxyClient, request);
         this.logger = logger;
 
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(instanceHandler::handleDelete).then(progress -> ProgressEvent.defaultSuccessHandler(null));
+        return StepPipeline.of(logger)
+                .step(Step.DELETE_PRE_CHECK, instanceHandler::preDelete)
+                .step(Step.DELETE, instanceHandler::delete)
+                .run(ProgressEvent.progress(request.getDesiredResourceState(), callbackContext))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
 }
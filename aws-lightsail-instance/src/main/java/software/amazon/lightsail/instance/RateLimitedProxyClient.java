@@ -0,0 +1,211 @@
+package software.amazon.lightsail.instance;
+
+import com.google.common.collect.ImmutableSet;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.lightsail.LightsailClient;
+import software.amazon.awssdk.services.lightsail.model.GetDiskRequest;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceRequest;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateRequest;
+import software.amazon.awssdk.services.lightsail.model.GetInstancesRequest;
+import software.amazon.awssdk.services.lightsail.model.GetRegionsRequest;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * ProxyClient that passes every Lightsail call through a token bucket. The buckets are kept for the warm container and
+ * shared by the invocations of the same account and region, so the rate learned from throttling carries over from one
+ * callback to the next. Reads and writes have separate budgets, so that stabilization polls can't use up the budget of
+ * the mutating calls.
+ *
+ * Reads are idempotent and are retried on throttling and 5xx errors, with decorrelated jitter and a retry budget per
+ * invocation. Mutating calls are never retried here, retrying them is left to CloudFormation.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class RateLimitedProxyClient implements ProxyClient<LightsailClient> {
+
+    static final double READ_RATE = 8;
+    static final double READ_CAPACITY = 16;
+    static final double WRITE_RATE = 2;
+    static final double WRITE_CAPACITY = 4;
+
+    static final int READ_RETRY_BUDGET = 5;
+    static final Duration READ_RETRY_BASE_DELAY = Duration.ofMillis(200);
+    static final Duration READ_RETRY_MAX_DELAY = Duration.ofSeconds(5);
+
+    // The Lightsail calls of this handler that only read.
+    static final Set<Class<? extends AwsRequest>> READ_REQUESTS = ImmutableSet.of(
+            GetDiskRequest.class,
+            GetInstanceRequest.class,
+            GetInstanceStateRequest.class,
+            GetInstancesRequest.class,
+            GetRegionsRequest.class);
+
+    // Buckets of the warm container, keyed by account and region.
+    private static final ConcurrentMap<String, TokenBucket> READ_BUCKETS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, TokenBucket> WRITE_BUCKETS = new ConcurrentHashMap<>();
+
+    private final ProxyClient<LightsailClient> proxyClient;
+
+    private final TokenBucket readBucket;
+
+    private final TokenBucket writeBucket;
+
+    // Read retries left for this invocation.
+    private int readRetryBudget = READ_RETRY_BUDGET;
+
+    static ProxyClient<LightsailClient> of(final ProxyClient<LightsailClient> proxyClient, final String accountId,
+                                           final String region) {
+        return new RateLimitedProxyClient(proxyClient, getReadBucket(accountId, region),
+                getWriteBucket(accountId, region));
+    }
+
+    static TokenBucket getReadBucket(final String accountId, final String region) {
+        return READ_BUCKETS.computeIfAbsent(bucketKey(accountId, region),
+                key -> new TokenBucket(READ_RATE, READ_CAPACITY));
+    }
+
+    static TokenBucket getWriteBucket(final String accountId, final String region) {
+        return WRITE_BUCKETS.computeIfAbsent(bucketKey(accountId, region),
+                key -> new TokenBucket(WRITE_RATE, WRITE_CAPACITY));
+    }
+
+    private static String bucketKey(final String accountId, final String region) {
+        return accountId + "/" + region;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+        if (!isRead(request)) {
+            return invoke(request, requestFunction);
+        }
+        Duration retryDelay = READ_RETRY_BASE_DELAY;
+        while (true) {
+            try {
+                return invoke(request, requestFunction);
+            } catch (final AwsServiceException e) {
+                if (!isTransient(e) || readRetryBudget <= 0) {
+                    throw e;
+                }
+                readRetryBudget--;
+                retryDelay = nextRetryDelay(retryDelay);
+                sleep(retryDelay);
+            }
+        }
+    }
+
+    private <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT invoke(
+            final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+        final TokenBucket bucket = getBucket(request);
+        bucket.acquire();
+        try {
+            final ResponseT response = proxyClient.injectCredentialsAndInvokeV2(request, requestFunction);
+            bucket.onSuccess();
+            return response;
+        } catch (final AwsServiceException e) {
+            if (e.isThrottlingException()) {
+                bucket.onThrottle();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(final RequestT request,
+                                      final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        getBucket(request).acquire();
+        return proxyClient.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+    IterableT injectCredentialsAndInvokeIterableV2(final RequestT request,
+                                                   final Function<RequestT, IterableT> requestFunction) {
+        getBucket(request).acquire();
+        return proxyClient.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+    injectCredentialsAndInvokeV2InputStream(final RequestT request,
+                                            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        getBucket(request).acquire();
+        return proxyClient.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+    injectCredentialsAndInvokeV2Bytes(final RequestT request,
+                                      final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        getBucket(request).acquire();
+        return proxyClient.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public LightsailClient client() {
+        return proxyClient.client();
+    }
+
+    private TokenBucket getBucket(final AwsRequest request) {
+        return isRead(request) ? readBucket : writeBucket;
+    }
+
+    /**
+     * Decorrelated jitter, the next delay is picked between the base delay and three times the previous delay.
+     *
+     * @param previous
+     *
+     * @return Duration
+     */
+    static Duration nextRetryDelay(final Duration previous) {
+        final long base = READ_RETRY_BASE_DELAY.toMillis();
+        final long upper = Math.max(base, previous.toMillis() * 3);
+        final long delay = base + ThreadLocalRandom.current().nextLong(upper - base + 1);
+        return Duration.ofMillis(Math.min(READ_RETRY_MAX_DELAY.toMillis(), delay));
+    }
+
+    /**
+     * Throttling and server side errors are transient, anything else would fail the same way again.
+     *
+     * @param e
+     *
+     * @return boolean
+     */
+    static boolean isTransient(final AwsServiceException e) {
+        return e.isThrottlingException() || e.statusCode() >= 500;
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Only the calls listed in READ_REQUESTS are reads, anything else is treated as changing a resource.
+     *
+     * @param request
+     *
+     * @return boolean
+     */
+    static boolean isRead(final AwsRequest request) {
+        return READ_REQUESTS.contains(request.getClass());
+    }
+}
@@ -0,0 +1,53 @@
+package software.amazon.lightsail.instance;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * Steps of the Instance handlers. The progress of a request is recorded in the CallbackContext per Step, each step
+ * has its own constant so two steps can't end up sharing their wait count or completion.
+ *
+ * The CallbackContext stores steps by id, as bits of a long, so the context of a request in flight during a
+ * deployment keeps its meaning whatever the order of the steps. Never change or reuse an id, give a new step the next
+ * free one and keep the ids below 64. The legacy key is the wait count key of the String keyed context, which is still
+ * read.
+ */
+@RequiredArgsConstructor
+public enum Step {
+    CREATE_PRE_CHECK(0, "preCheckCreate"),
+    CREATE(1, null),
+    ADD_ONS_PRE_CHECK(2, "preCheckUpdateAddOns"),
+    ADD_ONS_UPDATE(3, null),
+    NETWORK_PRE_CHECK(4, "preCheckUpdateNetwork"),
+    NETWORK_UPDATE(5, null),
+    DISK_PRE_CHECK(6, "preCheckUpdateDisk"),
+    DISK_UPDATE(7, null),
+    // The String keyed context used the same key for the pre attach and pre detach checks.
+    DISK_PRE_DETACH(8, "preCheckUpdateAttach"),
+    DISK_DETACH(9, null),
+    DISK_POST_DETACH(10, null),
+    DISK_PRE_ATTACH(11, "preCheckUpdateAttach"),
+    DISK_ATTACH(12, null),
+    TAG_PRE_CHECK(13, "preCheckUpdateTag"),
+    TAG_UPDATE(14, null),
+    DELETE_PRE_CHECK(15, "preCheckDelete"),
+    DELETE(16, null);
+
+    @Getter
+    private final int id;
+    private final String legacyKey;
+
+    /**
+     * Get the steps that a wait count key of the String keyed context stood for.
+     *
+     * @param legacyKey
+     *
+     * @return Steps, empty if the key is unknown
+     */
+    public static Step[] fromLegacyKey(final String legacyKey) {
+        return Arrays.stream(values()).filter(step -> step.legacyKey != null && step.legacyKey.equals(legacyKey))
+                .toArray(Step[]::new);
+    }
+}
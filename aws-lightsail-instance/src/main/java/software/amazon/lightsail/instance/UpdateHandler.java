@@ -10,6 +10,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.lightsail.instance.helpers.handler.AddOnsHandler;
 import software.amazon.lightsail.instance.helpers.handler.DiskHandler;
 import software.amazon.lightsail.instance.helpers.handler.NetworkHandler;
+import software.amazon.lightsail.instance.helpers.handler.StepPipeline;
 import software.amazon.lightsail.instance.helpers.handler.TagsHandler;
 
 /**
@@ -32,9 +33,17 @@ public class UpdateHandler extends BaseHandlerStd {
         val tagsHandler = new TagsHandler(proxy, callbackContext, request.getDesiredResourceState(), logger,
                 proxyClient, request);
 
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(addOnHandler::handleUpdate).then(networkHandler::handleUpdate).then(diskHandler::handleUpdate)
-                .then(tagsHandler::handleUpdate).then(progress -> new ReadHandler().handleRequest(proxy, request,
-                        callbackContext, proxyClient, logger));
+        return StepPipeline.of(logger)
+                .step(Step.ADD_ONS_PRE_CHECK, addOnHandler::preUpdate)
+                .step(Step.ADD_ONS_UPDATE, addOnHandler::update)
+                .step(Step.NETWORK_PRE_CHECK, networkHandler::preUpdate)
+                .step(Step.NETWORK_UPDATE, progress -> !networkHandler.isUpdateRequired(), networkHandler::update)
+                .step(Step.DISK_PRE_CHECK, diskHandler::preUpdate)
+                .step(Step.DISK_UPDATE, diskHandler::update)
+                .step(Step.TAG_PRE_CHECK, tagsHandler::preUpdate)
+                .step(Step.TAG_UPDATE, tagsHandler::update)
+                .run(ProgressEvent.progress(request.getDesiredResourceState(), callbackContext))
+                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient,
+                        logger));
     }
 }
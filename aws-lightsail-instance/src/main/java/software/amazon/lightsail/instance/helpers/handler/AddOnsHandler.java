@@ -11,6 +11,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.lightsail.instance.CallbackContext;
 import software.amazon.lightsail.instance.ResourceModel;
+import software.amazon.lightsail.instance.Step;
 import software.amazon.lightsail.instance.Translator;
 import software.amazon.lightsail.instance.helpers.resource.AddOns;
 import software.amazon.lightsail.instance.helpers.resource.Instance;
@@ -29,7 +30,7 @@ public class AddOnsHandler extends ResourceHandler {
     private final ResourceHandlerRequest<ResourceModel> resourceModelRequest;
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> preUpdate(
+    public ProgressEvent<ResourceModel, CallbackContext> preUpdate(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         val instance = new Instance(resourceModel, logger, proxyClient, resourceModelRequest);
         logger.log("Executing AWS-Lightsail-Instance::Update::AddOnPreCheck...");
@@ -39,7 +40,7 @@ public class AddOnsHandler extends ResourceHandler {
                 .translateToServiceRequest(Translator::translateToReadRequest).backoffDelay(BACKOFF_DELAY)
                 .makeServiceCall((awsRequest, client) -> instance.read(awsRequest))
                 .stabilize((awsRequest, awsResponse, client, model,
-                        context) -> this.isStabilized(this.callbackContext, PRE_ADDONS_UPDATE)
+                        context) -> this.isStabilized(this.callbackContext, Step.ADD_ONS_PRE_CHECK)
                                 || instance.isStabilizedUpdate())
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
@@ -47,7 +48,7 @@ public class AddOnsHandler extends ResourceHandler {
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> update(
+    public ProgressEvent<ResourceModel, CallbackContext> update(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         val addOn = new AddOns(resourceModel, logger, proxyClient, resourceModelRequest);
         logger.log("Executing AWS-Lightsail-Instance::Update::AddOn...");
@@ -68,21 +69,21 @@ public class AddOnsHandler extends ResourceHandler {
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> delete(
+    public ProgressEvent<ResourceModel, CallbackContext> delete(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         // No Delete Happening for AddOns Separately. Only Enable/Disable those will be taken care in update.
         throw new UnsupportedOperationException();
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> preDelete(
+    public ProgressEvent<ResourceModel, CallbackContext> preDelete(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         // No Delete Happening for AddOns Separately. Only Enable/Disable those will be taken care in update.
         throw new UnsupportedOperationException();
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> create(
+    public ProgressEvent<ResourceModel, CallbackContext> create(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         // No Create Happening for AddOns Separately.
         // We create Instance/Disk along with AddOns.
@@ -90,7 +91,7 @@ public class AddOnsHandler extends ResourceHandler {
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> preCreate(
+    public ProgressEvent<ResourceModel, CallbackContext> preCreate(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         // No Create Happening for AddOns Separately.
         // We create Instance/Disk along with AddOns.
@@ -13,14 +13,12 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.lightsail.instance.CallbackContext;
 import software.amazon.lightsail.instance.ResourceModel;
+import software.amazon.lightsail.instance.Step;
 import software.amazon.lightsail.instance.Translator;
 import software.amazon.lightsail.instance.helpers.resource.Disk;
 import software.amazon.lightsail.instance.helpers.resource.Instance;
 import static software.amazon.lightsail.instance.BaseHandlerStd.handleError;
 import static software.amazon.lightsail.instance.CallbackContext.BACKOFF_DELAY;
-import static software.amazon.lightsail.instance.CallbackContext.PRE_CHECK_UPDATE_ATTACH;
-import static software.amazon.lightsail.instance.CallbackContext.PRE_CHECK_UPDATE_DETACH;
-import static software.amazon.lightsail.instance.CallbackContext.PRE_DISK_UPDATE;
 
 @RequiredArgsConstructor
 public class DiskHandler extends ResourceHandler {
@@ -33,7 +31,7 @@ public class DiskHandler extends ResourceHandler {
     private final ResourceHandlerRequest<ResourceModel> resourceModelRequest;
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> preUpdate(
+    public ProgressEvent<ResourceModel, CallbackContext> preUpdate(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         val instance = new Instance(resourceModel, logger, proxyClient, resourceModelRequest);
         logger.log("Executing AWS-Lightsail-Instance::Update::DiskPreCheck...");
@@ -43,7 +41,7 @@ public class DiskHandler extends ResourceHandler {
                 .translateToServiceRequest(Translator::translateToReadRequest).backoffDelay(BACKOFF_DELAY)
                 .makeServiceCall((awsRequest, client) -> instance.read(awsRequest))
                 .stabilize((awsRequest, awsResponse, client, model,
-                        context) -> this.isStabilized(this.callbackContext, PRE_DISK_UPDATE)
+                        context) -> this.isStabilized(this.callbackContext, Step.DISK_PRE_CHECK)
                                 || instance.isStabilizedUpdate())
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
@@ -51,36 +49,41 @@ public class DiskHandler extends ResourceHandler {
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> update(
+    public ProgressEvent<ResourceModel, CallbackContext> update(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         // do detach the disk before attach.
-        return preDetachDisk(progress).then(this::detachDisk).then(this::postDetachDisk).then(this::preAttachDisk)
-                .then(this::attachDisk);
+        return StepPipeline.of(logger)
+                .step(Step.DISK_PRE_DETACH, this::preDetachDisk)
+                .step(Step.DISK_DETACH, this::detachDisk)
+                .step(Step.DISK_POST_DETACH, this::postDetachDisk)
+                .step(Step.DISK_PRE_ATTACH, this::preAttachDisk)
+                .step(Step.DISK_ATTACH, this::attachDisk)
+                .run(progress);
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> preCreate(
+    public ProgressEvent<ResourceModel, CallbackContext> preCreate(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         // Create/Delete for the disks won't happen here, it will happen in its own resource.
         throw new UnsupportedOperationException();
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> create(
+    public ProgressEvent<ResourceModel, CallbackContext> create(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         // Create/Delete for the disks won't happen here, it will happen in its own resource.
         throw new UnsupportedOperationException();
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> preDelete(
+    public ProgressEvent<ResourceModel, CallbackContext> preDelete(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         // Create/Delete for the disks won't happen here, it will happen in its own resource.
         throw new UnsupportedOperationException();
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> delete(
+    public ProgressEvent<ResourceModel, CallbackContext> delete(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         // Create/Delete for the disks won't happen here, it will happen in its own resource.
         throw new UnsupportedOperationException();
@@ -117,7 +120,7 @@ public class DiskHandler extends ResourceHandler {
                         val instanceFree = instance.isStabilizedUpdate();
                         if (!(diskFree && instanceFree)) {
                             // wait for max wait time and then return true.
-                            return this.isStabilized(this.callbackContext, PRE_CHECK_UPDATE_ATTACH);
+                            return this.isStabilized(this.callbackContext, Step.DISK_PRE_ATTACH);
                         }
                     }
                     return true;
@@ -176,7 +179,7 @@ public class DiskHandler extends ResourceHandler {
                     return StopInstanceResponse.builder().build();
                 })
                 .stabilize((awsRequest, awsResponse, client, model,
-                        context) -> this.isStabilized(this.callbackContext, PRE_CHECK_UPDATE_DETACH)
+                        context) -> this.isStabilized(this.callbackContext, Step.DISK_PRE_DETACH)
                                 || instance.isStabilizedUpdate())
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
@@ -14,6 +14,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.lightsail.instance.CallbackContext;
 import software.amazon.lightsail.instance.ResourceModel;
+import software.amazon.lightsail.instance.Step;
 import software.amazon.lightsail.instance.Translator;
 import software.amazon.lightsail.instance.helpers.resource.Instance;
 
@@ -21,8 +22,6 @@ import static software.amazon.lightsail.instance.BaseHandlerStd.InvalidInputExce
 import static software.amazon.lightsail.instance.BaseHandlerStd.NotFoundException;
 import static software.amazon.lightsail.instance.BaseHandlerStd.handleError;
 import static software.amazon.lightsail.instance.CallbackContext.BACKOFF_DELAY;
-import static software.amazon.lightsail.instance.CallbackContext.PRE_CHECK_CREATE;
-import static software.amazon.lightsail.instance.CallbackContext.PRE_CHECK_DELETE;
 
 @RequiredArgsConstructor
 public class InstanceHandler extends ResourceHandler {
@@ -39,13 +38,10 @@ public class InstanceHandler extends ResourceHandler {
      * Instances and check if we are getting NotFoundException. If no error is returned then Instance already present.
      */
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> preCreate(
+    public ProgressEvent<ResourceModel, CallbackContext> preCreate(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
 
         val instance = new Instance(resourceModel, logger, proxyClient, resourceModelRequest);
-        if (callbackContext.getIsPreCheckDone(PRE_CHECK_CREATE)) {
-            return progress;
-        }
         logger.log("Executing AWS-Lightsail-Instance::Create::PreInstanceCheck...");
         return proxy
                 .initiate("AWS-Lightsail-Instance::Create::PreInstanceCheck", proxyClient, progress.getResourceModel(),
@@ -54,12 +50,10 @@ public class InstanceHandler extends ResourceHandler {
                     instance.read(awsRequest);
                     throw new CfnAlreadyExistsException(ResourceType.INSTANCE.toString(),
                             ((GetInstanceRequest) awsRequest).instanceName());
-                }).handleError((awsRequest, exception, client, model, context) -> {
-                    callbackContext.getIsPreCheckDone().put(PRE_CHECK_CREATE, true);
-                    return handleError(exception, model, callbackContext,
-                            ImmutableList.of(InvalidInputException, NotFoundException), logger,
-                            this.getClass().getSimpleName());
-                }).progress();
+                }).handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
+                        callbackContext, ImmutableList.of(InvalidInputException, NotFoundException), logger,
+                        this.getClass().getSimpleName()))
+                .progress();
     }
 
     /**
@@ -67,7 +61,7 @@ public class InstanceHandler extends ResourceHandler {
      * Lightsail create Instance call. If any Error then throw back that as the CloudFormation exception.
      */
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> create(
+    public ProgressEvent<ResourceModel, CallbackContext> create(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         val instance = new Instance(resourceModel, logger, proxyClient, resourceModelRequest);
         logger.log("Executing AWS-Lightsail-Instance::InstanceCreate...");
@@ -88,7 +82,7 @@ public class InstanceHandler extends ResourceHandler {
      * the stack. Throw exceptions if there is any exception getting the stack.
      */
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> preDelete(
+    public ProgressEvent<ResourceModel, CallbackContext> preDelete(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         val instance = new Instance(resourceModel, logger, proxyClient, resourceModelRequest);
         logger.log("Executing AWS-Lightsail-Instance::Delete::PreInstanceDelete...");
@@ -98,7 +92,7 @@ public class InstanceHandler extends ResourceHandler {
                 .translateToServiceRequest(Translator::translateToReadRequest).backoffDelay(BACKOFF_DELAY)
                 .makeServiceCall((awsRequest, client) -> instance.read(awsRequest))
                 .stabilize((awsRequest, awsResponse, client, model,
-                        context) -> this.isStabilized(this.callbackContext, PRE_CHECK_DELETE)
+                        context) -> this.isStabilized(this.callbackContext, Step.DELETE_PRE_CHECK)
                                 || instance.isStabilizedUpdate())
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
@@ -109,7 +103,7 @@ public class InstanceHandler extends ResourceHandler {
      * Make delete Instance call to delete Lightsail Instances. Stabilize and check if the Instance is gone.
      */
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> delete(
+    public ProgressEvent<ResourceModel, CallbackContext> delete(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         val instance = new Instance(resourceModel, logger, proxyClient, resourceModelRequest);
         logger.log("Executing AWS-Lightsail-Instance::InstanceDelete...");
@@ -125,14 +119,14 @@ public class InstanceHandler extends ResourceHandler {
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> preUpdate(
+    public ProgressEvent<ResourceModel, CallbackContext> preUpdate(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         // Each resource of the Instance has its own update. Instance itself doesn't have its own update.
         throw new UnsupportedOperationException();
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> update(
+    public ProgressEvent<ResourceModel, CallbackContext> update(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         // Each resource of the Instance has its own update. Instance itself doesn't have its own update.
         throw new UnsupportedOperationException();
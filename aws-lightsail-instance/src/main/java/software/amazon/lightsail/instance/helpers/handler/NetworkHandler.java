@@ -11,13 +11,13 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.lightsail.instance.CallbackContext;
 import software.amazon.lightsail.instance.ResourceModel;
+import software.amazon.lightsail.instance.Step;
 import software.amazon.lightsail.instance.Translator;
 import software.amazon.lightsail.instance.helpers.resource.Instance;
 import software.amazon.lightsail.instance.helpers.resource.Networking;
 
 import static software.amazon.lightsail.instance.BaseHandlerStd.handleError;
 import static software.amazon.lightsail.instance.CallbackContext.BACKOFF_DELAY;
-import static software.amazon.lightsail.instance.CallbackContext.PRE_NETWORK_UPDATE;
 
 @RequiredArgsConstructor
 public class NetworkHandler extends ResourceHandler {
@@ -30,7 +30,7 @@ public class NetworkHandler extends ResourceHandler {
     private final ResourceHandlerRequest<ResourceModel> resourceModelRequest;
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> preUpdate(
+    public ProgressEvent<ResourceModel, CallbackContext> preUpdate(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         val instance = new Instance(resourceModel, logger, proxyClient, resourceModelRequest);
         logger.log("Executing AWS-Lightsail-Instance::Update::PreNetworkCheck...");
@@ -40,7 +40,7 @@ public class NetworkHandler extends ResourceHandler {
                 .translateToServiceRequest(Translator::translateToReadRequest).backoffDelay(BACKOFF_DELAY)
                 .makeServiceCall((awsRequest, client) -> instance.read(awsRequest))
                 .stabilize((awsRequest, awsResponse, client, model,
-                        context) -> this.isStabilized(this.callbackContext, PRE_NETWORK_UPDATE)
+                        context) -> this.isStabilized(this.callbackContext, Step.NETWORK_PRE_CHECK)
                                 || instance.isStabilizedUpdate())
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
@@ -48,7 +48,7 @@ public class NetworkHandler extends ResourceHandler {
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> update(
+    public ProgressEvent<ResourceModel, CallbackContext> update(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         val instance = new Instance(resourceModel, logger, proxyClient, resourceModelRequest);
         val network = new Networking(resourceModel, logger, proxyClient, resourceModelRequest);
@@ -64,29 +64,38 @@ public class NetworkHandler extends ResourceHandler {
                 .progress();
     }
 
+    /**
+     * Ports are only put when the model has some, without ports the update has nothing to do.
+     *
+     * @return boolean
+     */
+    public boolean isUpdateRequired() {
+        return new Networking(resourceModel, logger, proxyClient, resourceModelRequest).needPortUpdate();
+    }
+
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> preDelete(
+    public ProgressEvent<ResourceModel, CallbackContext> preDelete(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         // No Create/Delete for Network. We do everything in update Add or Remove ports.
         throw new UnsupportedOperationException();
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> create(
+    public ProgressEvent<ResourceModel, CallbackContext> create(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         // No Create/Delete for Network. We do everything in update Add or Remove ports.
         throw new UnsupportedOperationException();
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> delete(
+    public ProgressEvent<ResourceModel, CallbackContext> delete(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         // No Create/Delete for Network. We do everything in update Add or Remove ports.
         throw new UnsupportedOperationException();
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> preCreate(
+    public ProgressEvent<ResourceModel, CallbackContext> preCreate(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         // No Create/Delete for Network. We do everything in update Add or Remove ports.
         throw new UnsupportedOperationException();
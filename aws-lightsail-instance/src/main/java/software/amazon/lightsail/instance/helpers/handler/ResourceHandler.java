@@ -1,31 +1,16 @@
 package software.amazon.lightsail.instance.helpers.handler;
 
-import lombok.val;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.lightsail.instance.CallbackContext;
 import software.amazon.lightsail.instance.ResourceModel;
+import software.amazon.lightsail.instance.Step;
 
+/**
+ * Pre checks and operations of one part of the Instance. The top level handlers run them as steps of a StepPipeline.
+ */
 public abstract class ResourceHandler {
 
-    public ProgressEvent<ResourceModel, CallbackContext> handleCreate(
-            final ProgressEvent<ResourceModel, CallbackContext> progress) {
-        val sam = preCreate(progress).then(this::create);
-        return sam;
-    }
-
-    public ProgressEvent<ResourceModel, CallbackContext> handleUpdate(
-            final ProgressEvent<ResourceModel, CallbackContext> progress) {
-        val sam = preUpdate(progress).then(this::update);
-        return sam;
-    }
-
-    public ProgressEvent<ResourceModel, CallbackContext> handleDelete(
-            final ProgressEvent<ResourceModel, CallbackContext> progress) {
-        val sam = preDelete(progress).then(this::delete);
-        return sam;
-    }
-
-    public boolean isStabilized(final CallbackContext callbackContext, final String step) {
+    public boolean isStabilized(final CallbackContext callbackContext, final Step step) {
         if (callbackContext.isWaitCountReached(step)) {
             return true; // When wait count is reached treat as Stablized.
         }
@@ -34,21 +19,21 @@ public abstract class ResourceHandler {
         return false;
     }
 
-    protected abstract ProgressEvent<ResourceModel, CallbackContext> preCreate(
+    public abstract ProgressEvent<ResourceModel, CallbackContext> preCreate(
             final ProgressEvent<ResourceModel, CallbackContext> progress);
 
-    protected abstract ProgressEvent<ResourceModel, CallbackContext> preUpdate(
+    public abstract ProgressEvent<ResourceModel, CallbackContext> preUpdate(
             final ProgressEvent<ResourceModel, CallbackContext> progress);
 
-    protected abstract ProgressEvent<ResourceModel, CallbackContext> preDelete(
+    public abstract ProgressEvent<ResourceModel, CallbackContext> preDelete(
             final ProgressEvent<ResourceModel, CallbackContext> progress);
 
-    protected abstract ProgressEvent<ResourceModel, CallbackContext> create(
+    public abstract ProgressEvent<ResourceModel, CallbackContext> create(
             final ProgressEvent<ResourceModel, CallbackContext> progress);
 
-    protected abstract ProgressEvent<ResourceModel, CallbackContext> update(
+    public abstract ProgressEvent<ResourceModel, CallbackContext> update(
             final ProgressEvent<ResourceModel, CallbackContext> progress);
 
-    protected abstract ProgressEvent<ResourceModel, CallbackContext> delete(
+    public abstract ProgressEvent<ResourceModel, CallbackContext> delete(
             final ProgressEvent<ResourceModel, CallbackContext> progress);
 }
@@ -0,0 +1,83 @@
+package software.amazon.lightsail.instance.helpers.handler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.lightsail.instance.CallbackContext;
+import software.amazon.lightsail.instance.ResourceModel;
+import software.amazon.lightsail.instance.Step;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Steps of a handler, run in order. Completed steps are recorded in the CallbackContext, so that a re-invocation
+ * after a callback goes straight to the pending step instead of running the steps before it again. A step whose skip
+ * predicate holds is recorded as completed without running. The handler time of each step is kept in the
+ * CallbackContext and logged when the step completes.
+ */
+@RequiredArgsConstructor(staticName = "of")
+public class StepPipeline {
+
+    @Value
+    private static class PipelineStep {
+        Step step;
+        Predicate<ProgressEvent<ResourceModel, CallbackContext>> skipIf;
+        Function<ProgressEvent<ResourceModel, CallbackContext>, ProgressEvent<ResourceModel, CallbackContext>> action;
+    }
+
+    private final Logger logger;
+    private final List<PipelineStep> steps = new ArrayList<>();
+
+    public StepPipeline step(final Step step, final Function<ProgressEvent<ResourceModel, CallbackContext>,
+            ProgressEvent<ResourceModel, CallbackContext>> action) {
+        return step(step, progress -> false, action);
+    }
+
+    public StepPipeline step(final Step step, final Predicate<ProgressEvent<ResourceModel, CallbackContext>> skipIf,
+            final Function<ProgressEvent<ResourceModel, CallbackContext>,
+                    ProgressEvent<ResourceModel, CallbackContext>> action) {
+        steps.add(new PipelineStep(step, skipIf, action));
+        return this;
+    }
+
+    /**
+     * Run the pending steps. Stops at the first step that does not let the progress continue, which is either a
+     * callback, a failure or a terminal success.
+     *
+     * @param progress
+     *
+     * @return ProgressEvent of the last step run
+     */
+    public ProgressEvent<ResourceModel, CallbackContext> run(
+            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        ProgressEvent<ResourceModel, CallbackContext> current = progress;
+        for (val pipelineStep : steps) {
+            if (!current.canContinueProgress()) {
+                return current;
+            }
+            val step = pipelineStep.getStep();
+            val callbackContext = current.getCallbackContext();
+            if (callbackContext.isStepCompleted(step)) {
+                continue;
+            }
+            if (pipelineStep.getSkipIf().test(current)) {
+                logger.log(String.format("Skipping step %s, nothing to do.", step));
+                callbackContext.completeStep(step);
+                continue;
+            }
+            final long start = System.nanoTime();
+            current = pipelineStep.getAction().apply(current);
+            callbackContext.addStepMillis(step, (System.nanoTime() - start) / 1_000_000);
+            if (current.canContinueProgress()) {
+                callbackContext.completeStep(step);
+                logger.log(String.format("Step %s completed in %d ms.", step, callbackContext.getStepMillis(step)));
+            }
+        }
+        return current;
+    }
+}
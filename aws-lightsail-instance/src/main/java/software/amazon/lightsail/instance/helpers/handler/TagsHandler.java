@@ -11,13 +11,13 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.lightsail.instance.CallbackContext;
 import software.amazon.lightsail.instance.ResourceModel;
+import software.amazon.lightsail.instance.Step;
 import software.amazon.lightsail.instance.Translator;
 import software.amazon.lightsail.instance.helpers.resource.Instance;
 import software.amazon.lightsail.instance.helpers.resource.Tags;
 
 import static software.amazon.lightsail.instance.BaseHandlerStd.handleError;
 import static software.amazon.lightsail.instance.CallbackContext.BACKOFF_DELAY;
-import static software.amazon.lightsail.instance.CallbackContext.PRE_TAG_UPDATE;
 
 @RequiredArgsConstructor
 public class TagsHandler extends ResourceHandler {
@@ -30,7 +30,7 @@ public class TagsHandler extends ResourceHandler {
     private final ResourceHandlerRequest<ResourceModel> resourceModelRequest;
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> preUpdate(
+    public ProgressEvent<ResourceModel, CallbackContext> preUpdate(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         val instance = new Instance(resourceModel, logger, proxyClient, resourceModelRequest);
         logger.log("Executing AWS-Lightsail-Instance::Update::PreTag...");
@@ -40,7 +40,7 @@ public class TagsHandler extends ResourceHandler {
                 .translateToServiceRequest(Translator::translateToReadRequest).backoffDelay(BACKOFF_DELAY)
                 .makeServiceCall((awsRequest, client) -> instance.read(awsRequest))
                 .stabilize((awsRequest, awsResponse, client, model,
-                        context) -> this.isStabilized(this.callbackContext, PRE_TAG_UPDATE)
+                        context) -> this.isStabilized(this.callbackContext, Step.TAG_PRE_CHECK)
                                 || instance.isStabilizedUpdate())
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
@@ -48,7 +48,7 @@ public class TagsHandler extends ResourceHandler {
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> update(
+    public ProgressEvent<ResourceModel, CallbackContext> update(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         val instance = new Instance(resourceModel, logger, proxyClient, resourceModelRequest);
         val tag = new Tags(resourceModel, logger, proxyClient, resourceModelRequest);
@@ -65,28 +65,28 @@ public class TagsHandler extends ResourceHandler {
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> preDelete(
+    public ProgressEvent<ResourceModel, CallbackContext> preDelete(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         // No Create/Delete for Tags. We do everything in update Add or Remove ports.
         throw new UnsupportedOperationException();
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> create(
+    public ProgressEvent<ResourceModel, CallbackContext> create(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         // No Create/Delete for Tags. We do everything in update Add or Remove ports.
         throw new UnsupportedOperationException();
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> delete(
+    public ProgressEvent<ResourceModel, CallbackContext> delete(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         // No Create/Delete for Tags. We do everything in update Add or Remove ports.
         throw new UnsupportedOperationException();
     }
 
     @Override
-    protected ProgressEvent<ResourceModel, CallbackContext> preCreate(
+    public ProgressEvent<ResourceModel, CallbackContext> preCreate(
             ProgressEvent<ResourceModel, CallbackContext> progress) {
         // No Create/Delete for Tags. We do everything in update Add or Remove ports.
         throw new UnsupportedOperationException();
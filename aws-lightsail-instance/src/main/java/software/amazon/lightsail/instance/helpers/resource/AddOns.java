@@ -15,6 +15,7 @@ import software.amazon.awssdk.services.lightsail.model.InvalidInputException;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.lightsail.instance.Logging;
 import software.amazon.lightsail.instance.ResourceModel;
 
 import static software.amazon.lightsail.instance.Translator.translateToDisableAddOnRequest;
@@ -109,8 +110,8 @@ public class AddOns implements ResourceHelper {
                 .read(GetInstanceRequest.builder().instanceName(resourceModel.getInstanceName()).build());
         val currentState = awsResponse.instance().addOns() == null || awsResponse.instance().addOns().size() == 0
                 ? "Pending" : awsResponse.instance().addOns().get(0).status();
-        logger.log(String.format("Checking if AddOn has stabilized for Instance: %s. Current state %s",
-                resourceModel.getInstanceName(), currentState));
+        Logging.sampled(logger, "Checking if AddOn has stabilized for Instance: %s. Current state %s",
+                resourceModel.getInstanceName(), currentState);
         return "enabled".equalsIgnoreCase(currentState) || "disabled".equalsIgnoreCase(currentState);
     }
 
@@ -130,8 +131,8 @@ public class AddOns implements ResourceHelper {
                 "enabled".equalsIgnoreCase(resourceModel.getAddOns().get(0).getStatus()))) {
             val currentState = awsResponse.instance().addOns() == null || awsResponse.instance().addOns().size() == 0
                     ? "Pending" : awsResponse.instance().addOns().get(0).status();
-            logger.log(String.format("Checking if AddOn has stabilized for Instance: %s. Current state %s",
-                    resourceModel.getInstanceName(), currentState));
+            Logging.sampled(logger, "Checking if AddOn has stabilized for Instance: %s. Current state %s",
+                    resourceModel.getInstanceName(), currentState);
 
             // Enabling and Disabled are the terminal state, In stabilize all we do is wait for terminal state.
             return "enabled".equalsIgnoreCase(currentState);
@@ -14,6 +14,7 @@ import software.amazon.awssdk.services.lightsail.model.OperationFailureException
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.lightsail.instance.Logging;
 import software.amazon.lightsail.instance.ResourceModel;
 
 import java.util.Collection;
@@ -178,9 +179,9 @@ public class Disk implements ResourceHelper {
             Set<software.amazon.lightsail.instance.Disk> desiredDisks) {
         logger.log(String.format("%s current Disks size", currentDisks.size()));
         return desiredDisks.stream().filter(disk -> {
-            logger.log(String.format("Checking if Disk: %s needs attachment", disk.getDiskName()));
+            Logging.sampled(logger, "Checking if Disk: %s needs attachment", disk.getDiskName());
             return disk.getDiskName() != null && currentDisks.stream().noneMatch(curDisk -> {
-                logger.log(String.format("Current Disk %s %s %s",
+                Logging.debug(logger, () -> String.format("Current Disk %s %s %s",
                         curDisk.getDiskName(), curDisk.getAttachmentState(), disk.getDiskName().equals(curDisk.getDiskName())));
                 return curDisk.getDiskName() != null &&
                 // check the disks that are in the attached or attaching state.
@@ -260,7 +261,7 @@ public class Disk implements ResourceHelper {
      */
     public boolean isDiskDetached(final String diskName) {
         val disk = ((GetDiskResponse) this.read(GetDiskRequest.builder().diskName(diskName).build())).disk();
-        logger.log(String.format("Waiting for Disk: %s to be ready", disk.name()));
+        Logging.sampled(logger, "Waiting for Disk: %s to be ready", disk.name());
         return isDiskFree(disk);
     }
 
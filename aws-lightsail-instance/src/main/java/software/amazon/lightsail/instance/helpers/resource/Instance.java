@@ -10,12 +10,14 @@ import software.amazon.awssdk.services.lightsail.model.CreateInstancesRequest;
 import software.amazon.awssdk.services.lightsail.model.DeleteInstanceRequest;
 import software.amazon.awssdk.services.lightsail.model.GetInstanceRequest;
 import software.amazon.awssdk.services.lightsail.model.GetInstanceResponse;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateRequest;
 import software.amazon.awssdk.services.lightsail.model.GetRegionsRequest;
 import software.amazon.awssdk.services.lightsail.model.NotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.lightsail.instance.Logging;
 import software.amazon.lightsail.instance.ResourceModel;
 
 import static software.amazon.lightsail.instance.Translator.translateToSdkStartInstanceRequest;
@@ -122,11 +124,9 @@ public class Instance implements ResourceHelper {
      * @return
      */
     public boolean isStabilizedUpdate() {
-        val awsResponse = ((GetInstanceResponse) this
-                .read(GetInstanceRequest.builder().instanceName(resourceModel.getInstanceName()).build()));
-        val currentState = getCurrentState(awsResponse);
-        logger.log(String.format("Checking if Instance: %s has stabilized. Current state: %s",
-                resourceModel.getInstanceName(), currentState));
+        val currentState = getCurrentState();
+        Logging.sampled(logger, "Checking if Instance: %s has stabilized. Current state: %s",
+                resourceModel.getInstanceName(), currentState);
         return ("running".equalsIgnoreCase(currentState) || "stopped".equalsIgnoreCase(currentState));
     }
 
@@ -136,14 +136,17 @@ public class Instance implements ResourceHelper {
      * @return
      */
     public boolean isStabilizedCreate() {
+        val currentState = getCurrentState();
+        Logging.sampled(logger, "Checking if Instance: %s has stabilized. Current state: %s",
+                resourceModel.getInstanceName(), currentState);
+        if (!("running".equalsIgnoreCase(currentState) || "stopped".equalsIgnoreCase(currentState))) {
+            return false;
+        }
+        // The AddOn status is only part of the full Instance, read it once the Instance itself is stable.
         val awsResponse = ((GetInstanceResponse) this
                 .read(GetInstanceRequest.builder().instanceName(resourceModel.getInstanceName()).build()));
-        val currentState = getCurrentState(awsResponse);
-        logger.log(String.format("Checking if Instance: %s has stabilized. Current state: %s",
-                resourceModel.getInstanceName(), currentState));
         val addOn = new AddOns(resourceModel, logger, proxyClient, resourceModelRequest);
-        return addOn.isStabilizedCreate(awsResponse)
-                && ("running".equalsIgnoreCase(currentState) || "stopped".equalsIgnoreCase(currentState));
+        return addOn.isStabilizedCreate(awsResponse);
     }
 
     /**
@@ -154,10 +157,10 @@ public class Instance implements ResourceHelper {
     @Override
     public boolean isStabilizedDelete() {
         final boolean stabilized = false;
-        logger.log(String.format("Checking if Instance: %s deletion has stabilized.",
-                resourceModel.getInstanceName(), stabilized));
+        Logging.sampled(logger, "Checking if Instance: %s deletion has stabilized.",
+                resourceModel.getInstanceName());
         try {
-            this.read(GetInstanceRequest.builder().instanceName(resourceModel.getInstanceName()).build());
+            getCurrentState();
         } catch (final Exception e) {
             if (!isSafeExceptionDelete(e)) {
                 throw e;
@@ -182,15 +185,15 @@ public class Instance implements ResourceHelper {
     }
 
     /**
-     * Get Current state of the Instance.
+     * Get Current state of the Instance. Only the state is read, the full Instance is not needed for it.
      *
      * @return
-     *
-     * @param awsResponse
      */
-    private String getCurrentState(GetInstanceResponse awsResponse) {
-        val instance = awsResponse.instance();
-        return instance.state() == null ? "Pending" : instance.state().name();
+    private String getCurrentState() {
+        val awsResponse = proxyClient.injectCredentialsAndInvokeV2(
+                GetInstanceStateRequest.builder().instanceName(resourceModel.getInstanceName()).build(),
+                proxyClient.client()::getInstanceState);
+        return awsResponse.state() == null ? "Pending" : awsResponse.state().name();
     }
 
     /**
@@ -50,7 +50,7 @@ public class Networking implements ResourceHelper {
      *
      * @return
      */
-    private boolean needPortUpdate() {
+    public boolean needPortUpdate() {
         return resourceModel.getNetworking() != null && resourceModel.getNetworking().getPorts() != null
                 && resourceModel.getNetworking().getPorts().size() > 0;
     }
@@ -0,0 +1,91 @@
+package software.amazon.lightsail.instance;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CallbackContextTest {
+
+    private final Serializer serializer = new Serializer();
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        final CallbackContext callbackContext = CallbackContextBenchmark.longUpdate();
+
+        final CallbackContext deserialized = serializer.deserialize(serializer.serialize(callbackContext),
+                new TypeReference<CallbackContext>() {});
+
+        assertThat(deserialized.getCompletedSteps()).isEqualTo(callbackContext.getCompletedSteps());
+        assertThat(deserialized.getStepWaitCount()).containsExactly(callbackContext.getStepWaitCount());
+        assertThat(deserialized.getStepMillis()).containsExactly(callbackContext.getStepMillis());
+        assertThat(deserialized.isStepCompleted(Step.TAG_UPDATE)).isTrue();
+        assertThat(deserialized.isStepCompleted(Step.DELETE)).isFalse();
+    }
+
+    @Test
+    public void testSmallerThanStepMaps() throws Exception {
+        final CallbackContext callbackContext = CallbackContextBenchmark.longUpdate();
+
+        assertThat(CallbackContextBenchmark.serializedBytes(callbackContext))
+                .isLessThan(CallbackContextBenchmark.serializedBytes(
+                        CallbackContextBenchmark.toStepMaps(callbackContext)) / 2);
+    }
+
+    @Test
+    public void testStepsBeyondStoredArrays() throws Exception {
+        // A context written before a step was added has shorter arrays.
+        final CallbackContext callbackContext = serializer.deserialize(
+                "{\"completedSteps\": 1, \"stepWaitCount\": [3], \"stepMillis\": [10], \"maxWaitCount\": 60}",
+                new TypeReference<CallbackContext>() {});
+
+        assertThat(callbackContext.isStepCompleted(Step.CREATE_PRE_CHECK)).isTrue();
+        assertThat(callbackContext.getWaitCount(Step.CREATE_PRE_CHECK)).isEqualTo(3);
+        assertThat(callbackContext.getWaitCount(Step.DELETE)).isZero();
+
+        callbackContext.incrementWaitCount(Step.DELETE);
+        callbackContext.addStepMillis(Step.DELETE, 5);
+
+        assertThat(callbackContext.getWaitCount(Step.DELETE)).isEqualTo(1);
+        assertThat(callbackContext.getStepMillis(Step.DELETE)).isEqualTo(5);
+        assertThat(callbackContext.getStepMillis(Step.CREATE_PRE_CHECK)).isEqualTo(10);
+    }
+
+    @Test
+    public void testStepIdsFitCompletedBits() {
+        assertThat(Arrays.stream(Step.values()).map(Step::getId)).doesNotHaveDuplicates()
+                .allMatch(id -> id >= 0 && id < Long.SIZE);
+    }
+
+    @Test
+    public void testStringKeyedContext() throws Exception {
+        // A context written before the step state was indexed, by a request in flight during the deployment.
+        final CallbackContext callbackContext = serializer.deserialize(
+                "{\"isPreCheckDone\": {\"preCheckCreate\": true}, \"waitCount\": {\"preCheckUpdateDisk\": 3, "
+                        + "\"preCheckUpdateAttach\": 2, \"unknown\": 5}, \"maxWaitCount\": 60}",
+                new TypeReference<CallbackContext>() {});
+
+        assertThat(callbackContext.isStepCompleted(Step.CREATE_PRE_CHECK)).isTrue();
+        assertThat(callbackContext.isStepCompleted(Step.CREATE)).isFalse();
+        assertThat(callbackContext.getWaitCount(Step.DISK_PRE_CHECK)).isEqualTo(3);
+        assertThat(callbackContext.getWaitCount(Step.DISK_PRE_ATTACH)).isEqualTo(2);
+        assertThat(callbackContext.getWaitCount(Step.DISK_PRE_DETACH)).isEqualTo(2);
+        assertThat(callbackContext.getWaitCount(Step.TAG_PRE_CHECK)).isZero();
+
+        final CallbackContext deserialized = serializer.deserialize(serializer.serialize(callbackContext),
+                new TypeReference<CallbackContext>() {});
+        assertThat(deserialized.getWaitCount(Step.DISK_PRE_CHECK)).isEqualTo(3);
+        assertThat(deserialized.isStepCompleted(Step.CREATE_PRE_CHECK)).isTrue();
+    }
+
+    @Test
+    public void testBenchmark() throws Exception {
+        final CallbackContextBenchmark.Result result = CallbackContextBenchmark.measure("id indexed",
+                CallbackContextBenchmark.longUpdate(), new TypeReference<CallbackContext>() {}, 10);
+
+        assertThat(result.getBytes()).isPositive();
+    }
+}
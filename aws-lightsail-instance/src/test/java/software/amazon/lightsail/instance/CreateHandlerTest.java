@@ -19,6 +19,8 @@ import software.amazon.awssdk.services.lightsail.model.DisableAddOnRequest;
 import software.amazon.awssdk.services.lightsail.model.DisableAddOnResponse;
 import software.amazon.awssdk.services.lightsail.model.GetInstanceRequest;
 import software.amazon.awssdk.services.lightsail.model.GetInstanceResponse;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateRequest;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateResponse;
 import software.amazon.awssdk.services.lightsail.model.GetRegionsRequest;
 import software.amazon.awssdk.services.lightsail.model.GetRegionsResponse;
 import software.amazon.awssdk.services.lightsail.model.Instance;
@@ -131,11 +133,17 @@ public class CreateHandlerTest extends AbstractTestBase {
                                                                 .zoneName("us-west-2d")
                                                             .build()).build())).build());
 
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder().name("Running").build()).build());
+
         when(sdkClient.createInstances(any(CreateInstancesRequest.class)))
                 .thenReturn(CreateInstancesResponse.builder().build());
 
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
         final ProgressEvent<ResourceModel, CallbackContext> response =
-                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+                handler.handleRequest(proxy, request, new CallbackContext(), calls, logger);
 
         model.setAvailabilityZone("us-west-2a");
 
@@ -146,6 +154,10 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        calls.assertCalls(CreateInstancesRequest.class).exactly(1);
+        calls.assertCalls(GetRegionsRequest.class).atMost(1);
+        calls.assertCalls(DisableAddOnRequest.class).never();
     }
 
     @Test
@@ -218,6 +230,10 @@ public class CreateHandlerTest extends AbstractTestBase {
                                 .build())
                         .build()).build());
 
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder().name("Running").build()).build());
+
         when(sdkClient.createInstances(any(CreateInstancesRequest.class)))
                 .thenReturn(CreateInstancesResponse.builder().build());
 
@@ -8,6 +8,8 @@ import software.amazon.awssdk.services.lightsail.model.DeleteInstanceRequest;
 import software.amazon.awssdk.services.lightsail.model.DeleteInstanceResponse;
 import software.amazon.awssdk.services.lightsail.model.GetInstanceRequest;
 import software.amazon.awssdk.services.lightsail.model.GetInstanceResponse;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateRequest;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateResponse;
 import software.amazon.awssdk.services.lightsail.model.Instance;
 import software.amazon.awssdk.services.lightsail.model.InstanceState;
 import software.amazon.awssdk.services.lightsail.model.InvalidInputException;
@@ -71,10 +73,10 @@ public class DeleteHandlerTest extends AbstractTestBase {
 
         when(sdkClient.getInstance(any(GetInstanceRequest.class)))
                 .thenReturn(GetInstanceResponse.builder()
-                .instance(Instance.builder().build()).build())
-                .thenReturn(GetInstanceResponse.builder()
-                        .instance(Instance.builder()
-                                .state(InstanceState.builder().name("Running").build()).build()).build())
+                .instance(Instance.builder().build()).build());
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder().name("Running").build()).build())
                 .thenThrow(NotFoundException.builder()
                         .awsErrorDetails(AwsErrorDetails
                                 .builder()
@@ -85,7 +87,9 @@ public class DeleteHandlerTest extends AbstractTestBase {
         when(sdkClient.deleteInstance(any(DeleteInstanceRequest.class)))
                 .thenReturn(DeleteInstanceResponse.builder().build());
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), calls, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -94,6 +98,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        calls.assertCalls(DeleteInstanceRequest.class).exactly(1);
     }
 
     @Test
@@ -114,20 +120,10 @@ public class DeleteHandlerTest extends AbstractTestBase {
                                 .name("Running")
                                 .build())
                         .build())
-                        .build())
-                .thenReturn(GetInstanceResponse.builder()
-                        .instance(Instance.builder()
-                                .state(InstanceState
-                                        .builder()
-                                        .name("Running")
-                                        .build())
-                                .build())
-                        .build())
-                .thenThrow(NotFoundException.builder()
-                        .awsErrorDetails(AwsErrorDetails.builder()
-                                .errorCode("NotFoundException")
-                                .build())
                         .build());
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder().name("Running").build()).build());
 
         when(sdkClient.deleteInstance(any(DeleteInstanceRequest.class)))
                 .thenThrow(NotFoundException.builder()
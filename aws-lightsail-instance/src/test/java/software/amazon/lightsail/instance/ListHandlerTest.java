@@ -65,8 +65,10 @@ public class ListHandlerTest extends AbstractTestBase {
 
         when(sdkClient.getInstances(any(GetInstancesRequest.class))).thenReturn(GetInstancesResponse.builder().build());
 
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
         final ProgressEvent<ResourceModel, CallbackContext> response =
-            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, request, new CallbackContext(), calls, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -76,5 +78,8 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNotNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        calls.assertCalls(GetInstancesRequest.class).exactly(1);
+        calls.assertTotalCalls().exactly(1);
     }
 }
@@ -74,7 +74,9 @@ public class ReadHandlerTest extends AbstractTestBase {
         when(sdkClient.getInstance(any(GetInstanceRequest.class))).thenReturn(GetInstanceResponse.builder()
                 .instance(Instance.builder().build()).build());
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), calls, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -83,6 +85,9 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        calls.assertCalls(GetInstanceRequest.class).exactly(1);
+        calls.assertTotalCalls().exactly(1);
     }
 
     @Test
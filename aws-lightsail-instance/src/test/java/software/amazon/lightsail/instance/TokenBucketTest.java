@@ -0,0 +1,53 @@
+package software.amazon.lightsail.instance;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceRequest;
+import software.amazon.awssdk.services.lightsail.model.StartInstanceRequest;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final TokenBucket bucket = new TokenBucket(2, 2, clock::get);
+
+    @Test
+    public void testReserve_burstThenSmoothed() {
+        assertThat(bucket.reserve()).isEqualTo(Duration.ZERO);
+        assertThat(bucket.reserve()).isEqualTo(Duration.ZERO);
+        assertThat(bucket.reserve()).isEqualTo(Duration.ofMillis(500));
+        assertThat(bucket.reserve()).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void testReserve_refill() {
+        bucket.reserve();
+        bucket.reserve();
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        assertThat(bucket.reserve()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void testThrottleAndRecover() {
+        bucket.onThrottle();
+        assertThat(bucket.getRate()).isEqualTo(1);
+        bucket.onThrottle();
+        bucket.onThrottle();
+        assertThat(bucket.getRate()).isEqualTo(0.5);
+
+        for (int i = 0; i < 100; i++) {
+            bucket.onSuccess();
+        }
+        assertThat(bucket.getRate()).isEqualTo(2);
+    }
+
+    @Test
+    public void testIsRead() {
+        assertThat(RateLimitedProxyClient.isRead(GetInstanceRequest.builder().build())).isTrue();
+        assertThat(RateLimitedProxyClient.isRead(StartInstanceRequest.builder().build())).isFalse();
+    }
+}
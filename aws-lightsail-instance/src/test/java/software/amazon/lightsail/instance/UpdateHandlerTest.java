@@ -24,6 +24,8 @@ import software.amazon.awssdk.services.lightsail.model.GetDiskRequest;
 import software.amazon.awssdk.services.lightsail.model.GetDiskResponse;
 import software.amazon.awssdk.services.lightsail.model.GetInstanceRequest;
 import software.amazon.awssdk.services.lightsail.model.GetInstanceResponse;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateRequest;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateResponse;
 import software.amazon.awssdk.services.lightsail.model.Instance;
 import software.amazon.awssdk.services.lightsail.model.InstanceHardware;
 import software.amazon.awssdk.services.lightsail.model.InstanceNetworking;
@@ -252,12 +254,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 .build())
                         .build()).build();
 
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder().name("Running").build()).build());
+
         when(sdkClient.getInstance(any(GetInstanceRequest.class)))
-                .thenReturn(basicResponse)
-                .thenReturn(basicResponse)
-                .thenReturn(basicResponse)
-                .thenReturn(basicResponse)
-                .thenReturn(basicResponse)
                 .thenReturn(basicResponse)
                 .thenReturn(basicResponse)
                 .thenReturn(basicResponse)
@@ -267,9 +268,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(detachDone)
                 .thenReturn(detachDone)
                 .thenReturn(detachDone)
-                .thenReturn(detachDone)
-                .thenReturn(detachDone)
-                .thenReturn(detachDone)
                 .thenReturn(attachDone);
 
         when(sdkClient.enableAddOn(any(EnableAddOnRequest.class)))
@@ -317,6 +315,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder().name("Running").build()).build());
+
         when(sdkClient.getInstance(any(GetInstanceRequest.class))).thenReturn(GetInstanceResponse.builder()
                 .instance(Instance.builder().state(InstanceState
                         .builder()
@@ -331,8 +333,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(sdkClient.enableAddOn(any(EnableAddOnRequest.class)))
                 .thenReturn(EnableAddOnResponse.builder().build());
 
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
         final ProgressEvent<ResourceModel, CallbackContext> response =
-                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+                handler.handleRequest(proxy, request, new CallbackContext(), calls, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -341,6 +345,14 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        // Every step re-reads the Instance, the fixed waits check its state.
+        calls.assertCalls(GetInstanceRequest.class).atMost(11);
+        calls.assertCalls(GetInstanceStateRequest.class).atMost(10);
+        calls.assertCalls(EnableAddOnRequest.class).exactly(1);
+        calls.assertCalls(DisableAddOnRequest.class).never();
+        calls.assertCalls(TagResourceRequest.class).never();
+        calls.assertCalls(UntagResourceRequest.class).never();
     }
 
     @Test
@@ -364,6 +376,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(model)
                 .build();
 
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder().name("Running").build()).build());
+
         when(sdkClient.getInstance(any(GetInstanceRequest.class))).thenReturn(GetInstanceResponse.builder()
                 .instance(Instance.builder().state(InstanceState
                         .builder()
@@ -378,8 +394,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(sdkClient.enableAddOn(any(EnableAddOnRequest.class)))
                 .thenReturn(EnableAddOnResponse.builder().build());
 
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
         final ProgressEvent<ResourceModel, CallbackContext> response =
-                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+                handler.handleRequest(proxy, request, new CallbackContext(), calls, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -388,6 +406,14 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        // Every step re-reads the Instance, the fixed waits check its state.
+        calls.assertCalls(GetInstanceRequest.class).atMost(11);
+        calls.assertCalls(GetInstanceStateRequest.class).atMost(10);
+        calls.assertCalls(EnableAddOnRequest.class).exactly(1);
+        calls.assertCalls(DisableAddOnRequest.class).never();
+        calls.assertCalls(TagResourceRequest.class).never();
+        calls.assertCalls(UntagResourceRequest.class).never();
     }
 
     @Test
@@ -431,6 +457,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(model)
                 .build();
 
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder().name("Running").build()).build());
+
         when(sdkClient.getInstance(any(GetInstanceRequest.class))).thenReturn(GetInstanceResponse.builder()
                 .instance(Instance.builder().state(InstanceState
                         .builder()
@@ -515,6 +545,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(model)
                 .build();
 
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder().name("Running").build()).build());
+
         when(sdkClient.getInstance(any(GetInstanceRequest.class))).thenReturn(GetInstanceResponse.builder()
                 .instance(Instance.builder().state(InstanceState
                         .builder()
@@ -577,6 +611,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(model)
                 .build();
 
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder().name("Running").build()).build());
+
         when(sdkClient.getInstance(any(GetInstanceRequest.class))).thenReturn(GetInstanceResponse.builder()
                 .instance(Instance.builder().state(InstanceState
                         .builder()
@@ -655,6 +693,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(model)
                 .build();
 
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder().name("Running").build()).build());
+
         when(sdkClient.getInstance(any(GetInstanceRequest.class))).thenReturn(GetInstanceResponse.builder()
                 .instance(Instance.builder().state(InstanceState
                         .builder()
@@ -15,6 +15,8 @@ import software.amazon.awssdk.services.lightsail.model.CreateInstancesRequest;
 import software.amazon.awssdk.services.lightsail.model.DeleteInstanceRequest;
 import software.amazon.awssdk.services.lightsail.model.GetInstanceRequest;
 import software.amazon.awssdk.services.lightsail.model.GetInstanceResponse;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateRequest;
+import software.amazon.awssdk.services.lightsail.model.GetInstanceStateResponse;
 import software.amazon.awssdk.services.lightsail.model.InstanceState;
 import software.amazon.awssdk.services.lightsail.model.NotFoundException;
 import software.amazon.awssdk.services.lightsail.model.StartInstanceRequest;
@@ -38,6 +40,7 @@ import java.util.HashSet;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -168,14 +171,42 @@ class InstanceTest {
                                 .name(AddOnType.AUTO_SNAPSHOT.toString())
                                 .build()))
                         .build()).build();
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder().name("Running").build()).build());
+        Assertions.assertTrue(instanceTest.isStabilizedUpdate());
+        verify(sdkClient, never()).getInstance(any(GetInstanceRequest.class));
+    }
+
+    @Test
+    public void testIsStabilizedCreate_notRunning() {
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder().name("Pending").build()).build());
+        Assertions.assertFalse(instanceTest.isStabilizedCreate());
+        verify(sdkClient, never()).getInstance(any(GetInstanceRequest.class));
+    }
+
+    @Test
+    public void testIsStabilizedCreate_running() {
+        val resourceModel = GetInstanceResponse.builder()
+                .instance(software.amazon.awssdk.services.lightsail.model.Instance.builder().state(InstanceState
+                        .builder()
+                        .name("Running")
+                        .build())
+                        .build()).build();
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder().name("Running").build()).build());
         when(sdkClient.getInstance(any(GetInstanceRequest.class)))
                 .thenReturn(resourceModel);
-        Assertions.assertTrue(instanceTest.isStabilizedUpdate());
+        Assertions.assertTrue(instanceTest.isStabilizedCreate());
+        verify(sdkClient, times(1)).getInstance(any(GetInstanceRequest.class));
     }
 
     @Test
     public void testIsStabilizedDelete() {
-        when(sdkClient.getInstance(any(GetInstanceRequest.class)))
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
                 .thenThrow(NotFoundException.builder()
                         .awsErrorDetails(AwsErrorDetails.builder().errorCode("NotFoundException").build())
                         .build());
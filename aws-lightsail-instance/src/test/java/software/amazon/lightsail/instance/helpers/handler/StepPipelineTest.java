@@ -0,0 +1,118 @@
+package software.amazon.lightsail.instance.helpers.handler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.lightsail.instance.CallbackContext;
+import software.amazon.lightsail.instance.ResourceModel;
+import software.amazon.lightsail.instance.Step;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class StepPipelineTest {
+
+    private final ResourceModel model = ResourceModel.builder().instanceName("instance").build();
+
+    private CallbackContext callbackContext;
+
+    private List<Step> ran;
+
+    @BeforeEach
+    public void setup() {
+        callbackContext = new CallbackContext();
+        ran = new ArrayList<>();
+    }
+
+    private StepPipeline pipeline(final boolean callbackOnUpdate) {
+        return StepPipeline.of(mock(Logger.class))
+                .step(Step.DISK_PRE_CHECK, progress -> {
+                    ran.add(Step.DISK_PRE_CHECK);
+                    return progress;
+                })
+                .step(Step.DISK_UPDATE, progress -> {
+                    ran.add(Step.DISK_UPDATE);
+                    return callbackOnUpdate ? ProgressEvent.defaultInProgressHandler(callbackContext, 20, model)
+                            : progress;
+                })
+                .step(Step.TAG_UPDATE, progress -> {
+                    ran.add(Step.TAG_UPDATE);
+                    return progress;
+                });
+    }
+
+    @Test
+    public void testRun() {
+        final ProgressEvent<ResourceModel, CallbackContext> result = pipeline(false)
+                .run(ProgressEvent.progress(model, callbackContext));
+
+        assertThat(result.canContinueProgress()).isTrue();
+        assertThat(ran).containsExactly(Step.DISK_PRE_CHECK, Step.DISK_UPDATE, Step.TAG_UPDATE);
+        assertThat(callbackContext.isStepCompleted(Step.DISK_PRE_CHECK)).isTrue();
+        assertThat(callbackContext.isStepCompleted(Step.DISK_UPDATE)).isTrue();
+        assertThat(callbackContext.isStepCompleted(Step.TAG_UPDATE)).isTrue();
+        assertThat(callbackContext.isStepCompleted(Step.TAG_PRE_CHECK)).isFalse();
+        assertThat(callbackContext.getStepMillis()).hasSize(Step.TAG_UPDATE.getId() + 1);
+    }
+
+    @Test
+    public void testRun_resumesAtPendingStep() {
+        final ProgressEvent<ResourceModel, CallbackContext> callback = pipeline(true)
+                .run(ProgressEvent.progress(model, callbackContext));
+
+        assertThat(callback.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(callback.getCallbackDelaySeconds()).isEqualTo(20);
+        assertThat(ran).containsExactly(Step.DISK_PRE_CHECK, Step.DISK_UPDATE);
+        assertThat(callbackContext.getCompletedSteps()).isEqualTo(1L << Step.DISK_PRE_CHECK.getId());
+
+        ran.clear();
+        pipeline(false).run(ProgressEvent.progress(model, callbackContext));
+
+        assertThat(ran).containsExactly(Step.DISK_UPDATE, Step.TAG_UPDATE);
+    }
+
+    @Test
+    public void testRun_skip() {
+        StepPipeline.of(mock(Logger.class))
+                .step(Step.NETWORK_UPDATE, progress -> true, progress -> {
+                    ran.add(Step.NETWORK_UPDATE);
+                    return progress;
+                })
+                .run(ProgressEvent.progress(model, callbackContext));
+
+        assertThat(ran).isEmpty();
+        assertThat(callbackContext.isStepCompleted(Step.NETWORK_UPDATE)).isTrue();
+        assertThat(callbackContext.getStepMillis(Step.NETWORK_UPDATE)).isZero();
+    }
+
+    @Test
+    public void testRun_failure() {
+        final ProgressEvent<ResourceModel, CallbackContext> result = StepPipeline.of(mock(Logger.class))
+                .step(Step.DELETE_PRE_CHECK, progress -> ProgressEvent.failed(model, callbackContext,
+                        HandlerErrorCode.NotFound, "not found"))
+                .step(Step.DELETE, progress -> {
+                    ran.add(Step.DELETE);
+                    return progress;
+                })
+                .run(ProgressEvent.progress(model, callbackContext));
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(ran).isEmpty();
+        assertThat(callbackContext.getCompletedSteps()).isZero();
+    }
+
+    @Test
+    public void testWaitCount_perStep() {
+        // The detach and attach pre checks used to share one key.
+        callbackContext.incrementWaitCount(Step.DISK_PRE_DETACH);
+
+        assertThat(callbackContext.getWaitCount(Step.DISK_PRE_DETACH)).isEqualTo(1);
+        assertThat(callbackContext.getWaitCount(Step.DISK_PRE_ATTACH)).isZero();
+    }
+}
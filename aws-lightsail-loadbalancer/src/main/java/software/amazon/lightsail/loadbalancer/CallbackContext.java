@@ -5,7 +5,9 @@ import software.amazon.cloudformation.proxy.delay.Constant;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 @lombok.Getter
 @lombok.Setter
@@ -16,6 +18,15 @@ public class CallbackContext extends StdCallbackContext {
     public static final Constant BACKOFF_DELAY = Constant.of().delay(Duration.ofSeconds(30))
             .timeout(Duration.ofMinutes(25)).build();
 
+    // An instance health state can only change once per health check of the load balancer, so instance health is
+    // polled at that interval, for as long as the healthCheckMaxWaitCount polls take.
+    public static final Constant HEALTH_CHECK_BACKOFF_DELAY = Constant.of().delay(Duration.ofSeconds(15))
+            .timeout(Duration.ofMinutes(21)).build();
+
+    public static final int HEALTH_CHECK_MAX_WAIT_COUNT = 80;
+
+    public static final int UNHEALTHY_MAX_POLL_COUNT = 8;
+
     public static String PRE_CHECK_CREATE = "preCheckCreate";
     public static String PRE_CHECK_ATTACH = "preCheckAttach";
     public static String POST_CHECK_DETACH = "postCheckDetach";
@@ -31,6 +42,28 @@ public class CallbackContext extends StdCallbackContext {
 
     private Integer maxWaitCount = 40;
 
+    private Integer healthCheckMaxWaitCount = HEALTH_CHECK_MAX_WAIT_COUNT;
+
+    // Consecutive unhealthy polls after which an attached instance is no longer waited for.
+    private Integer unhealthyMaxPollCount = UNHEALTHY_MAX_POLL_COUNT;
+
+    // Last observed health state of each attached or detached instance.
+    private Map<String, String> instanceHealth = new HashMap<>();
+
+    // Time (epoch millis) at which the health tracking of each instance started.
+    private Map<String, Long> instanceHealthTrackedSince = new HashMap<>();
+
+    // Number of consecutive polls each instance has been reported unhealthy.
+    private Map<String, Integer> instanceUnhealthyCount = new HashMap<>();
+
+    private Map<String, Long> instanceTimeToHealthySeconds = new HashMap<>();
+
+    // Attached or detached instances which had not settled at the last poll.
+    private Set<String> unsettledInstances = new HashSet<>();
+
+    // Set when the instance health wait gave up on unsettled instances, surfaced as the message of the event.
+    private String instanceHealthMessage;
+
     public int getWaitCount(final String key) {
         return this.waitCount.getOrDefault(key, 0);
     }
@@ -43,6 +76,8 @@ public class CallbackContext extends StdCallbackContext {
         int maxWait = this.maxWaitCount;
         if (key.equalsIgnoreCase(POST_DETACH_WAIT) || key.equalsIgnoreCase(POST_ATTACH_WAIT)) {
             maxWait = this.postOperationWaitCount;
+        } else if (key.equalsIgnoreCase(POST_CHECK_DETACH) || key.equalsIgnoreCase(POST_CHECK_ATTACH)) {
+            maxWait = this.healthCheckMaxWaitCount;
         }
         return this.getWaitCount(key) >= maxWait;
     }
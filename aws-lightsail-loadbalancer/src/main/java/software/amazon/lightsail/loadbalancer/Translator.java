@@ -82,13 +82,12 @@ public class Translator {
   }
 
   /**
-   * Translates resource objects from sdk into a resource model (primary identifier only)
-   * @param awsResponse the aws service describe resource response
+   * Translates a page of resource objects from sdk into resource models
+   * @param loadBalancers the sdk resource objects of the page
    * @return list of resource models
    */
-  static List<ResourceModel> translateFromListRequest(final AwsResponse awsResponse) {
-    val getLoadBalancersResponse = (GetLoadBalancersResponse) awsResponse;
-    return getLoadBalancersResponse.loadBalancers().stream().map(Translator::translateSDKLoadBalancerToResourceModel)
+  static List<ResourceModel> translateFromListRequest(final List<LoadBalancer> loadBalancers) {
+    return loadBalancers.stream().map(Translator::translateSDKLoadBalancerToResourceModel)
             .collect(Collectors.toList());
   }
 
@@ -40,8 +40,8 @@ public class UpdateHandler extends BaseHandlerStd {
         val tagsHandler = getTagHandler(proxy, request, callbackContext, proxyClient, logger);
         val loadBalancerHandler = getLoadBalancerHandler(proxy, request, callbackContext, proxyClient, logger);
 
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        return withInstanceHealthMessage(ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(loadBalancerHandler::handleUpdate).then(tagsHandler::handleUpdate).then(progress -> getReadHandler()
-                        .handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                        .handleRequest(proxy, request, callbackContext, proxyClient, logger)), callbackContext);
     }
 }
@@ -151,10 +151,10 @@ public class LoadBalancerHandler extends ResourceHandler {
         return proxy
                 .initiate("AWS-Lightsail-LoadBalancer::Update::DetachInstances", proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToReadRequest).backoffDelay(BACKOFF_DELAY)
+                .translateToServiceRequest(Translator::translateToReadRequest).backoffDelay(HEALTH_CHECK_BACKOFF_DELAY)
                 .makeServiceCall((awsRequest, client) -> loadBalancer.detachInstances(awsRequest))
                 .stabilize((awsRequest, awsResponse, client, model, context) -> this.isStabilized(callbackContext, POST_DETACH_WAIT) &&
-                        (this.isStabilized(callbackContext, POST_CHECK_DETACH) || loadBalancer.isStabilizedInstances()))
+                        (loadBalancer.isStabilizedInstances(callbackContext) || isHealthCheckWaitReached(POST_CHECK_DETACH)))
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
                 .progress();
@@ -199,13 +199,34 @@ public class LoadBalancerHandler extends ResourceHandler {
         return proxy
                 .initiate("AWS-Lightsail-LoadBalancer::Update::AttachInstances", proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToReadRequest).backoffDelay(BACKOFF_DELAY)
+                .translateToServiceRequest(Translator::translateToReadRequest).backoffDelay(HEALTH_CHECK_BACKOFF_DELAY)
                 .makeServiceCall((awsRequest, client) -> loadBalancer.attachInstances(awsRequest))
                 .stabilize((awsRequest, awsResponse, client, model, context) -> this.isStabilized(callbackContext, POST_ATTACH_WAIT) &&
-                        (this.isStabilized(callbackContext, POST_CHECK_ATTACH) || loadBalancer.isStabilizedInstances()))
+                        (loadBalancer.isStabilizedInstances(callbackContext) || isHealthCheckWaitReached(POST_CHECK_ATTACH)))
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
                 .progress();
     }
 
+    /**
+     * Stop waiting on the instance health once the healthCheckMaxWaitCount cap is reached, even if some instances are
+     * still unhealthy or not yet reported. The instances given up on are recorded for the message of the event.
+     *
+     * @param step
+     *
+     * @return boolean
+     */
+    private boolean isHealthCheckWaitReached(final String step) {
+        if (!this.isStabilized(callbackContext, step)) {
+            return false;
+        }
+        if (!callbackContext.getUnsettledInstances().isEmpty()) {
+            val message = String.format("Instances: %s had not settled after %d health check polls, continuing without them",
+                    callbackContext.getUnsettledInstances(), callbackContext.getWaitCount(step));
+            logger.log(message);
+            callbackContext.setInstanceHealthMessage(message);
+        }
+        return true;
+    }
+
 }
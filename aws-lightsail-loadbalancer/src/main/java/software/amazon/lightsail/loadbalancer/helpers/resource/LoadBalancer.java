@@ -10,9 +10,13 @@ import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.lightsail.loadbalancer.CallbackContext;
+import software.amazon.lightsail.loadbalancer.Logging;
 import software.amazon.lightsail.loadbalancer.ResourceModel;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static software.amazon.lightsail.loadbalancer.Translator.translateFromReadResponse;
@@ -23,6 +27,11 @@ import static software.amazon.lightsail.loadbalancer.Translator.translateFromRea
 @RequiredArgsConstructor
 public class LoadBalancer implements ResourceHelper {
 
+    private static final String HEALTH_CHECK_PATH = "HealthCheckPath";
+    private static final String SESSION_STICKINESS_ENABLED = "SessionStickinessEnabled";
+    private static final String SESSION_STICKINESS_LB_COOKIE_DURATION_SECONDS = "SessionStickiness_LB_CookieDurationSeconds";
+    private static final String TLS_POLICY_NAME = "TlsPolicyName";
+
     private final ResourceModel resourceModel;
     private final Logger logger;
     private final ProxyClient<LightsailClient> proxyClient;
@@ -35,62 +44,82 @@ public class LoadBalancer implements ResourceHelper {
         return awsResponse;
     }
 
+    /**
+     * Update the LoadBalancer attributes which differ from Lightsail, one at a time and in the order of
+     * getAttributeChanges.
+     *
+     * @param request
+     *
+     * @return AwsResponse
+     */
     public AwsResponse updateAttributes(AwsRequest request) {
         AwsResponse awsResponse = null;
-        ResourceModel currentResourceModel = getCurrentResourceModelFromLightsail();
-        ResourceModel desiredResourceModel = resourceModelRequest.getDesiredResourceState();
+        val attributeChanges = getAttributeChanges(getCurrentResourceModelFromLightsail(),
+                resourceModelRequest.getDesiredResourceState());
+        if (attributeChanges.isEmpty()) {
+            logger.log(String.format("Update attributes not required for LoadBalancer: %s", resourceModel.getLoadBalancerName()));
+            return awsResponse;
+        }
+
+        attributeChanges.forEach(this::updateAttribute);
+        return awsResponse;
+    }
+
+    /**
+     * Get the attribute updates needed to go from the current to the desired LoadBalancer, in the order they have to be
+     * applied: the cookie duration is set after stickiness is enabled, and before it is disabled.
+     *
+     * @param currentResourceModel
+     * @param desiredResourceModel
+     *
+     * @return List of ordered attribute updates
+     */
+    public List<UpdateLoadBalancerAttributeRequest> getAttributeChanges(final ResourceModel currentResourceModel,
+                                                                        final ResourceModel desiredResourceModel) {
+        val attributeChanges = new ArrayList<UpdateLoadBalancerAttributeRequest>();
+        val loadBalancerName = desiredResourceModel.getLoadBalancerName();
 
-        // Updating the HealthCheckPath attribute.
         if (desiredResourceModel.getHealthCheckPath() != null &&
                 !desiredResourceModel.getHealthCheckPath().equals(currentResourceModel.getHealthCheckPath())) {
-            logger.log("Updating LoadBalancer attribute: HealthCheckPath");
-            proxyClient.injectCredentialsAndInvokeV2(UpdateLoadBalancerAttributeRequest.builder()
-                    .loadBalancerName(desiredResourceModel.getLoadBalancerName()).attributeName("HealthCheckPath")
-                    .attributeValue(desiredResourceModel.getHealthCheckPath()).build(), proxyClient.client()::updateLoadBalancerAttribute);
+            attributeChanges.add(attributeRequest(loadBalancerName, HEALTH_CHECK_PATH,
+                    desiredResourceModel.getHealthCheckPath()));
         }
 
-        // Updating the SessionStickinessEnabled attribute.
-        if (desiredResourceModel.getSessionStickinessEnabled() == null) {
-            if (currentResourceModel.getSessionStickinessEnabled()) {
-                logger.log("Updating LoadBalancer attribute: SessionStickinessEnabled");
-                proxyClient.injectCredentialsAndInvokeV2(UpdateLoadBalancerAttributeRequest.builder()
-                        .loadBalancerName(desiredResourceModel.getLoadBalancerName()).attributeName("SessionStickinessEnabled")
-                        .attributeValue("false").build(), proxyClient.client()::updateLoadBalancerAttribute);
-            }
-        } else {
-            if (currentResourceModel.getSessionStickinessEnabled() != desiredResourceModel.getSessionStickinessEnabled()) {
-                logger.log("Updating LoadBalancer attribute: SessionStickinessEnabled");
-                proxyClient.injectCredentialsAndInvokeV2(UpdateLoadBalancerAttributeRequest.builder()
-                        .loadBalancerName(desiredResourceModel.getLoadBalancerName()).attributeName("SessionStickinessEnabled")
-                        .attributeValue(String.valueOf(desiredResourceModel.getSessionStickinessEnabled()))
-                        .build(), proxyClient.client()::updateLoadBalancerAttribute);
-            }
+        if (desiredResourceModel.getTlsPolicyName() != null &&
+                !desiredResourceModel.getTlsPolicyName().equals(currentResourceModel.getTlsPolicyName())) {
+            attributeChanges.add(attributeRequest(loadBalancerName, TLS_POLICY_NAME,
+                    desiredResourceModel.getTlsPolicyName()));
         }
 
-        // Updating the SessionStickiness_LB_CookieDurationSeconds attribute.
-        if (desiredResourceModel.getSessionStickinessLBCookieDurationSeconds() != null) {
-            if (!desiredResourceModel.getSessionStickinessLBCookieDurationSeconds().equals(currentResourceModel.getSessionStickinessLBCookieDurationSeconds())) {
-                logger.log("Updating LoadBalancer attribute: SessionStickiness_LB_CookieDurationSeconds");
-                proxyClient.injectCredentialsAndInvokeV2(UpdateLoadBalancerAttributeRequest.builder()
-                        .loadBalancerName(desiredResourceModel.getLoadBalancerName()).attributeName("SessionStickiness_LB_CookieDurationSeconds")
-                        .attributeValue(desiredResourceModel.getSessionStickinessLBCookieDurationSeconds())
-                        .build(), proxyClient.client()::updateLoadBalancerAttribute);
-            }
+        val desiredStickiness = Boolean.TRUE.equals(desiredResourceModel.getSessionStickinessEnabled());
+        val currentStickiness = Boolean.TRUE.equals(currentResourceModel.getSessionStickinessEnabled());
+        val stickinessIndex = attributeChanges.size();
+        if (desiredStickiness != currentStickiness) {
+            attributeChanges.add(attributeRequest(loadBalancerName, SESSION_STICKINESS_ENABLED,
+                    String.valueOf(desiredStickiness)));
         }
-
-
-        // Updating the TlsPolicyName attribute.
-        if (desiredResourceModel.getTlsPolicyName() != null) {
-            if (!desiredResourceModel.getTlsPolicyName().equals(currentResourceModel.getTlsPolicyName())) {
-                logger.log("Updating LoadBalancer attribute: TlsPolicyName");
-                proxyClient.injectCredentialsAndInvokeV2(UpdateLoadBalancerAttributeRequest.builder()
-                        .loadBalancerName(desiredResourceModel.getLoadBalancerName()).attributeName("TlsPolicyName")
-                        .attributeValue(desiredResourceModel.getTlsPolicyName())
-                        .build(), proxyClient.client()::updateLoadBalancerAttribute);
+        if (desiredResourceModel.getSessionStickinessLBCookieDurationSeconds() != null &&
+                !desiredResourceModel.getSessionStickinessLBCookieDurationSeconds().equals(currentResourceModel.getSessionStickinessLBCookieDurationSeconds())) {
+            val cookieDurationChange = attributeRequest(loadBalancerName, SESSION_STICKINESS_LB_COOKIE_DURATION_SECONDS,
+                    desiredResourceModel.getSessionStickinessLBCookieDurationSeconds());
+            if (desiredStickiness) {
+                attributeChanges.add(cookieDurationChange);
+            } else {
+                attributeChanges.add(stickinessIndex, cookieDurationChange);
             }
         }
+        return attributeChanges;
+    }
 
-        return awsResponse;
+    private UpdateLoadBalancerAttributeRequest attributeRequest(final String loadBalancerName, final String attributeName,
+                                                                final String attributeValue) {
+        return UpdateLoadBalancerAttributeRequest.builder().loadBalancerName(loadBalancerName)
+                .attributeName(attributeName).attributeValue(attributeValue).build();
+    }
+
+    private void updateAttribute(final UpdateLoadBalancerAttributeRequest request) {
+        logger.log(String.format("Updating LoadBalancer attribute: %s", request.attributeNameAsString()));
+        proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::updateLoadBalancerAttribute);
     }
 
     public AwsResponse detachInstances(AwsRequest request) {
@@ -171,8 +200,8 @@ public class LoadBalancer implements ResourceHelper {
     @Override
     public boolean isStabilizedDelete() {
         final boolean stabilized = false;
-        logger.log(String.format("Checking if LoadBalancer: %s deletion has stabilized.",
-                resourceModel.getLoadBalancerName(), stabilized));
+        Logging.sampled(logger, "Checking if LoadBalancer: %s deletion has stabilized.",
+                resourceModel.getLoadBalancerName());
         try {
             this.read(GetLoadBalancerRequest.builder().loadBalancerName(resourceModel.getLoadBalancerName()).build());
         } catch (final Exception e) {
@@ -185,15 +214,94 @@ public class LoadBalancer implements ResourceHelper {
         return stabilized;
     }
 
-    public boolean isStabilizedInstances() {
+    /**
+     * Check if the instances which are being attached or detached have settled, recording their health transitions
+     * in the callback context. Instances whose membership did not change are not waited on. A newly attached instance
+     * is settled once it is reported healthy, or once it has been reported unhealthy for unhealthyMaxPollCount polls in
+     * a row. One that is missing from the health summary is waited on until the handler gives up at the
+     * healthCheckMaxWaitCount cap.
+     *
+     * @param callbackContext
+     *
+     * @return boolean
+     */
+    public boolean isStabilizedInstances(final CallbackContext callbackContext) {
         val awsResponse = ((GetLoadBalancerResponse) this
                 .read(GetLoadBalancerRequest.builder().loadBalancerName(resourceModel.getLoadBalancerName()).build()));
-        for (InstanceHealthSummary instanceHealthSummary: awsResponse.loadBalancer().instanceHealthSummary()) {
-            if (instanceHealthSummary.instanceHealth() == InstanceHealthState.INITIAL || instanceHealthSummary.instanceHealth() == InstanceHealthState.DRAINING) {
-                return false;
+        val desiredInstances = nullToEmpty(resourceModelRequest.getDesiredResourceState().getAttachedInstances());
+        val previousModel = resourceModelRequest.getPreviousResourceState();
+        val changedInstances = previousModel == null ? null : symmetricDifference(desiredInstances,
+                nullToEmpty(previousModel.getAttachedInstances()));
+        val now = System.currentTimeMillis();
+        val reportedInstances = new HashSet<String>();
+        val unsettledInstances = new HashSet<String>();
+        val unhealthyInstances = new HashSet<String>();
+
+        for (InstanceHealthSummary instanceHealthSummary : awsResponse.loadBalancer().instanceHealthSummary()) {
+            val instanceName = instanceHealthSummary.instanceName();
+            reportedInstances.add(instanceName);
+            if (changedInstances != null && !changedInstances.contains(instanceName)) {
+                continue;
+            }
+            val health = instanceHealthSummary.instanceHealth();
+            val previousHealth = callbackContext.getInstanceHealth().put(instanceName, instanceHealthSummary.instanceHealthAsString());
+            val trackedSince = callbackContext.getInstanceHealthTrackedSince().computeIfAbsent(instanceName, key -> now);
+            if (!instanceHealthSummary.instanceHealthAsString().equals(previousHealth)) {
+                logger.log(String.format("Instance: %s health changed from %s to %s", instanceName, previousHealth,
+                        instanceHealthSummary.instanceHealthAsString()));
+            }
+
+            if (health == InstanceHealthState.INITIAL || health == InstanceHealthState.DRAINING) {
+                unsettledInstances.add(instanceName);
+            } else if (health == InstanceHealthState.HEALTHY) {
+                callbackContext.getInstanceUnhealthyCount().remove(instanceName);
+                if (!callbackContext.getInstanceTimeToHealthySeconds().containsKey(instanceName)) {
+                    val timeToHealthy = (now - trackedSince) / 1000;
+                    callbackContext.getInstanceTimeToHealthySeconds().put(instanceName, timeToHealthy);
+                    logger.log(String.format("Instance: %s became healthy after %d seconds", instanceName, timeToHealthy));
+                }
+            } else if (health == InstanceHealthState.UNHEALTHY && desiredInstances.contains(instanceName)) {
+                val unhealthyCount = callbackContext.getInstanceUnhealthyCount().merge(instanceName, 1, Integer::sum);
+                if (unhealthyCount < callbackContext.getUnhealthyMaxPollCount()) {
+                    unsettledInstances.add(instanceName);
+                } else if (unhealthyCount == callbackContext.getUnhealthyMaxPollCount()) {
+                    unhealthyInstances.add(instanceName);
+                }
+            } else {
+                callbackContext.getInstanceUnhealthyCount().remove(instanceName);
             }
         }
-        return true;
+
+        // An instance that stays unhealthy is likely failing its health check path, waiting for it would hold the
+        // update until the healthCheckMaxWaitCount cap.
+        if (!unhealthyInstances.isEmpty()) {
+            val message = String.format("Instances: %s stayed unhealthy for %d health check polls, continuing without them",
+                    unhealthyInstances, callbackContext.getUnhealthyMaxPollCount());
+            logger.log(message);
+            callbackContext.setInstanceHealthMessage(message);
+        }
+
+        // An attached instance only shows up in the health summary once the load balancer registered it.
+        for (val instanceName : desiredInstances) {
+            if ((changedInstances == null || changedInstances.contains(instanceName))
+                    && !reportedInstances.contains(instanceName)) {
+                Logging.sampled(logger, "Instance: %s is not yet reported by LoadBalancer: %s", instanceName,
+                        resourceModel.getLoadBalancerName());
+                unsettledInstances.add(instanceName);
+            }
+        }
+        callbackContext.setUnsettledInstances(unsettledInstances);
+        return unsettledInstances.isEmpty();
+    }
+
+    private Set<String> nullToEmpty(final Set<String> instances) {
+        return instances == null ? new HashSet<>() : instances;
+    }
+
+    private Set<String> symmetricDifference(final Set<String> setOne, final Set<String> setTwo) {
+        Set<String> result = new HashSet<>(setDifference(setOne, setTwo));
+        result.addAll(setDifference(setTwo, setOne));
+        return result;
     }
 
     public ResourceModel getCurrentResourceModelFromLightsail() {
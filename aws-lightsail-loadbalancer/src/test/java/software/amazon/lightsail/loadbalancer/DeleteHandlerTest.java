@@ -14,6 +14,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.loadbalancer.helpers.handler.LoadBalancerHandler;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -75,4 +77,47 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .loadBalancerName("loadBalancer")
+                        .instancePort(80)
+                        .build())
+                .build();
+    }
+
+    private static GetLoadBalancerResponse getLoadBalancerResponse() {
+        return GetLoadBalancerResponse.builder()
+                .loadBalancer(LoadBalancer.builder()
+                        .name("loadBalancer")
+                        .instancePort(80)
+                        .state(LoadBalancerState.ACTIVE)
+                        .build())
+                .build();
+    }
+
+    private static NotFoundException notFound() {
+        return NotFoundException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("NotFoundException").build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getLoadBalancer(any(GetLoadBalancerRequest.class)))
+                .thenReturn(getLoadBalancerResponse())
+                .thenThrow(notFound());
+        when(sdkClient.deleteLoadBalancer(any(DeleteLoadBalancerRequest.class)))
+                .thenReturn(DeleteLoadBalancerResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new DeleteHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(DeleteLoadBalancerRequest.class).exactly(1);
+        calls.assertCalls(GetLoadBalancerRequest.class).atMost(2);
+    }
 }
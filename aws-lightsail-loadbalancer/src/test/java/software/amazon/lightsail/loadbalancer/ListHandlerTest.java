@@ -7,13 +7,20 @@ import software.amazon.cloudformation.proxy.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest extends AbstractTestBase {
@@ -59,4 +66,122 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_pagesLargeSdkPage() {
+        final ListHandler handler = new ListHandler();
+
+        final List<software.amazon.awssdk.services.lightsail.model.LoadBalancer> items = IntStream.range(0, 150)
+                .mapToObj(i -> software.amazon.awssdk.services.lightsail.model.LoadBalancer.builder().name("item" + i).build())
+                .collect(Collectors.toList());
+        when(sdkClient.getLoadBalancers(any(GetLoadBalancersRequest.class)))
+                .thenReturn(GetLoadBalancersResponse.builder().loadBalancers(items).nextPageToken("sdkToken").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> first = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build())
+                        .build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(first.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(first.getResourceModels()).hasSize(100);
+        assertThat(first.getNextToken()).isNotNull();
+
+        final ProgressEvent<ResourceModel, CallbackContext> second = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build())
+                        .nextToken(first.getNextToken()).build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(second.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(second.getResourceModels()).hasSize(50);
+        assertThat(second.getNextToken()).isNotNull();
+
+        final ProgressEvent<ResourceModel, CallbackContext> third = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build())
+                        .nextToken(second.getNextToken()).build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(third.getResourceModels()).hasSize(100);
+
+        final ArgumentCaptor<GetLoadBalancersRequest> captor = ArgumentCaptor.forClass(GetLoadBalancersRequest.class);
+        verify(sdkClient, times(3)).getLoadBalancers(captor.capture());
+        assertThat(captor.getAllValues().get(0).pageToken()).isNull();
+        assertThat(captor.getAllValues().get(1).pageToken()).isNull();
+        assertThat(captor.getAllValues().get(2).pageToken()).isEqualTo("sdkToken");
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .loadBalancerName("loadBalancer")
+                        .instancePort(80)
+                        .build())
+                .build();
+    }
+
+    private static GetLoadBalancerResponse getLoadBalancerResponse() {
+        return GetLoadBalancerResponse.builder()
+                .loadBalancer(LoadBalancer.builder()
+                        .name("loadBalancer")
+                        .instancePort(80)
+                        .state(LoadBalancerState.ACTIVE)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getLoadBalancers(any(GetLoadBalancersRequest.class)))
+                .thenReturn(GetLoadBalancersResponse.builder()
+                        .loadBalancers(getLoadBalancerResponse().loadBalancer())
+                        .build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(GetLoadBalancersRequest.class).exactly(1);
+        calls.assertTotalCalls().exactly(1);
+    }
+
+    @Test
+    public void handleRequest_sdkPageShrankBetweenRequests() {
+        final ListHandler handler = new ListHandler();
+
+        when(sdkClient.getLoadBalancers(any(GetLoadBalancersRequest.class)))
+                .thenReturn(GetLoadBalancersResponse.builder().loadBalancers(loadBalancers(150))
+                                .nextPageToken("next").build(),
+                        // Load balancers were deleted before the second request, the offset is past the page.
+                        GetLoadBalancersResponse.builder().loadBalancers(loadBalancers(80))
+                                .nextPageToken("next").build(),
+                        GetLoadBalancersResponse.builder().loadBalancers(loadBalancers(5)).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> first = list(handler, null);
+        assertThat(first.getResourceModels()).extracting(ResourceModel::getLoadBalancerName)
+                .startsWith("loadBalancer0").endsWith("loadBalancer99").hasSize(100);
+
+        final ProgressEvent<ResourceModel, CallbackContext> second = list(handler, first.getNextToken());
+        assertThat(second.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(second.getResourceModels()).isEmpty();
+        assertThat(second.getNextToken()).isNotNull();
+
+        final ProgressEvent<ResourceModel, CallbackContext> third = list(handler, second.getNextToken());
+        assertThat(third.getResourceModels()).extracting(ResourceModel::getLoadBalancerName)
+                .containsExactly("loadBalancer0", "loadBalancer1", "loadBalancer2", "loadBalancer3", "loadBalancer4");
+        assertThat(third.getNextToken()).isNull();
+
+        final ArgumentCaptor<GetLoadBalancersRequest> captor = ArgumentCaptor.forClass(GetLoadBalancersRequest.class);
+        verify(sdkClient, times(3)).getLoadBalancers(captor.capture());
+        assertThat(captor.getAllValues()).extracting(GetLoadBalancersRequest::pageToken)
+                .containsExactly(null, null, "next");
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> list(final ListHandler handler, final String nextToken) {
+        return handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build()).nextToken(nextToken).build(),
+                new CallbackContext(), proxyClient, logger);
+    }
+
+    private static List<LoadBalancer> loadBalancers(final int count) {
+        return IntStream.range(0, count).mapToObj(i -> LoadBalancer.builder().name("loadBalancer" + i).build())
+                .collect(Collectors.toList());
+    }
 }
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.loadbalancer.helpers.resource.LoadBalancer;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -73,4 +74,36 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .loadBalancerName("loadBalancer")
+                        .instancePort(80)
+                        .build())
+                .build();
+    }
+
+    private static GetLoadBalancerResponse getLoadBalancerResponse() {
+        return GetLoadBalancerResponse.builder()
+                .loadBalancer(software.amazon.awssdk.services.lightsail.model.LoadBalancer.builder()
+                        .name("loadBalancer")
+                        .instancePort(80)
+                        .state(LoadBalancerState.ACTIVE)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getLoadBalancer(any(GetLoadBalancerRequest.class))).thenReturn(getLoadBalancerResponse());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertTotalCalls().exactly(1);
+    }
 }
@@ -15,11 +15,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.loadbalancer.helpers.handler.LoadBalancerHandler;
 import software.amazon.lightsail.loadbalancer.helpers.handler.TagsHandler;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.doReturn;
+import static software.amazon.lightsail.loadbalancer.CallbackContext.POST_ATTACH_WAIT;
+import static software.amazon.lightsail.loadbalancer.CallbackContext.POST_DETACH_WAIT;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest extends AbstractTestBase {
@@ -96,4 +99,49 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .loadBalancerName("loadBalancer")
+                        .instancePort(80)
+                        .build())
+                .build();
+    }
+
+    // The fixed waits after detach and attach are taken as done, so that the handlers don't sleep in the test.
+    private static CallbackContext callbackContext() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.incrementWaitCount(POST_DETACH_WAIT);
+        callbackContext.incrementWaitCount(POST_ATTACH_WAIT);
+        return callbackContext;
+    }
+
+    private static GetLoadBalancerResponse getLoadBalancerResponse() {
+        return GetLoadBalancerResponse.builder()
+                .loadBalancer(LoadBalancer.builder()
+                        .name("loadBalancer")
+                        .instancePort(80)
+                        .state(LoadBalancerState.ACTIVE)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getLoadBalancer(any(GetLoadBalancerRequest.class))).thenReturn(getLoadBalancerResponse());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler()
+                .handleRequest(proxy, request(), callbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(UpdateLoadBalancerAttributeRequest.class).never();
+        calls.assertCalls(DetachInstancesFromLoadBalancerRequest.class).never();
+        calls.assertCalls(AttachInstancesToLoadBalancerRequest.class).never();
+        calls.assertCalls(TagResourceRequest.class).never();
+        calls.assertCalls(UntagResourceRequest.class).never();
+        calls.assertCalls(GetLoadBalancerRequest.class).atMost(10);
+    }
 }
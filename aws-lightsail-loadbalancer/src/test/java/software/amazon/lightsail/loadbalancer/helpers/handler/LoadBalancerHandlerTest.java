@@ -539,14 +539,14 @@ public class LoadBalancerHandlerTest {
 
         when(loadBalancer.detachInstances(any()))
                 .thenReturn(DetachInstancesFromLoadBalancerResponse.builder().build());
-        when(loadBalancer.isStabilizedInstances())
+        when(loadBalancer.isStabilizedInstances(any()))
                 .thenReturn(true);
         callbackContext.incrementWaitCount(POST_DETACH_WAIT);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = testLoadBalancerHandler.detachInstances(ProgressEvent.progress(model, callbackContext));
 
         verify(loadBalancer, times(1)).detachInstances(any());
-        verify(loadBalancer, times(1)).isStabilizedInstances();
+        verify(loadBalancer, times(1)).isStabilizedInstances(any());
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -611,14 +611,14 @@ public class LoadBalancerHandlerTest {
 
         when(loadBalancer.attachInstances(any()))
                 .thenReturn(AttachInstancesToLoadBalancerResponse.builder().build());
-        when(loadBalancer.isStabilizedInstances())
+        when(loadBalancer.isStabilizedInstances(any()))
                 .thenReturn(true);
         callbackContext.incrementWaitCount(POST_ATTACH_WAIT);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = testLoadBalancerHandler.attachInstances(ProgressEvent.progress(model, callbackContext));
 
         verify(loadBalancer, times(1)).attachInstances(any());
-        verify(loadBalancer, times(1)).isStabilizedInstances();
+        verify(loadBalancer, times(1)).isStabilizedInstances(any());
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -628,4 +628,38 @@ public class LoadBalancerHandlerTest {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void testAttachInstances_healthCheckWaitReached() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final ResourceModel model = ResourceModel.builder().build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        val testLoadBalancerHandler = spy(new LoadBalancerHandler(proxy, callbackContext, request.getDesiredResourceState(), logger,
+                proxyClient, request));
+
+        doReturn(loadBalancer)
+                .when(testLoadBalancerHandler).getLoadBalancer(any(), any(), any());
+
+        when(loadBalancer.attachInstances(any()))
+                .thenReturn(AttachInstancesToLoadBalancerResponse.builder().build());
+        when(loadBalancer.isStabilizedInstances(any()))
+                .thenReturn(false);
+        callbackContext.incrementWaitCount(POST_ATTACH_WAIT);
+        callbackContext.setHealthCheckMaxWaitCount(1);
+        callbackContext.incrementWaitCount(POST_CHECK_ATTACH);
+        callbackContext.setUnsettledInstances(new HashSet<>(Arrays.asList("instance1")));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = testLoadBalancerHandler.attachInstances(ProgressEvent.progress(model, callbackContext));
+
+        verify(loadBalancer, times(1)).isStabilizedInstances(any());
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(callbackContext.getInstanceHealthMessage()).contains("instance1");
+        assertThat(BaseHandlerStd.withInstanceHealthMessage(response, callbackContext).getMessage())
+                .isEqualTo(callbackContext.getInstanceHealthMessage());
+    }
+
 }
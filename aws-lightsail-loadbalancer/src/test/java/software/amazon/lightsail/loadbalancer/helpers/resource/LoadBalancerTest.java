@@ -12,6 +12,7 @@ import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.*;
 import software.amazon.cloudformation.proxy.*;
 import software.amazon.lightsail.loadbalancer.AbstractTestBase;
+import software.amazon.lightsail.loadbalancer.CallbackContext;
 import software.amazon.lightsail.loadbalancer.ResourceModel;
 
 import java.time.Duration;
@@ -23,6 +24,7 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import static software.amazon.lightsail.loadbalancer.AbstractTestBase.MOCK_CREDENTIALS;
+import static software.amazon.lightsail.loadbalancer.CallbackContext.UNHEALTHY_MAX_POLL_COUNT;
 
 @ExtendWith(MockitoExtension.class)
 public class LoadBalancerTest {
@@ -113,6 +115,27 @@ public class LoadBalancerTest {
         verify(sdkClient, times(4)).updateLoadBalancerAttribute(any(UpdateLoadBalancerAttributeRequest.class));
     }
 
+    @Test
+    public void testGetAttributeChanges_enableStickiness() {
+        val current = ResourceModel.builder().healthCheckPath("/old").sessionStickinessEnabled(false)
+                .sessionStickinessLBCookieDurationSeconds("999").tlsPolicyName("policy1").build();
+        val desired = ResourceModel.builder().healthCheckPath("/old").sessionStickinessEnabled(true)
+                .sessionStickinessLBCookieDurationSeconds("1000").tlsPolicyName("policy1").build();
+        val result = testLoadBalancer.getAttributeChanges(current, desired);
+        assertThat(result).extracting(UpdateLoadBalancerAttributeRequest::attributeNameAsString)
+                .containsExactly("SessionStickinessEnabled", "SessionStickiness_LB_CookieDurationSeconds");
+    }
+
+    @Test
+    public void testGetAttributeChanges_disableStickiness() {
+        val current = ResourceModel.builder().sessionStickinessEnabled(true)
+                .sessionStickinessLBCookieDurationSeconds("999").build();
+        val desired = ResourceModel.builder().sessionStickinessLBCookieDurationSeconds("1000").build();
+        val result = testLoadBalancer.getAttributeChanges(current, desired);
+        assertThat(result).extracting(UpdateLoadBalancerAttributeRequest::attributeNameAsString)
+                .containsExactly("SessionStickiness_LB_CookieDurationSeconds", "SessionStickinessEnabled");
+    }
+
     @Test
     public void testDetachInstances() {
         when(sdkClient.getLoadBalancer(any(GetLoadBalancerRequest.class)))
@@ -199,9 +222,10 @@ public class LoadBalancerTest {
         when(sdkClient.getLoadBalancer(any(GetLoadBalancerRequest.class)))
                 .thenReturn(GetLoadBalancerResponse.builder()
                         .loadBalancer(software.amazon.awssdk.services.lightsail.model.LoadBalancer.builder()
-                                .instanceHealthSummary(InstanceHealthSummary.builder().instanceHealth(InstanceHealthState.HEALTHY).build())
+                                .instanceHealthSummary(InstanceHealthSummary.builder().instanceName("instance1")
+                                        .instanceHealth(InstanceHealthState.HEALTHY).build())
                                 .build()).build());
-        val result = testLoadBalancer.isStabilizedInstances();
+        val result = testLoadBalancer.isStabilizedInstances(new CallbackContext());
         verify(sdkClient, times(1)).getLoadBalancer(any(GetLoadBalancerRequest.class));
         assertThat(result).isTrue();
     }
@@ -211,10 +235,91 @@ public class LoadBalancerTest {
         when(sdkClient.getLoadBalancer(any(GetLoadBalancerRequest.class)))
                 .thenReturn(GetLoadBalancerResponse.builder()
                         .loadBalancer(software.amazon.awssdk.services.lightsail.model.LoadBalancer.builder()
-                                .instanceHealthSummary(InstanceHealthSummary.builder().instanceHealth(InstanceHealthState.INITIAL).build())
+                                .instanceHealthSummary(InstanceHealthSummary.builder().instanceName("instance1")
+                                        .instanceHealth(InstanceHealthState.INITIAL).build())
                                 .build()).build());
-        val result = testLoadBalancer.isStabilizedInstances();
+        val result = testLoadBalancer.isStabilizedInstances(new CallbackContext());
         verify(sdkClient, times(1)).getLoadBalancer(any(GetLoadBalancerRequest.class));
         assertThat(result).isFalse();
     }
+
+    @Test
+    public void testIsStabilizedInstances_unhealthy() {
+        val callbackContext = new CallbackContext();
+        when(sdkClient.getLoadBalancer(any(GetLoadBalancerRequest.class)))
+                .thenReturn(GetLoadBalancerResponse.builder()
+                        .loadBalancer(software.amazon.awssdk.services.lightsail.model.LoadBalancer.builder()
+                                .instanceHealthSummary(InstanceHealthSummary.builder().instanceName("instance1")
+                                        .instanceHealth(InstanceHealthState.UNHEALTHY).build())
+                                .build()).build());
+        // An unhealthy instance is waited on for unhealthyMaxPollCount polls in a row.
+        for (int i = 1; i < UNHEALTHY_MAX_POLL_COUNT; i++) {
+            assertThat(testLoadBalancer.isStabilizedInstances(callbackContext)).isFalse();
+        }
+        assertThat(callbackContext.getInstanceHealth()).containsEntry("instance1", "unhealthy");
+        assertThat(callbackContext.getUnsettledInstances()).containsExactly("instance1");
+        assertThat(callbackContext.getInstanceHealthMessage()).isNull();
+
+        assertThat(testLoadBalancer.isStabilizedInstances(callbackContext)).isTrue();
+        assertThat(callbackContext.getInstanceUnhealthyCount()).containsEntry("instance1", UNHEALTHY_MAX_POLL_COUNT);
+        assertThat(callbackContext.getUnsettledInstances()).isEmpty();
+        assertThat(callbackContext.getInstanceHealthMessage()).contains("instance1");
+    }
+
+    @Test
+    public void testIsStabilizedInstances_unhealthyThenHealthy() {
+        val callbackContext = new CallbackContext();
+        when(sdkClient.getLoadBalancer(any(GetLoadBalancerRequest.class)))
+                .thenReturn(healthSummary(InstanceHealthState.UNHEALTHY), healthSummary(InstanceHealthState.HEALTHY),
+                        healthSummary(InstanceHealthState.UNHEALTHY));
+        assertThat(testLoadBalancer.isStabilizedInstances(callbackContext)).isFalse();
+        assertThat(testLoadBalancer.isStabilizedInstances(callbackContext)).isTrue();
+        // The unhealthy polls have to be in a row.
+        assertThat(testLoadBalancer.isStabilizedInstances(callbackContext)).isFalse();
+        assertThat(callbackContext.getInstanceUnhealthyCount()).containsEntry("instance1", 1);
+    }
+
+    private GetLoadBalancerResponse healthSummary(final InstanceHealthState health) {
+        return GetLoadBalancerResponse.builder()
+                .loadBalancer(software.amazon.awssdk.services.lightsail.model.LoadBalancer.builder()
+                        .instanceHealthSummary(InstanceHealthSummary.builder().instanceName("instance1")
+                                .instanceHealth(health).build())
+                        .build()).build();
+    }
+
+    @Test
+    public void testIsStabilizedInstances_notYetReported() {
+        val callbackContext = new CallbackContext();
+        when(sdkClient.getLoadBalancer(any(GetLoadBalancerRequest.class)))
+                .thenReturn(GetLoadBalancerResponse.builder()
+                        .loadBalancer(software.amazon.awssdk.services.lightsail.model.LoadBalancer.builder()
+                                .instanceHealthSummary(InstanceHealthSummary.builder().instanceName("instance2")
+                                        .instanceHealth(InstanceHealthState.HEALTHY).build())
+                                .build()).build());
+        val result = testLoadBalancer.isStabilizedInstances(callbackContext);
+        assertThat(result).isFalse();
+        assertThat(callbackContext.getUnsettledInstances()).containsExactly("instance1");
+    }
+
+    @Test
+    public void testIsStabilizedInstances_onlyChangedInstances() {
+        val callbackContext = new CallbackContext();
+        val desired = ResourceModel.builder().attachedInstances(new HashSet<>(Arrays.asList("instance1", "instance2"))).build();
+        val previous = ResourceModel.builder().attachedInstances(new HashSet<>(Arrays.asList("instance1"))).build();
+        val loadBalancer = new LoadBalancer(desired, logger, proxyClient, ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired).previousResourceState(previous).build());
+        when(sdkClient.getLoadBalancer(any(GetLoadBalancerRequest.class)))
+                .thenReturn(GetLoadBalancerResponse.builder()
+                        .loadBalancer(software.amazon.awssdk.services.lightsail.model.LoadBalancer.builder()
+                                .instanceHealthSummary(InstanceHealthSummary.builder().instanceName("instance1")
+                                                .instanceHealth(InstanceHealthState.UNHEALTHY).build(),
+                                        InstanceHealthSummary.builder().instanceName("instance2")
+                                                .instanceHealth(InstanceHealthState.HEALTHY).build())
+                                .build()).build());
+        val result = loadBalancer.isStabilizedInstances(callbackContext);
+        assertThat(result).isTrue();
+        assertThat(callbackContext.getInstanceHealth()).containsOnlyKeys("instance2");
+        assertThat(callbackContext.getInstanceTimeToHealthySeconds()).containsKey("instance2");
+        assertThat(callbackContext.getUnsettledInstances()).isEmpty();
+    }
 }
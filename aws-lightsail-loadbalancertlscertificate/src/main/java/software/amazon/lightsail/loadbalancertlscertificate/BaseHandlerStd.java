@@ -43,7 +43,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                            final Logger logger) {
 
     return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(ClientBuilder::getClient), logger);
+            ReadRetryProxyClient.of(proxy.newProxy(ClientBuilder::getClient)), logger);
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -72,7 +72,12 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                           final List<String> ignoreErrorCodes, final Logger logger, final String errorLocation) {
 
     logger.log(String.format("Error during operation: %s, Error message: %s", errorLocation, e.getMessage()));
-    logger.log(Arrays.toString(e.getStackTrace()));
+    // Expected errors are part of the normal flow, their stack traces are only logged at DEBUG.
+    if (isIgnoredError(e, ignoreErrorCodes)) {
+      Logging.debug(logger, () -> Arrays.toString(e.getStackTrace()));
+    } else {
+      logger.log(Arrays.toString(e.getStackTrace()));
+    }
 
     if (e instanceof AwsServiceException) {
       final String errorCode = ((AwsServiceException) e).awsErrorDetails().errorCode();
@@ -114,4 +119,27 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     return ProgressEvent.defaultFailureHandler(new CfnGeneralServiceException(e),
             HandlerErrorCode.GeneralServiceException);
   }
+
+  /**
+   * Surface the DNS records required to validate the certificate as the message of the event, while waiting for the
+   * next callback and once the create completed.
+   *
+   * @param progress
+   *
+   * @return ProgressEvent<ResourceModel, CallbackContext>
+   */
+  public static ProgressEvent<ResourceModel, CallbackContext> withValidationMessage(
+          final ProgressEvent<ResourceModel, CallbackContext> progress) {
+    final CallbackContext callbackContext = progress.getCallbackContext();
+    if ((progress.isInProgress() || progress.isSuccess()) && callbackContext != null
+            && callbackContext.getValidationMessage() != null) {
+      progress.setMessage(callbackContext.getValidationMessage());
+    }
+    return progress;
+  }
+
+  private static boolean isIgnoredError(final Exception e, final List<String> ignoreErrorCodes) {
+    return e instanceof AwsServiceException && ((AwsServiceException) e).awsErrorDetails() != null
+        && ignoreErrorCodes.contains(((AwsServiceException) e).awsErrorDetails().errorCode());
+  }
 }
@@ -34,11 +34,11 @@ public class CreateHandler extends BaseHandlerStd {
         this.logger = logger;
         val loadBalancerTlsCertificateHandler = getLoadBalancerTlsCertificateHandler(proxy, request, callbackContext, proxyClient, logger);
 
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        return withValidationMessage(ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(loadBalancerTlsCertificateHandler::handleCreate).then(progress -> {
                     // Always go via update handler. What ever not get done in create will be updated in update
                     // Handler
                     return getUpdateHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
-                });
+                }));
     }
 }
@@ -47,12 +47,9 @@ public class Translator {
     if (awsResponse == null) {
       return ResourceModel.builder().build();
     }
-    val getLoadBalancerTlsCertificatesResponse = awsResponse.getLbTlsCertResponse();
-    val certificate = getLoadBalancerTlsCertificatesResponse.tlsCertificates().stream()
-            .filter(loadBalancerTlsCertificate -> loadBalancerTlsCertificate.name().equals(model.getCertificateName()))
-            .collect(Collectors.toList()).get(0);
+    val certificate = awsResponse.getCertificate(model.getCertificateName());
     ResourceModel resModel = translateSDKLoadBalancerTlsCertificateToResourceModel(certificate);
-    resModel.setHttpsRedirectionEnabled(awsResponse.isHttpsRedirectionEnabled());
+    resModel.setHttpsRedirectionEnabled(awsResponse.getHttpsRedirectionEnabled());
     return resModel;
   }
 
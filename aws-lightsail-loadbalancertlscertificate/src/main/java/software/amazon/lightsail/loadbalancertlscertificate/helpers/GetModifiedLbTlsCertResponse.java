@@ -1,18 +1,23 @@
 package software.amazon.lightsail.loadbalancertlscertificate.helpers;
 
 import software.amazon.awssdk.services.lightsail.model.GetLoadBalancerTlsCertificatesResponse;
+import software.amazon.awssdk.services.lightsail.model.LoadBalancerTlsCertificate;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * We are using the LoadBalancerTlsCertificate resource type to modify the HttpsRedirectionEnabled parameter of the LoadBalancer.
  * As this is a parameter of the LoadBalancer, this is not part of the response of GetLoadBalancerTlsCertificatesResponse. So,
- * we are modifying the response object to also include this parameter.
+ * we are modifying the response object to also include this parameter. HttpsRedirectionEnabled is null when it was not read.
  */
 public class GetModifiedLbTlsCertResponse {
 
     private GetLoadBalancerTlsCertificatesResponse LbTlsCertResponse;
-    private boolean httpsRedirectionEnabled;
+    private Boolean httpsRedirectionEnabled;
+    private Map<String, LoadBalancerTlsCertificate> certificatesByName;
 
-    public GetModifiedLbTlsCertResponse(GetLoadBalancerTlsCertificatesResponse lbTlsCertResponse, boolean httpsRedirectionEnabled) {
+    public GetModifiedLbTlsCertResponse(GetLoadBalancerTlsCertificatesResponse lbTlsCertResponse, Boolean httpsRedirectionEnabled) {
         LbTlsCertResponse = lbTlsCertResponse;
         this.httpsRedirectionEnabled = httpsRedirectionEnabled;
     }
@@ -26,13 +31,31 @@ public class GetModifiedLbTlsCertResponse {
 
     public void setLbTlsCertResponse(GetLoadBalancerTlsCertificatesResponse lbTlsCertResponse) {
         LbTlsCertResponse = lbTlsCertResponse;
+        certificatesByName = null;
     }
 
-    public boolean isHttpsRedirectionEnabled() {
+    public Boolean getHttpsRedirectionEnabled() {
         return httpsRedirectionEnabled;
     }
 
-    public void setHttpsRedirectionEnabled(boolean httpsRedirectionEnabled) {
+    public void setHttpsRedirectionEnabled(Boolean httpsRedirectionEnabled) {
         this.httpsRedirectionEnabled = httpsRedirectionEnabled;
     }
+
+    /**
+     * Get a certificate of the LoadBalancer by name. The certificates are indexed by name on first use.
+     *
+     * @param certificateName
+     *
+     * @return LoadBalancerTlsCertificate or null if the LoadBalancer has no such certificate
+     */
+    public LoadBalancerTlsCertificate getCertificate(String certificateName) {
+        if (certificatesByName == null) {
+            certificatesByName = new HashMap<>();
+            if (LbTlsCertResponse != null) {
+                LbTlsCertResponse.tlsCertificates().forEach(cert -> certificatesByName.putIfAbsent(cert.name(), cert));
+            }
+        }
+        return certificatesByName.get(certificateName);
+    }
 }
@@ -48,6 +48,12 @@ public class LoadBalancerTlsCertificateHandler extends ResourceHandler {
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> update(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        if (callbackContext.isAttachDeferred()) {
+            // The create gave up waiting for ISSUED, attaching would fail until a later stack update.
+            logger.log(String.format("LoadBalancerTlsCertificate: %s is not ISSUED yet, skipping attach.",
+                    resourceModel.getCertificateName()));
+            return progress;
+        }
         return attachCertificate(progress).then(this::modifyHttpsRedirectionAttribute);
     }
 
@@ -111,10 +117,10 @@ public class LoadBalancerTlsCertificateHandler extends ResourceHandler {
         return proxy
                 .initiate("AWS-Lightsail-LoadBalancerTlsCertificate::Create", proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToCreateRequest).backoffDelay(BACKOFF_DELAY)
+                .translateToServiceRequest(Translator::translateToCreateRequest).backoffDelay(VALIDATION_BACKOFF_DELAY)
                 .makeServiceCall((awsRequest, client) -> loadBalancerTlsCertificate.create(awsRequest))
                 .stabilize((awsRequest, awsResponse, client, model, context) -> (this.isStabilized(callbackContext, POST_CHECK_CREATE) &&
-                        loadBalancerTlsCertificate.isStabilizedCreate()))
+                        loadBalancerTlsCertificate.isStabilizedCreate(callbackContext)))
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
                 .progress();
@@ -1,5 +1,7 @@
 package software.amazon.lightsail.loadbalancertlscertificate.helpers.resource;
 
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import software.amazon.awssdk.awscore.AwsRequest;
@@ -7,25 +9,38 @@ import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.*;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.lightsail.loadbalancertlscertificate.CallbackContext;
+import software.amazon.lightsail.loadbalancertlscertificate.Logging;
 import software.amazon.lightsail.loadbalancertlscertificate.ResourceModel;
 import software.amazon.lightsail.loadbalancertlscertificate.helpers.GetModifiedLbTlsCertResponse;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static software.amazon.lightsail.loadbalancertlscertificate.CallbackContext.VALIDATION_POLL;
+
 /**
  * Helper class to handle LoadBalancer operations.
  */
 @RequiredArgsConstructor
 public class LoadBalancerTlsCertificate implements ResourceHelper {
 
+    private static final List<String> FAILED_STATUSES = ImmutableList.of(LoadBalancerTlsCertificateStatus.FAILED.toString(),
+            LoadBalancerTlsCertificateStatus.VALIDATION_TIMED_OUT.toString(), LoadBalancerTlsCertificateStatus.REVOKED.toString());
+
     private final ResourceModel resourceModel;
     private final Logger logger;
     private final ProxyClient<LightsailClient> proxyClient;
     private final ResourceHandlerRequest<ResourceModel> resourceModelRequest;
 
+    private Boolean httpsRedirectionEnabled;
+
     @Override
     public AwsResponse update(AwsRequest request) {
         AwsResponse awsResponse = null;
@@ -64,30 +79,57 @@ public class LoadBalancerTlsCertificate implements ResourceHelper {
      */
     @Override
     public GetModifiedLbTlsCertResponse read(AwsRequest request) {
+        return readCertificate(true);
+    }
+
+    /**
+     * Read the certificates of the LoadBalancer. HttpsRedirectionEnabled is only read from the LoadBalancer when it is
+     * requested and the certificate is attached, as it has no meaning otherwise. Stabilization polls only need the
+     * certificate and skip it.
+     *
+     * @param includeHttpsRedirection
+     *
+     * @return GetModifiedLbTlsCertResponse
+     */
+    public GetModifiedLbTlsCertResponse readCertificate(final boolean includeHttpsRedirection) {
         val loadBalancerName = resourceModel.getLoadBalancerName();
         logger.log(String.format("Reading certificates for LoadBalancer: %s", loadBalancerName));
-        val response = proxyClient.injectCredentialsAndInvokeV2(GetLoadBalancerTlsCertificatesRequest.builder()
-                .loadBalancerName(loadBalancerName).build(), proxyClient.client()::getLoadBalancerTlsCertificates);
-
-        for (software.amazon.awssdk.services.lightsail.model.LoadBalancerTlsCertificate cert: response.tlsCertificates()) {
-            if (cert.name().equals(resourceModel.getCertificateName())) {
-                val lbResponse = proxyClient.injectCredentialsAndInvokeV2(GetLoadBalancerRequest.builder()
-                        .loadBalancerName(loadBalancerName).build(), proxyClient.client()::getLoadBalancer);
-                return new GetModifiedLbTlsCertResponse(response, lbResponse.loadBalancer().httpsRedirectionEnabled());
-            }
+        val response = new GetModifiedLbTlsCertResponse(proxyClient.injectCredentialsAndInvokeV2(GetLoadBalancerTlsCertificatesRequest.builder()
+                .loadBalancerName(loadBalancerName).build(), proxyClient.client()::getLoadBalancerTlsCertificates), null);
+
+        val cert = response.getCertificate(resourceModel.getCertificateName());
+        if (cert == null) {
+            throw NotFoundException.builder().code("NotFoundException").message("The LoadBalancerTlsCert does not exist").statusCode(400)
+                    .awsErrorDetails(AwsErrorDetails.builder().errorCode("NotFoundException").errorMessage("The LoadBalancerTlsCert does not exist")
+                            .serviceName("Lightsail").build()).build();
+        }
+        if (includeHttpsRedirection && Boolean.TRUE.equals(cert.isAttached())) {
+            response.setHttpsRedirectionEnabled(getHttpsRedirectionEnabled());
         }
-        throw NotFoundException.builder().code("NotFoundException").message("The LoadBalancerTlsCert does not exist").statusCode(400)
-                .awsErrorDetails(AwsErrorDetails.builder().errorCode("NotFoundException").errorMessage("The LoadBalancerTlsCert does not exist")
-                        .serviceName("Lightsail").build()).build();
+        return response;
+    }
+
+    /**
+     * Get HttpsRedirectionEnabled of the LoadBalancer. The value is cached for the rest of the invocation.
+     *
+     * @return Boolean
+     */
+    private Boolean getHttpsRedirectionEnabled() {
+        if (httpsRedirectionEnabled == null) {
+            httpsRedirectionEnabled = proxyClient.injectCredentialsAndInvokeV2(GetLoadBalancerRequest.builder()
+                    .loadBalancerName(resourceModel.getLoadBalancerName()).build(), proxyClient.client()::getLoadBalancer)
+                    .loadBalancer().httpsRedirectionEnabled();
+        }
+        return httpsRedirectionEnabled;
     }
 
     @Override
     public boolean isStabilizedDelete() {
         final boolean stabilized = false;
-        logger.log(String.format("Checking if LoadBalancerTlsCertificate: %s deletion has stabilized.",
-                resourceModel.getLoadBalancerName(), stabilized));
+        Logging.sampled(logger, "Checking if LoadBalancerTlsCertificate: %s deletion has stabilized.",
+                resourceModel.getLoadBalancerName());
         try {
-            this.read(GetLoadBalancerTlsCertificatesRequest.builder().loadBalancerName(resourceModel.getLoadBalancerName()).build());
+            this.readCertificate(false);
         } catch (final Exception e) {
             if (!isSafeExceptionDelete(e)) {
                 throw e;
@@ -98,20 +140,90 @@ public class LoadBalancerTlsCertificate implements ResourceHelper {
         return stabilized;
     }
 
-    public boolean isStabilizedCreate() {
-        final boolean stabilized = true;
-        logger.log(String.format("Checking if LoadBalancerTlsCertificate: %s creation has stabilized.",
-                resourceModel.getLoadBalancerName(), stabilized));
+    /**
+     * Creation has stabilized once the DNS records required to validate the certificate are known. They are logged and
+     * kept in the CallbackContext so that they can be surfaced as progress message. A certificate that the template
+     * attaches is waited for until ISSUED, as attaching fails before. Waiting is bounded by maxValidationWaitCount: a
+     * certificate that is not ISSUED by then is created without being attached, as the DNS records can only be added
+     * once it exists, and a later stack update attaches it.
+     *
+     * @param callbackContext
+     *
+     * @return boolean
+     */
+    public boolean isStabilizedCreate(final CallbackContext callbackContext) {
+        val certificateName = resourceModel.getCertificateName();
+        Logging.sampled(logger, "Checking if LoadBalancerTlsCertificate: %s creation has stabilized.", certificateName);
+        callbackContext.incrementWaitCount(VALIDATION_POLL);
+        if (!callbackContext.isValidationReadDue()) {
+            logger.log(String.format("LoadBalancerTlsCertificate: %s is %s, skipping read.", certificateName,
+                    callbackContext.getCertificateStatus()));
+            return false;
+        }
+        final software.amazon.awssdk.services.lightsail.model.LoadBalancerTlsCertificate cert;
         try {
-            this.read(GetLoadBalancerTlsCertificatesRequest.builder().loadBalancerName(resourceModel.getLoadBalancerName()).build());
+            cert = this.readCertificate(false).getCertificate(certificateName);
         } catch (final Exception e) {
             if (!isSafeExceptionDelete(e)) {
                 throw e;
             }
             return false;
         }
-        logger.log(String.format("LoadBalancerTlsCertificate: %s creation has stabilized", resourceModel.getCertificateName()));
-        return stabilized;
+        val status = cert.statusAsString();
+        callbackContext.setCertificateStatus(status);
+        if (LoadBalancerTlsCertificateStatus.ISSUED.toString().equals(status)) {
+            logger.log(String.format("LoadBalancerTlsCertificate: %s creation has stabilized", certificateName));
+            return true;
+        }
+        if (FAILED_STATUSES.contains(status)) {
+            throw new CfnGeneralServiceException(String.format("LoadBalancerTlsCertificate: %s is %s. %s", certificateName,
+                    status, cert.failureReasonAsString() == null ? "" : cert.failureReasonAsString()));
+        }
+        val validationRecords = getValidationRecords(cert);
+        if (!validationRecords.isEmpty()) {
+            callbackContext.setValidationMessage(String.format("LoadBalancerTlsCertificate: %s is %s. Add the following DNS "
+                    + "records to validate it: %s", certificateName, status, String.join(", ", validationRecords)));
+            logger.log(callbackContext.getValidationMessage());
+        }
+        val isAttachRequired = Boolean.TRUE.equals(resourceModelRequest.getDesiredResourceState().getIsAttached());
+        if (!isAttachRequired && !validationRecords.isEmpty()) {
+            logger.log(String.format("LoadBalancerTlsCertificate: %s creation has stabilized, status: %s",
+                    certificateName, status));
+            return true;
+        }
+        if (callbackContext.isWaitCountReached(VALIDATION_POLL)) {
+            if (isAttachRequired) {
+                callbackContext.setAttachDeferred(true);
+                callbackContext.setValidationMessage(String.format("LoadBalancerTlsCertificate: %s is %s and was not "
+                        + "attached to LoadBalancer: %s, update the stack once it is ISSUED to attach it. %s",
+                        certificateName, status, resourceModel.getLoadBalancerName(),
+                        Strings.nullToEmpty(callbackContext.getValidationMessage())).trim());
+                logger.log(callbackContext.getValidationMessage());
+                return true;
+            }
+            logger.log(String.format("LoadBalancerTlsCertificate: %s creation has stabilized without validation "
+                    + "records, status: %s", certificateName, status));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the DNS records required to validate the certificate, one entry per record.
+     *
+     * @param cert
+     *
+     * @return List of records as "name type value"
+     */
+    private List<String> getValidationRecords(final software.amazon.awssdk.services.lightsail.model.LoadBalancerTlsCertificate cert) {
+        if (!cert.hasDomainValidationRecords()) {
+            return ImmutableList.of();
+        }
+        return cert.domainValidationRecords().stream()
+                .filter(record -> record.name() != null)
+                .map(record -> String.format("%s %s %s", record.name(), record.type(), record.value()))
+                .distinct()
+                .collect(Collectors.toList());
     }
 
     public AwsResponse attachToLoadBalancer() {
@@ -14,11 +14,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.loadbalancertlscertificate.helpers.handler.LoadBalancerTlsCertificateHandler;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.doReturn;
+import static software.amazon.lightsail.loadbalancertlscertificate.CallbackContext.POST_CHECK_CREATE;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest extends AbstractTestBase {
@@ -86,4 +88,55 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .loadBalancerName("loadBalancer")
+                        .certificateName("certificate")
+                        .certificateDomainName("example.com")
+                        .build())
+                .build();
+    }
+
+    private static GetLoadBalancerTlsCertificatesResponse getLoadBalancerTlsCertificatesResponse() {
+        return GetLoadBalancerTlsCertificatesResponse.builder()
+                .tlsCertificates(LoadBalancerTlsCertificate.builder()
+                        .loadBalancerName("loadBalancer")
+                        .name("certificate")
+                        .domainName("example.com")
+                        .isAttached(false)
+                        .status(LoadBalancerTlsCertificateStatus.ISSUED)
+                        .build())
+                .build();
+    }
+
+    // GetLoadBalancerTlsCertificates returns no certificates once the certificate is gone.
+    private static GetLoadBalancerTlsCertificatesResponse noCertificates() {
+        return GetLoadBalancerTlsCertificatesResponse.builder().build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        // The fixed wait after create is taken as done, so that the handler doesn't sleep in the test.
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.incrementWaitCount(POST_CHECK_CREATE);
+        when(sdkClient.getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class)))
+                .thenReturn(noCertificates())
+                .thenReturn(getLoadBalancerTlsCertificatesResponse());
+        when(sdkClient.createLoadBalancerTlsCertificate(any(CreateLoadBalancerTlsCertificateRequest.class)))
+                .thenReturn(CreateLoadBalancerTlsCertificateResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler()
+                .handleRequest(proxy, request(), callbackContext, calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(CreateLoadBalancerTlsCertificateRequest.class).exactly(1);
+        calls.assertCalls(AttachLoadBalancerTlsCertificateRequest.class).never();
+        calls.assertCalls(UpdateLoadBalancerAttributeRequest.class).never();
+        calls.assertCalls(GetLoadBalancerRequest.class).never();
+        calls.assertCalls(GetLoadBalancerTlsCertificatesRequest.class).atMost(4);
+    }
 }
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.loadbalancertlscertificate.helpers.handler.LoadBalancerTlsCertificateHandler;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -75,4 +76,49 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .loadBalancerName("loadBalancer")
+                        .certificateName("certificate")
+                        .certificateDomainName("example.com")
+                        .build())
+                .build();
+    }
+
+    private static GetLoadBalancerTlsCertificatesResponse getLoadBalancerTlsCertificatesResponse() {
+        return GetLoadBalancerTlsCertificatesResponse.builder()
+                .tlsCertificates(LoadBalancerTlsCertificate.builder()
+                        .loadBalancerName("loadBalancer")
+                        .name("certificate")
+                        .domainName("example.com")
+                        .isAttached(false)
+                        .status(LoadBalancerTlsCertificateStatus.ISSUED)
+                        .build())
+                .build();
+    }
+
+    // GetLoadBalancerTlsCertificates returns no certificates once the certificate is gone.
+    private static GetLoadBalancerTlsCertificatesResponse noCertificates() {
+        return GetLoadBalancerTlsCertificatesResponse.builder().build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class)))
+                .thenReturn(getLoadBalancerTlsCertificatesResponse())
+                .thenReturn(noCertificates());
+        when(sdkClient.deleteLoadBalancerTlsCertificate(any(DeleteLoadBalancerTlsCertificateRequest.class)))
+                .thenReturn(DeleteLoadBalancerTlsCertificateResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new DeleteHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(DeleteLoadBalancerTlsCertificateRequest.class).exactly(1);
+        calls.assertCalls(GetLoadBalancerTlsCertificatesRequest.class).atMost(2);
+    }
 }
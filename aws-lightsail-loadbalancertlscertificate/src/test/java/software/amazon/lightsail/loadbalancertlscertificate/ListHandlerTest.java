@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -61,4 +62,41 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .loadBalancerName("loadBalancer")
+                        .certificateName("certificate")
+                        .certificateDomainName("example.com")
+                        .build())
+                .build();
+    }
+
+    private static GetLoadBalancerTlsCertificatesResponse getLoadBalancerTlsCertificatesResponse() {
+        return GetLoadBalancerTlsCertificatesResponse.builder()
+                .tlsCertificates(LoadBalancerTlsCertificate.builder()
+                        .loadBalancerName("loadBalancer")
+                        .name("certificate")
+                        .domainName("example.com")
+                        .isAttached(false)
+                        .status(LoadBalancerTlsCertificateStatus.ISSUED)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class)))
+                .thenReturn(getLoadBalancerTlsCertificatesResponse());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(GetLoadBalancerTlsCertificatesRequest.class).exactly(1);
+        calls.assertTotalCalls().exactly(1);
+    }
 }
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.loadbalancertlscertificate.helpers.resource.LoadBalancerTlsCertificate;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -73,4 +74,40 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .loadBalancerName("loadBalancer")
+                        .certificateName("certificate")
+                        .certificateDomainName("example.com")
+                        .build())
+                .build();
+    }
+
+    private static GetLoadBalancerTlsCertificatesResponse getLoadBalancerTlsCertificatesResponse() {
+        return GetLoadBalancerTlsCertificatesResponse.builder()
+                .tlsCertificates(software.amazon.awssdk.services.lightsail.model.LoadBalancerTlsCertificate.builder()
+                        .loadBalancerName("loadBalancer")
+                        .name("certificate")
+                        .domainName("example.com")
+                        .isAttached(false)
+                        .status(LoadBalancerTlsCertificateStatus.ISSUED)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class)))
+                .thenReturn(getLoadBalancerTlsCertificatesResponse());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler()
+                .handleRequest(proxy, request(), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertTotalCalls().exactly(1);
+    }
 }
@@ -166,14 +166,14 @@ public class LoadBalancerTlsCertificateHandlerTest {
 
         when(loadBalancerTlsCertificate.create(any()))
                 .thenReturn(CreateLoadBalancerTlsCertificateResponse.builder().build());
-        when(loadBalancerTlsCertificate.isStabilizedCreate())
+        when(loadBalancerTlsCertificate.isStabilizedCreate(any()))
                 .thenReturn(true);
         callbackContext.incrementWaitCount(POST_CHECK_CREATE);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = testLoadBalancerTlsCertificateHandler.create(ProgressEvent.progress(model, callbackContext));
 
         verify(loadBalancerTlsCertificate, times(1)).create(any());
-        verify(loadBalancerTlsCertificate, times(1)).isStabilizedCreate();
+        verify(loadBalancerTlsCertificate, times(1)).isStabilizedCreate(any());
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -207,7 +207,7 @@ public class LoadBalancerTlsCertificateHandlerTest {
         final ProgressEvent<ResourceModel, CallbackContext> response = testLoadBalancerTlsCertificateHandler.create(ProgressEvent.progress(model, callbackContext));
 
         verify(loadBalancerTlsCertificate, times(1)).create(any());
-        verify(loadBalancerTlsCertificate, never()).isStabilizedCreate();
+        verify(loadBalancerTlsCertificate, never()).isStabilizedCreate(any());
         assertThat(loadBalancerTlsCertificate).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -238,7 +238,7 @@ public class LoadBalancerTlsCertificateHandlerTest {
         final ProgressEvent<ResourceModel, CallbackContext> response = testLoadBalancerTlsCertificateHandler.create(ProgressEvent.progress(model, callbackContext));
 
         verify(loadBalancerTlsCertificate, times(1)).create(any());
-        verify(loadBalancerTlsCertificate, never()).isStabilizedCreate();
+        verify(loadBalancerTlsCertificate, never()).isStabilizedCreate(any());
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -269,7 +269,7 @@ public class LoadBalancerTlsCertificateHandlerTest {
         final ProgressEvent<ResourceModel, CallbackContext> response = testLoadBalancerTlsCertificateHandler.create(ProgressEvent.progress(model, callbackContext));
 
         verify(loadBalancerTlsCertificate, times(1)).create(any());
-        verify(loadBalancerTlsCertificate, never()).isStabilizedCreate();
+        verify(loadBalancerTlsCertificate, never()).isStabilizedCreate(any());
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -298,7 +298,7 @@ public class LoadBalancerTlsCertificateHandlerTest {
         final ProgressEvent<ResourceModel, CallbackContext> response = testLoadBalancerTlsCertificateHandler.create(ProgressEvent.progress(model, callbackContext));
 
         verify(loadBalancerTlsCertificate, times(1)).create(any());
-        verify(loadBalancerTlsCertificate, never()).isStabilizedCreate();
+        verify(loadBalancerTlsCertificate, never()).isStabilizedCreate(any());
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -401,6 +401,29 @@ public class LoadBalancerTlsCertificateHandlerTest {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void testUpdate_attachDeferred() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setAttachDeferred(true);
+        final ResourceModel model = ResourceModel.builder().certificateName("testCert").build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        val testLoadBalancerTlsCertificateHandler = spy(new LoadBalancerTlsCertificateHandler(proxy, callbackContext, request.getDesiredResourceState(), logger,
+                proxyClient, request));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = testLoadBalancerTlsCertificateHandler.update(ProgressEvent.progress(model, callbackContext));
+
+        verify(loadBalancerTlsCertificate, never()).attachToLoadBalancer();
+        verify(loadBalancerTlsCertificate, never()).modifyHttpsRedirection();
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        assertThat(response.getErrorCode()).isNull();
+    }
+
     @Test
     public void testPreDelete() {
         final CallbackContext callbackContext = new CallbackContext();
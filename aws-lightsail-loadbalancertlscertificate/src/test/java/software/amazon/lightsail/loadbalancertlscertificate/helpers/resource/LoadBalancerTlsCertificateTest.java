@@ -10,9 +10,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.*;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.*;
 import software.amazon.lightsail.loadbalancertlscertificate.AbstractTestBase;
+import software.amazon.lightsail.loadbalancertlscertificate.CallbackContext;
 import software.amazon.lightsail.loadbalancertlscertificate.ResourceModel;
 
 import java.time.Duration;
@@ -23,6 +25,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.*;
 import static software.amazon.lightsail.loadbalancertlscertificate.AbstractTestBase.MOCK_CREDENTIALS;
+import static software.amazon.lightsail.loadbalancertlscertificate.CallbackContext.VALIDATION_POLL;
 
 @ExtendWith(MockitoExtension.class)
 public class LoadBalancerTlsCertificateTest {
@@ -81,13 +84,26 @@ public class LoadBalancerTlsCertificateTest {
     public void testRead() {
         when(sdkClient.getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class)))
                 .thenReturn(GetLoadBalancerTlsCertificatesResponse.builder().tlsCertificates(software.amazon.awssdk.services.lightsail.model.LoadBalancerTlsCertificate.
-                        builder().name("testCert").build()).build());
+                        builder().name("testCert").isAttached(true).build()).build());
         when(sdkClient.getLoadBalancer(any(GetLoadBalancerRequest.class)))
                 .thenReturn(GetLoadBalancerResponse.builder().loadBalancer(software.amazon.awssdk.services.lightsail.model.LoadBalancer.builder()
                         .name("testLb").httpsRedirectionEnabled(false).build()).build());
         val result = testLoadBalancerTlsCertificate.read(GetLoadBalancerTlsCertificatesRequest.builder().build());
         verify(sdkClient, times(1)).getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class));
+        verify(sdkClient, times(1)).getLoadBalancer(any(GetLoadBalancerRequest.class));
         assertThat(result).isNotNull();
+        assertThat(result.getHttpsRedirectionEnabled()).isFalse();
+    }
+
+    @Test
+    public void testRead_notAttached() {
+        when(sdkClient.getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class)))
+                .thenReturn(GetLoadBalancerTlsCertificatesResponse.builder().tlsCertificates(software.amazon.awssdk.services.lightsail.model.LoadBalancerTlsCertificate.
+                        builder().name("testCert").isAttached(false).build()).build());
+        val result = testLoadBalancerTlsCertificate.read(GetLoadBalancerTlsCertificatesRequest.builder().build());
+        verify(sdkClient, never()).getLoadBalancer(any(GetLoadBalancerRequest.class));
+        assertThat(result.getCertificate("testCert")).isNotNull();
+        assertThat(result.getHttpsRedirectionEnabled()).isNull();
     }
 
     @Test
@@ -245,12 +261,10 @@ public class LoadBalancerTlsCertificateTest {
         when(sdkClient.getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class)))
                 .thenReturn(GetLoadBalancerTlsCertificatesResponse.builder()
                         .tlsCertificates(software.amazon.awssdk.services.lightsail.model.LoadBalancerTlsCertificate
-                        .builder().name("testCert").build()).build());
-        when(sdkClient.getLoadBalancer(any(GetLoadBalancerRequest.class)))
-                .thenReturn(GetLoadBalancerResponse.builder().loadBalancer(software.amazon.awssdk.services.lightsail.model.LoadBalancer.builder()
-                        .name("testLb").httpsRedirectionEnabled(false).build()).build());
-        val result = testLoadBalancerTlsCertificate.isStabilizedCreate();
+                        .builder().name("testCert").isAttached(true).status(LoadBalancerTlsCertificateStatus.ISSUED).build()).build());
+        val result = testLoadBalancerTlsCertificate.isStabilizedCreate(new CallbackContext());
         verify(sdkClient, times(1)).getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class));
+        verify(sdkClient, never()).getLoadBalancer(any(GetLoadBalancerRequest.class));
         assertThat(result).isTrue();
     }
 
@@ -258,11 +272,94 @@ public class LoadBalancerTlsCertificateTest {
     public void testIsStabilizedCreate_notStabilized() {
         when(sdkClient.getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class)))
                 .thenReturn(GetLoadBalancerTlsCertificatesResponse.builder().build());
-        val result = testLoadBalancerTlsCertificate.isStabilizedCreate();
+        val result = testLoadBalancerTlsCertificate.isStabilizedCreate(new CallbackContext());
         verify(sdkClient, times(1)).getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class));
         assertThat(result).isFalse();
     }
 
+    @Test
+    public void testIsStabilizedCreate_pendingValidation() {
+        final CallbackContext callbackContext = new CallbackContext();
+        when(sdkClient.getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class)))
+                .thenReturn(GetLoadBalancerTlsCertificatesResponse.builder()
+                        .tlsCertificates(software.amazon.awssdk.services.lightsail.model.LoadBalancerTlsCertificate
+                        .builder().name("testCert").status(LoadBalancerTlsCertificateStatus.PENDING_VALIDATION)
+                        .domainValidationRecords(LoadBalancerTlsCertificateDomainValidationRecord.builder()
+                                .name("_abc.example.com.").type("CNAME").value("_def.acm-validations.aws.").build())
+                        .build()).build());
+        val result = testLoadBalancerTlsCertificate.isStabilizedCreate(callbackContext);
+        assertThat(result).isTrue();
+        assertThat(callbackContext.getCertificateStatus()).isEqualTo("PENDING_VALIDATION");
+        assertThat(callbackContext.getValidationMessage()).contains("_abc.example.com. CNAME _def.acm-validations.aws.");
+    }
+
+    @Test
+    public void testIsStabilizedCreate_pendingValidationWaitCountReached() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setMaxValidationWaitCount(0);
+        when(sdkClient.getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class)))
+                .thenReturn(GetLoadBalancerTlsCertificatesResponse.builder()
+                        .tlsCertificates(software.amazon.awssdk.services.lightsail.model.LoadBalancerTlsCertificate
+                        .builder().name("testCert").status(LoadBalancerTlsCertificateStatus.PENDING_VALIDATION).build()).build());
+        assertThat(testLoadBalancerTlsCertificate.isStabilizedCreate(callbackContext)).isTrue();
+    }
+
+    @Test
+    public void testIsStabilizedCreate_attachWaitsForIssued() {
+        final ResourceModel model = ResourceModel.builder().certificateName("testCert").isAttached(true).build();
+        final LoadBalancerTlsCertificate testCert = new LoadBalancerTlsCertificate(model, logger, proxyClient,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build());
+        final CallbackContext callbackContext = new CallbackContext();
+        when(sdkClient.getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class)))
+                .thenReturn(GetLoadBalancerTlsCertificatesResponse.builder()
+                        .tlsCertificates(software.amazon.awssdk.services.lightsail.model.LoadBalancerTlsCertificate
+                        .builder().name("testCert").status(LoadBalancerTlsCertificateStatus.PENDING_VALIDATION)
+                        .domainValidationRecords(LoadBalancerTlsCertificateDomainValidationRecord.builder()
+                                .name("_abc.example.com.").type("CNAME").value("_def.acm-validations.aws.").build())
+                        .build()).build());
+        assertThat(testCert.isStabilizedCreate(callbackContext)).isFalse();
+        assertThat(callbackContext.getValidationMessage()).contains("_abc.example.com. CNAME _def.acm-validations.aws.");
+    }
+
+    @Test
+    public void testIsStabilizedCreate_attachWaitCountReached() {
+        final ResourceModel model = ResourceModel.builder().certificateName("testCert").isAttached(true).build();
+        final LoadBalancerTlsCertificate testCert = new LoadBalancerTlsCertificate(model, logger, proxyClient,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build());
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setMaxValidationWaitCount(0);
+        when(sdkClient.getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class)))
+                .thenReturn(GetLoadBalancerTlsCertificatesResponse.builder()
+                        .tlsCertificates(software.amazon.awssdk.services.lightsail.model.LoadBalancerTlsCertificate
+                        .builder().name("testCert").status(LoadBalancerTlsCertificateStatus.PENDING_VALIDATION).build()).build());
+        assertThat(testCert.isStabilizedCreate(callbackContext)).isTrue();
+        assertThat(callbackContext.isAttachDeferred()).isTrue();
+        assertThat(callbackContext.getValidationMessage()).contains("testCert").contains("was not attached");
+    }
+
+    @Test
+    public void testIsStabilizedCreate_skipsReadBetweenIntervals() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.incrementWaitCount(VALIDATION_POLL);
+        callbackContext.incrementWaitCount(VALIDATION_POLL);
+        assertThat(testLoadBalancerTlsCertificate.isStabilizedCreate(callbackContext)).isFalse();
+        verify(sdkClient, never()).getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class));
+    }
+
+    @Test
+    public void testIsStabilizedCreate_failed() {
+        when(sdkClient.getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class)))
+                .thenReturn(GetLoadBalancerTlsCertificatesResponse.builder()
+                        .tlsCertificates(software.amazon.awssdk.services.lightsail.model.LoadBalancerTlsCertificate
+                        .builder().name("testCert").status(LoadBalancerTlsCertificateStatus.FAILED).build()).build());
+        try {
+            testLoadBalancerTlsCertificate.isStabilizedCreate(new CallbackContext());
+            fail();
+        } catch (CfnGeneralServiceException e) {
+            assertThat(e.getMessage()).contains("FAILED");
+        }
+    }
+
     @Test
     public void testIsStabilizedDelete_stabilized() {
         when(sdkClient.getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class)))
@@ -277,12 +374,10 @@ public class LoadBalancerTlsCertificateTest {
         when(sdkClient.getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class)))
                 .thenReturn(GetLoadBalancerTlsCertificatesResponse.builder()
                         .tlsCertificates(software.amazon.awssdk.services.lightsail.model.LoadBalancerTlsCertificate
-                                .builder().name("testCert").build()).build());
-        when(sdkClient.getLoadBalancer(any(GetLoadBalancerRequest.class)))
-                .thenReturn(GetLoadBalancerResponse.builder().loadBalancer(software.amazon.awssdk.services.lightsail.model.LoadBalancer.builder()
-                        .name("testLb").httpsRedirectionEnabled(false).build()).build());
+                                .builder().name("testCert").isAttached(true).build()).build());
         val result = testLoadBalancerTlsCertificate.isStabilizedDelete();
         verify(sdkClient, times(1)).getLoadBalancerTlsCertificates(any(GetLoadBalancerTlsCertificatesRequest.class));
+        verify(sdkClient, never()).getLoadBalancer(any(GetLoadBalancerRequest.class));
         assertThat(result).isFalse();
     }
 
@@ -4,7 +4,9 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 import software.amazon.cloudformation.proxy.delay.Constant;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @lombok.Getter
@@ -16,9 +18,14 @@ public class CallbackContext extends StdCallbackContext {
     public static final Constant BACKOFF_DELAY = Constant.of().delay(Duration.ofSeconds(20))
             .timeout(Duration.ofMinutes(25)).build();
 
+    // Attachment changes take effect within seconds, they are confirmed with short polls.
+    public static final Constant ATTACHMENT_BACKOFF_DELAY = Constant.of().delay(Duration.ofSeconds(5))
+            .timeout(Duration.ofMinutes(5)).build();
+
     public static String PRE_CHECK_CREATE = "preCheckCreate";
     public static String POST_CHECK_CREATE = "postCheckCreate";
     public static String PRE_CHECK_UPDATE = "preCheckUpdate";
+    public static String POST_CHECK_UPDATE = "postCheckUpdate";
 
     private Map<String, Boolean> isPreCheckDone = new HashMap<>();
 
@@ -28,6 +35,13 @@ public class CallbackContext extends StdCallbackContext {
 
     private Integer postCreateWaitCount = 1;
 
+    // Ids of the operations returned by the mutating call of each step that have not succeeded yet.
+    private Map<String, List<String>> pendingOperationIds = new HashMap<>();
+
+    public List<String> getPendingOperationIds(final String key) {
+        return this.pendingOperationIds.computeIfAbsent(key, k -> new ArrayList<>());
+    }
+
     public int getWaitCount(final String key) {
         return this.waitCount.getOrDefault(key, 0);
     }
@@ -4,8 +4,11 @@ import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.GetStaticIpsRequest;
 import software.amazon.awssdk.services.lightsail.model.GetStaticIpsResponse;
+import software.amazon.awssdk.services.lightsail.model.StaticIp;
 import software.amazon.cloudformation.proxy.*;
 
+import java.util.List;
+
 public class ListHandler extends BaseHandlerStd {
 
     @Override
@@ -13,15 +16,18 @@ public class ListHandler extends BaseHandlerStd {
            final ResourceHandlerRequest<ResourceModel> request, final CallbackContext callbackContext,
            final ProxyClient<LightsailClient> proxyClient, final Logger logger) {
 
-        final AwsRequest awsRequest = Translator.translateToListRequest(request.getNextToken());
+        final ListPaginator paginator = ListPaginator.fromNextToken(request.getNextToken());
+
+        final AwsRequest awsRequest = Translator.translateToListRequest(paginator.getPageToken());
 
         GetStaticIpsResponse awsResponse = proxyClient.injectCredentialsAndInvokeV2((GetStaticIpsRequest) awsRequest,
                 proxyClient.client()::getStaticIps);
 
-        String nextToken = awsResponse.nextPageToken();
+        final List<StaticIp> page = paginator.page(awsResponse.staticIps());
+        final String nextToken = paginator.nextToken(awsResponse.staticIps().size(), awsResponse.nextPageToken());
 
         return ProgressEvent.<ResourceModel, CallbackContext> builder()
-                .resourceModels(Translator.translateFromListRequest(awsResponse)).nextToken(nextToken)
+                .resourceModels(Translator.translateFromListRequest(page)).nextToken(nextToken)
                 .status(OperationStatus.SUCCESS).build();
     }
 }
@@ -74,13 +74,12 @@ public class Translator {
   }
 
   /**
-   * Translates resource objects from sdk into a resource model (primary identifier only)
-   * @param awsResponse the aws service describe resource response
+   * Translates a page of resource objects from sdk into resource models
+   * @param staticIps the sdk resource objects of the page
    * @return list of resource models
    */
-  static List<ResourceModel> translateFromListRequest(final AwsResponse awsResponse) {
-    val getStaticIpsResponse = (GetStaticIpsResponse) awsResponse;
-    return getStaticIpsResponse.staticIps().stream().map(Translator::translateSDKStaticIpToResourceModel)
+  static List<ResourceModel> translateFromListRequest(final List<StaticIp> staticIps) {
+    return staticIps.stream().map(Translator::translateSDKStaticIpToResourceModel)
             .collect(Collectors.toList());
   }
 }
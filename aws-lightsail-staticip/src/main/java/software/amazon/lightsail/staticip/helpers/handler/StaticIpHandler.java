@@ -3,6 +3,7 @@ package software.amazon.lightsail.staticip.helpers.handler;
 import com.google.common.collect.ImmutableList;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
+import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.services.lightsail.LightsailClient;
 import software.amazon.awssdk.services.lightsail.model.GetStaticIpRequest;
 import software.amazon.awssdk.services.lightsail.model.ResourceType;
@@ -12,6 +13,7 @@ import software.amazon.lightsail.staticip.CallbackContext;
 import software.amazon.lightsail.staticip.ResourceModel;
 import software.amazon.lightsail.staticip.Translator;
 import software.amazon.lightsail.staticip.helpers.resource.Instance;
+import software.amazon.lightsail.staticip.helpers.resource.Operations;
 import software.amazon.lightsail.staticip.helpers.resource.StaticIp;
 
 import static software.amazon.lightsail.staticip.BaseHandlerStd.*;
@@ -27,6 +29,9 @@ public class StaticIpHandler extends ResourceHandler {
     private final ProxyClient<LightsailClient> proxyClient;
     private final ResourceHandlerRequest<ResourceModel> resourceModelRequest;
 
+    // The read of the update pre check in this invocation, null when the pre check was replayed from the context.
+    private AwsResponse preCheckReadResponse;
+
     protected StaticIp getStaticIp(final ResourceHandlerRequest<ResourceModel> request,
                                    final ProxyClient<LightsailClient> proxyClient, final Logger logger) {
         return new StaticIp(request.getDesiredResourceState(), logger, proxyClient, request);
@@ -37,6 +42,11 @@ public class StaticIpHandler extends ResourceHandler {
         return new Instance(request.getDesiredResourceState(), logger, proxyClient, request);
     }
 
+    protected Operations getOperations(final ResourceHandlerRequest<ResourceModel> request,
+                                       final ProxyClient<LightsailClient> proxyClient, final Logger logger) {
+        return new Operations(request.getDesiredResourceState().getStaticIpName(), logger, proxyClient);
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> preUpdate(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
@@ -47,10 +57,12 @@ public class StaticIpHandler extends ResourceHandler {
                 .initiate("AWS-Lightsail-StaticIp::Update::PreCheck", proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToReadRequest).backoffDelay(BACKOFF_DELAY)
-                .makeServiceCall((awsRequest, client) -> staticIp.read(awsRequest))
+                .makeServiceCall((awsRequest, client) -> preCheckReadResponse = staticIp.read(awsRequest))
+                // The wait count only grows when the pre check had to wait for the Instance.
                 .stabilize((awsRequest, awsResponse, client, model,
-                            context) -> this.isStabilized(this.callbackContext, PRE_CHECK_UPDATE)
-                        || instance.isStabilized())
+                            context) -> !staticIp.isAttachmentTargetRequired(awsResponse)
+                        || instance.isStabilized()
+                        || this.isStabilized(this.callbackContext, PRE_CHECK_UPDATE))
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
                 .progress();
@@ -60,12 +72,20 @@ public class StaticIpHandler extends ResourceHandler {
     protected ProgressEvent<ResourceModel, CallbackContext> update(
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         val staticIp = getStaticIp(resourceModelRequest, proxyClient, logger);
+        val operations = getOperations(resourceModelRequest, proxyClient, logger);
         logger.log("Executing AWS-Lightsail-StaticIp::Update...");
         return proxy
                 .initiate("AWS-Lightsail-StaticIp::Update", proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToCreateRequest)
-                .makeServiceCall((awsRequest, client) -> staticIp.update(awsRequest))
+                .translateToServiceRequest(Translator::translateToCreateRequest).backoffDelay(ATTACHMENT_BACKOFF_DELAY)
+                // Reuse the pre check read unless the pre check waited, the attachment may have changed meanwhile.
+                .makeServiceCall((awsRequest, client) -> operations.track(callbackContext, POST_CHECK_UPDATE,
+                        staticIp.update(awsRequest, callbackContext.getWaitCount(PRE_CHECK_UPDATE) == 0
+                                ? preCheckReadResponse : null)))
+                // Poll the returned operations when there are any, otherwise wait for the StaticIp to report the attachment.
+                .stabilize((awsRequest, awsResponse, client, model, context) -> awsResponse == null ||
+                        (operations.isTracking(callbackContext, POST_CHECK_UPDATE) ? operations.isStabilized(callbackContext, POST_CHECK_UPDATE)
+                                : staticIp.isStabilizedUpdate()))
                 .handleError((awsRequest, exception, client, model, context) -> handleError(exception, model,
                         callbackContext, ImmutableList.of(), logger, this.getClass().getSimpleName()))
                 .progress();
@@ -9,6 +9,7 @@ import software.amazon.awssdk.services.lightsail.model.*;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.lightsail.staticip.Logging;
 import software.amazon.lightsail.staticip.ResourceModel;
 
 /**
@@ -39,6 +40,20 @@ public class Instance implements ResourceHelper {
         return awsResponse;
     }
 
+    /**
+     * Read only the state of the Instance, stabilization does not need the rest of the Instance.
+     *
+     * @param instanceName
+     *
+     * @return GetInstanceStateResponse
+     */
+    public GetInstanceStateResponse readState(String instanceName) {
+        logger.log(String.format("Reading state of Instance: %s", instanceName));
+        return proxyClient.injectCredentialsAndInvokeV2(
+                GetInstanceStateRequest.builder().instanceName(instanceName).build(),
+                proxyClient.client()::getInstanceState);
+    }
+
     /**
      * Check if Instance has reached running state.
      *
@@ -48,11 +63,10 @@ public class Instance implements ResourceHelper {
         if (resourceModelRequest.getDesiredResourceState().getAttachedTo() == null) {
             return true;
         }
-        val awsResponse = ((GetInstanceResponse) this.read(GetInstanceRequest.builder()
-                .instanceName(resourceModelRequest.getDesiredResourceState().getAttachedTo()).build()));
+        val awsResponse = this.readState(resourceModelRequest.getDesiredResourceState().getAttachedTo());
         val currentState = getCurrentState(awsResponse);
-        logger.log(String.format("Checking if Instance: %s has stabilized. Current state: %s",
-                resourceModel.getAttachedTo(), currentState));
+        Logging.sampled(logger, "Checking if Instance: %s has stabilized. Current state: %s",
+                resourceModel.getAttachedTo(), currentState);
         return "running".equalsIgnoreCase(currentState);
     }
 
@@ -64,9 +78,8 @@ public class Instance implements ResourceHelper {
      *
      * @param awsResponse
      */
-    private String getCurrentState(GetInstanceResponse awsResponse) {
-        val instance = awsResponse.instance();
-        return instance.state() == null ? "Pending" : instance.state().name();
+    private String getCurrentState(GetInstanceStateResponse awsResponse) {
+        return awsResponse.state() == null ? "Pending" : awsResponse.state().name();
     }
 
     @Override
@@ -10,6 +10,7 @@ import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.lightsail.staticip.Logging;
 import software.amazon.lightsail.staticip.ResourceModel;
 
 import static software.amazon.lightsail.staticip.Translator.translateFromReadResponse;
@@ -25,10 +26,88 @@ public class StaticIp implements ResourceHelper {
     private final ProxyClient<LightsailClient> proxyClient;
     private final ResourceHandlerRequest<ResourceModel> resourceModelRequest;
 
+    /**
+     * The single change needed to bring the attachment of the StaticIp to the desired state.
+     */
+    public enum AttachmentAction {
+        NONE, ATTACH, DETACH, MOVE
+    }
+
+    /**
+     * Reconcile the attachment of the StaticIp, reading its current state first.
+     *
+     * @param request
+     *
+     * @return AwsResponse or null if no change was required
+     */
     @Override
     public AwsResponse update(AwsRequest request) {
-        detach();
-        return attach();
+        return update(request, null);
+    }
+
+    /**
+     * Reconcile the attachment of the StaticIp. The StaticIp is read once, or not at all when a fresh read response is
+     * passed in, and at most one call is made. Moving the StaticIp to another Instance is a single attach, as
+     * Lightsail reassigns it from the current Instance without an unattached window.
+     *
+     * @param request
+     * @param readResponse GetStaticIp response to reconcile against, or null to read the StaticIp
+     *
+     * @return AwsResponse or null if no change was required
+     */
+    public AwsResponse update(AwsRequest request, AwsResponse readResponse) {
+        val desiredResourceModel = resourceModelRequest.getDesiredResourceState();
+        val currentResourceModel = readResponse == null ? getCurrentResourceModelFromLightsail()
+                : translateFromReadResponse(readResponse);
+        val action = getAttachmentAction(currentResourceModel);
+        switch (action) {
+            case DETACH:
+                logger.log(String.format("Detaching StaticIp: %s from Instance: %s",
+                        currentResourceModel.getStaticIpName(), currentResourceModel.getAttachedTo()));
+                return proxyClient.injectCredentialsAndInvokeV2(DetachStaticIpRequest.builder()
+                        .staticIpName(desiredResourceModel.getStaticIpName()).build(), proxyClient.client()::detachStaticIp);
+            case ATTACH:
+            case MOVE:
+                logger.log(String.format("%s StaticIp: %s to Instance: %s", action == AttachmentAction.MOVE ? "Moving" : "Attaching",
+                        desiredResourceModel.getStaticIpName(), desiredResourceModel.getAttachedTo()));
+                return proxyClient.injectCredentialsAndInvokeV2(AttachStaticIpRequest.builder()
+                        .staticIpName(desiredResourceModel.getStaticIpName())
+                        .instanceName(desiredResourceModel.getAttachedTo()).build(), proxyClient.client()::attachStaticIp);
+            default:
+                logger.log(String.format("No attachment change required for StaticIp: %s", currentResourceModel.getStaticIpName()));
+                return null;
+        }
+    }
+
+    /**
+     * Check if the desired attachment needs a target Instance, which is the case when attaching or moving.
+     *
+     * @param awsResponse GetStaticIpResponse with the current state of the StaticIp
+     *
+     * @return boolean
+     */
+    public boolean isAttachmentTargetRequired(final AwsResponse awsResponse) {
+        val action = getAttachmentAction(translateFromReadResponse(awsResponse));
+        return action == AttachmentAction.ATTACH || action == AttachmentAction.MOVE;
+    }
+
+    /**
+     * Compute the attachment change from the current state of the StaticIp to the desired state.
+     *
+     * @param currentResourceModel
+     *
+     * @return AttachmentAction
+     */
+    public AttachmentAction getAttachmentAction(final ResourceModel currentResourceModel) {
+        val desiredAttachedTo = resourceModelRequest.getDesiredResourceState().getAttachedTo();
+        val isAttached = Boolean.TRUE.equals(currentResourceModel.getIsAttached());
+        if (desiredAttachedTo == null) {
+            return isAttached ? AttachmentAction.DETACH : AttachmentAction.NONE;
+        }
+        if (desiredAttachedTo.equals(currentResourceModel.getAttachedTo())) {
+            return AttachmentAction.NONE;
+        }
+        return isAttached ? AttachmentAction.MOVE : AttachmentAction.ATTACH;
     }
 
     @Override
@@ -67,8 +146,8 @@ public class StaticIp implements ResourceHelper {
     }
 
     public boolean isStabilizedCreate() {
-        logger.log(String.format("Checking if StaticIp: %s creation has been stabilized.",
-                resourceModel.getStaticIpName()));
+        Logging.sampled(logger, "Checking if StaticIp: %s creation has been stabilized.",
+                resourceModel.getStaticIpName());
         try {
             this.read(GetStaticIpRequest.builder().staticIpName(resourceModel.getStaticIpName()).build());
         } catch (final Exception e) {
@@ -85,8 +164,8 @@ public class StaticIp implements ResourceHelper {
     @Override
     public boolean isStabilizedDelete() {
         final boolean stabilized = false;
-        logger.log(String.format("Checking if StaticIp: %s release has stabilized.",
-                resourceModel.getStaticIpName(), stabilized));
+        Logging.sampled(logger, "Checking if StaticIp: %s release has stabilized.",
+                resourceModel.getStaticIpName());
         try {
             this.read(GetStaticIpRequest.builder().staticIpName(resourceModel.getStaticIpName()).build());
         } catch (final Exception e) {
@@ -112,50 +191,25 @@ public class StaticIp implements ResourceHelper {
         return false;
     }
 
+    /**
+     * Update has stabilized once the StaticIp reports the desired attachment.
+     *
+     * @return boolean
+     */
     @Override
     public boolean isStabilizedUpdate() {
-        throw new UnsupportedOperationException();
+        val desiredAttachedTo = resourceModelRequest.getDesiredResourceState().getAttachedTo();
+        val currentResourceModel = getCurrentResourceModelFromLightsail();
+        Logging.sampled(logger, "Checking if StaticIp: %s update has stabilized. Attached to: %s",
+                resourceModel.getStaticIpName(), currentResourceModel.getAttachedTo());
+        if (desiredAttachedTo == null) {
+            return !Boolean.TRUE.equals(currentResourceModel.getIsAttached());
+        }
+        return desiredAttachedTo.equals(currentResourceModel.getAttachedTo());
     }
 
     private ResourceModel getCurrentResourceModelFromLightsail() {
         return translateFromReadResponse(this.read(GetStaticIpRequest.builder()
                 .staticIpName(resourceModel.getStaticIpName()).build()));
     }
-
-    public AwsResponse detach() {
-        ResourceModel desiredResourceModel = resourceModelRequest.getDesiredResourceState();
-        ResourceModel currentResourceModel = getCurrentResourceModelFromLightsail();
-
-        if (desiredResourceModel.getAttachedTo() == null && currentResourceModel.getIsAttached()) {
-            logger.log(String.format("Detaching StaticIp: %s from Instance: %s",
-                    currentResourceModel.getStaticIpName(), currentResourceModel.getAttachedTo()));
-            val detachStaticIpRequest = DetachStaticIpRequest.builder()
-                    .staticIpName(desiredResourceModel.getStaticIpName()).build();
-            return proxyClient.injectCredentialsAndInvokeV2(detachStaticIpRequest,
-                    proxyClient.client()::detachStaticIp);
-        }
-        logger.log(String.format("No detach required for StaticIp: %s", currentResourceModel.getStaticIpName()));
-        return null;
-    }
-
-    public AwsResponse attach() {
-        ResourceModel desiredResourceModel = resourceModelRequest.getDesiredResourceState();
-        ResourceModel currentResourceModel = getCurrentResourceModelFromLightsail();
-
-        if (desiredResourceModel.getAttachedTo() != null) {
-            if (currentResourceModel.getAttachedTo() != null &&
-                    currentResourceModel.getAttachedTo().equals(desiredResourceModel.getAttachedTo())) {
-                return null;
-            }
-            logger.log(String.format("Attaching StaticIp: %s to Instance: %s",
-                    desiredResourceModel.getStaticIpName(), desiredResourceModel.getAttachedTo()));
-            val attachStaticIpRequest = AttachStaticIpRequest.builder()
-                    .staticIpName(desiredResourceModel.getStaticIpName()).instanceName(desiredResourceModel.getAttachedTo())
-                    .build();
-            return proxyClient.injectCredentialsAndInvokeV2(attachStaticIpRequest,
-                    proxyClient.client()::attachStaticIp);
-        }
-        logger.log(String.format("No attach required for StaticIp: %s", currentResourceModel.getStaticIpName()));
-        return null;
-    }
 }
@@ -12,10 +12,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.lightsail.staticip.helpers.handler.StaticIpHandler;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static software.amazon.lightsail.staticip.CallbackContext.POST_CHECK_CREATE;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest extends AbstractTestBase {
@@ -84,4 +87,51 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    private static ResourceHandlerRequest<ResourceModel> request(final String attachedTo) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .staticIpName("staticIp")
+                        .attachedTo(attachedTo)
+                        .build())
+                .build();
+    }
+
+    private static GetStaticIpResponse getStaticIpResponse() {
+        return GetStaticIpResponse.builder()
+                .staticIp(StaticIp.builder()
+                        .name("staticIp")
+                        .ipAddress("192.0.2.1")
+                        .isAttached(false)
+                        .build())
+                .build();
+    }
+
+    private static NotFoundException notFound() {
+        return NotFoundException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("NotFoundException").build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        // The fixed wait after create is taken as done, so that the handler doesn't sleep in the test.
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.incrementWaitCount(POST_CHECK_CREATE);
+        when(sdkClient.getStaticIp(any(GetStaticIpRequest.class)))
+                .thenThrow(notFound())
+                .thenReturn(getStaticIpResponse());
+        when(sdkClient.allocateStaticIp(any(AllocateStaticIpRequest.class)))
+                .thenReturn(AllocateStaticIpResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler()
+                .handleRequest(proxy, request(null), callbackContext, calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(AllocateStaticIpRequest.class).exactly(1);
+        calls.assertCalls(AttachStaticIpRequest.class).never();
+        calls.assertCalls(DetachStaticIpRequest.class).never();
+        calls.assertCalls(GetStaticIpRequest.class).atMost(4);
+    }
 }
@@ -12,6 +12,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.lightsail.staticip.helpers.handler.StaticIpHandler;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -76,4 +78,46 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    private static ResourceHandlerRequest<ResourceModel> request(final String attachedTo) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .staticIpName("staticIp")
+                        .attachedTo(attachedTo)
+                        .build())
+                .build();
+    }
+
+    private static GetStaticIpResponse getStaticIpResponse() {
+        return GetStaticIpResponse.builder()
+                .staticIp(StaticIp.builder()
+                        .name("staticIp")
+                        .ipAddress("192.0.2.1")
+                        .isAttached(false)
+                        .build())
+                .build();
+    }
+
+    private static NotFoundException notFound() {
+        return NotFoundException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("NotFoundException").build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getStaticIp(any(GetStaticIpRequest.class)))
+                .thenReturn(getStaticIpResponse())
+                .thenThrow(notFound());
+        when(sdkClient.releaseStaticIp(any(ReleaseStaticIpRequest.class)))
+                .thenReturn(ReleaseStaticIpResponse.builder().build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new DeleteHandler()
+                .handleRequest(proxy, request(null), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(ReleaseStaticIpRequest.class).exactly(1);
+        calls.assertCalls(GetStaticIpRequest.class).atMost(2);
+    }
 }
@@ -6,15 +6,21 @@ import software.amazon.cloudformation.proxy.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.cloudformation.proxy.OperationStatus;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -61,4 +67,117 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_pagesLargeSdkPage() {
+        final ListHandler handler = new ListHandler();
+
+        final List<software.amazon.awssdk.services.lightsail.model.StaticIp> items = IntStream.range(0, 150)
+                .mapToObj(i -> software.amazon.awssdk.services.lightsail.model.StaticIp.builder().name("item" + i).build())
+                .collect(Collectors.toList());
+        when(sdkClient.getStaticIps(any(GetStaticIpsRequest.class)))
+                .thenReturn(GetStaticIpsResponse.builder().staticIps(items).nextPageToken("sdkToken").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> first = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build())
+                        .build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(first.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(first.getResourceModels()).hasSize(100);
+        assertThat(first.getNextToken()).isNotNull();
+
+        final ProgressEvent<ResourceModel, CallbackContext> second = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build())
+                        .nextToken(first.getNextToken()).build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(second.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(second.getResourceModels()).hasSize(50);
+        assertThat(second.getNextToken()).isNotNull();
+
+        final ProgressEvent<ResourceModel, CallbackContext> third = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build())
+                        .nextToken(second.getNextToken()).build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(third.getResourceModels()).hasSize(100);
+
+        final ArgumentCaptor<GetStaticIpsRequest> captor = ArgumentCaptor.forClass(GetStaticIpsRequest.class);
+        verify(sdkClient, times(3)).getStaticIps(captor.capture());
+        assertThat(captor.getAllValues().get(0).pageToken()).isNull();
+        assertThat(captor.getAllValues().get(1).pageToken()).isNull();
+        assertThat(captor.getAllValues().get(2).pageToken()).isEqualTo("sdkToken");
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final String attachedTo) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .staticIpName("staticIp")
+                        .attachedTo(attachedTo)
+                        .build())
+                .build();
+    }
+
+    private static GetStaticIpResponse getStaticIpResponse() {
+        return GetStaticIpResponse.builder()
+                .staticIp(StaticIp.builder()
+                        .name("staticIp")
+                        .ipAddress("192.0.2.1")
+                        .isAttached(false)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getStaticIps(any(GetStaticIpsRequest.class)))
+                .thenReturn(GetStaticIpsResponse.builder()
+                        .staticIps(getStaticIpResponse().staticIp())
+                        .build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler()
+                .handleRequest(proxy, request(null), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(GetStaticIpsRequest.class).exactly(1);
+        calls.assertTotalCalls().exactly(1);
+    }
+
+    @Test
+    public void handleRequest_fullSdkPageMovesToNextSdkPage() {
+        final ListHandler handler = new ListHandler();
+
+        when(sdkClient.getStaticIps(any(GetStaticIpsRequest.class)))
+                .thenReturn(GetStaticIpsResponse.builder().staticIps(staticIps("a", 100)).nextPageToken("next").build(),
+                        GetStaticIpsResponse.builder().staticIps(staticIps("b", 101)).build());
+
+        // A fully returned SDK page continues at the next SDK page, without reading this one again.
+        final ProgressEvent<ResourceModel, CallbackContext> first = list(handler, null);
+        assertThat(first.getResourceModels()).extracting(ResourceModel::getStaticIpName)
+                .startsWith("a0").endsWith("a99").hasSize(100);
+
+        final ProgressEvent<ResourceModel, CallbackContext> second = list(handler, first.getNextToken());
+        assertThat(second.getResourceModels()).extracting(ResourceModel::getStaticIpName)
+                .startsWith("b0").endsWith("b99").hasSize(100);
+
+        final ProgressEvent<ResourceModel, CallbackContext> third = list(handler, second.getNextToken());
+        assertThat(third.getResourceModels()).extracting(ResourceModel::getStaticIpName).containsExactly("b100");
+        assertThat(third.getNextToken()).isNull();
+
+        final ArgumentCaptor<GetStaticIpsRequest> captor = ArgumentCaptor.forClass(GetStaticIpsRequest.class);
+        verify(sdkClient, times(3)).getStaticIps(captor.capture());
+        assertThat(captor.getAllValues()).extracting(GetStaticIpsRequest::pageToken)
+                .containsExactly(null, "next", "next");
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> list(final ListHandler handler, final String nextToken) {
+        return handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build()).nextToken(nextToken).build(),
+                new CallbackContext(), proxyClient, logger);
+    }
+
+    private static List<StaticIp> staticIps(final String prefix, final int count) {
+        return IntStream.range(0, count).mapToObj(i -> StaticIp.builder().name(prefix + i).build())
+                .collect(Collectors.toList());
+    }
 }
@@ -12,6 +12,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.lightsail.staticip.helpers.resource.StaticIp;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -71,4 +72,36 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final String attachedTo) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .staticIpName("staticIp")
+                        .attachedTo(attachedTo)
+                        .build())
+                .build();
+    }
+
+    private static GetStaticIpResponse getStaticIpResponse() {
+        return GetStaticIpResponse.builder()
+                .staticIp(software.amazon.awssdk.services.lightsail.model.StaticIp.builder()
+                        .name("staticIp")
+                        .ipAddress("192.0.2.1")
+                        .isAttached(false)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget() {
+        when(sdkClient.getStaticIp(any(GetStaticIpRequest.class))).thenReturn(getStaticIpResponse());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler()
+                .handleRequest(proxy, request(null), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertTotalCalls().exactly(1);
+    }
 }
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.lightsail.staticip.helpers.handler.StaticIpHandler;
+import software.amazon.awssdk.services.lightsail.model.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -87,4 +88,56 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final String attachedTo) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .staticIpName("staticIp")
+                        .attachedTo(attachedTo)
+                        .build())
+                .build();
+    }
+
+    private static GetStaticIpResponse getStaticIpResponse() {
+        return GetStaticIpResponse.builder()
+                .staticIp(StaticIp.builder()
+                        .name("staticIp")
+                        .ipAddress("192.0.2.1")
+                        .isAttached(false)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_apiCallBudget_attach() {
+        when(sdkClient.getStaticIp(any(GetStaticIpRequest.class))).thenReturn(getStaticIpResponse());
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder().name("running").build())
+                        .build());
+        when(sdkClient.attachStaticIp(any(AttachStaticIpRequest.class)))
+                .thenReturn(AttachStaticIpResponse.builder()
+                        .operations(Operation.builder().id("attach").build())
+                        .build());
+        when(sdkClient.getOperation(any(GetOperationRequest.class)))
+                .thenReturn(GetOperationResponse.builder()
+                        .operation(Operation.builder().id("attach")
+                                .status(software.amazon.awssdk.services.lightsail.model.OperationStatus.SUCCEEDED)
+                                .build())
+                        .build());
+
+        final ApiCallCounter calls = ApiCallCounter.of(proxyClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler()
+                .handleRequest(proxy, request("instance"), new CallbackContext(), calls, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls.assertCalls(AttachStaticIpRequest.class).exactly(1);
+        calls.assertCalls(DetachStaticIpRequest.class).never();
+        // The read of the pre-check is reused by the attach, the second read is the ReadHandler's.
+        calls.assertCalls(GetStaticIpRequest.class).atMost(2);
+        calls.assertCalls(GetInstanceStateRequest.class).atMost(1);
+        calls.assertCalls(GetOperationRequest.class).atMost(1);
+        calls.assertTotalCalls().atMost(5);
+    }
 }
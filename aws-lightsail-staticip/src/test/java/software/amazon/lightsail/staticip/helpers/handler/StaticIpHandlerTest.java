@@ -327,6 +327,8 @@ public class StaticIpHandlerTest {
 
         when(staticIp.read(any()))
                 .thenReturn(GetStaticIpResponse.builder().build());
+        when(staticIp.isAttachmentTargetRequired(any()))
+                .thenReturn(true);
         when(instance.isStabilized())
                 .thenReturn(true);
 
@@ -343,6 +345,36 @@ public class StaticIpHandlerTest {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void testPreUpdate_noAttachmentTarget() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final ResourceModel model = ResourceModel.builder().build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        val testStaticIpHandler = spy(new StaticIpHandler(proxy, callbackContext, request.getDesiredResourceState(), logger,
+                proxyClient, request));
+
+        doReturn(staticIp)
+                .when(testStaticIpHandler).getStaticIp(any(), any(), any());
+        doReturn(instance)
+                .when(testStaticIpHandler).getInstance(any(), any(), any());
+
+        when(staticIp.read(any()))
+                .thenReturn(GetStaticIpResponse.builder().build());
+        when(staticIp.isAttachmentTargetRequired(any()))
+                .thenReturn(false);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = testStaticIpHandler.preUpdate(ProgressEvent.progress(model, callbackContext));
+
+        verify(staticIp, times(1)).read(any());
+        verify(instance, never()).isStabilized();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+    }
+
     @Test
     public void testPreUpdate_doesNotExist() {
         final CallbackContext callbackContext = new CallbackContext();
@@ -391,12 +423,15 @@ public class StaticIpHandlerTest {
         doReturn(staticIp)
                 .when(testStaticIpHandler).getStaticIp(any(), any(), any());
 
-        when(staticIp.update(any()))
+        when(staticIp.update(any(), any()))
                 .thenReturn(AttachStaticIpResponse.builder().build());
+        when(staticIp.isStabilizedUpdate())
+                .thenReturn(true);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = testStaticIpHandler.update(ProgressEvent.progress(model, callbackContext));
 
-        verify(staticIp, times(1)).update(any());
+        verify(staticIp, times(1)).update(any(), isNull());
+        verify(staticIp, times(1)).isStabilizedUpdate();
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -406,6 +441,75 @@ public class StaticIpHandlerTest {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void testUpdate_reusesPreCheckRead() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final ResourceModel model = ResourceModel.builder().build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        val testStaticIpHandler = spy(new StaticIpHandler(proxy, callbackContext, request.getDesiredResourceState(), logger,
+                proxyClient, request));
+
+        doReturn(staticIp)
+                .when(testStaticIpHandler).getStaticIp(any(), any(), any());
+        doReturn(instance)
+                .when(testStaticIpHandler).getInstance(any(), any(), any());
+
+        val readResponse = GetStaticIpResponse.builder().build();
+        when(staticIp.read(any()))
+                .thenReturn(readResponse);
+        when(staticIp.isAttachmentTargetRequired(any()))
+                .thenReturn(true);
+        when(instance.isStabilized())
+                .thenReturn(true);
+        when(staticIp.update(any(), any()))
+                .thenReturn(null);
+
+        testStaticIpHandler.preUpdate(ProgressEvent.progress(model, callbackContext));
+        testStaticIpHandler.update(ProgressEvent.progress(model, callbackContext));
+
+        verify(staticIp, times(1)).read(any());
+        verify(staticIp, times(1)).update(any(), same(readResponse));
+    }
+
+    @Test
+    public void testUpdate_rereadsAfterPreCheckWait() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final ResourceModel model = ResourceModel.builder().build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        val testStaticIpHandler = spy(new StaticIpHandler(proxy, callbackContext, request.getDesiredResourceState(), logger,
+                proxyClient, request));
+
+        doReturn(staticIp)
+                .when(testStaticIpHandler).getStaticIp(any(), any(), any());
+        doReturn(instance)
+                .when(testStaticIpHandler).getInstance(any(), any(), any());
+
+        when(staticIp.read(any()))
+                .thenReturn(GetStaticIpResponse.builder().build());
+        when(staticIp.isAttachmentTargetRequired(any()))
+                .thenReturn(true);
+        when(instance.isStabilized())
+                .thenReturn(true);
+        when(staticIp.update(any(), any()))
+                .thenReturn(null);
+
+        testStaticIpHandler.preUpdate(ProgressEvent.progress(model, callbackContext));
+        // The pre check waited for the Instance, the read it started with may be stale.
+        callbackContext.incrementWaitCount(PRE_CHECK_UPDATE);
+        testStaticIpHandler.update(ProgressEvent.progress(model, callbackContext));
+
+        verify(staticIp, times(1)).update(any(), isNull());
+        assertThat(callbackContext.getWaitCount(PRE_CHECK_UPDATE)).isEqualTo(1);
+    }
+
     @Test
     public void testPreDelete() {
         final CallbackContext callbackContext = new CallbackContext();
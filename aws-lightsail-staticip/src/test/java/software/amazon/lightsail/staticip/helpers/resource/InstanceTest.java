@@ -74,7 +74,7 @@ public class InstanceTest {
         Instance testInstance = new Instance(model, logger, proxyClient, resourceModelRequest);
 
         val result = testInstance.isStabilized();
-        verify(sdkClient, never()).getInstance(any(GetInstanceRequest.class));
+        verify(sdkClient, never()).getInstanceState(any(GetInstanceStateRequest.class));
         assertThat(result).isTrue();
     }
 
@@ -88,14 +88,14 @@ public class InstanceTest {
                         .build();
         Instance testInstance = new Instance(model, logger, proxyClient, resourceModelRequest);
 
-        when(sdkClient.getInstance(any(GetInstanceRequest.class)))
-                .thenReturn(GetInstanceResponse.builder()
-                        .instance(software.amazon.awssdk.services.lightsail.model.Instance.builder()
-                                .state(InstanceState.builder()
-                                        .name("Running")
-                                        .build()).build()).build());
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder()
+                                .name("Running")
+                                .build()).build());
         val result = testInstance.isStabilized();
-        verify(sdkClient, times(1)).getInstance(any(GetInstanceRequest.class));
+        verify(sdkClient, times(1)).getInstanceState(any(GetInstanceStateRequest.class));
+        verify(sdkClient, never()).getInstance(any(GetInstanceRequest.class));
         assertThat(result).isTrue();
     }
 
@@ -109,14 +109,14 @@ public class InstanceTest {
                         .build();
         Instance testInstance = new Instance(model, logger, proxyClient, resourceModelRequest);
 
-        when(sdkClient.getInstance(any(GetInstanceRequest.class)))
-                .thenReturn(GetInstanceResponse.builder()
-                        .instance(software.amazon.awssdk.services.lightsail.model.Instance.builder()
-                                .state(InstanceState.builder()
-                                        .name("Pending")
-                                        .build()).build()).build());
+        when(sdkClient.getInstanceState(any(GetInstanceStateRequest.class)))
+                .thenReturn(GetInstanceStateResponse.builder()
+                        .state(InstanceState.builder()
+                                .name("Pending")
+                                .build()).build());
         val result = testInstance.isStabilized();
-        verify(sdkClient, times(1)).getInstance(any(GetInstanceRequest.class));
+        verify(sdkClient, times(1)).getInstanceState(any(GetInstanceStateRequest.class));
+        verify(sdkClient, never()).getInstance(any(GetInstanceRequest.class));
         assertThat(result).isFalse();
     }
 
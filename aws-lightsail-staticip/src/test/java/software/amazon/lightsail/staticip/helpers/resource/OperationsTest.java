@@ -0,0 +1,149 @@
+package software.amazon.lightsail.staticip.helpers.resource;
+
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.lightsail.LightsailClient;
+import software.amazon.awssdk.services.lightsail.model.*;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.proxy.*;
+import software.amazon.lightsail.staticip.AbstractTestBase;
+import software.amazon.lightsail.staticip.CallbackContext;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+import static software.amazon.lightsail.staticip.AbstractTestBase.MOCK_CREDENTIALS;
+import static software.amazon.lightsail.staticip.CallbackContext.POST_CHECK_CREATE;
+import static software.amazon.lightsail.staticip.CallbackContext.POST_CHECK_UPDATE;
+
+@ExtendWith(MockitoExtension.class)
+public class OperationsTest {
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<LightsailClient> proxyClient;
+
+    @Mock
+    LightsailClient sdkClient;
+
+    private Logger logger;
+
+    private Operations testOperations;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(mock(LoggerProxy.class), MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(LightsailClient.class);
+        proxyClient = AbstractTestBase.MOCK_PROXY(proxy, sdkClient);
+        logger = mock(Logger.class);
+        testOperations = new Operations("resource", logger, proxyClient);
+    }
+
+    private static Operation operation(final String id, final OperationStatus status) {
+        return Operation.builder().id(id).status(status).build();
+    }
+
+    @Test
+    public void testTrack() {
+        val callbackContext = new CallbackContext();
+        val awsResponse = AttachStaticIpResponse.builder()
+                .operations(operation("op1", OperationStatus.STARTED), operation("op2", OperationStatus.STARTED))
+                .build();
+
+        val result = testOperations.track(callbackContext, POST_CHECK_UPDATE, awsResponse);
+
+        assertThat(result).isSameAs(awsResponse);
+        assertThat(callbackContext.getPendingOperationIds(POST_CHECK_UPDATE)).containsExactly("op1", "op2");
+        assertThat(testOperations.isTracking(callbackContext, POST_CHECK_UPDATE)).isTrue();
+    }
+
+    @Test
+    public void testTrack_noOperations() {
+        val callbackContext = new CallbackContext();
+
+        testOperations.track(callbackContext, POST_CHECK_UPDATE, AttachStaticIpResponse.builder().build());
+        testOperations.track(callbackContext, POST_CHECK_UPDATE, null);
+
+        assertThat(testOperations.isTracking(callbackContext, POST_CHECK_UPDATE)).isFalse();
+    }
+
+    @Test
+    public void testTrack_skipsDoneOperations() {
+        val callbackContext = new CallbackContext();
+
+        testOperations.track(callbackContext, POST_CHECK_UPDATE, AttachStaticIpResponse.builder()
+                .operations(operation("op1", OperationStatus.SUCCEEDED), operation("op2", OperationStatus.STARTED))
+                .build());
+
+        assertThat(callbackContext.getPendingOperationIds(POST_CHECK_UPDATE)).containsExactly("op2");
+    }
+
+    @Test
+    public void testTrack_perStep() {
+        val callbackContext = new CallbackContext();
+        callbackContext.getPendingOperationIds(POST_CHECK_CREATE).add("op1");
+        callbackContext.getPendingOperationIds(POST_CHECK_UPDATE).add("op2");
+
+        testOperations.track(callbackContext, POST_CHECK_UPDATE, AttachStaticIpResponse.builder()
+                .operations(operation("op3", OperationStatus.STARTED))
+                .build());
+
+        // Ids left from another step, or from an earlier call of the step, are not polled.
+        assertThat(callbackContext.getPendingOperationIds(POST_CHECK_UPDATE)).containsExactly("op3");
+        assertThat(callbackContext.getPendingOperationIds(POST_CHECK_CREATE)).containsExactly("op1");
+    }
+
+    @Test
+    public void testIsStabilized_singleOperation() {
+        val callbackContext = new CallbackContext();
+        callbackContext.getPendingOperationIds(POST_CHECK_UPDATE).add("op1");
+        when(sdkClient.getOperation(any(GetOperationRequest.class)))
+                .thenReturn(GetOperationResponse.builder().operation(operation("op1", OperationStatus.STARTED)).build())
+                .thenReturn(GetOperationResponse.builder().operation(operation("op1", OperationStatus.SUCCEEDED)).build());
+
+        assertThat(testOperations.isStabilized(callbackContext, POST_CHECK_UPDATE)).isFalse();
+        assertThat(testOperations.isStabilized(callbackContext, POST_CHECK_UPDATE)).isTrue();
+
+        verify(sdkClient, times(2)).getOperation(any(GetOperationRequest.class));
+        verify(sdkClient, never()).getOperationsForResource(any(GetOperationsForResourceRequest.class));
+        assertThat(callbackContext.getPendingOperationIds(POST_CHECK_UPDATE)).isEmpty();
+    }
+
+    @Test
+    public void testIsStabilized_batchedOperations() {
+        val callbackContext = new CallbackContext();
+        callbackContext.getPendingOperationIds(POST_CHECK_UPDATE).add("op1");
+        callbackContext.getPendingOperationIds(POST_CHECK_UPDATE).add("op2");
+        when(sdkClient.getOperationsForResource(any(GetOperationsForResourceRequest.class)))
+                .thenReturn(GetOperationsForResourceResponse.builder()
+                        .operations(operation("op1", OperationStatus.SUCCEEDED), operation("op3", OperationStatus.STARTED))
+                        .build());
+        when(sdkClient.getOperation(any(GetOperationRequest.class)))
+                .thenReturn(GetOperationResponse.builder().operation(operation("op2", OperationStatus.STARTED)).build());
+
+        assertThat(testOperations.isStabilized(callbackContext, POST_CHECK_UPDATE)).isFalse();
+
+        verify(sdkClient, times(1)).getOperationsForResource(any(GetOperationsForResourceRequest.class));
+        verify(sdkClient, times(1)).getOperation(any(GetOperationRequest.class));
+        assertThat(callbackContext.getPendingOperationIds(POST_CHECK_UPDATE)).containsExactly("op2");
+    }
+
+    @Test
+    public void testIsStabilized_failedOperation() {
+        val callbackContext = new CallbackContext();
+        callbackContext.getPendingOperationIds(POST_CHECK_UPDATE).add("op1");
+        when(sdkClient.getOperation(any(GetOperationRequest.class)))
+                .thenReturn(GetOperationResponse.builder().operation(Operation.builder().id("op1")
+                        .status(OperationStatus.FAILED).errorCode("InternalError").errorDetails("details").build()).build());
+
+        assertThrows(CfnGeneralServiceException.class, () -> testOperations.isStabilized(callbackContext, POST_CHECK_UPDATE));
+    }
+}
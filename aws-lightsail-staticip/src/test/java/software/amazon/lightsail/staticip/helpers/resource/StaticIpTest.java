@@ -125,7 +125,7 @@ public class StaticIpTest {
     }
 
     @Test
-    public void detach_Required() {
+    public void update_detach() {
         ResourceModel resourceModel = ResourceModel.builder().build();
         ResourceHandlerRequest<ResourceModel> resourceModelRequest =
                 ResourceHandlerRequest.<ResourceModel>builder()
@@ -136,19 +136,20 @@ public class StaticIpTest {
         when(sdkClient.getStaticIp(any(GetStaticIpRequest.class)))
                 .thenReturn(GetStaticIpResponse.builder()
                         .staticIp(software.amazon.awssdk.services.lightsail.model.StaticIp.builder()
-                                .isAttached(true).build()).build());
+                                .isAttached(true).attachedTo("testInstance").build()).build());
         when(sdkClient.detachStaticIp(any(DetachStaticIpRequest.class)))
                 .thenReturn(DetachStaticIpResponse.builder().build());
 
-        val result = testStaticIp1.detach();
+        val result = testStaticIp1.update(null);
         verify(sdkClient, times(1)).getStaticIp(any(GetStaticIpRequest.class));
+        verify(sdkClient, never()).attachStaticIp(any(AttachStaticIpRequest.class));
         verify(sdkClient, times(1)).detachStaticIp(any(DetachStaticIpRequest.class));
         assertThat(result).isNotNull();
     }
 
     @Test
-    public void detach_notRequired() {
-        ResourceModel resourceModel = ResourceModel.builder().attachedTo("testInstance").build();
+    public void update_detachNotRequired() {
+        ResourceModel resourceModel = ResourceModel.builder().build();
         ResourceHandlerRequest<ResourceModel> resourceModelRequest =
                 ResourceHandlerRequest.<ResourceModel>builder()
                         .desiredResourceState(resourceModel)
@@ -160,14 +161,15 @@ public class StaticIpTest {
                         .staticIp(software.amazon.awssdk.services.lightsail.model.StaticIp.builder()
                                 .build()).build());
 
-        val result = testStaticIp1.detach();
+        val result = testStaticIp1.update(null);
         verify(sdkClient, times(1)).getStaticIp(any(GetStaticIpRequest.class));
+        verify(sdkClient, never()).attachStaticIp(any(AttachStaticIpRequest.class));
         verify(sdkClient, never()).detachStaticIp(any(DetachStaticIpRequest.class));
         assertThat(result).isNull();
     }
 
     @Test
-    public void attach_Required() {
+    public void update_attach() {
         ResourceModel resourceModel = ResourceModel.builder().attachedTo("testInstance").build();
         ResourceHandlerRequest<ResourceModel> resourceModelRequest =
                 ResourceHandlerRequest.<ResourceModel>builder()
@@ -182,15 +184,16 @@ public class StaticIpTest {
         when(sdkClient.attachStaticIp(any(AttachStaticIpRequest.class)))
                 .thenReturn(AttachStaticIpResponse.builder().build());
 
-        val result = testStaticIp1.attach();
+        val result = testStaticIp1.update(null);
         verify(sdkClient, times(1)).getStaticIp(any(GetStaticIpRequest.class));
         verify(sdkClient, times(1)).attachStaticIp(any(AttachStaticIpRequest.class));
+        verify(sdkClient, never()).detachStaticIp(any(DetachStaticIpRequest.class));
         assertThat(result).isNotNull();
     }
 
     @Test
-    public void attach_notRequired() {
-        ResourceModel resourceModel = ResourceModel.builder().build();
+    public void update_move() {
+        ResourceModel resourceModel = ResourceModel.builder().attachedTo("newInstance").build();
         ResourceHandlerRequest<ResourceModel> resourceModelRequest =
                 ResourceHandlerRequest.<ResourceModel>builder()
                         .desiredResourceState(resourceModel)
@@ -200,16 +203,19 @@ public class StaticIpTest {
         when(sdkClient.getStaticIp(any(GetStaticIpRequest.class)))
                 .thenReturn(GetStaticIpResponse.builder()
                         .staticIp(software.amazon.awssdk.services.lightsail.model.StaticIp.builder()
-                                .build()).build());
+                                .isAttached(true).attachedTo("testInstance").build()).build());
+        when(sdkClient.attachStaticIp(any(AttachStaticIpRequest.class)))
+                .thenReturn(AttachStaticIpResponse.builder().build());
 
-        val result = testStaticIp1.attach();
+        val result = testStaticIp1.update(null);
         verify(sdkClient, times(1)).getStaticIp(any(GetStaticIpRequest.class));
-        verify(sdkClient, never()).attachStaticIp(any(AttachStaticIpRequest.class));
-        assertThat(result).isNull();
+        verify(sdkClient, times(1)).attachStaticIp(any(AttachStaticIpRequest.class));
+        verify(sdkClient, never()).detachStaticIp(any(DetachStaticIpRequest.class));
+        assertThat(result).isNotNull();
     }
 
     @Test
-    public void attach_alreadyAttached() {
+    public void update_alreadyAttached() {
         ResourceModel resourceModel = ResourceModel.builder().attachedTo("testInstance").build();
         ResourceHandlerRequest<ResourceModel> resourceModelRequest =
                 ResourceHandlerRequest.<ResourceModel>builder()
@@ -220,12 +226,82 @@ public class StaticIpTest {
         when(sdkClient.getStaticIp(any(GetStaticIpRequest.class)))
                 .thenReturn(GetStaticIpResponse.builder()
                         .staticIp(software.amazon.awssdk.services.lightsail.model.StaticIp.builder()
-                                .attachedTo("testInstance").build()).build());
+                                .isAttached(true).attachedTo("testInstance").build()).build());
 
-        val result = testStaticIp1.attach();
+        val result = testStaticIp1.update(null);
         verify(sdkClient, times(1)).getStaticIp(any(GetStaticIpRequest.class));
         verify(sdkClient, never()).attachStaticIp(any(AttachStaticIpRequest.class));
+        verify(sdkClient, never()).detachStaticIp(any(DetachStaticIpRequest.class));
         assertThat(result).isNull();
     }
 
+    @Test
+    public void update_swapReusesRead() {
+        ResourceModel resourceModel = ResourceModel.builder().staticIpName("testStaticIp").attachedTo("newInstance").build();
+        StaticIp testStaticIp1 = new StaticIp(resourceModel, logger, proxyClient,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(resourceModel).build());
+
+        when(sdkClient.getStaticIp(any(GetStaticIpRequest.class)))
+                .thenReturn(GetStaticIpResponse.builder()
+                        .staticIp(software.amazon.awssdk.services.lightsail.model.StaticIp.builder()
+                                .isAttached(true).attachedTo("oldInstance").build()).build());
+        when(sdkClient.attachStaticIp(any(AttachStaticIpRequest.class)))
+                .thenReturn(AttachStaticIpResponse.builder().build());
+
+        val readResponse = testStaticIp1.read(GetStaticIpRequest.builder().staticIpName("testStaticIp").build());
+        assertThat(testStaticIp1.isAttachmentTargetRequired(readResponse)).isTrue();
+        testStaticIp1.update(null, readResponse);
+
+        verify(sdkClient, times(1)).getStaticIp(any(GetStaticIpRequest.class));
+        verify(sdkClient, times(1)).attachStaticIp(argThat((AttachStaticIpRequest request) ->
+                "newInstance".equals(request.instanceName())));
+        verify(sdkClient, never()).detachStaticIp(any(DetachStaticIpRequest.class));
+    }
+
+    @Test
+    public void getAttachmentAction() {
+        ResourceModel resourceModel = ResourceModel.builder().attachedTo("newInstance").build();
+        StaticIp testStaticIp1 = new StaticIp(resourceModel, logger, proxyClient,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(resourceModel).build());
+
+        assertThat(testStaticIp1.getAttachmentAction(ResourceModel.builder().isAttached(false).attachedTo("").build()))
+                .isEqualTo(StaticIp.AttachmentAction.ATTACH);
+        assertThat(testStaticIp1.getAttachmentAction(ResourceModel.builder().isAttached(true).attachedTo("testInstance").build()))
+                .isEqualTo(StaticIp.AttachmentAction.MOVE);
+        assertThat(testStaticIp1.getAttachmentAction(ResourceModel.builder().isAttached(true).attachedTo("newInstance").build()))
+                .isEqualTo(StaticIp.AttachmentAction.NONE);
+    }
+
+    @Test
+    public void testIsStabilizedUpdate_attached() {
+        ResourceModel resourceModel = ResourceModel.builder().attachedTo("testInstance").build();
+        StaticIp testStaticIp1 = new StaticIp(resourceModel, logger, proxyClient,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(resourceModel).build());
+
+        when(sdkClient.getStaticIp(any(GetStaticIpRequest.class)))
+                .thenReturn(GetStaticIpResponse.builder()
+                        .staticIp(software.amazon.awssdk.services.lightsail.model.StaticIp.builder()
+                                .isAttached(true).attachedTo("oldInstance").build()).build())
+                .thenReturn(GetStaticIpResponse.builder()
+                        .staticIp(software.amazon.awssdk.services.lightsail.model.StaticIp.builder()
+                                .isAttached(true).attachedTo("testInstance").build()).build());
+
+        assertThat(testStaticIp1.isStabilizedUpdate()).isFalse();
+        assertThat(testStaticIp1.isStabilizedUpdate()).isTrue();
+    }
+
+    @Test
+    public void testIsStabilizedUpdate_detached() {
+        ResourceModel resourceModel = ResourceModel.builder().build();
+        StaticIp testStaticIp1 = new StaticIp(resourceModel, logger, proxyClient,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(resourceModel).build());
+
+        when(sdkClient.getStaticIp(any(GetStaticIpRequest.class)))
+                .thenReturn(GetStaticIpResponse.builder()
+                        .staticIp(software.amazon.awssdk.services.lightsail.model.StaticIp.builder()
+                                .isAttached(false).build()).build());
+
+        assertThat(testStaticIp1.isStabilizedUpdate()).isTrue();
+    }
+
 }